@@ -0,0 +1,275 @@
+package com.dsd.game.collision;
+
+import com.dsd.game.handlers.EntityRegistry;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Queries of an area rather than of a pair: which living object a hitscan
+ * ray hits first, and which ones an explosion reaches. Both gather their
+ * candidates from the collision broadphase (or, with it turned off, from the
+ * whole entity list), and then test each candidate exactly; a ray is tested
+ * against the candidate's pixel mask as well as its bounds, like a bullet.
+ *
+ * The broadphase is only rebuilt once a tick, and the objects may have moved
+ * a little since, so its queries look AREA_QUERY_MARGIN pixels further than
+ * the area asked about. Objects added since the rebuild (spawned during the
+ * tick, or queued from another thread) aren't in it at all, so the handler
+ * reports them through added(), and every query tests them as well.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class AreaQueries {
+
+    private static final int AREA_QUERY_MARGIN = 16;
+    private final SpatialHash<StandardGameObject> broadphase;
+    private boolean broadphaseEnabled = true;
+    //  The entity list, searched in full when the broadphase is off, and
+    //  where each entity is in it.
+    private final ArrayList<StandardGameObject> entities;
+    private final EntityRegistry registry;
+    private final MaskCache maskCache;
+    //  Objects added since the broadphase was last rebuilt.
+    private final ArrayList<StandardGameObject> addedSinceRebuild;
+    //  Candidates of the last query, and the distances to the center of the
+    //  objects found by the last radius query.
+    private final ArrayList<StandardGameObject> candidates;
+    private double[] distances;
+    //  Fraction of the way along the last ray its target was hit.
+    private double rayHitTime = SweptCollision.NO_HIT;
+
+    public AreaQueries(SpatialHash<StandardGameObject> _broadphase, ArrayList<StandardGameObject> _entities,
+            EntityRegistry _registry, MaskCache _maskCache) {
+        this.broadphase = _broadphase;
+        this.entities = _entities;
+        this.registry = _registry;
+        this.maskCache = _maskCache;
+        this.candidates = new ArrayList<>();
+        this.addedSinceRebuild = new ArrayList<>();
+        this.distances = new double[16];
+    }
+
+    /**
+     * Returns the nearest living object in one of the layers _layers that
+     * the ray from (_x, _y) by (_dx, _dy) passes through, or null if there is
+     * none; on a tie, the one earlier in the entity list, as with a bullet.
+     * How far along the ray it was hit is then given by getRayHitTime().
+     *
+     * @param _x
+     * @param _y
+     * @param _dx
+     * @param _dy
+     * @param _layers
+     * @return
+     */
+    public StandardGameObject castRay(double _x, double _y, double _dx, double _dy, long _layers) {
+        this.gather(Math.min(_x, _x + _dx), Math.min(_y, _y + _dy), Math.abs(_dx), Math.abs(_dy), _layers);
+        double length = FastMath.hypot(_dx, _dy);
+        StandardGameObject target = null;
+        double nearest = SweptCollision.NO_HIT;
+        for (int i = 0; i < this.candidates.size(); i++) {
+            StandardGameObject obj = this.candidates.get(i);
+            if (!obj.isAlive()) {
+                continue;
+            }
+            double time = SweptCollision.timeOfImpact(_x, _y, 0, 0, _dx, _dy,
+                    obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
+            if (time < nearest) {
+                time = this.refineRayHit(_x, _y, _dx, _dy, length, obj, time);
+            }
+            if (time < nearest) {
+                nearest = time;
+                target = obj;
+            }
+        }
+        this.rayHitTime = nearest;
+        return target;
+    }
+
+    /**
+     * Fills _out with every living object in one of the layers _layers whose
+     * bounds come within _radius of (_centerX, _centerY), each once; the
+     * distance to each is then given by getDistance().
+     *
+     * @param _centerX
+     * @param _centerY
+     * @param _radius
+     * @param _layers
+     * @param _out cleared first.
+     */
+    public void queryRadius(double _centerX, double _centerY, double _radius, long _layers,
+            ArrayList<StandardGameObject> _out) {
+        _out.clear();
+        this.gather(_centerX - _radius, _centerY - _radius, _radius * 2, _radius * 2, _layers);
+        for (int i = 0; i < this.candidates.size(); i++) {
+            StandardGameObject obj = this.candidates.get(i);
+            if (!obj.isAlive()) {
+                continue;
+            }
+            //  Distance from the center to the nearest point of the bounds.
+            double dx = Math.max(0, Math.max(obj.getX() - _centerX, _centerX - (obj.getX() + obj.getWidth())));
+            double dy = Math.max(0, Math.max(obj.getY() - _centerY, _centerY - (obj.getY() + obj.getHeight())));
+            double distance = FastMath.sqrt(dx * dx + dy * dy);
+            if (distance > _radius) {
+                continue;
+            }
+            if (_out.size() == this.distances.length) {
+                this.distances = Arrays.copyOf(this.distances, this.distances.length * 2);
+            }
+            this.distances[_out.size()] = distance;
+            _out.add(obj);
+        }
+    }
+
+    /**
+     * Notes that _obj was just added to the entity list, so queries find it
+     * before the broadphase is next rebuilt.
+     *
+     * @param _obj
+     */
+    public void added(StandardGameObject _obj) {
+        if (this.broadphaseEnabled) {
+            this.addedSinceRebuild.add(_obj);
+        }
+    }
+
+    /**
+     * Notes that the broadphase has just been rebuilt from the entity list,
+     * so it knows about every object added before now.
+     */
+    public void rebuilt() {
+        this.addedSinceRebuild.clear();
+    }
+
+    /**
+     * Fills the candidate list with every object in one of the layers _layers
+     * whose bounds may overlap the _w by _h box at (_x, _y). The objects added
+     * since the broadphase was rebuilt are all candidates, after the ones it
+     * found, as they are after them in the entity list.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @param _layers
+     */
+    private void gather(double _x, double _y, double _w, double _h, long _layers) {
+        if (this.broadphaseEnabled) {
+            this.broadphase.query(_x - AreaQueries.AREA_QUERY_MARGIN, _y - AreaQueries.AREA_QUERY_MARGIN,
+                    _w + AreaQueries.AREA_QUERY_MARGIN * 2, _h + AreaQueries.AREA_QUERY_MARGIN * 2, _layers,
+                    this.candidates);
+            for (int i = 0; i < this.addedSinceRebuild.size(); i++) {
+                StandardGameObject obj = this.addedSinceRebuild.get(i);
+                if ((CollisionMatrix.getLayer(obj.getId()) & _layers) != 0 && this.isNewEntity(obj, i)) {
+                    this.candidates.add(obj);
+                }
+            }
+            return;
+        }
+        this.candidates.clear();
+        for (int i = 0; i < this.entities.size(); i++) {
+            StandardGameObject obj = this.entities.get(i);
+            if (obj != null && (CollisionMatrix.getLayer(obj.getId()) & _layers) != 0) {
+                this.candidates.add(obj);
+            }
+        }
+    }
+
+    /**
+     * Returns true if _obj, at index _i of the objects added since the
+     * rebuild, is still in the entity list and not about to leave it, isn't
+     * in the broadphase already (one added back before the rebuild could
+     * drop it is in both), and wasn't added earlier in the same tick too.
+     *
+     * @param _obj
+     * @param _i
+     * @return
+     */
+    private boolean isNewEntity(StandardGameObject _obj, int _i) {
+        return this.registry.indexOf(_obj) >= 0 && !this.registry.isRemoving(_obj)
+                && !this.broadphase.contains(_obj) && this.addedSinceRebuild.indexOf(_obj) == _i;
+    }
+
+    /**
+     * Refines the fraction _time of the way along the ray from (_x, _y) by
+     * (_dx, _dy) at which it enters the bounding box of _target, to when it
+     * first crosses a solid pixel of _target, walking the ray a pixel at a
+     * time through the box. Returns SweptCollision.NO_HIT if it crosses none.
+     *
+     * @param _x
+     * @param _y
+     * @param _dx
+     * @param _dy
+     * @param _length length of the ray.
+     * @param _target
+     * @param _time
+     * @return
+     */
+    private double refineRayHit(double _x, double _y, double _dx, double _dy, double _length,
+            StandardGameObject _target, double _time) {
+        PixelMask mask = this.maskCache.getMask(_target);
+        if (mask == null || _length <= 0) {
+            return _time;
+        }
+        double step = 1 / _length;
+        for (double time = _time; time <= 1; time += step) {
+            int px = (int) Math.floor(_x + _dx * time - _target.getX());
+            int py = (int) Math.floor(_y + _dy * time - _target.getY());
+            if (px < 0 || py < 0 || px >= mask.getWidth() || py >= mask.getHeight()) {
+                if (time > _time) {
+                    break;
+                }
+                continue;
+            }
+            if (mask.isSolid(px, py)) {
+                return time;
+            }
+        }
+        return SweptCollision.NO_HIT;
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns the fraction of the way along the last ray cast that its target
+     * was hit, or SweptCollision.NO_HIT if it hit nothing.
+     *
+     * @return
+     */
+    public double getRayHitTime() {
+        return this.rayHitTime;
+    }
+
+    /**
+     * Returns how far the object at index _i of the last radius query's
+     * results is from its center.
+     *
+     * @param _i
+     * @return
+     */
+    public double getDistance(int _i) {
+        return this.distances[_i];
+    }
+
+    public boolean isBroadphaseEnabled() {
+        return this.broadphaseEnabled;
+    }
+
+//============================== SETTERS =====================================
+    /**
+     * Switches between querying the broadphase and searching the whole entity
+     * list; the latter is only kept for benchmarking.
+     *
+     * @param _enabled
+     */
+    public void setBroadphaseEnabled(boolean _enabled) {
+        this.broadphaseEnabled = _enabled;
+        this.addedSinceRebuild.clear();
+    }
+
+}
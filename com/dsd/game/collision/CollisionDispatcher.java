@@ -0,0 +1,103 @@
+package com.dsd.game.collision;
+
+import com.revivedstandards.model.StandardGameObject;
+import com.revivedstandards.model.StandardID;
+
+/**
+ * Looks up what to do when two objects collide in a table indexed by the
+ * ordinals of their StandardIDs, instead of running a chain of ID and
+ * instanceof checks on every pair. Responses are registered once, up front;
+ * a new kind of enemy or projectile only needs its own registrations.
+ *
+ * Pairs are unordered: (A, B) and (B, A) share one slot, so a pair can only
+ * have one response per phase, and the response is handed the two objects
+ * in the order their IDs were registered in whichever way round they
+ * collided. Deciding which pairs are tested at all (and so whether a
+ * response may run for both orders) is up to the CollisionMatrix.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class CollisionDispatcher {
+
+    private final int idCount;
+    //  Responses by phase, then by slot (lower ordinal * idCount + higher
+    //  ordinal), along with the ID each response expects first.
+    private final CollisionResponse[][] responses;
+    private final StandardID[][] firstIds;
+
+    public CollisionDispatcher() {
+        this.idCount = StandardID.values().length;
+        this.responses = new CollisionResponse[CollisionPhase.values().length][this.idCount * this.idCount];
+        this.firstIds = new StandardID[CollisionPhase.values().length][this.idCount * this.idCount];
+    }
+
+    /**
+     * Makes _response run whenever an object with ID _first and an object
+     * with ID _second collide in the phase _phase.
+     *
+     * @param _phase
+     * @param _first
+     * @param _second
+     * @param _response
+     */
+    public void register(CollisionPhase _phase, StandardID _first, StandardID _second, CollisionResponse _response) {
+        if (_response == null) {
+            throw new IllegalArgumentException("Collision response cannot be null!");
+        }
+        int slot = this.slot(_first, _second);
+        if (this.responses[_phase.ordinal()][slot] != null) {
+            throw new IllegalStateException("A " + _phase + " response is already registered for "
+                    + _first + " and " + _second + "!");
+        }
+        this.responses[_phase.ordinal()][slot] = _response;
+        this.firstIds[_phase.ordinal()][slot] = _first;
+    }
+
+    /**
+     * Runs the response registered for the IDs of _obj1 and _obj2 in the
+     * phase _phase, if there is one.
+     *
+     * @param _phase
+     * @param _obj1
+     * @param _obj2
+     * @return true if a response ran.
+     */
+    public boolean dispatch(CollisionPhase _phase, StandardGameObject _obj1, StandardGameObject _obj2) {
+        int slot = this.slot(_obj1.getId(), _obj2.getId());
+        CollisionResponse response = this.responses[_phase.ordinal()][slot];
+        if (response == null) {
+            return false;
+        }
+        if (this.firstIds[_phase.ordinal()][slot] == _obj1.getId()) {
+            response.respond(_obj1, _obj2);
+        } else {
+            response.respond(_obj2, _obj1);
+        }
+        return true;
+    }
+
+    private int slot(StandardID _a, StandardID _b) {
+        int a = _a.ordinal();
+        int b = _b.ordinal();
+        return a < b ? a * this.idCount + b : b * this.idCount + a;
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns true if a response is registered for _a and _b (in either
+     * order) in the phase _phase.
+     *
+     * @param _phase
+     * @param _a
+     * @param _b
+     * @return
+     */
+    public boolean hasResponse(CollisionPhase _phase, StandardID _a, StandardID _b) {
+        return this.responses[_phase.ordinal()][this.slot(_a, _b)] != null;
+    }
+
+}
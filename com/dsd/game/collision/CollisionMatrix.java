@@ -0,0 +1,87 @@
+package com.dsd.game.collision;
+
+import com.revivedstandards.model.StandardID;
+
+/**
+ * Says which kinds of object need to be tested against which. Every
+ * StandardID gets a layer bit (1 << ordinal), and a mask of the layers it
+ * looks for collisions with; a pair is only worth testing if the second
+ * object's layer is in the first object's mask.
+ *
+ * The rules are one-way, because the collision handlers are: a bullet looks
+ * for enemies, but an enemy doesn't look for bullets, since nothing would
+ * happen if it found one. An ID with an empty mask never goes looking for
+ * collisions at all (though others may still find it).
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class CollisionMatrix {
+
+    //  Mask of every ID, indexed by ordinal.
+    private final long[] masks;
+
+    public CollisionMatrix() {
+        if (StandardID.values().length > Long.SIZE) {
+            throw new IllegalStateException("Too many StandardIDs for a 64-bit layer mask!");
+        }
+        this.masks = new long[StandardID.values().length];
+    }
+
+    /**
+     * Makes objects with ID _from look for collisions with objects of every
+     * ID in _to.
+     *
+     * @param _from
+     * @param _to
+     */
+    public void setCollides(StandardID _from, StandardID... _to) {
+        for (StandardID id : _to) {
+            this.masks[_from.ordinal()] |= CollisionMatrix.getLayer(id);
+        }
+    }
+
+    /**
+     * Stops objects with ID _from looking for collisions with anything.
+     *
+     * @param _from
+     */
+    public void clear(StandardID _from) {
+        this.masks[_from.ordinal()] = 0;
+    }
+
+    /**
+     * Returns true if an object with ID _from looks for collisions with an
+     * object with ID _to.
+     *
+     * @param _from
+     * @param _to
+     * @return
+     */
+    public boolean collides(StandardID _from, StandardID _to) {
+        return (this.masks[_from.ordinal()] & CollisionMatrix.getLayer(_to)) != 0;
+    }
+
+//============================== GETTERS =====================================
+    public static long getLayer(StandardID _id) {
+        return 1L << _id.ordinal();
+    }
+
+    public long getMask(StandardID _id) {
+        return this.masks[_id.ordinal()];
+    }
+
+    /**
+     * Returns true if objects with ID _id look for collisions with anything.
+     *
+     * @param _id
+     * @return
+     */
+    public boolean hasMask(StandardID _id) {
+        return this.masks[_id.ordinal()] != 0;
+    }
+
+}
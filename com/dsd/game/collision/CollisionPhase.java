@@ -0,0 +1,15 @@
+package com.dsd.game.collision;
+
+/**
+ * When in a collision a response runs: as soon as the bounds of the two
+ * objects touch, or only once they actually overlap.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum CollisionPhase {
+    TOUCH, OVERLAP
+}
@@ -0,0 +1,25 @@
+package com.dsd.game.collision;
+
+import com.revivedstandards.model.StandardGameObject;
+
+/**
+ * What happens when two kinds of object collide. Responses are registered
+ * with a CollisionDispatcher for a pair of StandardIDs, and are always handed
+ * the two objects in the order the IDs were registered in.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public interface CollisionResponse {
+
+    /**
+     * Reacts to _obj1 colliding with _obj2.
+     *
+     * @param _obj1 object with the first registered ID.
+     * @param _obj2 object with the second registered ID.
+     */
+    public void respond(StandardGameObject _obj1, StandardGameObject _obj2);
+}
@@ -0,0 +1,96 @@
+package com.dsd.game.collision;
+
+import com.revivedstandards.model.StandardGameObject;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+
+/**
+ * Pixel masks of the animation frames, keyed on the frame image itself and
+ * bucketed by rotation. The frames are loaded once (by Utilities.loadFrames)
+ * and shared by every object that uses them, so a frame's mask at a given
+ * rotation is only ever built once, the first time it's asked for; after
+ * that, getting it is a map lookup.
+ *
+ * Rotations are rounded to the nearest of ROTATION_BUCKETS evenly spaced
+ * angles, which is well under a pixel off at the edge of a monster-sized
+ * sprite.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class MaskCache {
+
+    public static final int ROTATION_BUCKETS = 32;
+    //  Masks of each frame, by rotation bucket; null until first asked for.
+    private final IdentityHashMap<BufferedImage, PixelMask[]> masks;
+    private int builtCount = 0;
+
+    public MaskCache() {
+        this.masks = new IdentityHashMap<>();
+    }
+
+    /**
+     * Forgets every mask.
+     */
+    public void clear() {
+        this.masks.clear();
+        this.builtCount = 0;
+    }
+
+    private PixelMask getBucket(BufferedImage _frame, int _bucket) {
+        PixelMask[] buckets = this.masks.get(_frame);
+        if (buckets == null) {
+            buckets = new PixelMask[MaskCache.ROTATION_BUCKETS];
+            this.masks.put(_frame, buckets);
+        }
+        if (buckets[_bucket] == null) {
+            buckets[_bucket] = PixelMask.fromImage(_frame, _bucket * 2 * Math.PI / MaskCache.ROTATION_BUCKETS);
+            this.builtCount++;
+        }
+        return buckets[_bucket];
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns the mask of _frame rotated by _rotation radians (rounded to the
+     * nearest bucket), building it if this is the first time it's needed.
+     *
+     * @param _frame
+     * @param _rotation
+     * @return
+     */
+    public PixelMask getMask(BufferedImage _frame, double _rotation) {
+        long bucket = Math.round(_rotation / (2 * Math.PI) * MaskCache.ROTATION_BUCKETS);
+        return this.getBucket(_frame, (int) Math.floorMod(bucket, (long) MaskCache.ROTATION_BUCKETS));
+    }
+
+    /**
+     * Returns the mask of the frame _obj is currently showing, at the
+     * rotation it is drawn with, or null if it has nothing to show.
+     *
+     * @param _obj
+     * @return
+     */
+    public PixelMask getMask(StandardGameObject _obj) {
+        BufferedImage frame = null;
+        if (_obj.getAnimationController() != null && _obj.getAnimationController().getStandardAnimation() != null) {
+            frame = _obj.getAnimationController().getStandardAnimation().getView().getCurrentFrame();
+        } else {
+            frame = _obj.getCurrentSprite();
+        }
+        return frame == null ? null : this.getMask(frame, _obj.getAngle());
+    }
+
+    /**
+     * Returns how many masks have been built so far.
+     *
+     * @return
+     */
+    public int getBuiltCount() {
+        return this.builtCount;
+    }
+
+}
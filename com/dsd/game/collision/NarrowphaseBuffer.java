@@ -0,0 +1,229 @@
+package com.dsd.game.collision;
+
+import com.revivedstandards.model.StandardGameObject;
+import com.revivedstandards.model.StandardID;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Everything one narrowphase worker needs to itself: the colliders it was
+ * given (by their index in the entity list), the hits it found for them, its
+ * pair test counters, and its scratch space. Workers never touch each other's
+ * buffers, so they can run at the same time; the game thread then applies
+ * the hits of every buffer in collider order.
+ *
+ * Hits are stored in the order they should be applied: by collider, and for
+ * each collider, in the order its pairs were found (or, for a swept
+ * projectile, the order they happened along its path).
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class NarrowphaseBuffer {
+
+    //  Time of a hit that wasn't found by sweeping a projectile.
+    public static final double NOT_SWEPT = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    //  Indices of the colliders this buffer is responsible for, ascending.
+    private int[] members;
+    private int memberCount = 0;
+    //  The hits found, as parallel arrays.
+    private int[] colliders;
+    private StandardGameObject[] firsts;
+    private StandardGameObject[] seconds;
+    private boolean[] overlaps;
+    private double[] times;
+    private int hitCount = 0;
+    //  Pair tests made and pairs the matrix ruled out, by the collider's ID.
+    private long pairTests = 0;
+    private final long[] pairTestsByLayer;
+    private final long[] pairsSkippedByLayer;
+    //  Scratch space for the worker filling this buffer.
+    private final ArrayList<StandardGameObject> candidates;
+    private final SpatialHash.Query<StandardGameObject> query;
+    private final double[] bounds;
+
+    public NarrowphaseBuffer() {
+        this.members = new int[NarrowphaseBuffer.INITIAL_CAPACITY];
+        this.colliders = new int[NarrowphaseBuffer.INITIAL_CAPACITY];
+        this.firsts = new StandardGameObject[NarrowphaseBuffer.INITIAL_CAPACITY];
+        this.seconds = new StandardGameObject[NarrowphaseBuffer.INITIAL_CAPACITY];
+        this.overlaps = new boolean[NarrowphaseBuffer.INITIAL_CAPACITY];
+        this.times = new double[NarrowphaseBuffer.INITIAL_CAPACITY];
+        this.pairTestsByLayer = new long[StandardID.values().length];
+        this.pairsSkippedByLayer = new long[StandardID.values().length];
+        this.candidates = new ArrayList<>();
+        this.query = new SpatialHash.Query<>();
+        this.bounds = new double[4];
+    }
+
+    /**
+     * Empties the buffer for the next tick, keeping its capacity.
+     */
+    public void reset() {
+        this.memberCount = 0;
+        //  Let go of the objects, so ones removed from the game can be collected.
+        Arrays.fill(this.firsts, 0, this.hitCount, null);
+        Arrays.fill(this.seconds, 0, this.hitCount, null);
+        this.hitCount = 0;
+        this.pairTests = 0;
+        Arrays.fill(this.pairTestsByLayer, 0);
+        Arrays.fill(this.pairsSkippedByLayer, 0);
+    }
+
+    /**
+     * Makes the collider at index _index in the entity list this buffer's
+     * responsibility. Colliders must be added in ascending order.
+     *
+     * @param _index
+     */
+    public void addMember(int _index) {
+        if (this.memberCount == this.members.length) {
+            this.members = Arrays.copyOf(this.members, this.memberCount * 2);
+        }
+        this.members[this.memberCount++] = _index;
+    }
+
+    /**
+     * Records that the collider at index _collider, _first, hit _second.
+     *
+     * @param _collider
+     * @param _first
+     * @param _second
+     * @param _overlap true if the bounds overlap rather than just touch.
+     * @param _time how far along its path a swept projectile was when it hit,
+     * or NOT_SWEPT.
+     */
+    public void addHit(int _collider, StandardGameObject _first, StandardGameObject _second, boolean _overlap,
+            double _time) {
+        if (this.hitCount == this.colliders.length) {
+            int capacity = this.hitCount * 2;
+            this.colliders = Arrays.copyOf(this.colliders, capacity);
+            this.firsts = Arrays.copyOf(this.firsts, capacity);
+            this.seconds = Arrays.copyOf(this.seconds, capacity);
+            this.overlaps = Arrays.copyOf(this.overlaps, capacity);
+            this.times = Arrays.copyOf(this.times, capacity);
+        }
+        this.colliders[this.hitCount] = _collider;
+        this.firsts[this.hitCount] = _first;
+        this.seconds[this.hitCount] = _second;
+        this.overlaps[this.hitCount] = _overlap;
+        this.times[this.hitCount] = _time;
+        this.hitCount++;
+    }
+
+    /**
+     * Sorts the hits from index _start on by time, keeping hits at the same
+     * time in the order they were added. Only meant for the few hits of a
+     * single swept projectile.
+     *
+     * @param _start
+     */
+    public void sortHitsByTime(int _start) {
+        for (int i = _start + 1; i < this.hitCount; i++) {
+            for (int j = i; j > _start && this.times[j - 1] > this.times[j]; j--) {
+                this.swap(j - 1, j);
+            }
+        }
+    }
+
+    /**
+     * Counts a pair test made by a collider with the ID _id.
+     *
+     * @param _id
+     */
+    public void countPairTest(StandardID _id) {
+        this.pairTests++;
+        this.pairTestsByLayer[_id.ordinal()]++;
+    }
+
+    /**
+     * Counts _count pairs a collider with the ID _id didn't have to test
+     * because of the collision matrix.
+     *
+     * @param _id
+     * @param _count
+     */
+    public void countSkippedPairs(StandardID _id, int _count) {
+        this.pairsSkippedByLayer[_id.ordinal()] += _count;
+    }
+
+    private void swap(int _i, int _j) {
+        int collider = this.colliders[_i];
+        this.colliders[_i] = this.colliders[_j];
+        this.colliders[_j] = collider;
+        StandardGameObject first = this.firsts[_i];
+        this.firsts[_i] = this.firsts[_j];
+        this.firsts[_j] = first;
+        StandardGameObject second = this.seconds[_i];
+        this.seconds[_i] = this.seconds[_j];
+        this.seconds[_j] = second;
+        boolean overlap = this.overlaps[_i];
+        this.overlaps[_i] = this.overlaps[_j];
+        this.overlaps[_j] = overlap;
+        double time = this.times[_i];
+        this.times[_i] = this.times[_j];
+        this.times[_j] = time;
+    }
+
+//============================== GETTERS =====================================
+    public int getMemberCount() {
+        return this.memberCount;
+    }
+
+    public int getMember(int _i) {
+        return this.members[_i];
+    }
+
+    public int getHitCount() {
+        return this.hitCount;
+    }
+
+    public int getCollider(int _hit) {
+        return this.colliders[_hit];
+    }
+
+    public StandardGameObject getFirst(int _hit) {
+        return this.firsts[_hit];
+    }
+
+    public StandardGameObject getSecond(int _hit) {
+        return this.seconds[_hit];
+    }
+
+    public boolean isOverlap(int _hit) {
+        return this.overlaps[_hit];
+    }
+
+    public double getTime(int _hit) {
+        return this.times[_hit];
+    }
+
+    public long getPairTestCount() {
+        return this.pairTests;
+    }
+
+    public long getPairTestCount(StandardID _id) {
+        return this.pairTestsByLayer[_id.ordinal()];
+    }
+
+    public long getSkippedPairCount(StandardID _id) {
+        return this.pairsSkippedByLayer[_id.ordinal()];
+    }
+
+    public ArrayList<StandardGameObject> getCandidates() {
+        return this.candidates;
+    }
+
+    public SpatialHash.Query<StandardGameObject> getQuery() {
+        return this.query;
+    }
+
+    public double[] getBounds() {
+        return this.bounds;
+    }
+
+}
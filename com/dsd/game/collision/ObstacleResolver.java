@@ -0,0 +1,173 @@
+package com.dsd.game.collision;
+
+import com.dsd.game.objects.weapons.projectiles.ProjectileGameObject;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+
+/**
+ * Keeps the entities out of the level's static scenery, baked into an
+ * OccupancyGrid. Before the entities move, recordMovers() remembers where
+ * the player and the enemies are; once they have, resolve() slides any that
+ * walked into an occupied cell back out of it, and sweeps each projectile
+ * along its path against the grid, moving the ones that hit it back to where
+ * they did. Those are only handed back to be killed, since they could still
+ * hit something on their way there.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class ObstacleResolver {
+
+    //  Static scenery nothing may move through, or null if there is none.
+    private OccupancyGrid obstacles;
+    //  The movers as they were before the entities moved, with their
+    //  positions then (x, y pairs).
+    private final ArrayList<StandardGameObject> movers;
+    private double[] moverPositions;
+    //  Projectiles the obstacles stopped during the last resolve().
+    private final ArrayList<ProjectileGameObject> blockedProjectiles;
+
+    public ObstacleResolver() {
+        this.movers = new ArrayList<>();
+        this.moverPositions = new double[0];
+        this.blockedProjectiles = new ArrayList<>();
+    }
+
+    /**
+     * Remembers where every entity of _entities in one of the layers
+     * _moverLayers is, so resolve() can push it back if it walks into the
+     * scenery.
+     *
+     * @param _entities
+     * @param _moverLayers
+     */
+    public void recordMovers(ArrayList<StandardGameObject> _entities, long _moverLayers) {
+        this.movers.clear();
+        if (!this.hasObstacles()) {
+            return;
+        }
+        for (int i = 0; i < _entities.size(); i++) {
+            StandardGameObject obj = _entities.get(i);
+            if (obj != null && (CollisionMatrix.getLayer(obj.getId()) & _moverLayers) != 0) {
+                this.movers.add(obj);
+            }
+        }
+        if (this.moverPositions.length < this.movers.size() * 2) {
+            this.moverPositions = new double[this.movers.size() * 4];
+        }
+        for (int i = 0; i < this.movers.size(); i++) {
+            this.moverPositions[i * 2] = this.movers.get(i).getX();
+            this.moverPositions[i * 2 + 1] = this.movers.get(i).getY();
+        }
+    }
+
+    /**
+     * Keeps everything out of the obstacles after the entities have moved. A
+     * mover that moved into an occupied cell slides along it: the move is
+     * undone along x if that is enough, otherwise along y, otherwise both. A
+     * living projectile of _entities is swept along its path against the
+     * grid, and if it hit, is moved back to where it did and added to the
+     * blocked projectiles.
+     *
+     * @param _entities
+     */
+    public void resolve(ArrayList<StandardGameObject> _entities) {
+        this.blockedProjectiles.clear();
+        if (!this.hasObstacles()) {
+            return;
+        }
+        for (int i = 0; i < this.movers.size(); i++) {
+            StandardGameObject obj = this.movers.get(i);
+            double x = obj.getX();
+            double y = obj.getY();
+            double w = obj.getWidth();
+            double h = obj.getHeight();
+            if (!this.obstacles.overlaps(x, y, w, h)) {
+                continue;
+            }
+            double previousX = this.moverPositions[i * 2];
+            double previousY = this.moverPositions[i * 2 + 1];
+            if (!this.obstacles.overlaps(previousX, y, w, h)) {
+                obj.setX(previousX);
+            } else if (!this.obstacles.overlaps(x, previousY, w, h)) {
+                obj.setY(previousY);
+            } else if (!this.obstacles.overlaps(previousX, previousY, w, h)) {
+                obj.setX(previousX);
+                obj.setY(previousY);
+            }
+        }
+        for (int i = 0; i < _entities.size(); i++) {
+            if (!(_entities.get(i) instanceof ProjectileGameObject)) {
+                continue;
+            }
+            ProjectileGameObject projectile = (ProjectileGameObject) _entities.get(i);
+            if (!projectile.hasMoved() || !projectile.isAlive()) {
+                continue;
+            }
+            double time = this.obstacles.sweep(projectile.getPreviousX(), projectile.getPreviousY(),
+                    projectile.getWidth(), projectile.getHeight(), projectile.getX() - projectile.getPreviousX(),
+                    projectile.getY() - projectile.getPreviousY());
+            if (time != SweptCollision.NO_HIT) {
+                projectile.rewindTo(time);
+                this.blockedProjectiles.add(projectile);
+            }
+        }
+    }
+
+    /**
+     * Returns how far a ray from (_x, _y) in the direction (_dirX, _dirY) (a
+     * unit vector) goes before it hits the obstacles, up to _range.
+     *
+     * @param _x
+     * @param _y
+     * @param _dirX
+     * @param _dirY
+     * @param _range
+     * @return
+     */
+    public double raycast(double _x, double _y, double _dirX, double _dirY, double _range) {
+        return this.obstacles == null ? _range : this.obstacles.raycast(_x, _y, _dirX, _dirY, _range);
+    }
+
+    /**
+     * Forgets the movers and the blocked projectiles; the grid stays.
+     */
+    public void clear() {
+        this.movers.clear();
+        this.blockedProjectiles.clear();
+    }
+
+    private boolean hasObstacles() {
+        return this.obstacles != null && this.obstacles.getOccupiedCount() > 0;
+    }
+
+//============================== GETTERS =====================================
+    public OccupancyGrid getObstacleGrid() {
+        return this.obstacles;
+    }
+
+    /**
+     * Returns the projectiles the obstacles stopped during the last
+     * resolve(), which the caller should kill once it has handled their hits.
+     *
+     * @return
+     */
+    public ArrayList<ProjectileGameObject> getBlockedProjectiles() {
+        return this.blockedProjectiles;
+    }
+
+//============================== SETTERS =====================================
+    /**
+     * Sets the static scenery the entities can't move through. Null removes
+     * it.
+     *
+     * @param _obstacles
+     */
+    public void setObstacleGrid(OccupancyGrid _obstacles) {
+        this.obstacles = _obstacles;
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.dsd.game.collision;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Bitset of which cells of a level are taken up by static obstacles
+ * (foliage, props). Obstacles are rasterized into it once, when the level is
+ * loaded, and never take part in pair tests afterwards: asking whether a box
+ * hits an obstacle only looks at the handful of cells under the box, however
+ * many obstacles the level has.
+ *
+ * Cells outside the grid are always free.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class OccupancyGrid {
+
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+    //  One bit per cell, row by row.
+    private final long[] bits;
+    private int occupiedCount = 0;
+    //  Pixels with at least this much alpha count as solid in fillSprite().
+    private static final int SOLID_ALPHA = 0x80;
+
+    public OccupancyGrid(int _width, int _height, int _cellSize) {
+        if (_width <= 0 || _height <= 0 || _cellSize <= 0) {
+            throw new IllegalArgumentException("Grid dimensions and cell size must be positive!");
+        }
+        this.cellSize = _cellSize;
+        this.cols = (_width + _cellSize - 1) / _cellSize;
+        this.rows = (_height + _cellSize - 1) / _cellSize;
+        this.bits = new long[(this.cols * this.rows + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * Marks every cell the _w by _h box at (_x, _y) overlaps as occupied.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     */
+    public void fillRect(double _x, double _y, double _w, double _h) {
+        int maxCx = this.toMaxCell(_x, _w);
+        int maxCy = this.toMaxCell(_y, _h);
+        for (int cy = this.toCell(_y); cy <= maxCy; cy++) {
+            for (int cx = this.toCell(_x); cx <= maxCx; cx++) {
+                this.set(cx, cy);
+            }
+        }
+    }
+
+    /**
+     * Marks every cell under a solid pixel of _sprite, drawn with its
+     * top-left corner at (_x, _y), as occupied, so the transparent parts of
+     * the sprite stay free.
+     *
+     * @param _sprite
+     * @param _x
+     * @param _y
+     */
+    public void fillSprite(BufferedImage _sprite, int _x, int _y) {
+        for (int py = 0; py < _sprite.getHeight(); py++) {
+            for (int px = 0; px < _sprite.getWidth(); px++) {
+                if ((_sprite.getRGB(px, py) >>> 24) >= OccupancyGrid.SOLID_ALPHA) {
+                    this.set(this.toCell(_x + px), this.toCell(_y + py));
+                }
+            }
+        }
+    }
+
+    /**
+     * Frees every cell.
+     */
+    public void clear() {
+        for (int i = 0; i < this.bits.length; i++) {
+            this.bits[i] = 0;
+        }
+        this.occupiedCount = 0;
+    }
+
+    /**
+     * Returns true if the _w by _h box at (_x, _y) overlaps (rather than just
+     * touches) an occupied cell.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @return
+     */
+    public boolean overlaps(double _x, double _y, double _w, double _h) {
+        int maxCx = this.toMaxCell(_x, _w);
+        int maxCy = this.toMaxCell(_y, _h);
+        for (int cy = this.toCell(_y); cy <= maxCy; cy++) {
+            for (int cx = this.toCell(_x); cx <= maxCx; cx++) {
+                if (this.isOccupied(cx, cy)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sweeps the _w by _h box at (_x, _y) by (_dx, _dy), and returns the
+     * fraction of the way along the sweep (from 0 to 1) at which it first
+     * touches an occupied cell, or SweptCollision.NO_HIT if it doesn't. Only
+     * meant for short sweeps, such as a projectile's path over one tick; use
+     * raycast() for long rays.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @param _dx
+     * @param _dy
+     * @return
+     */
+    public double sweep(double _x, double _y, double _w, double _h, double _dx, double _dy) {
+        double minX = Math.min(_x, _x + _dx);
+        double minY = Math.min(_y, _y + _dy);
+        int maxCx = this.toMaxCell(minX, _w + Math.abs(_dx));
+        int maxCy = this.toMaxCell(minY, _h + Math.abs(_dy));
+        double earliest = SweptCollision.NO_HIT;
+        for (int cy = this.toCell(minY); cy <= maxCy; cy++) {
+            for (int cx = this.toCell(minX); cx <= maxCx; cx++) {
+                if (this.isOccupied(cx, cy)) {
+                    earliest = Math.min(earliest, SweptCollision.timeOfImpact(_x, _y, _w, _h, _dx, _dy,
+                            cx * this.cellSize, cy * this.cellSize, this.cellSize, this.cellSize));
+                }
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Walks a ray from (_x, _y) in the direction (_dirX, _dirY) (a unit
+     * vector) cell by cell, and returns how far it gets before entering an
+     * occupied cell, up to _maxDistance.
+     *
+     * @param _x
+     * @param _y
+     * @param _dirX
+     * @param _dirY
+     * @param _maxDistance
+     * @return
+     */
+    public double raycast(double _x, double _y, double _dirX, double _dirY, double _maxDistance) {
+        int cx = this.toCell(_x);
+        int cy = this.toCell(_y);
+        int stepX = _dirX > 0 ? 1 : -1;
+        int stepY = _dirY > 0 ? 1 : -1;
+        //  Distance along the ray to the next vertical and horizontal cell
+        //  boundary, and between two boundaries of each kind.
+        double nextX = _dirX == 0 ? Double.POSITIVE_INFINITY
+                : ((_dirX > 0 ? cx + 1 : cx) * (double) this.cellSize - _x) / _dirX;
+        double nextY = _dirY == 0 ? Double.POSITIVE_INFINITY
+                : ((_dirY > 0 ? cy + 1 : cy) * (double) this.cellSize - _y) / _dirY;
+        double deltaX = _dirX == 0 ? Double.POSITIVE_INFINITY : this.cellSize / Math.abs(_dirX);
+        double deltaY = _dirY == 0 ? Double.POSITIVE_INFINITY : this.cellSize / Math.abs(_dirY);
+        double distance = 0;
+        while (distance <= _maxDistance) {
+            if (this.isOccupied(cx, cy)) {
+                return distance;
+            }
+            if (nextX < nextY) {
+                distance = nextX;
+                nextX += deltaX;
+                cx += stepX;
+            } else {
+                distance = nextY;
+                nextY += deltaY;
+                cy += stepY;
+            }
+        }
+        return _maxDistance;
+    }
+
+    private void set(int _cx, int _cy) {
+        if (_cx < 0 || _cy < 0 || _cx >= this.cols || _cy >= this.rows) {
+            return;
+        }
+        int index = _cy * this.cols + _cx;
+        long bit = 1L << (index & (Long.SIZE - 1));
+        if ((this.bits[index >>> 6] & bit) == 0) {
+            this.bits[index >>> 6] |= bit;
+            this.occupiedCount++;
+        }
+    }
+
+    private int toCell(double _coordinate) {
+        return (int) Math.floor(_coordinate / this.cellSize);
+    }
+
+    /**
+     * Returns the last cell a span from _start of length _length overlaps;
+     * a span ending exactly on a cell boundary doesn't reach into the next
+     * cell.
+     *
+     * @param _start
+     * @param _length
+     * @return
+     */
+    private int toMaxCell(double _start, double _length) {
+        return Math.max(this.toCell(_start), (int) Math.ceil((_start + _length) / this.cellSize) - 1);
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns true if the cell at column _cx and row _cy is occupied.
+     *
+     * @param _cx
+     * @param _cy
+     * @return
+     */
+    public boolean isOccupied(int _cx, int _cy) {
+        if (_cx < 0 || _cy < 0 || _cx >= this.cols || _cy >= this.rows) {
+            return false;
+        }
+        int index = _cy * this.cols + _cx;
+        return (this.bits[index >>> 6] & (1L << (index & (Long.SIZE - 1)))) != 0;
+    }
+
+    public int getCellSize() {
+        return this.cellSize;
+    }
+
+    public int getColumns() {
+        return this.cols;
+    }
+
+    public int getRows() {
+        return this.rows;
+    }
+
+    public int getOccupiedCount() {
+        return this.occupiedCount;
+    }
+
+}
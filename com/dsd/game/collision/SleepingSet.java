@@ -0,0 +1,108 @@
+package com.dsd.game.collision;
+
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+/**
+ * The objects that have been put to sleep (see Sleepable), in the order they
+ * fell asleep, and a spatial index of where they are. Sleepers don't move,
+ * so the index is only updated when one falls asleep or wakes up, and finding
+ * the ones in view or under the player looks in a handful of cells however
+ * many there are.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class SleepingSet {
+
+    private final LinkedHashSet<StandardGameObject> sleepers;
+    private final SpatialHash<StandardGameObject> index;
+    //  Order the next sleeper is filed with, so queries return them in the
+    //  order they fell asleep.
+    private int sleepOrder = 0;
+
+    public SleepingSet(int _cellSize) {
+        this.sleepers = new LinkedHashSet<>();
+        this.index = new SpatialHash<>(_cellSize);
+    }
+
+    /**
+     * Puts _obj to sleep where it is now. Does nothing if it already is.
+     *
+     * @param _obj
+     */
+    public void add(StandardGameObject _obj) {
+        if (this.sleepers.add(_obj)) {
+            this.index.update(_obj, _obj.getX(), _obj.getY(), _obj.getWidth(), _obj.getHeight(),
+                    this.sleepOrder++, CollisionMatrix.getLayer(_obj.getId()));
+        }
+    }
+
+    /**
+     * Takes _obj out of the set.
+     *
+     * @param _obj
+     * @return true if _obj was asleep.
+     */
+    public boolean remove(StandardGameObject _obj) {
+        if (!this.sleepers.remove(_obj)) {
+            return false;
+        }
+        this.index.remove(_obj);
+        return true;
+    }
+
+    /**
+     * Fills _out with the sleepers that may overlap the _w by _h box at (_x,
+     * _y), in the order they fell asleep.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @param _out cleared first.
+     */
+    public void query(double _x, double _y, double _w, double _h, ArrayList<StandardGameObject> _out) {
+        if (this.sleepers.isEmpty()) {
+            _out.clear();
+            return;
+        }
+        this.index.query(_x, _y, _w, _h, -1L, _out);
+    }
+
+    /**
+     * Forgets every sleeper.
+     */
+    public void clear() {
+        this.sleepers.clear();
+        this.index.clear();
+    }
+
+//============================== GETTERS =====================================
+    public boolean contains(StandardGameObject _obj) {
+        return this.sleepers.contains(_obj);
+    }
+
+    public boolean isEmpty() {
+        return this.sleepers.isEmpty();
+    }
+
+    public int size() {
+        return this.sleepers.size();
+    }
+
+    /**
+     * Returns a copy of the sleepers, in the order they fell asleep, that
+     * stays as it is while they are woken.
+     *
+     * @return
+     */
+    public ArrayList<StandardGameObject> getSleepers() {
+        return new ArrayList<>(this.sleepers);
+    }
+
+}
@@ -0,0 +1,375 @@
+package com.dsd.game.collision;
+
+import com.dsd.game.util.IdentityIntMap;
+import com.dsd.game.util.LongIntMap;
+import java.util.ArrayList;
+
+/**
+ * Uniform-grid spatial hash used as the collision broadphase. The world is cut
+ * into square cells of a fixed size, and every object is filed under each cell
+ * its bounding box overlaps. Finding what an object might be touching then
+ * means looking in a handful of cells instead of at every other object.
+ *
+ * The hash is updated incrementally: each update pass re-files only the
+ * objects whose bounding box has moved into a different set of cells, and
+ * drops the objects that were not seen at all (they have left the handler).
+ * Cells are looked up by their packed coordinates in a LongIntMap, so no
+ * Long is boxed per cell, and a cell that empties is kept for the next
+ * object to move into it rather than thrown away. Entries are kept in a
+ * dense list and recycled when their object leaves, so once the hash has
+ * grown to fit, an update pass allocates nothing.
+ *
+ * Each object is given an order when it is updated (its index in the entity
+ * list); query results come back sorted by it, so callers see candidates in
+ * the same order a brute-force scan of the entity list would. Each object is
+ * also given a layer (see CollisionMatrix), so a query can skip the objects
+ * it has no interest in before they are even gathered.
+ *
+ * Queries only read the hash (an object filed under several cells is only
+ * looked at in the first of them a query covers, rather than being stamped
+ * as seen), so any number of threads may query it at once, each with its own
+ * Query scratch, as long as no update pass is running.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ *
+ * @param <T> type of object stored.
+ */
+public class SpatialHash<T> {
+
+    private final int cellSize;
+    //  Every cell used since the last clear(), and where in that list each
+    //  one is, keyed on its packed (x, y) cell coordinates.
+    private final ArrayList<ArrayList<Entry<T>>> cells;
+    private final LongIntMap cellIndices;
+    private static final int INITIAL_CELL_CAPACITY = 256;
+    //  Every object's entry, and where in that list each object's is.
+    private final ArrayList<Entry<T>> entries;
+    private final IdentityIntMap<T> entryIndices;
+    //  Entries of objects that have left, kept for reuse.
+    private final ArrayList<Entry<T>> freeEntries;
+    //  Bumped once per update pass, to tell which entries were seen in it.
+    private int updateStamp = 0;
+    //  Scratch for queries made without one of their own.
+    private final Query<T> defaultQuery;
+
+    public SpatialHash(int _cellSize) {
+        if (_cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive!");
+        }
+        this.cellSize = _cellSize;
+        this.cells = new ArrayList<>();
+        this.cellIndices = new LongIntMap(SpatialHash.INITIAL_CELL_CAPACITY);
+        this.entries = new ArrayList<>();
+        this.entryIndices = new IdentityIntMap<>(SpatialHash.INITIAL_CELL_CAPACITY);
+        this.freeEntries = new ArrayList<>();
+        this.defaultQuery = new Query<>();
+    }
+
+    /**
+     * Starts an update pass; every object still in the world should then be
+     * passed to update(), followed by a call to endUpdate().
+     */
+    public void beginUpdate() {
+        this.updateStamp++;
+    }
+
+    /**
+     * Files _obj under the cells overlapped by the box at (_x, _y) of size _w
+     * by _h, moving it only if that set of cells has changed.
+     *
+     * @param _obj
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @param _order position of _obj in the caller's iteration order.
+     * @param _layer layer bit of _obj.
+     */
+    public void update(T _obj, double _x, double _y, double _w, double _h, int _order, long _layer) {
+        int minCx = this.toCell(_x);
+        int minCy = this.toCell(_y);
+        int maxCx = this.toCell(_x + Math.max(0, _w));
+        int maxCy = this.toCell(_y + Math.max(0, _h));
+        int index = this.entryIndices.get(_obj);
+        Entry<T> entry;
+        if (index == IdentityIntMap.NO_VALUE) {
+            entry = this.freeEntries.isEmpty() ? new Entry<T>()
+                    : this.freeEntries.remove(this.freeEntries.size() - 1);
+            entry.obj = _obj;
+            this.entryIndices.put(_obj, this.entries.size());
+            this.entries.add(entry);
+            entry.setCells(minCx, minCy, maxCx, maxCy);
+            this.file(entry);
+        } else {
+            entry = this.entries.get(index);
+            if (entry.minCx != minCx || entry.minCy != minCy || entry.maxCx != maxCx || entry.maxCy != maxCy) {
+                this.unfile(entry);
+                entry.setCells(minCx, minCy, maxCx, maxCy);
+                this.file(entry);
+            }
+        }
+        entry.order = _order;
+        entry.layer = _layer;
+        entry.updateStamp = this.updateStamp;
+    }
+
+    /**
+     * Finishes an update pass, removing every object that was not updated
+     * during it.
+     */
+    public void endUpdate() {
+        for (int i = this.entries.size() - 1; i >= 0; i--) {
+            if (this.entries.get(i).updateStamp != this.updateStamp) {
+                this.removeAt(i);
+            }
+        }
+    }
+
+    /**
+     * Fills _out with every object whose layer is in _mask and that is filed
+     * under a cell overlapped by the box at (_x, _y) of size _w by _h, each
+     * once, sorted by the order it was last updated with. The objects may not
+     * actually overlap the box; that is for the caller to check.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @param _mask layers to look for.
+     * @param _out cleared first.
+     */
+    public void query(double _x, double _y, double _w, double _h, long _mask, ArrayList<T> _out) {
+        this.query(_x, _y, _w, _h, _mask, _out, this.defaultQuery);
+    }
+
+    /**
+     * Same as query() above, but gathers the results in _query's scratch
+     * rather than the hash's own, so it's safe to call from several threads
+     * at once as long as each passes its own _query.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @param _mask layers to look for.
+     * @param _out cleared first.
+     * @param _query
+     */
+    public void query(double _x, double _y, double _w, double _h, long _mask, ArrayList<T> _out, Query<T> _query) {
+        _out.clear();
+        _query.scratch.clear();
+        _query.skipped = 0;
+        int minCx = this.toCell(_x);
+        int minCy = this.toCell(_y);
+        int maxCx = this.toCell(_x + Math.max(0, _w));
+        int maxCy = this.toCell(_y + Math.max(0, _h));
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cy = minCy; cy <= maxCy; cy++) {
+                int index = this.cellIndices.get(SpatialHash.key(cx, cy));
+                if (index == LongIntMap.NO_VALUE) {
+                    continue;
+                }
+                ArrayList<Entry<T>> cell = this.cells.get(index);
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (cx != Math.max(entry.minCx, minCx) || cy != Math.max(entry.minCy, minCy)) {
+                        continue;
+                    }
+                    if ((entry.layer & _mask) != 0) {
+                        _query.scratch.add(entry);
+                    } else {
+                        _query.skipped++;
+                    }
+                }
+            }
+        }
+        SpatialHash.sortByOrder(_query.scratch);
+        for (int i = 0; i < _query.scratch.size(); i++) {
+            _out.add(_query.scratch.get(i).obj);
+        }
+    }
+
+    /**
+     * Removes _obj, if it is in the hash. Together with update(), this lets
+     * a hash whose objects rarely move be kept up to date one object at a
+     * time, without update passes.
+     *
+     * @param _obj
+     */
+    public void remove(T _obj) {
+        int index = this.entryIndices.get(_obj);
+        if (index != IdentityIntMap.NO_VALUE) {
+            this.removeAt(index);
+        }
+    }
+
+    /**
+     * Removes every object.
+     */
+    public void clear() {
+        this.cells.clear();
+        this.cellIndices.clear();
+        for (int i = 0; i < this.entries.size(); i++) {
+            this.entries.get(i).obj = null;
+            this.freeEntries.add(this.entries.get(i));
+        }
+        this.entries.clear();
+        this.entryIndices.clear();
+    }
+
+    /**
+     * Unfiles the entry at _index of the entry list, fills its place with the
+     * last entry, and keeps it for reuse.
+     *
+     * @param _index
+     */
+    private void removeAt(int _index) {
+        Entry<T> entry = this.entries.get(_index);
+        this.unfile(entry);
+        this.entryIndices.remove(entry.obj);
+        int last = this.entries.size() - 1;
+        if (_index != last) {
+            Entry<T> moved = this.entries.get(last);
+            this.entries.set(_index, moved);
+            this.entryIndices.put(moved.obj, _index);
+        }
+        this.entries.remove(last);
+        entry.obj = null;
+        this.freeEntries.add(entry);
+    }
+
+    private void file(Entry<T> _entry) {
+        for (int cx = _entry.minCx; cx <= _entry.maxCx; cx++) {
+            for (int cy = _entry.minCy; cy <= _entry.maxCy; cy++) {
+                long key = SpatialHash.key(cx, cy);
+                int index = this.cellIndices.get(key);
+                if (index == LongIntMap.NO_VALUE) {
+                    index = this.cells.size();
+                    this.cells.add(new ArrayList<Entry<T>>());
+                    this.cellIndices.put(key, index);
+                }
+                this.cells.get(index).add(_entry);
+            }
+        }
+    }
+
+    private void unfile(Entry<T> _entry) {
+        for (int cx = _entry.minCx; cx <= _entry.maxCx; cx++) {
+            for (int cy = _entry.minCy; cy <= _entry.maxCy; cy++) {
+                int index = this.cellIndices.get(SpatialHash.key(cx, cy));
+                if (index != LongIntMap.NO_VALUE) {
+                    this.cells.get(index).remove(_entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Insertion sorts _entries by the order they were last updated with. A
+     * query gathers a handful of candidates, mostly in order already, so this
+     * beats a general sort, and unlike Collections.sort() it allocates nothing.
+     *
+     * @param _entries
+     */
+    private static <T> void sortByOrder(ArrayList<Entry<T>> _entries) {
+        for (int i = 1; i < _entries.size(); i++) {
+            Entry<T> entry = _entries.get(i);
+            int j = i - 1;
+            while (j >= 0 && _entries.get(j).order > entry.order) {
+                _entries.set(j + 1, _entries.get(j));
+                j--;
+            }
+            _entries.set(j + 1, entry);
+        }
+    }
+
+    private int toCell(double _coordinate) {
+        return (int) Math.floor(_coordinate / this.cellSize);
+    }
+
+    private static long key(int _cx, int _cy) {
+        return ((long) _cx << 32) | (_cy & 0xFFFFFFFFL);
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns true if _obj is in the hash, i.e. was updated in the last pass
+     * and hasn't been removed since.
+     *
+     * @param _obj
+     * @return
+     */
+    public boolean contains(T _obj) {
+        return this.entryIndices.get(_obj) != IdentityIntMap.NO_VALUE;
+    }
+
+    public int getCellSize() {
+        return this.cellSize;
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns how many cells have had an object in them since the last
+     * clear(); emptied cells are kept, so some may be empty now.
+     *
+     * @return
+     */
+    public int getCellCount() {
+        return this.cells.size();
+    }
+
+    /**
+     * Returns how many objects the last query found in its cells but left out
+     * because their layer wasn't in its mask.
+     *
+     * @return
+     */
+    public int getSkippedCount() {
+        return this.defaultQuery.skipped;
+    }
+
+    /**
+     * Scratch space for one query at a time; each thread querying the hash
+     * needs its own.
+     */
+    public static class Query<T> {
+
+        private final ArrayList<Entry<T>> scratch = new ArrayList<>();
+        //  Number of objects the last query skipped because of their layer.
+        private int skipped = 0;
+
+        public int getSkippedCount() {
+            return this.skipped;
+        }
+    }
+
+    /**
+     * An object in the hash and the range of cells it is filed under.
+     */
+    private static class Entry<T> {
+
+        private T obj;
+        private int minCx;
+        private int minCy;
+        private int maxCx;
+        private int maxCy;
+        private int order;
+        private long layer;
+        private int updateStamp;
+
+        public void setCells(int _minCx, int _minCy, int _maxCx, int _maxCy) {
+            this.minCx = _minCx;
+            this.minCy = _minCy;
+            this.maxCx = _maxCx;
+            this.maxCy = _maxCy;
+        }
+    }
+
+}
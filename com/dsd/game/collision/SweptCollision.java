@@ -0,0 +1,69 @@
+package com.dsd.game.collision;
+
+/**
+ * Continuous collision for fast-moving boxes. A projectile moving 40 pixels
+ * per tick can start a tick on one side of a small enemy and end it on the
+ * other without their bounds ever overlapping at a tick boundary; sweeping
+ * the projectile's box along its path for the tick instead catches the hit,
+ * and says how far along the path it happened.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class SweptCollision {
+
+    //  Returned by timeOfImpact() when the boxes never touch.
+    public static final double NO_HIT = Double.POSITIVE_INFINITY;
+
+    /**
+     * Sweeps the _w by _h box at (_x, _y) by (_dx, _dy) against the
+     * stationary _bw by _bh box at (_bx, _by), and returns the fraction of the
+     * way along the sweep (from 0 to 1) at which the two first touch, or
+     * NO_HIT if they don't. Boxes that already touch at the start return 0.
+     *
+     * @param _x
+     * @param _y
+     * @param _w
+     * @param _h
+     * @param _dx
+     * @param _dy
+     * @param _bx
+     * @param _by
+     * @param _bw
+     * @param _bh
+     * @return
+     */
+    public static double timeOfImpact(double _x, double _y, double _w, double _h, double _dx, double _dy,
+            double _bx, double _by, double _bw, double _bh) {
+        //  Grow the stationary box by the moving one, so the moving box can be
+        //  treated as the point at its top-left corner, then find the part of
+        //  that point's path inside the grown box along each axis in turn.
+        double enter = 0;
+        double exit = 1;
+        if (_dx == 0) {
+            if (_x < _bx - _w || _x > _bx + _bw) {
+                return SweptCollision.NO_HIT;
+            }
+        } else {
+            double t1 = (_bx - _w - _x) / _dx;
+            double t2 = (_bx + _bw - _x) / _dx;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        if (_dy == 0) {
+            if (_y < _by - _h || _y > _by + _bh) {
+                return SweptCollision.NO_HIT;
+            }
+        } else {
+            double t1 = (_by - _h - _y) / _dy;
+            double t2 = (_by + _bh - _y) / _dy;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        return enter <= exit ? enter : SweptCollision.NO_HIT;
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.TimerController;
+import com.dsd.game.core.InputAction;
+import com.dsd.game.core.TimerClock;
+import com.dsd.game.controller.TimerHandle;
 import com.dsd.game.objects.BulletCasing;
 import com.dsd.game.objects.Player;
 import com.dsd.game.objects.enums.PlayerState;
@@ -9,14 +11,10 @@ import com.dsd.game.objects.weapons.Gun;
 import com.dsd.game.objects.weapons.Weapon;
 import com.dsd.game.objects.weapons.enums.WeaponType;
 import com.dsd.game.userinterface.TimerInterface;
-import com.revivedstandards.commands.Command;
 import com.revivedstandards.controller.StandardAnimatorController;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.StandardAudioType;
 import java.awt.event.KeyEvent;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Command representing when the user shoots their weapon.
@@ -25,7 +23,7 @@ import java.util.TimerTask;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class AttackCommand extends Command implements TimerInterface {
+public class AttackCommand extends RecordableCommand implements TimerInterface {
 
     //  Miscellaneous reference variables.
     private final Game game;
@@ -34,23 +32,23 @@ public class AttackCommand extends Command implements TimerInterface {
     //  The animation controller for the current weapon's animation.
     private StandardAnimatorController animation;
     //  The delay for each attack.
-    private Timer attackDelayTimer = null;
+    private TimerHandle attackDelayTimer = null;
     //  Boolean to represent if the attack has a timer or not.
-    private static boolean hasTimer = false;
+    private boolean hasTimer = false;
 
     public AttackCommand(Game _game, Player _obj, StandardCollisionHandler _gh, StandardAnimatorController _animation) {
+        super(_game, InputAction.ATTACK);
         this.game = _game;
         this.player = _obj;
         this.globalHandler = _gh;
         this.animation = _animation;
         this.animation.getStandardAnimation().setReturnAnimation(this.player.getAnimationController());
-        this.attackDelayTimer = new Timer(true);
-        TimerController.addTimer(this);
+        _game.getTimerController().addTimer(this);
         this.bind(_game.getKeyboard(), KeyEvent.VK_SPACE);
     }
 
     @Override
-    public void pressed(float _dt) {
+    protected void onPressed(float _dt) {
         if (!this.game.isInGameState()) {
             return;
         }
@@ -73,29 +71,32 @@ public class AttackCommand extends Command implements TimerInterface {
             }
             // Once the weapon is used, we need to toggle it to false so the timer can resume.
             weapon.setReady(false);
-            AttackCommand.hasTimer = false;
+            this.hasTimer = false;
         }
         /**
          * If there's not already a delay present and the weapon isn't active,
-         * we can create one. We need to instantiate a new timer in the event
-         * that the previous one was canceled.
+         * we can schedule one.
          */
-        else if (!AttackCommand.hasTimer) {
-            AttackCommand.hasTimer = true;
-            this.attackDelayTimer = new Timer(true);
-            this.attackDelayTimer.schedule(new AttackDelayTimer(this, weapon), weapon.getDelay());
+        else if (!this.hasTimer) {
+            this.hasTimer = true;
+            this.attackDelayTimer = this.game.getTimerController().schedule(
+                    new AttackDelayTimer(this, weapon), TimerClock.LEVEL, weapon.getDelay());
         }
     }
     
     @Override
-    public void down(float _dt) {
+    protected void onDown(float _dt) {
         // down(dt) is essentially just multiple pressed(dt) calls in succession.
-        this.pressed(_dt);
+        this.onPressed(_dt);
     }
 
     @Override
     public void cancelTimer() {
-        this.attackDelayTimer.cancel();
+        if (this.attackDelayTimer != null) {
+            this.attackDelayTimer.cancel();
+        }
+        this.attackDelayTimer = null;
+        this.hasTimer = false;
     }
 
     /**
@@ -108,7 +109,7 @@ public class AttackCommand extends Command implements TimerInterface {
     private void gunAttack(Gun _gun) {
         if (!_gun.isReloading()) {
             if (_gun.isWeaponEmpty()) {
-                StandardAudioController.play(_gun.getEmptySFXPath(), StandardAudioType.SFX);
+                this.game.getAudioBoxController().play(_gun.getEmptySFXPath(), StandardAudioType.SFX);
                 return;
             }
             // Play the animation and deduct ammunition from the gun that the player is using.
@@ -134,7 +135,7 @@ public class AttackCommand extends Command implements TimerInterface {
 
 //=============================== GETTERS =====================================
     public boolean hasTimer() {
-        return AttackCommand.hasTimer;
+        return this.hasTimer;
     }
 
 //================================= SETTERS ===================================
@@ -149,7 +150,7 @@ public class AttackCommand extends Command implements TimerInterface {
     }
 
     public void setTimer(boolean _timer) {
-        AttackCommand.hasTimer = _timer;
+        this.hasTimer = _timer;
     }
 
     /**
@@ -157,7 +158,7 @@ public class AttackCommand extends Command implements TimerInterface {
      * to determine how long to wait in between attacks (so the user can't just
      * spam the hell out of the attack key).
      */
-    private class AttackDelayTimer extends TimerTask {
+    private class AttackDelayTimer implements Runnable {
 
         private final Weapon weapon;
         private final AttackCommand command;
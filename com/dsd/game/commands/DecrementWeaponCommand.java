@@ -1,9 +1,9 @@
 package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.InputAction;
 import com.dsd.game.objects.Player;
 import com.dsd.game.objects.weapons.enums.WeaponSelection;
-import com.revivedstandards.commands.Command;
 import com.sun.glass.events.KeyEvent;
 
 /**
@@ -13,7 +13,7 @@ import com.sun.glass.events.KeyEvent;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class DecrementWeaponCommand extends Command {
+public class DecrementWeaponCommand extends RecordableCommand {
 
     // Miscellaneous reference variables.
     private final Game game;
@@ -21,13 +21,14 @@ public class DecrementWeaponCommand extends Command {
 
     // This may need to change with time.
     public DecrementWeaponCommand(Game _game, Player _player) {
+        super(_game, InputAction.DECREMENT_WEAPON);
         this.game = _game;
         this.player = _player;
         this.bind(this.game.getKeyboard(), KeyEvent.VK_X);
     }
 
     @Override
-    public void pressed(float _dt) {
+    protected void onPressed(float _dt) {
         if (this.player.isAttacking() || this.game.isShop()) {
             return;
         }
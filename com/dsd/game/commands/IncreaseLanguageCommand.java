@@ -1,7 +1,6 @@
 package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.core.LanguageEnum;
 import com.revivedstandards.commands.Command;
 import java.awt.event.KeyEvent;
 
@@ -28,7 +27,7 @@ public class IncreaseLanguageCommand extends Command {
         if (!this.game.isMenu() || !this.game.getMenuScreen().isOnLanguages()) {
             return;
         }
-        LanguageEnum.increaseLanguage();
+        this.game.getLanguageController().increaseLanguage();
     }
     
 }
@@ -1,9 +1,9 @@
 package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.InputAction;
 import com.dsd.game.objects.Player;
 import com.dsd.game.objects.weapons.enums.WeaponSelection;
-import com.revivedstandards.commands.Command;
 import com.sun.glass.events.KeyEvent;
 
 /**
@@ -13,20 +13,21 @@ import com.sun.glass.events.KeyEvent;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class IncrementWeaponCommand extends Command {
+public class IncrementWeaponCommand extends RecordableCommand {
 
     // Miscellaneous reference variables.
     private final Game game;
     private final Player player;
 
     public IncrementWeaponCommand(Game _game, Player _player) {
+        super(_game, InputAction.INCREMENT_WEAPON);
         this.game = _game;
         this.player = _player;
         this.bind(this.game.getKeyboard(), KeyEvent.VK_C);
     }
 
     @Override
-    public void pressed(float _dt) {
+    protected void onPressed(float _dt) {
         if (this.player.isAttacking() || this.game.isShop()) {
             return;
         }
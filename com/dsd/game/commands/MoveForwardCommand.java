@@ -1,9 +1,9 @@
 package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.InputAction;
 import com.dsd.game.objects.Player;
 import com.dsd.game.objects.enums.PlayerState;
-import com.revivedstandards.commands.Command;
 import java.awt.event.KeyEvent;
 
 /**
@@ -13,20 +13,21 @@ import java.awt.event.KeyEvent;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class MoveForwardCommand extends Command {
+public class MoveForwardCommand extends RecordableCommand {
 
     //  Miscellaneous reference variables.
     private final Game game;
     private final Player player;
 
     public MoveForwardCommand(Game _game, Player _obj) {
+        super(_game, InputAction.MOVE_FORWARD);
         this.game = _game;
         this.player = _obj;
         this.bind(_game.getKeyboard(), KeyEvent.VK_W);
     }
 
     @Override
-    public void pressed(float _dt) {
+    protected void onPressed(float _dt) {
         if (this.game.isInGameState() && !this.player.isMovingBackward()) {
             this.player.setPlayerState(PlayerState.WALKING_FORWARD);
             this.player.updatePosition();
@@ -34,12 +35,12 @@ public class MoveForwardCommand extends Command {
     }
 
     @Override
-    public void released(float _dt) {
+    protected void onReleased(float _dt) {
         this.player.setPlayerState(PlayerState.STANDING);
     }
 
     @Override
-    public void down(float _dt) {
+    protected void onDown(float _dt) {
         if (this.game.isInGameState() && !this.player.isMovingBackward()) {
             this.player.setPlayerState(PlayerState.WALKING_FORWARD);
             this.player.updatePosition();
@@ -0,0 +1,42 @@
+package com.dsd.game.commands;
+
+import com.dsd.game.controller.DebugController;
+import com.dsd.game.core.FramePacer;
+import com.dsd.game.core.Game;
+import com.dsd.game.core.PacingMode;
+import com.revivedstandards.commands.Command;
+import java.awt.event.KeyEvent;
+
+/**
+ * Command that defines what happens when the user presses "L" while in debug
+ * mode; it cycles the frame pacer through its pacing modes, so their effect on
+ * the frame statistics can be compared on the spot.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class PacingModeCommand extends Command {
+
+    //  Miscellaneous reference variables.
+    private final Game game;
+
+    public PacingModeCommand(Game _game) {
+        this.game = _game;
+        this.bind(this.game.getKeyboard(), KeyEvent.VK_L);
+    }
+
+    @Override
+    public void pressed(float _dt) {
+        if (!DebugController.DEBUG_MODE) {
+            return;
+        }
+        FramePacer pacer = this.game.getFramePacer();
+        PacingMode[] modes = PacingMode.values();
+        pacer.setMode(modes[(pacer.getMode().ordinal() + 1) % modes.length]);
+        pacer.resetStatistics();
+    }
+
+}
@@ -2,7 +2,7 @@ package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
-import com.revivedstandards.commands.Command;
+import com.dsd.game.core.InputAction;
 import java.awt.event.KeyEvent;
 
 /**
@@ -13,18 +13,19 @@ import java.awt.event.KeyEvent;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class PauseCommand extends Command {
+public class PauseCommand extends RecordableCommand {
 
     // Miscellaneous reference variables.
     private final Game game;
 
     public PauseCommand(Game _game) {
+        super(_game, InputAction.PAUSE);
         this.game = _game;
         this.bind(game.getKeyboard(), KeyEvent.VK_ESCAPE);
     }
 
     @Override
-    public void pressed(float _dt) {
+    protected void onPressed(float _dt) {
         // If we're on the preamble screen OR the menu screen, we need to leave.
         if (this.game.isPreamble() || this.game.isMenu()) {
             return;
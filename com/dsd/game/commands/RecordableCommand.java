@@ -0,0 +1,76 @@
+package com.dsd.game.commands;
+
+import com.dsd.game.core.Game;
+import com.dsd.game.core.InputAction;
+import com.revivedstandards.commands.Command;
+
+/**
+ * A command whose key is part of the game's recordable input. The keyboard's
+ * pressed/down/released callbacks only tell the InputController what the key
+ * is doing; the InputController then samples every key once per simulation
+ * step (or reads the step back from a replay) and calls onPressed(),
+ * onDown() and onReleased() on the game thread.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public abstract class RecordableCommand extends Command {
+
+    //  Miscellaneous reference variables.
+    private final Game game;
+    private final InputAction action;
+
+    public RecordableCommand(Game _game, InputAction _action) {
+        this.game = _game;
+        this.action = _action;
+        _game.getInputController().register(_action, this);
+    }
+
+    @Override
+    public final void pressed(float _dt) {
+        this.game.getInputController().press(this.action);
+    }
+
+    @Override
+    public final void down(float _dt) {
+        this.game.getInputController().hold(this.action);
+    }
+
+    @Override
+    public final void released(float _dt) {
+        this.game.getInputController().release(this.action);
+    }
+
+    /**
+     * Runs this command for one simulation step, given what its key did during
+     * that step.
+     *
+     * @param _pressed the key went down during the step.
+     * @param _held the key is down at the end of the step.
+     * @param _released the key came up during the step.
+     * @param _dt
+     */
+    public final void apply(boolean _pressed, boolean _held, boolean _released, float _dt) {
+        if (_pressed) {
+            this.onPressed(_dt);
+        } else if (_held) {
+            this.onDown(_dt);
+        }
+        if (_released) {
+            this.onReleased(_dt);
+        }
+    }
+
+    protected void onPressed(float _dt) {
+    }
+
+    protected void onDown(float _dt) {
+    }
+
+    protected void onReleased(float _dt) {
+    }
+
+}
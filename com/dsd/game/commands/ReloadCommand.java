@@ -1,17 +1,15 @@
 package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.TimerController;
+import com.dsd.game.core.InputAction;
+import com.dsd.game.core.TimerClock;
+import com.dsd.game.controller.TimerHandle;
 import com.dsd.game.objects.Player;
 import com.dsd.game.objects.weapons.Gun;
 import com.dsd.game.objects.weapons.enums.WeaponType;
 import com.dsd.game.userinterface.TimerInterface;
-import com.revivedstandards.commands.Command;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.model.StandardAudioType;
 import java.awt.event.KeyEvent;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Command representing when the user shoots their weapon.
@@ -20,12 +18,12 @@ import java.util.TimerTask;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class ReloadCommand extends Command implements TimerInterface {
+public class ReloadCommand extends RecordableCommand implements TimerInterface {
 
     // Miscellaneous reference variables
     private final Game game;
     private final Player player;
-    private Timer reloadTimer;
+    private TimerHandle reloadTimer;
     /**
      * How long (ms) the timer should wait before letting the player fire after
      * reloading their gun (this may change for some reason, so we're not making
@@ -35,20 +33,23 @@ public class ReloadCommand extends Command implements TimerInterface {
 
     // This may need to change with time.
     public ReloadCommand(Game _game, Player _obj) {
+        super(_game, InputAction.RELOAD);
         this.game = _game;
         this.player = _obj;
         this.bind(_game.getKeyboard(), KeyEvent.VK_R);
-        this.reloadTimer = new Timer(true);
-        TimerController.addTimer(this);
+        _game.getTimerController().addTimer(this);
     }
 
     @Override
     public void cancelTimer() {
-        this.reloadTimer.cancel();
+        if (this.reloadTimer != null) {
+            this.reloadTimer.cancel();
+        }
+        this.reloadTimer = null;
     }
 
     @Override
-    public void pressed(float _dt) {
+    protected void onPressed(float _dt) {
         // No point in trying to reload if they have a melee weapon.
         if (!this.player.getInventory().hasGun()) {
             return;
@@ -67,16 +68,16 @@ public class ReloadCommand extends Command implements TimerInterface {
             return;
         }
         // Play the reload sfx.
-        StandardAudioController.play(gun.getReloadSFXPath(), StandardAudioType.SFX);
-        this.reloadTimer = new Timer(true);
-        this.reloadTimer.schedule(new ReloadTimer(gun), gun.getReloadDelay());
+        this.game.getAudioBoxController().play(gun.getReloadSFXPath(), StandardAudioType.SFX);
+        this.reloadTimer = this.game.getTimerController().schedule(
+                new ReloadTimer(gun), TimerClock.LEVEL, gun.getReloadDelay());
     }
 
     /**
      * Private class that stops the player from firing their weapon until they
      * have "reloaded".
      */
-    private class ReloadTimer extends TimerTask {
+    private class ReloadTimer implements Runnable {
 
         private final Gun weapon;
 
@@ -2,7 +2,7 @@ package com.dsd.game.commands;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
-import com.revivedstandards.commands.Command;
+import com.dsd.game.core.InputAction;
 import java.awt.event.KeyEvent;
 
 /**
@@ -13,17 +13,18 @@ import java.awt.event.KeyEvent;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class ShopCommand extends Command {
+public class ShopCommand extends RecordableCommand {
 
     public Game game;
 
     public ShopCommand(Game _game) {
+        super(_game, InputAction.SHOP);
         this.game = _game;
         this.bind(game.getKeyboard(), KeyEvent.VK_G);
     }
 
     @Override
-    public void pressed(float _dt) {
+    protected void onPressed(float _dt) {
         if (this.game.isPreamble() || this.game.isMenu()) {
             return;
         } else if (!this.game.isShop()) {
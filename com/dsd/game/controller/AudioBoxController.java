@@ -4,13 +4,23 @@ import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.model.StandardAudioType;
 
 /**
- * This class loads all necessary sfx for the game.
+ * This class loads all necessary sfx for the game. Every sound in a game is
+ * played or stopped through that game's controller, so a game's audio can be
+ * switched off entirely (as it is for headless simulation runs) without
+ * touching the callers, or any other game in the same JVM.
  *
  * [Group Name: Data Structure Deadheads]
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public abstract class AudioBoxController {
+public class AudioBoxController {
+
+    //  If false, play() and stop() do nothing and nothing is ever loaded.
+    private final boolean enabled;
+
+    public AudioBoxController(boolean _enabled) {
+        this.enabled = _enabled;
+    }
 
     /**
      * Instantiates the amount of buffers that the controller should hold, along
@@ -18,8 +28,10 @@ public abstract class AudioBoxController {
      *
      * @param _buffers
      */
-    public static void initialize(int _buffers) {
-        
+    public void initialize(int _buffers) {
+        if (!this.enabled) {
+            return;
+        }
         StandardAudioController.init(_buffers);
         //  Music initialization.
         StandardAudioController.load("src/resources/audio/music/menu.mp3", 1, StandardAudioType.MUSIC);
@@ -49,6 +61,30 @@ public abstract class AudioBoxController {
         AudioBoxController.initGreenMonsterSFX(5);
     }
 
+    /**
+     * Plays the track at _path, if audio is enabled.
+     *
+     * @param _path
+     * @param _type
+     */
+    public void play(String _path, StandardAudioType _type) {
+        if (this.enabled) {
+            StandardAudioController.play(_path, _type);
+        }
+    }
+
+    /**
+     * Stops the track at _path, if audio is enabled.
+     *
+     * @param _path
+     * @param _type
+     */
+    public void stop(String _path, StandardAudioType _type) {
+        if (this.enabled) {
+            StandardAudioController.stop(_path, _type);
+        }
+    }
+
     /**
      * Initializes the basic monster sfx (these monsters have their own
      * dedicated sfx).
@@ -72,5 +108,10 @@ public abstract class AudioBoxController {
             StandardAudioController.load("src/resources/audio/sfx/green_monster/pain" + i + ".wav", 4, StandardAudioType.SFX);
         }
     }
-    
-}
\ No newline at end of file
+
+//============================== GETTERS =====================================
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+}
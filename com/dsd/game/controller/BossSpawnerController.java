@@ -1,17 +1,15 @@
 package com.dsd.game.controller;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.enemies.Enemy;
 import com.dsd.game.enemies.FemaleMonsterBoss;
 import com.dsd.game.enemies.enums.EnemyType;
-import com.dsd.game.userinterface.TimerInterface;
 import com.dsd.game.userinterface.model.BossHealthBar;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
 import java.awt.Graphics2D;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * This class is somewhat similar to the SpawnerController, with the exception
@@ -21,7 +19,7 @@ import java.util.TimerTask;
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
  */
-public class BossSpawnerController extends StandardGameObject implements TimerInterface {
+public class BossSpawnerController extends StandardGameObject {
 
     // Miscellaneous reference variables.
     private final Game game;
@@ -31,7 +29,7 @@ public class BossSpawnerController extends StandardGameObject implements TimerIn
     // Delay for the spawning of the boss.
     private final int bossSpawnDelay = 10000;
     // Timer that continuously checks if we're ready to spawn a boss.
-    private final Timer bossTimer;
+    private final TimerHandle bossTimer;
     // If we already have a boss currently summoned (and actively battling),
     // we shouldn't add another one.
     protected boolean hasBoss = false;
@@ -41,10 +39,9 @@ public class BossSpawnerController extends StandardGameObject implements TimerIn
         this.game = _game;
         this.spawnerID = _id;
         this.parentContainer = _sch;
-        this.bossTimer = new Timer(true);
-        this.bossTimer.scheduleAtFixedRate(new BossSpawnerController.BossSpawnerDelayTimer(this, this.game),
-                this.bossSpawnDelay, this.bossSpawnDelay);
-        TimerController.addTimer(this);
+        this.bossTimer = this.game.getTimerController().scheduleAtFixedRate(
+                new BossSpawnerController.BossSpawnerDelayTimer(this, this.game),
+                TimerClock.WAVE, this.bossSpawnDelay, this.bossSpawnDelay);
     }
 
     /**
@@ -65,12 +62,7 @@ public class BossSpawnerController extends StandardGameObject implements TimerIn
             default:
                 throw new IllegalStateException("Invalid boss spawner type!");
         }
-        this.parentContainer.addEntity(enemy);
-    }
-
-    @Override
-    public void cancelTimer() {
-        this.bossTimer.cancel();
+        this.game.getCollisionHandlerController().queueAddEntity(enemy);
     }
 
     @Override
@@ -86,7 +78,7 @@ public class BossSpawnerController extends StandardGameObject implements TimerIn
      * level controller to determine if we're on a level that can spawn a boss
      * or not. If so, then we go ahead and do so.
      */
-    private class BossSpawnerDelayTimer extends TimerTask {
+    private class BossSpawnerDelayTimer implements Runnable {
 
         private final BossSpawnerController spawnerController;
         private final Game game;
@@ -99,12 +91,11 @@ public class BossSpawnerController extends StandardGameObject implements TimerIn
         @Override
         public void run() {
             /**
-             * If we're not paused AND the game isn't in its preamble state, AND
-             * we don't already HAVE A boss AND we're on the correct wave, spawn
-             * one.
+             * The WAVE clock already keeps us from running while paused, in the
+             * shop or in the preamble. If we don't already HAVE A boss AND we're
+             * on the correct wave, spawn one.
              */
-            if (this.game.isPaused() || this.game.isPreamble()
-                    || this.game.isShop() || this.spawnerController.hasBoss) {
+            if (this.spawnerController.hasBoss) {
                 return;
             } else if (this.game.getLevelController().getWaveNumber()
                     % this.game.getLevelController().getBossSpawnInterval() != 0) {
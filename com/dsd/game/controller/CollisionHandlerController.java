@@ -1,31 +1,74 @@
 package com.dsd.game.controller;
 
+import com.dsd.game.collision.AreaQueries;
+import com.dsd.game.collision.CollisionDispatcher;
+import com.dsd.game.collision.CollisionMatrix;
+import com.dsd.game.collision.CollisionPhase;
+import com.dsd.game.collision.CollisionResponse;
+import com.dsd.game.collision.MaskCache;
+import com.dsd.game.collision.NarrowphaseBuffer;
+import com.dsd.game.collision.ObstacleResolver;
+import com.dsd.game.collision.OccupancyGrid;
+import com.dsd.game.collision.PixelMask;
+import com.dsd.game.collision.SleepingSet;
+import com.dsd.game.collision.SpatialHash;
+import com.dsd.game.collision.SweptCollision;
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
 import com.dsd.game.enemies.BasicMonster;
 import com.dsd.game.enemies.Enemy;
 import com.dsd.game.enemies.GreenMonster;
-import com.dsd.game.objects.Explosion;
+import com.dsd.game.handlers.EntityRegistry;
+import com.dsd.game.handlers.ExplosionHandler;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.Sleepable;
 import com.dsd.game.objects.enums.ExplosionType;
 import com.dsd.game.objects.enums.PlayerState;
 import com.dsd.game.objects.powerups.Powerup;
 import com.dsd.game.objects.weapons.projectiles.BossProjectileObject;
 import com.dsd.game.objects.weapons.projectiles.GrenadeBulletObject;
 import com.dsd.game.objects.weapons.projectiles.ProjectileGameObject;
+import com.dsd.game.objects.weapons.projectiles.ProjectilePool;
 import com.dsd.game.objects.weapons.projectiles.ShotgunBulletObject;
+import com.dsd.game.render.LayerBuckets;
+import com.dsd.game.render.ZLayer;
 import com.dsd.game.userinterface.StandardInteractorHandler;
 import com.dsd.game.userinterface.model.DamageText;
+import com.dsd.game.util.LongIntMap;
 import com.revivedstandards.handlers.StandardCollisionHandler;
+import com.revivedstandards.main.StandardCamera;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.math3.util.FastMath;
 
 /**
  * StandardCollisionHandler has a method integrated in it: handleCollision(obj1,
  * obj2), and it needs a subclass to override it so the handler knows what to do
  * when two SGO's collide.
  *
+ * This one finds the pairs through its own spatial hash broadphase (searching
+ * regions of the world in parallel when there are enough colliders), keeps
+ * only those the CollisionMatrix says are worth handling, sweeps projectiles
+ * along their path and checks pixel masks where boxes overlap, and hands each
+ * hit to the response registered for its IDs, in entity list order. Entities
+ * may also be added or removed from any thread through queueAddEntity() and
+ * queueRemoveEntity(); the game thread applies those at the start of tick().
+ * Hitscan shots and explosions are resolved through AreaQueries, the level's
+ * scenery through ObstacleResolver, and objects at rest are kept in a
+ * SleepingSet instead of the entity list. Entities are drawn by ZLayer (see
+ * LayerBuckets).
+ *
  * [Group Name: Data Structure Deadheads]
  *
  * @author Joshua, Ronald, Rinty Last Updated: 12/10/2019
@@ -36,30 +79,821 @@ public class CollisionHandlerController extends StandardCollisionHandler {
      * We can probably decouple this later, but this is the handler that holds
      * all damageText objects.
      */
-    private static StandardInteractorHandler damageText;
+    private final StandardInteractorHandler damageText;
+    //  Red value of the last damage text; each new one is a little brighter.
+    private int damageTextRed = DamageText.ORIGINAL_RED_VALUE;
+    //  Explosion animations; purely visual, so not among the entities.
+    private final ExplosionHandler explosionHandler;
     private final Game game;
+    //  Pending add/remove requests; many threads may offer, only the game thread polls.
+    private final ConcurrentLinkedQueue<EntityCommand> commandQueue;
+    private final AtomicInteger pendingCommands;
+    //  Requests beyond this many pending are dropped rather than queued.
+    private static final int MAX_PENDING_COMMANDS = 4096;
+    //  Running totals of requests queued, applied, and thrown away.
+    private final AtomicLong queuedCount;
+    private final AtomicLong drainedCount;
+    private final AtomicLong droppedCount;
+    //  IDs whose objects look for collisions with the other entities.
+    private final EnumSet<StandardID> colliders;
+    //  Broadphase grid; the cell size is about the size of a monster sprite.
+    public static final int BROADPHASE_CELL_SIZE = 128;
+    private final SpatialHash<StandardGameObject> broadphase;
+    private boolean broadphaseEnabled = true;
+    //  Which IDs look for collisions with which, and what happens when they do.
+    private final CollisionMatrix collisionMatrix;
+    private final CollisionDispatcher dispatcher;
+    //  Number of pairs whose bounds were compared during the last tick, in
+    //  total and by the ID of the collider, and the number of pairs the
+    //  matrix ruled out before their bounds were compared.
+    private long pairTests = 0;
+    private final long[] pairTestsByLayer;
+    private final long[] pairsSkippedByLayer;
+    //  Scratch bounds (x, y, width, height) of the object being filed.
+    private final double[] bounds;
+    //  Buffers the narrowphase records its hits in, one per region searched;
+    //  the region (buffer index) of each collider by entity index, -1 for
+    //  the rest; and where each buffer is up to while its hits are applied.
+    private final ArrayList<NarrowphaseBuffer> narrowphaseBuffers;
+    private final LongIntMap regionSlots;
+    private int[] colliderRegions;
+    private int[] regionCursors;
+    private boolean parallelNarrowphaseEnabled = true;
+    //  Size of the regions searched in parallel, and how many colliders there
+    //  must be before it's worth splitting them up at all.
+    public static final int REGION_SIZE = CollisionHandlerController.BROADPHASE_CELL_SIZE * 4;
+    public static final int PARALLEL_THRESHOLD = 256;
+    private static final int INITIAL_REGION_CAPACITY = 64;
+    //  Every ID and layer; values() hands out a new copy on every call.
+    private static final StandardID[] IDS = StandardID.values();
+    private static final ZLayer[] LAYERS = ZLayer.values();
+    //  Layers of every kind of enemy.
+    private long enemyLayers = 0;
+    //  Hitscan and explosion queries, and the enemies an explosion reached.
+    private final AreaQueries areaQueries;
+    private final ArrayList<StandardGameObject> areaCandidates;
+    //  Keeps the player and enemies out of the level's static scenery.
+    private final ObstacleResolver obstacleResolver;
+    //  Masks of the animation frames, and the layers whose pairs are checked
+    //  pixel by pixel once their bounding boxes overlap.
+    private final MaskCache maskCache;
+    private long pixelTestLayers = 0;
+    //  Objects asleep, and the ones last found in view or under the player.
+    private final SleepingSet sleeping;
+    private final ArrayList<StandardGameObject> sleepingCandidates;
+    private boolean sleepingEnabled = true;
+    //  Where each entity is in the list; removals wait for its flush().
+    private final EntityRegistry registry;
+    //  Where the guns get their projectiles, and the pooled projectiles
+    //  removed since the last flush, to be handed back once they're out.
+    private final ProjectilePool projectilePool;
+    private final ArrayList<ProjectileGameObject> retiringProjectiles;
+    //  The entities (but not the sleepers) by the layer they are drawn in,
+    //  and the layer each ID starts in; IDs not listed start with ACTORS.
+    private final LayerBuckets renderLayers;
+    private final EnumMap<StandardID, ZLayer> defaultLayers;
 
     public CollisionHandlerController(Game _game) {
         super(_game.getCamera());
         this.game = _game;
-        CollisionHandlerController.damageText = new StandardInteractorHandler(_game);
+        this.damageText = new StandardInteractorHandler(_game);
+        this.commandQueue = new ConcurrentLinkedQueue<>();
+        this.pendingCommands = new AtomicInteger(0);
+        this.queuedCount = new AtomicLong(0);
+        this.drainedCount = new AtomicLong(0);
+        this.droppedCount = new AtomicLong(0);
+        this.colliders = EnumSet.noneOf(StandardID.class);
+        this.broadphase = new SpatialHash<>(CollisionHandlerController.BROADPHASE_CELL_SIZE);
+        this.collisionMatrix = new CollisionMatrix();
+        this.dispatcher = new CollisionDispatcher();
+        this.pairTestsByLayer = new long[StandardID.values().length];
+        this.pairsSkippedByLayer = new long[StandardID.values().length];
+        this.bounds = new double[4];
+        this.narrowphaseBuffers = new ArrayList<>();
+        this.regionSlots = new LongIntMap(CollisionHandlerController.INITIAL_REGION_CAPACITY);
+        this.colliderRegions = new int[0];
+        this.regionCursors = new int[0];
+        this.explosionHandler = new ExplosionHandler(_game);
+        this.maskCache = new MaskCache();
+        this.areaCandidates = new ArrayList<>();
+        this.obstacleResolver = new ObstacleResolver();
+        this.sleeping = new SleepingSet(CollisionHandlerController.BROADPHASE_CELL_SIZE);
+        this.sleepingCandidates = new ArrayList<>();
+        this.registry = new EntityRegistry(this.getEntities());
+        this.areaQueries = new AreaQueries(this.broadphase, this.getEntities(), this.registry, this.maskCache);
+        this.projectilePool = new ProjectilePool(_game, this);
+        this.retiringProjectiles = new ArrayList<>();
+        this.renderLayers = new LayerBuckets();
+        this.defaultLayers = new EnumMap<>(StandardID.class);
+        this.initCollisionResponses();
+        this.initRenderLayers();
+    }
+
+    /**
+     * Registers what happens when each pair of IDs collides. Registering a
+     * response also makes the first ID look for the second in the collision
+     * matrix, so the two can't drift apart.
+     */
+    private void initCollisionResponses() {
+        StandardID[] enemies = {StandardID.BasicMonster, StandardID.Monster2, StandardID.Monster3,
+            StandardID.Monster4, StandardID.Monster5, StandardID.Monster6, StandardID.Enemy};
+        StandardID[] pickups = {StandardID.Coin, StandardID.Powerup, StandardID.Item1, StandardID.Item2};
+        CollisionResponse bulletEnemy = new BulletEnemyResponse(this);
+        CollisionResponse playerBossProjectile = new PlayerBossProjectileResponse(this);
+        CollisionResponse playerEnemy = new PlayerEnemyResponse(this);
+        CollisionResponse pickup = new PickupResponse(this);
+        //  Bullets and boss projectiles hit as soon as they touch.
+        this.registerResponse(CollisionPhase.TOUCH, StandardID.Player, StandardID.Bullet1, playerBossProjectile);
+        this.registerResponse(CollisionPhase.OVERLAP, StandardID.Player, StandardID.Bullet1, playerBossProjectile);
+        for (StandardID enemy : enemies) {
+            this.registerResponse(CollisionPhase.TOUCH, StandardID.Bullet, enemy, bulletEnemy);
+            this.registerResponse(CollisionPhase.OVERLAP, StandardID.Bullet, enemy, bulletEnemy);
+            this.registerResponse(CollisionPhase.OVERLAP, StandardID.Player, enemy, playerEnemy);
+            this.enemyLayers |= CollisionMatrix.getLayer(enemy);
+        }
+        this.pixelTestLayers = this.enemyLayers | CollisionMatrix.getLayer(StandardID.Player)
+                | CollisionMatrix.getLayer(StandardID.Bullet) | CollisionMatrix.getLayer(StandardID.Bullet1);
+        for (StandardID item : pickups) {
+            this.registerResponse(CollisionPhase.OVERLAP, StandardID.Player, item, pickup);
+        }
+    }
+
+    /**
+     * Picks the layer each ID is drawn in until told otherwise.
+     */
+    private void initRenderLayers() {
+        for (StandardID id : StandardID.values()) {
+            if ((this.enemyLayers & CollisionMatrix.getLayer(id)) != 0) {
+                this.defaultLayers.put(id, ZLayer.ACTORS);
+            }
+        }
+        this.defaultLayers.put(StandardID.Player, ZLayer.ACTORS);
+        this.defaultLayers.put(StandardID.Coin, ZLayer.PICKUPS);
+        this.defaultLayers.put(StandardID.Powerup, ZLayer.PICKUPS);
+        this.defaultLayers.put(StandardID.Item1, ZLayer.PICKUPS);
+        this.defaultLayers.put(StandardID.Item2, ZLayer.PICKUPS);
+        this.defaultLayers.put(StandardID.Bullet, ZLayer.PROJECTILES);
+        this.defaultLayers.put(StandardID.Bullet1, ZLayer.PROJECTILES);
+        this.defaultLayers.put(StandardID.Particle, ZLayer.EFFECTS);
+    }
+
+    /**
+     * Makes _response run when an object with ID _first collides with one of
+     * ID _second in the phase _phase, and makes _first look for _second.
+     *
+     * @param _phase
+     * @param _first
+     * @param _second
+     * @param _response
+     */
+    public void registerResponse(CollisionPhase _phase, StandardID _first, StandardID _second,
+            CollisionResponse _response) {
+        this.dispatcher.register(_phase, _first, _second, _response);
+        this.collisionMatrix.setCollides(_first, _second);
     }
 
     @Override
     public void tick() {
+        this.drainCommands();
+        this.flushRemovals();
+        this.obstacleResolver.recordMovers(this.getEntities(),
+                this.enemyLayers | CollisionMatrix.getLayer(StandardID.Player));
         super.tick();
-        damageText.tick();
+        this.flushRemovals();
+        this.obstacleResolver.resolve(this.getEntities());
+        this.wakeTouched();
+        this.detectCollisions();
+        //  Projectiles stopped by the obstacles could still hit something on
+        //  their way there, so they are only killed once that is settled.
+        ArrayList<ProjectileGameObject> blocked = this.obstacleResolver.getBlockedProjectiles();
+        for (int i = 0; i < blocked.size(); i++) {
+            this.killProjectile(blocked.get(i));
+        }
+        this.sleepResting();
+        this.flushRemovals();
+        this.querySleepersInView();
+        for (int i = 0; i < this.sleepingCandidates.size(); i++) {
+            ((Sleepable) this.sleepingCandidates.get(i)).tickAsleep();
+        }
+        this.explosionHandler.tick();
+        this.damageText.tick();
     }
 
+    /**
+     * Marks objects with the ID _id as colliders. Deliberately not passed on
+     * to StandardCollisionHandler, so it doesn't do its own pair tests.
+     *
+     * @param _id
+     */
     @Override
-    public void render(Graphics2D _g2) {
-        for (int i = 0; i < this.getEntities().size(); i++) {
-            if (this.getEntities().get(i) == null) {
+    public void addCollider(StandardID _id) {
+        this.colliders.add(_id);
+    }
+
+    /**
+     * Puts every entity that is at rest to sleep, marking it to be taken out
+     * of the entity list at the next flush.
+     */
+    private void sleepResting() {
+        if (!this.sleepingEnabled) {
+            return;
+        }
+        ArrayList<StandardGameObject> entities = this.getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            StandardGameObject obj = entities.get(i);
+            if (obj instanceof Sleepable && ((Sleepable) obj).isAtRest() && this.registry.remove(obj)) {
+                this.renderLayers.remove(obj);
+                this.sleeping.add(obj);
+            }
+        }
+    }
+
+    /**
+     * Wakes every sleeping object the player's bounds touch, so the pickup
+     * is handled by the collision pass right after.
+     */
+    private void wakeTouched() {
+        Player player = this.game.getPlayer();
+        if (this.sleeping.isEmpty() || player == null) {
+            return;
+        }
+        this.sleeping.query(player.getX(), player.getY(), player.getWidth(), player.getHeight(),
+                this.sleepingCandidates);
+        for (int i = 0; i < this.sleepingCandidates.size(); i++) {
+            StandardGameObject obj = this.sleepingCandidates.get(i);
+            if (obj.getX() <= player.getX() + player.getWidth() && player.getX() <= obj.getX() + obj.getWidth()
+                    && obj.getY() <= player.getY() + player.getHeight()
+                    && player.getY() <= obj.getY() + obj.getHeight()) {
+                this.wake(obj);
+            }
+        }
+    }
+
+    /**
+     * Fills the sleeping candidate list with the sleeping objects that may be
+     * in the camera's view.
+     */
+    private void querySleepersInView() {
+        StandardCamera camera = this.game.getCamera();
+        this.sleeping.query(camera.getX() - camera.getVpw(), camera.getY() - camera.getVph(),
+                camera.getVpw() * 2, camera.getVph() * 2, this.sleepingCandidates);
+    }
+
+    /**
+     * Wakes _obj if it is asleep, putting it back with the other entities.
+     * Anything that pushes an object that might be asleep should call this,
+     * or the push won't take effect until the player walks into it.
+     *
+     * @param _obj
+     * @return true if _obj was asleep.
+     */
+    public boolean wake(StandardGameObject _obj) {
+        if (!this.sleeping.remove(_obj)) {
+            return false;
+        }
+        this.addEntity(_obj);
+        return true;
+    }
+
+    /**
+     * Adds _obj, drawn in the layer of its ID unless it already has one.
+     *
+     * @param _obj
+     */
+    @Override
+    public void addEntity(StandardGameObject _obj) {
+        super.addEntity(_obj);
+        this.registry.added(_obj);
+        this.areaQueries.added(_obj);
+        if (this.renderLayers.getLayer(_obj) == null) {
+            ZLayer layer = this.defaultLayers.get(_obj.getId());
+            this.renderLayers.add(_obj, layer == null ? ZLayer.ACTORS : layer);
+        }
+    }
+
+    /**
+     * Removes _obj, whether it is awake or asleep. An awake object stays in
+     * the entity list until the registry's next flush, so a pass over the
+     * list never skips the object after it.
+     *
+     * @param _obj
+     */
+    @Override
+    public void removeEntity(StandardGameObject _obj) {
+        if (this.sleeping.remove(_obj)) {
+            return;
+        }
+        this.registry.remove(_obj);
+        this.renderLayers.remove(_obj);
+        if (_obj instanceof ProjectileGameObject && ((ProjectileGameObject) _obj).getPool() == this.projectilePool) {
+            this.retiringProjectiles.add((ProjectileGameObject) _obj);
+        }
+    }
+
+    /**
+     * Takes the removed entities out of the list, and hands the pooled
+     * projectiles among them back to the pool. One that was added again
+     * before the flush is still in play, so it stays out of the pool.
+     */
+    private void flushRemovals() {
+        this.registry.flush();
+        for (int i = 0; i < this.retiringProjectiles.size(); i++) {
+            ProjectileGameObject projectile = this.retiringProjectiles.get(i);
+            if (this.registry.indexOf(projectile) < 0) {
+                this.projectilePool.release(projectile);
+            }
+        }
+        this.retiringProjectiles.clear();
+    }
+
+    /**
+     * Kills _projectile. A pooled one is removed right away as well, rather
+     * than left for StandardCollisionHandler to clear out, so it is back in
+     * the pool by the end of the tick.
+     *
+     * @param _projectile
+     */
+    private void killProjectile(ProjectileGameObject _projectile) {
+        _projectile.setAlive(false);
+        if (_projectile.getPool() != null) {
+            this.removeEntity(_projectile);
+        }
+    }
+
+    /**
+     * Finds every pair of a collider and another entity whose bounds touch,
+     * and hands it to handleCollision(), then (if the bounds overlap rather
+     * than just touch) to handleBoundsCollision(). Entities added while the
+     * pairs are being handled take part from the next tick on.
+     *
+     * Finding the pairs and handling them are two separate passes. The
+     * colliders are split up by the region of the world they're in, and each
+     * region's pairs are found into its own NarrowphaseBuffer; with enough
+     * colliders, the regions are searched in parallel. The game thread then
+     * handles the hits of every buffer in entity list order, just as if they
+     * had been found one collider at a time, so the damage, pushes and blood
+     * happen in the same order however many threads found them.
+     */
+    private void detectCollisions() {
+        ArrayList<StandardGameObject> entities = this.getEntities();
+        int count = entities.size();
+        if (this.broadphaseEnabled) {
+            this.broadphase.beginUpdate();
+            for (int i = 0; i < count; i++) {
+                StandardGameObject obj = entities.get(i);
+                if (obj != null) {
+                    this.computeBounds(obj, this.bounds);
+                    this.broadphase.update(obj, this.bounds[0], this.bounds[1], this.bounds[2], this.bounds[3], i,
+                            CollisionMatrix.getLayer(obj.getId()));
+                }
+            }
+            this.broadphase.endUpdate();
+            this.areaQueries.rebuilt();
+        }
+        int regions = this.partitionColliders(entities, count);
+        if (regions > 1) {
+            //  The workers may only read the mask cache, so every mask they
+            //  could need is built beforehand.
+            for (int i = 0; i < count; i++) {
+                StandardGameObject obj = entities.get(i);
+                if (obj != null && (CollisionMatrix.getLayer(obj.getId()) & this.pixelTestLayers) != 0) {
+                    this.maskCache.getMask(obj);
+                }
+            }
+            ForkJoinPool.commonPool().invoke(new NarrowphaseTask(this, entities, count, 0, regions));
+        } else {
+            this.findHits(this.narrowphaseBuffers.get(0), entities, count);
+        }
+        this.applyHits(count, regions);
+    }
+
+    /**
+     * Hands out the colliders among the narrowphase buffers, and returns how
+     * many buffers are used. With few colliders, or with parallel search
+     * turned off, they all go into the first buffer; otherwise, each region
+     * of REGION_SIZE pixels square gets a buffer of its own.
+     *
+     * @param _entities
+     * @param _count
+     * @return
+     */
+    private int partitionColliders(ArrayList<StandardGameObject> _entities, int _count) {
+        int colliderCount = 0;
+        for (int i = 0; i < _count; i++) {
+            if (this.isLookingForCollisions(_entities.get(i))) {
+                colliderCount++;
+            }
+        }
+        boolean parallel = this.parallelNarrowphaseEnabled
+                && colliderCount >= CollisionHandlerController.PARALLEL_THRESHOLD;
+        if (this.colliderRegions.length < _count) {
+            this.colliderRegions = new int[_count * 2];
+        }
+        this.regionSlots.clear();
+        int regions = 0;
+        for (int i = 0; i < _count; i++) {
+            StandardGameObject obj = _entities.get(i);
+            if (!this.isLookingForCollisions(obj)) {
+                this.colliderRegions[i] = -1;
+                continue;
+            }
+            int slot = 0;
+            if (parallel) {
+                long key = ((long) Math.floor(obj.getX() / CollisionHandlerController.REGION_SIZE) << 32)
+                        | ((long) Math.floor(obj.getY() / CollisionHandlerController.REGION_SIZE) & 0xFFFFFFFFL);
+                slot = this.regionSlots.get(key);
+                if (slot == LongIntMap.NO_VALUE) {
+                    slot = this.regionSlots.size();
+                    this.regionSlots.put(key, slot);
+                }
+            }
+            while (regions <= slot) {
+                if (this.narrowphaseBuffers.size() == regions) {
+                    this.narrowphaseBuffers.add(new NarrowphaseBuffer());
+                }
+                this.narrowphaseBuffers.get(regions++).reset();
+            }
+            this.narrowphaseBuffers.get(slot).addMember(i);
+            this.colliderRegions[i] = slot;
+        }
+        if (regions == 0) {
+            //  Nothing is looking, but the counters still need clearing.
+            if (this.narrowphaseBuffers.isEmpty()) {
+                this.narrowphaseBuffers.add(new NarrowphaseBuffer());
+            }
+            this.narrowphaseBuffers.get(0).reset();
+            regions = 1;
+        }
+        return regions;
+    }
+
+    /**
+     * Finds the hits of every collider in _buffer and records them in it.
+     * Only reads the entities, the broadphase and the mask cache, and only
+     * writes to _buffer, so several buffers can be filled at once.
+     *
+     * @param _buffer
+     * @param _entities
+     * @param _count
+     */
+    private void findHits(NarrowphaseBuffer _buffer, ArrayList<StandardGameObject> _entities, int _count) {
+        ArrayList<StandardGameObject> candidates = _buffer.getCandidates();
+        for (int m = 0; m < _buffer.getMemberCount(); m++) {
+            int index = _buffer.getMember(m);
+            StandardGameObject obj1 = _entities.get(index);
+            if (this.broadphaseEnabled) {
+                double[] box = _buffer.getBounds();
+                this.computeBounds(obj1, box);
+                this.broadphase.query(box[0], box[1], box[2], box[3], this.collisionMatrix.getMask(obj1.getId()),
+                        candidates, _buffer.getQuery());
+                _buffer.countSkippedPairs(obj1.getId(), _buffer.getQuery().getSkippedCount());
+            } else {
+                this.gatherCandidates(_buffer, obj1, _entities, _count);
+            }
+            ProjectileGameObject projectile = this.asMovingProjectile(obj1);
+            if (projectile != null) {
+                this.sweepProjectile(_buffer, index, projectile);
+                continue;
+            }
+            for (int j = 0; j < candidates.size(); j++) {
+                StandardGameObject obj2 = candidates.get(j);
+                if (obj2 != obj1) {
+                    this.testPair(_buffer, index, obj1, obj2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles the hits recorded in the first _regions buffers, collider by
+     * collider in entity list order, and totals up their pair test counts.
+     *
+     * @param _count
+     * @param _regions
+     */
+    private void applyHits(int _count, int _regions) {
+        this.pairTests = 0;
+        Arrays.fill(this.pairTestsByLayer, 0);
+        Arrays.fill(this.pairsSkippedByLayer, 0);
+        if (this.regionCursors.length < _regions) {
+            this.regionCursors = new int[_regions * 2];
+        }
+        Arrays.fill(this.regionCursors, 0, _regions, 0);
+        for (int i = 0; i < _count; i++) {
+            int region = this.colliderRegions[i];
+            if (region < 0) {
+                continue;
+            }
+            NarrowphaseBuffer buffer = this.narrowphaseBuffers.get(region);
+            int hit = this.regionCursors[region];
+            while (hit < buffer.getHitCount() && buffer.getCollider(hit) == i) {
+                this.applyHit(buffer, hit++);
+            }
+            this.regionCursors[region] = hit;
+        }
+        for (int r = 0; r < _regions; r++) {
+            NarrowphaseBuffer buffer = this.narrowphaseBuffers.get(r);
+            this.pairTests += buffer.getPairTestCount();
+            for (StandardID id : CollisionHandlerController.IDS) {
+                this.pairTestsByLayer[id.ordinal()] += buffer.getPairTestCount(id);
+                this.pairsSkippedByLayer[id.ordinal()] += buffer.getSkippedPairCount(id);
+            }
+        }
+    }
+
+    /**
+     * Calls the collision handlers for the hit at index _hit of _buffer. A
+     * projectile that a swept hit kills is moved back to where that hit
+     * happened.
+     *
+     * @param _buffer
+     * @param _hit
+     */
+    private void applyHit(NarrowphaseBuffer _buffer, int _hit) {
+        StandardGameObject obj1 = _buffer.getFirst(_hit);
+        StandardGameObject obj2 = _buffer.getSecond(_hit);
+        double time = _buffer.getTime(_hit);
+        if (time != NarrowphaseBuffer.NOT_SWEPT) {
+            ProjectileGameObject projectile = (ProjectileGameObject) obj1;
+            boolean wasAlive = projectile.isAlive();
+            this.handleCollision(projectile, obj2);
+            this.handleBoundsCollision(projectile, obj2);
+            if (wasAlive && !projectile.isAlive()) {
+                projectile.rewindTo(time);
+            }
+            return;
+        }
+        this.handleCollision(obj1, obj2);
+        if (_buffer.isOverlap(_hit)) {
+            this.handleBoundsCollision(obj1, obj2);
+        }
+    }
+
+    /**
+     * Fills _buffer's candidate list with every entity _obj1 looks for
+     * collisions with, without the broadphase; only kept for benchmarking.
+     *
+     * @param _buffer
+     * @param _obj1
+     * @param _entities
+     * @param _count
+     */
+    private void gatherCandidates(NarrowphaseBuffer _buffer, StandardGameObject _obj1,
+            ArrayList<StandardGameObject> _entities, int _count) {
+        ArrayList<StandardGameObject> candidates = _buffer.getCandidates();
+        candidates.clear();
+        for (int j = 0; j < _count; j++) {
+            StandardGameObject obj2 = _entities.get(j);
+            if (obj2 == null) {
+                continue;
+            } else if (!this.collisionMatrix.collides(_obj1.getId(), obj2.getId())) {
+                _buffer.countSkippedPairs(_obj1.getId(), 1);
+                continue;
+            }
+            candidates.add(obj2);
+        }
+    }
+
+    /**
+     * Puts the box _obj covered during the last tick into _bounds (x, y,
+     * width, height): its bounds, or for a moving projectile, the box around
+     * both where it started and where it ended up.
+     *
+     * @param _obj
+     * @param _bounds
+     */
+    private void computeBounds(StandardGameObject _obj, double[] _bounds) {
+        ProjectileGameObject projectile = this.asMovingProjectile(_obj);
+        if (projectile == null) {
+            _bounds[0] = _obj.getX();
+            _bounds[1] = _obj.getY();
+            _bounds[2] = _obj.getWidth();
+            _bounds[3] = _obj.getHeight();
+        } else {
+            _bounds[0] = Math.min(projectile.getPreviousX(), projectile.getX());
+            _bounds[1] = Math.min(projectile.getPreviousY(), projectile.getY());
+            _bounds[2] = projectile.getWidth() + Math.abs(projectile.getX() - projectile.getPreviousX());
+            _bounds[3] = projectile.getHeight() + Math.abs(projectile.getY() - projectile.getPreviousY());
+        }
+    }
+
+    /**
+     * Returns _obj as a projectile if it is one and moved during the last
+     * tick, so it needs sweeping; null otherwise.
+     *
+     * @param _obj
+     * @return
+     */
+    private ProjectileGameObject asMovingProjectile(StandardGameObject _obj) {
+        if (_obj instanceof ProjectileGameObject && ((ProjectileGameObject) _obj).hasMoved()) {
+            return (ProjectileGameObject) _obj;
+        }
+        return null;
+    }
+
+    /**
+     * Sweeps _projectile (the collider at index _index) along its path for
+     * the last tick against every candidate in _buffer, and records the hits
+     * in the order they happened.
+     *
+     * @param _buffer
+     * @param _index
+     * @param _projectile
+     */
+    private void sweepProjectile(NarrowphaseBuffer _buffer, int _index, ProjectileGameObject _projectile) {
+        double startX = _projectile.getPreviousX();
+        double startY = _projectile.getPreviousY();
+        double dx = _projectile.getX() - startX;
+        double dy = _projectile.getY() - startY;
+        int firstHit = _buffer.getHitCount();
+        ArrayList<StandardGameObject> candidates = _buffer.getCandidates();
+        for (int j = 0; j < candidates.size(); j++) {
+            StandardGameObject obj2 = candidates.get(j);
+            if (obj2 == _projectile) {
                 continue;
             }
-            this.getEntities().get(i).render(_g2);
+            _buffer.countPairTest(_projectile.getId());
+            double time = SweptCollision.timeOfImpact(startX, startY, _projectile.getWidth(), _projectile.getHeight(),
+                    dx, dy, obj2.getX(), obj2.getY(), obj2.getWidth(), obj2.getHeight());
+            if (time != SweptCollision.NO_HIT) {
+                time = this.refineSweptHit(_projectile, obj2, time);
+            }
+            if (time != SweptCollision.NO_HIT) {
+                _buffer.addHit(_index, _projectile, obj2, true, time);
+            }
+        }
+        //  A stable sort, so hits at the same time keep the entity list order.
+        _buffer.sortHitsByTime(firstHit);
+    }
+
+    /**
+     * Returns true if _obj is a collider whose ID looks for collisions with
+     * anything.
+     *
+     * @param _obj
+     * @return
+     */
+    private boolean isLookingForCollisions(StandardGameObject _obj) {
+        return _obj != null && this.colliders.contains(_obj.getId()) && this.collisionMatrix.hasMask(_obj.getId());
+    }
+
+    /**
+     * Compares the bounds of _obj1 (the collider at index _index) and _obj2,
+     * and records a hit in _buffer if they touch.
+     *
+     * @param _buffer
+     * @param _index
+     * @param _obj1 a collider.
+     * @param _obj2
+     */
+    private void testPair(NarrowphaseBuffer _buffer, int _index, StandardGameObject _obj1, StandardGameObject _obj2) {
+        _buffer.countPairTest(_obj1.getId());
+        ProjectileGameObject projectile = this.asMovingProjectile(_obj2);
+        if (projectile != null) {
+            //  A projectile coming at _obj1 (such as a boss projectile at the
+            //  player) is swept too, so it can't skip over _obj1 either.
+            double time = SweptCollision.timeOfImpact(projectile.getPreviousX(), projectile.getPreviousY(),
+                    projectile.getWidth(), projectile.getHeight(), projectile.getX() - projectile.getPreviousX(),
+                    projectile.getY() - projectile.getPreviousY(), _obj1.getX(), _obj1.getY(), _obj1.getWidth(),
+                    _obj1.getHeight());
+            if (time != SweptCollision.NO_HIT && this.refineSweptHit(projectile, _obj1, time) != SweptCollision.NO_HIT) {
+                _buffer.addHit(_index, _obj1, _obj2, true, NarrowphaseBuffer.NOT_SWEPT);
+            }
+            return;
+        }
+        double x1 = _obj1.getX();
+        double y1 = _obj1.getY();
+        double x2 = _obj2.getX();
+        double y2 = _obj2.getY();
+        if (x1 > x2 + _obj2.getWidth() || x2 > x1 + _obj1.getWidth()
+                || y1 > y2 + _obj2.getHeight() || y2 > y1 + _obj1.getHeight()) {
+            return;
+        }
+        if (this.isPixelTested(_obj1, _obj2)) {
+            PixelMask mask1 = this.maskCache.getMask(_obj1);
+            PixelMask mask2 = this.maskCache.getMask(_obj2);
+            if (mask1 != null && mask2 != null
+                    && !mask1.overlaps(mask2, (int) Math.round(x2 - x1), (int) Math.round(y2 - y1))) {
+                return;
+            }
+        }
+        boolean overlap = x1 < x2 + _obj2.getWidth() && x2 < x1 + _obj1.getWidth()
+                && y1 < y2 + _obj2.getHeight() && y2 < y1 + _obj1.getHeight();
+        _buffer.addHit(_index, _obj1, _obj2, overlap, NarrowphaseBuffer.NOT_SWEPT);
+    }
+
+    /**
+     * Draws every layer in order. Sleepers are drawn at the bottom of the
+     * pickups, the explosions with the effects, and the damage text with the
+     * HUD.
+     *
+     * @param _g2
+     */
+    @Override
+    public void render(Graphics2D _g2) {
+        for (ZLayer layer : CollisionHandlerController.LAYERS) {
+            if (layer == ZLayer.PICKUPS) {
+                this.querySleepersInView();
+                for (int i = 0; i < this.sleepingCandidates.size(); i++) {
+                    this.sleepingCandidates.get(i).render(_g2);
+                }
+            }
+            ArrayList<StandardGameObject> bucket = this.renderLayers.getBucket(layer);
+            for (int i = 0; i < bucket.size(); i++) {
+                bucket.get(i).render(_g2);
+            }
+            if (layer == ZLayer.EFFECTS) {
+                this.explosionHandler.render(_g2);
+            } else if (layer == ZLayer.HUD) {
+                this.damageText.render(_g2);
+            }
+        }
+    }
+
+    /**
+     * Requests that _obj be added to the handler at the start of the next
+     * tick. Safe to call from any thread.
+     *
+     * @param _obj
+     * @return false if the request was dropped.
+     */
+    public boolean queueAddEntity(StandardGameObject _obj) {
+        return this.queueCommand(_obj, true);
+    }
+
+    /**
+     * Requests that _obj be removed from the handler at the start of the next
+     * tick. Safe to call from any thread.
+     *
+     * @param _obj
+     * @return false if the request was dropped.
+     */
+    public boolean queueRemoveEntity(StandardGameObject _obj) {
+        return this.queueCommand(_obj, false);
+    }
+
+    /**
+     * Clears the entities, and drops any add/remove requests that have not
+     * been applied yet so nothing from the previous game leaks into the next.
+     */
+    @Override
+    public void clearEntities() {
+        super.clearEntities();
+        this.registry.clear();
+        this.retiringProjectiles.clear();
+        this.renderLayers.clear();
+        this.broadphase.clear();
+        this.areaQueries.rebuilt();
+        this.explosionHandler.clearEntities();
+        this.obstacleResolver.clear();
+        this.sleeping.clear();
+        while (this.commandQueue.poll() != null) {
+            this.pendingCommands.decrementAndGet();
+            this.droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Applies every add/remove request that was queued before this call. Only
+     * the requests present when draining starts are applied, so a thread that
+     * keeps queueing can't keep the game thread here forever.
+     */
+    private void drainCommands() {
+        int count = this.pendingCommands.get();
+        for (int i = 0; i < count; i++) {
+            EntityCommand command = this.commandQueue.poll();
+            if (command == null) {
+                break;
+            }
+            this.pendingCommands.decrementAndGet();
+            if (command.isAdd()) {
+                this.addEntity(command.getEntity());
+            } else {
+                this.removeEntity(command.getEntity());
+            }
+            this.drainedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Pushes an add or remove request onto the queue, unless it's null or the
+     * queue is already full.
+     *
+     * @param _obj
+     * @param _add
+     * @return
+     */
+    private boolean queueCommand(StandardGameObject _obj, boolean _add) {
+        if (_obj == null || this.pendingCommands.incrementAndGet() > MAX_PENDING_COMMANDS) {
+            if (_obj != null) {
+                this.pendingCommands.decrementAndGet();
+            }
+            this.droppedCount.incrementAndGet();
+            return false;
         }
-        damageText.render(_g2);
+        this.commandQueue.offer(new EntityCommand(_obj, _add));
+        this.queuedCount.incrementAndGet();
+        return true;
     }
 
     /**
@@ -72,14 +906,7 @@ public class CollisionHandlerController extends StandardCollisionHandler {
      */
     @Override
     public void handleCollision(StandardGameObject _obj1, StandardGameObject _obj2) {
-        // Handles bullet to monster collision (kills bullet and takes damage away from monster).
-        if (_obj1.getId() == StandardID.Bullet && _obj2 instanceof Enemy) {
-            this.handleBulletEnemyCollision((ProjectileGameObject) _obj1, (Enemy) _obj2);
-        } else if (_obj1.getId() == StandardID.Bullet && _obj2.getId() == StandardID.Bullet) {
-            return;
-        } else if (_obj1.getId() == StandardID.Player && _obj2.getId() == StandardID.Bullet1) {
-            this.handlePlayerBossProjectileCollision((Player) _obj1, (BossProjectileObject) _obj2);
-        }
+        this.dispatcher.dispatch(CollisionPhase.TOUCH, _obj1, _obj2);
     }
 
     /**
@@ -93,19 +920,7 @@ public class CollisionHandlerController extends StandardCollisionHandler {
      */
     @Override
     public void handleBoundsCollision(StandardGameObject _obj1, StandardGameObject _obj2) {
-        if (_obj1.getId() == StandardID.Player && _obj2 instanceof Enemy && _obj2.isAlive()) {
-            this.handlePlayerMonsterCollision((Player) _obj1, (Enemy) _obj2);
-        } else if (_obj1.getId() == StandardID.Bullet && _obj2 instanceof Enemy && _obj2.isAlive()) {
-            this.handleBulletEnemyCollision((ProjectileGameObject) _obj1, (Enemy) _obj2);
-        } else if (_obj1.getId() == StandardID.Tile1 && _obj2 instanceof Enemy && _obj2.isAlive()) {
-            this.handleEnemyExplosionCollision((Explosion) _obj1, (Enemy) _obj2);
-        } else if (_obj1.getId() == StandardID.Player && _obj2.getId() == StandardID.Bullet1 && _obj2.isAlive()) {
-            this.handlePlayerBossProjectileCollision((Player) _obj1, (BossProjectileObject) _obj2);
-        } else if (_obj1.getId() == StandardID.Player && _obj2 instanceof Powerup && _obj2.isAlive()) {
-            _obj2.setAlive(false);
-            this.game.getHUDScreen().getPowerupTextHandler().addLabel(((Powerup) _obj2).getType().toString());
-            ((Powerup) _obj2).activate();
-        }
+        this.dispatcher.dispatch(CollisionPhase.OVERLAP, _obj1, _obj2);
     }
 
     private void handleBulletEnemyCollision(ProjectileGameObject _bullet, Enemy _monster) {
@@ -114,28 +929,154 @@ public class CollisionHandlerController extends StandardCollisionHandler {
             // If the object is a grenade OR shotgun bullet, then we'll create an explosion with a damage radius.
             ExplosionType type = _bullet instanceof GrenadeBulletObject ? ExplosionType.GRENADE_EXPLOSION
                     : _bullet instanceof ShotgunBulletObject ? ExplosionType.SHOTGUN_EXPLOSION : null;
-            // If the bullet is just a regular bullet, then no explosion is created.
-            if (type != null) {
-                this.addEntity(new Explosion((int) _monster.getX(), (int) _monster.getY(),
-                        _bullet.getDamage(), type, this));
-            }
             // Turn bullet collision off, and deduct health from the monster.
-            _bullet.setAlive(false);
-            _monster.setHealth(_monster.getHealth() - _bullet.getDamage());
-            // Plays random monster hurt sfx.
-            if (!(_monster instanceof BasicMonster || _monster instanceof GreenMonster)) {
-                _monster.generateHurtSound(StdOps.rand(1, 30));
-            } else {
-                _monster.generateHurtSound(StdOps.rand(1, 5));
+            this.killProjectile(_bullet);
+            this.applyBulletHit(_monster, _bullet.getDamage(), _bullet.getVelX(), _bullet.getVelY(), type);
+        }
+    }
+
+    /**
+     * Applies a shot to _monster: the damage, the explosion (if _explosion
+     * isn't null, centered on _monster's top-left corner as it always has
+     * been), the hurt sound, blood, the push from the shot's velocity
+     * (_velX, _velY), and the damage text. Shared by bullets and hitscan
+     * shots, so the two behave the same.
+     *
+     * @param _monster
+     * @param _damage
+     * @param _velX
+     * @param _velY
+     * @param _explosion
+     */
+    private void applyBulletHit(Enemy _monster, int _damage, double _velX, double _velY, ExplosionType _explosion) {
+        _monster.setHealth(_monster.getHealth() - _damage);
+        // If the bullet is just a regular bullet, then no explosion is created.
+        if (_explosion != null) {
+            this.explode((int) _monster.getX(), (int) _monster.getY(), _damage, _explosion);
+        }
+        // Plays random monster hurt sfx.
+        if (!(_monster instanceof BasicMonster || _monster instanceof GreenMonster)) {
+            _monster.generateHurtSound(this.game.getRandomController().rand(RandomStream.AUDIO, 1, 30));
+        } else {
+            _monster.generateHurtSound(this.game.getRandomController().rand(RandomStream.AUDIO, 1, 5));
+        }
+        // Generates the blood particles for the monster.
+        _monster.generateBloodParticles();
+        // Applys a force to the enemy based on the velocity of the projectile.
+        _monster.applyPushForce(_velX, _velY);
+        this.addDamageText(_monster, _damage);
+    }
+
+    /**
+     * Fires a hitscan shot from (_x, _y) in the direction (_dirX, _dirY) (a
+     * unit vector), up to _range pixels away. The first living enemy along
+     * the ray takes the same hit a player's bullet would have given it, as if
+     * the bullet had been moving at _speed pixels per tick.
+     *
+     * @param _x
+     * @param _y
+     * @param _dirX
+     * @param _dirY
+     * @param _range
+     * @param _damage
+     * @param _speed
+     * @param _explosion explosion the shot sets off where it hits, or null.
+     * @return how far along the ray the shot hit something, or _range if it
+     * hit nothing.
+     */
+    public double castRay(double _x, double _y, double _dirX, double _dirY, double _range, int _damage,
+            double _speed, ExplosionType _explosion) {
+        double range = this.obstacleResolver.raycast(_x, _y, _dirX, _dirY, _range);
+        StandardGameObject target = this.areaQueries.castRay(_x, _y, _dirX * range, _dirY * range, this.enemyLayers);
+        if (target == null) {
+            return range;
+        }
+        double reach = this.areaQueries.getRayHitTime() * range;
+        this.applyBulletHit((Enemy) target, _damage, _dirX * _speed, _dirY * _speed, _explosion);
+        return reach;
+    }
+
+    /**
+     * Sets off an explosion of type _type with its top-left corner at (_x,
+     * _y): starts its animation, and deals _damage (scaled by the type's
+     * falloff) to every living enemy within its radius of its center, once.
+     * The broadphase returns each enemy at most once per query, so one query
+     * doubles as the explosion's hit set.
+     *
+     * @param _x
+     * @param _y
+     * @param _damage
+     * @param _type
+     */
+    public void explode(int _x, int _y, int _damage, ExplosionType _type) {
+        this.explosionHandler.addExplosion(_x, _y, _type);
+        double radius = _type.getRadius();
+        if (radius <= 0) {
+            return;
+        }
+        double centerX = _x + _type.getWidth() / 2.0;
+        double centerY = _y + _type.getHeight() / 2.0;
+        this.areaQueries.queryRadius(centerX, centerY, radius, this.enemyLayers, this.areaCandidates);
+        for (int i = 0; i < this.areaCandidates.size(); i++) {
+            double distance = this.areaQueries.getDistance(i);
+            int damage = (int) Math.round(_damage * _type.getFalloff().getScale(distance / radius));
+            if (damage > 0) {
+                Enemy enemy = (Enemy) this.areaCandidates.get(i);
+                enemy.setHealth(enemy.getHealth() - damage);
             }
-            // Generates the blood particles for the monster.
-            _monster.generateBloodParticles();
-            // Applys a force to the enemy based on the velocity of the projectile.
-            _monster.applyPushForce(_bullet.getVelX(), _bullet.getVelY());
-            this.addDamageText(_monster, _bullet.getDamage());
         }
     }
 
+    /**
+     * Returns true if the pair _obj1, _obj2 is checked pixel by pixel once
+     * their bounding boxes overlap.
+     *
+     * @param _obj1
+     * @param _obj2
+     * @return
+     */
+    private boolean isPixelTested(StandardGameObject _obj1, StandardGameObject _obj2) {
+        return (CollisionMatrix.getLayer(_obj1.getId()) & this.pixelTestLayers) != 0
+                && (CollisionMatrix.getLayer(_obj2.getId()) & this.pixelTestLayers) != 0;
+    }
+
+    /**
+     * Refines the time _time at which the bounding box of _projectile first
+     * touches that of _target along its path, to when their pixel masks
+     * first overlap. The path from _time on is stepped through in steps of
+     * half the projectile's size, so it can't skip over much. Returns
+     * SweptCollision.NO_HIT if the masks never overlap.
+     *
+     * @param _projectile
+     * @param _target
+     * @param _time
+     * @return
+     */
+    private double refineSweptHit(ProjectileGameObject _projectile, StandardGameObject _target, double _time) {
+        if (!this.isPixelTested(_projectile, _target)) {
+            return _time;
+        }
+        PixelMask projectileMask = this.maskCache.getMask(_projectile);
+        PixelMask targetMask = this.maskCache.getMask(_target);
+        if (projectileMask == null || targetMask == null) {
+            return _time;
+        }
+        double startX = _projectile.getPreviousX() - _target.getX();
+        double startY = _projectile.getPreviousY() - _target.getY();
+        double dx = _projectile.getX() - _projectile.getPreviousX();
+        double dy = _projectile.getY() - _projectile.getPreviousY();
+        double stepLength = Math.max(1, Math.min(projectileMask.getWidth(), projectileMask.getHeight()) / 2.0);
+        int steps = Math.max(1, (int) Math.ceil(FastMath.hypot(dx, dy) * (1 - _time) / stepLength));
+        for (int i = 0; i <= steps; i++) {
+            double time = _time + (1 - _time) * i / steps;
+            if (targetMask.overlaps(projectileMask, (int) Math.round(startX + dx * time),
+                    (int) Math.round(startY + dy * time))) {
+                return time;
+            }
+        }
+        return SweptCollision.NO_HIT;
+    }
+
     /**
      * If a projectile from the boss hits the player, the player will take a
      * certain amount of damage.
@@ -165,22 +1106,22 @@ public class CollisionHandlerController extends StandardCollisionHandler {
             int dmg = (int) _player.getInventory().getCurrentWeapon().getDamage();
             this.addDamageText(_monster, dmg);
             _monster.setHealth(_monster.getHealth() - dmg);
-            _monster.generateHurtSound(StdOps.rand(1, 5));
+            _monster.generateHurtSound(this.game.getRandomController().rand(RandomStream.AUDIO, 1, 5));
             _player.setPlayerState(PlayerState.STANDING);
         }
     }
 
     /**
-     * If the enemy collides with a collision, their health is impacted by the
-     * radius of any other explosions, unless the explosion is not supposed to
-     * do any damage.
+     * The player picks up a coin or powerup and activates it.
      *
-     * @param _explosion
-     * @param _enemy
+     * @param _player
+     * @param _pickup
      */
-    private void handleEnemyExplosionCollision(Explosion _explosion, Enemy _enemy) {
-        if (_enemy.isAlive() && _explosion.isAlive()) {
-            _enemy.setHealth(_enemy.getHealth() - _explosion.getDamage());
+    private void handlePlayerPickupCollision(Player _player, StandardGameObject _pickup) {
+        if (_pickup.isAlive()) {
+            _pickup.setAlive(false);
+            this.game.getHUDScreen().getPowerupTextHandler().addLabel(((Powerup) _pickup).getType().toString());
+            ((Powerup) _pickup).activate();
         }
     }
 
@@ -191,8 +1132,300 @@ public class CollisionHandlerController extends StandardCollisionHandler {
      * @param _damage
      */
     private void addDamageText(Enemy _monster, int _damage) {
-        damageText.addInteractor(new DamageText((int) _monster.getX() + _monster.getWidth() / 2,
-                (int) _monster.getY(), "-" + _damage, damageText));
+        this.damageTextRed = DamageText.nextRedValue(this.damageTextRed);
+        this.damageText.addInteractor(new DamageText((int) _monster.getX() + _monster.getWidth() / 2,
+                (int) _monster.getY(), "-" + _damage, this.damageTextRed, this.damageText, this.game));
+    }
+
+//============================== GETTERS =====================================
+    public long getQueuedCommandCount() {
+        return this.queuedCount.get();
+    }
+
+    public long getDrainedCommandCount() {
+        return this.drainedCount.get();
+    }
+
+    public long getDroppedCommandCount() {
+        return this.droppedCount.get();
+    }
+
+    public int getPendingCommandCount() {
+        return this.pendingCommands.get();
+    }
+
+    public long getPairTestCount() {
+        return this.pairTests;
+    }
+
+    /**
+     * Returns how many pairs with a collider of ID _id had their bounds
+     * compared during the last tick.
+     *
+     * @param _id
+     * @return
+     */
+    public long getPairTestCount(StandardID _id) {
+        return this.pairTestsByLayer[_id.ordinal()];
+    }
+
+    /**
+     * Returns how many pairs with a collider of ID _id were ruled out by the
+     * collision matrix during the last tick, without comparing their bounds.
+     *
+     * @param _id
+     * @return
+     */
+    public long getSkippedPairCount(StandardID _id) {
+        return this.pairsSkippedByLayer[_id.ordinal()];
+    }
+
+    public CollisionMatrix getCollisionMatrix() {
+        return this.collisionMatrix;
+    }
+
+    public CollisionDispatcher getCollisionDispatcher() {
+        return this.dispatcher;
+    }
+
+    public boolean isBroadphaseEnabled() {
+        return this.broadphaseEnabled;
+    }
+
+    public int getSleepingCount() {
+        return this.sleeping.size();
+    }
+
+    public boolean isSleepingEnabled() {
+        return this.sleepingEnabled;
+    }
+
+    public boolean isParallelNarrowphaseEnabled() {
+        return this.parallelNarrowphaseEnabled;
+    }
+
+    /**
+     * Returns the layer _obj is drawn in, or null if it isn't drawn by this
+     * handler (or is asleep).
+     *
+     * @param _obj
+     * @return
+     */
+    public ZLayer getLayer(StandardGameObject _obj) {
+        return this.renderLayers.getLayer(_obj);
+    }
+
+    public ProjectilePool getProjectilePool() {
+        return this.projectilePool;
+    }
+
+    public EntityRegistry getRegistry() {
+        return this.registry;
+    }
+
+    public MaskCache getMaskCache() {
+        return this.maskCache;
+    }
+
+    public OccupancyGrid getObstacleGrid() {
+        return this.obstacleResolver.getObstacleGrid();
+    }
+
+//============================== SETTERS =====================================
+    /**
+     * Switches between the spatial hash broadphase and comparing every
+     * collider with every entity; the latter is only kept for benchmarking.
+     *
+     * @param _enabled
+     */
+    public void setBroadphaseEnabled(boolean _enabled) {
+        this.broadphaseEnabled = _enabled;
+        this.areaQueries.setBroadphaseEnabled(_enabled);
+        if (!_enabled) {
+            this.broadphase.clear();
+        }
+    }
+
+    /**
+     * Turns putting objects at rest to sleep on or off; turning it off wakes
+     * every object that is asleep.
+     *
+     * @param _enabled
+     */
+    public void setSleepingEnabled(boolean _enabled) {
+        this.sleepingEnabled = _enabled;
+        if (!_enabled) {
+            ArrayList<StandardGameObject> sleepers = this.sleeping.getSleepers();
+            for (int i = 0; i < sleepers.size(); i++) {
+                this.wake(sleepers.get(i));
+            }
+        }
+    }
+
+    /**
+     * Lets the narrowphase search regions of the world in parallel once
+     * there are PARALLEL_THRESHOLD colliders or more. The hits are handled in
+     * the same order either way.
+     *
+     * @param _enabled
+     */
+    public void setParallelNarrowphaseEnabled(boolean _enabled) {
+        this.parallelNarrowphaseEnabled = _enabled;
+    }
+
+    /**
+     * Moves _obj to _layer; it is drawn there from the next frame on. A
+     * sleeper stays with the pickups until it wakes.
+     *
+     * @param _obj
+     * @param _layer
+     */
+    public void setLayer(StandardGameObject _obj, ZLayer _layer) {
+        if (this.sleeping.contains(_obj)) {
+            return;
+        }
+        if (this.registry.indexOf(_obj) < 0) {
+            throw new IllegalArgumentException("Object is not in this handler!");
+        }
+        this.renderLayers.add(_obj, _layer);
+    }
+
+    /**
+     * Sets the static scenery the entities can't move through; the level
+     * bakes it once when it loads. Null removes it.
+     *
+     * @param _obstacles
+     */
+    public void setObstacleGrid(OccupancyGrid _obstacles) {
+        this.obstacleResolver.setObstacleGrid(_obstacles);
+    }
+
+    /**
+     * A player's bullet hits an enemy.
+     */
+    private static class BulletEnemyResponse implements CollisionResponse {
+
+        private final CollisionHandlerController handler;
+
+        public BulletEnemyResponse(CollisionHandlerController _handler) {
+            this.handler = _handler;
+        }
+
+        @Override
+        public void respond(StandardGameObject _bullet, StandardGameObject _enemy) {
+            this.handler.handleBulletEnemyCollision((ProjectileGameObject) _bullet, (Enemy) _enemy);
+        }
+    }
+
+    /**
+     * A boss projectile hits the player.
+     */
+    private static class PlayerBossProjectileResponse implements CollisionResponse {
+
+        private final CollisionHandlerController handler;
+
+        public PlayerBossProjectileResponse(CollisionHandlerController _handler) {
+            this.handler = _handler;
+        }
+
+        @Override
+        public void respond(StandardGameObject _player, StandardGameObject _bullet) {
+            this.handler.handlePlayerBossProjectileCollision((Player) _player, (BossProjectileObject) _bullet);
+        }
+    }
+
+    /**
+     * The player runs into (or attacks) an enemy.
+     */
+    private static class PlayerEnemyResponse implements CollisionResponse {
+
+        private final CollisionHandlerController handler;
+
+        public PlayerEnemyResponse(CollisionHandlerController _handler) {
+            this.handler = _handler;
+        }
+
+        @Override
+        public void respond(StandardGameObject _player, StandardGameObject _enemy) {
+            if (_enemy.isAlive()) {
+                this.handler.handlePlayerMonsterCollision((Player) _player, (Enemy) _enemy);
+            }
+        }
+    }
+
+    /**
+     * The player walks over a coin or powerup.
+     */
+    private static class PickupResponse implements CollisionResponse {
+
+        private final CollisionHandlerController handler;
+
+        public PickupResponse(CollisionHandlerController _handler) {
+            this.handler = _handler;
+        }
+
+        @Override
+        public void respond(StandardGameObject _player, StandardGameObject _pickup) {
+            this.handler.handlePlayerPickupCollision((Player) _player, _pickup);
+        }
+    }
+
+    /**
+     * Fills the narrowphase buffers in a range of them, splitting the range
+     * in half until each task has a single buffer to fill. Static, so a task
+     * only holds the handler it is given; tasks are never serialized.
+     */
+    private static class NarrowphaseTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final CollisionHandlerController handler;
+        private final ArrayList<StandardGameObject> entities;
+        private final int count;
+        private final int from;
+        private final int to;
+
+        public NarrowphaseTask(CollisionHandlerController _handler, ArrayList<StandardGameObject> _entities,
+                int _count, int _from, int _to) {
+            this.handler = _handler;
+            this.entities = _entities;
+            this.count = _count;
+            this.from = _from;
+            this.to = _to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                this.handler.findHits(this.handler.narrowphaseBuffers.get(this.from), this.entities, this.count);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            ForkJoinTask.invokeAll(new NarrowphaseTask(this.handler, this.entities, this.count, this.from, middle),
+                    new NarrowphaseTask(this.handler, this.entities, this.count, middle, this.to));
+        }
+    }
+
+    /**
+     * A single request to add or remove an entity.
+     */
+    private static class EntityCommand {
+
+        private final StandardGameObject entity;
+        private final boolean add;
+
+        public EntityCommand(StandardGameObject _entity, boolean _add) {
+            this.entity = _entity;
+            this.add = _add;
+        }
+
+        public StandardGameObject getEntity() {
+            return this.entity;
+        }
+
+        public boolean isAdd() {
+            return this.add;
+        }
     }
 
 }
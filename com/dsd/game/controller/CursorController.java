@@ -1,11 +1,14 @@
 package com.dsd.game.controller;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.userinterface.model.Crosshair;
 import com.revivedstandards.view.Updatable;
 
 /**
  * This is a very primitive class controlling when the cursor changes images.
+ * Nobody notices the cursor changing a few milliseconds late, so it is only
+ * checked TICK_HZ times a second.
  *
  * [Group Name: Data Structure Deadheads]
  *
@@ -16,10 +19,13 @@ public class CursorController implements Updatable {
     // Miscellaneous reference variables.
     private final Game game;
     private final Crosshair crosshair;
+    // How many times a second the cursor is updated.
+    private static final int TICK_HZ = 30;
 
     public CursorController(Game _game) {
         this.game = _game;
         this.crosshair = new Crosshair(_game);
+        _game.getTickScheduler().register("Cursor", CursorController.TICK_HZ, TimerClock.GLOBAL, this);
     }
 
     @Override
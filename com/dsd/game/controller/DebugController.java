@@ -1,13 +1,16 @@
 package com.dsd.game.controller;
 
+import com.dsd.game.core.FramePacer;
 import com.dsd.game.core.Game;
 import com.dsd.game.objects.Player;
 import com.dsd.game.userinterface.Screen;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.main.StandardCamera;
+import com.revivedstandards.model.StandardID;
 import com.revivedstandards.view.Renderable;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.util.List;
 
 /**
  * Debug mode controller; draws information about the game (such as coordinates,
@@ -43,6 +46,11 @@ public class DebugController implements Renderable {
     private final int DEBUG_MODE_TEXT_Y_OFFSET = 20;
     private final int ENTITY_COUNT_Y_OFFSET = 80;
     private final int CAMERA_COORDINATE_Y_OFFSET = 100;
+    private final int ENTITY_COMMANDS_Y_OFFSET = 200;
+    private final int FRAME_PACING_Y_OFFSET = 220;
+    private final int COLLISION_LAYERS_Y_OFFSET = 240;
+    private final int TICK_RATES_Y_OFFSET = 260;
+    private final int TICK_RATE_LINE_OFFSET = 20;
 
     public DebugController(Game _game, StandardCollisionHandler _sch) {
         this.game = _game;
@@ -58,6 +66,10 @@ public class DebugController implements Renderable {
         this.renderPlayerCoordinates(_g2, posX, posY);
         this.renderEntityCount(_g2, posX, posY + this.ENTITY_COUNT_Y_OFFSET);
         this.renderCameraCoordinates(_g2, posX, posY + this.CAMERA_COORDINATE_Y_OFFSET);
+        this.renderEntityCommands(_g2, posX, posY + this.ENTITY_COMMANDS_Y_OFFSET);
+        this.renderFramePacing(_g2, posX, posY + this.FRAME_PACING_Y_OFFSET);
+        this.renderCollisionLayers(_g2, posX, posY + this.COLLISION_LAYERS_Y_OFFSET);
+        this.renderTickRates(_g2, posX, posY + this.TICK_RATES_Y_OFFSET);
         this.renderDebugText(_g2, (int) this.camera.getX(), (int) this.camera.getY() - Screen.gameHalfHeight);
     }
 
@@ -87,7 +99,88 @@ public class DebugController implements Renderable {
      */
     private void renderEntityCount(Graphics2D _g2, int _x, int _y) {
         _g2.setColor(Color.GREEN);
-        _g2.drawString("Entities in handler: " + this.parentContainer.getEntities().size(), _x, _y);
+        _g2.drawString("Entities in handler: " + this.parentContainer.getEntities().size()
+                + " (" + this.game.getCollisionHandlerController().getSleepingCount() + " asleep, collision pair tests: " + this.game.getCollisionHandlerController().getPairTestCount() + ")", _x, _y);
+    }
+
+    /**
+     * Renders, for every kind of collider that looked for collisions last
+     * tick, how many pairs had their bounds tested and how many were ruled
+     * out by the collision matrix when debug mode is enabled.
+     *
+     * @param _g2
+     * @param _x
+     * @param _y
+     */
+    private void renderCollisionLayers(Graphics2D _g2, int _x, int _y) {
+        CollisionHandlerController handler = this.game.getCollisionHandlerController();
+        StringBuilder text = new StringBuilder("Pairs tested/skipped by layer:");
+        for (StandardID id : StandardID.values()) {
+            long tested = handler.getPairTestCount(id);
+            long skipped = handler.getSkippedPairCount(id);
+            if (tested != 0 || skipped != 0) {
+                text.append(' ').append(id).append(' ').append(tested).append('/').append(skipped);
+            }
+        }
+        _g2.setColor(Color.GREEN);
+        _g2.drawString(text.toString(), _x, _y);
+    }
+
+    /**
+     * Renders how many entity add/remove requests have been queued, applied,
+     * and dropped by the collision handler, and how many shots the projectile
+     * pool served from its free lists versus allocated, when debug mode is
+     * enabled.
+     *
+     * @param _g2
+     * @param _x
+     * @param _y
+     */
+    private void renderEntityCommands(Graphics2D _g2, int _x, int _y) {
+        CollisionHandlerController chc = this.game.getCollisionHandlerController();
+        _g2.setColor(Color.GREEN);
+        _g2.drawString("Entity commands (queued/drained/dropped): " + chc.getQueuedCommandCount() + "/"
+                + chc.getDrainedCommandCount() + "/" + chc.getDroppedCommandCount()
+                + ", projectile pool (hits/misses): " + chc.getProjectilePool().getHitCount() + "/"
+                + chc.getProjectilePool().getMissCount(), _x, _y);
+    }
+
+    /**
+     * Renders the frame pacer's mode, the budget left over in recent frames,
+     * how many frames missed their deadline, and the frame time jitter when
+     * debug mode is enabled.
+     *
+     * @param _g2
+     * @param _x
+     * @param _y
+     */
+    private void renderFramePacing(Graphics2D _g2, int _x, int _y) {
+        FramePacer pacer = this.game.getFramePacer();
+        _g2.setColor(Color.GREEN);
+        _g2.drawString(String.format("Frame pacing: %s @ %d fps, %.2f ms/frame, budget %.2f ms (min %.2f), "
+                + "missed %d, jitter %.2f ms (max %.2f)", pacer.getMode(), pacer.getTargetFps(),
+                pacer.getAverageFrameMillis(), pacer.getBudgetMillis(), pacer.getMinBudgetMillis(),
+                pacer.getMissedDeadlines(), pacer.getJitterMillis(), pacer.getMaxJitterMillis()), _x, _y);
+    }
+
+    /**
+     * Renders every subsystem on the tick scheduler with its declared rate,
+     * how often (in simulation steps) that works out to, and what its ticks
+     * have been costing, when debug mode is enabled.
+     *
+     * @param _g2
+     * @param _x
+     * @param _y
+     */
+    private void renderTickRates(Graphics2D _g2, int _x, int _y) {
+        List<ScheduledTick> ticks = this.game.getTickScheduler().getTicks();
+        _g2.setColor(Color.GREEN);
+        for (int i = 0; i < ticks.size(); i++) {
+            ScheduledTick tick = ticks.get(i);
+            _g2.drawString(String.format("%s: %d Hz (every %d steps, phase %d), %.1f us/tick (last %.1f us)",
+                    tick.getName(), tick.getHz(), tick.getPeriodSteps(), tick.getPhase(),
+                    tick.getAverageMicros(), tick.getLastMicros()), _x, _y + i * this.TICK_RATE_LINE_OFFSET);
+        }
     }
 
     /**
@@ -4,11 +4,8 @@ import com.dsd.game.core.DifficultyType;
 import com.dsd.game.core.Game;
 import com.dsd.game.objects.SerializableObject;
 import com.dsd.game.database.SerializableType;
-import com.dsd.game.enemies.BasicMonster;
-import com.dsd.game.enemies.DarkFemaleMonster;
-import com.dsd.game.enemies.GreenMonster;
-import com.dsd.game.enemies.RedHeadMonster;
-import com.dsd.game.enemies.TinyMonster;
+import com.dsd.game.enemies.enums.EnemyType;
+import java.util.EnumMap;
 
 /**
  * Controller to determine how strong the enemies are as a collective group, how
@@ -22,25 +19,29 @@ public class DifficultyController implements SerializableObject {
 
     // Miscellaneous reference variables.
     private final Game game;
-    public static DifficultyType difficultyType;
+    private DifficultyType difficultyType;
     // How many spawners are currently defined.
-    private static int spawnerAmount = 0;
+    private int spawnerAmount = 0;
     // Difficulty factor, spawn rates of enemies, and other timer vars.
-    public static float difficultyFactor;
-    public static float basicMonsterSpawnRate = 1.0f;
-    public static float greenMonsterSpawnRate = 0.0f;
-    public static int levelTransitionTimer = 50000;
+    private float difficultyFactor;
+    private float basicMonsterSpawnRate = 1.0f;
+    private float greenMonsterSpawnRate = 0.0f;
+    private int levelTransitionTimer = 50000;
     private static final int LEVEL_TRANS_LIMIT = 20000;
+    // Health each enemy type spawns with; grows over the course of a game.
+    private final EnumMap<EnemyType, Integer> baseHealth;
 
     public DifficultyController(Game _game) {
         this.game = _game;
+        this.baseHealth = new EnumMap<>(EnemyType.class);
+        this.resetBaseHealth();
     }
 
     /**
      * Increases the amount of spawners that are currently in the level.
      */
-    public static void incrementSpawnerAmount() {
-        DifficultyController.spawnerAmount++;
+    public void incrementSpawnerAmount() {
+        this.spawnerAmount++;
     }
 
     /**
@@ -48,19 +49,19 @@ public class DifficultyController implements SerializableObject {
      * higher the difficulty factor variable). Determines how quickly the levels
      * transition, and how much health the mobs continue to gain overtime.
      */
-    public static void setDifficultyFactor() {
-        if (DifficultyController.difficultyType == null) {
+    public void setDifficultyFactor() {
+        if (this.difficultyType == null) {
             return;
         }
-        switch (DifficultyController.difficultyType) {
+        switch (this.difficultyType) {
             case EASY:
-                DifficultyController.difficultyFactor = 1f;
+                this.difficultyFactor = 1f;
                 break;
             case MEDIUM:
-                DifficultyController.difficultyFactor = 1.125f;
+                this.difficultyFactor = 1.125f;
                 break;
             case HARD:
-                DifficultyController.difficultyFactor = 1.25f;
+                this.difficultyFactor = 1.25f;
                 break;
             default:
                 throw new IllegalStateException("Invalid difficulty type!");
@@ -72,36 +73,49 @@ public class DifficultyController implements SerializableObject {
      * the wave number gets higher and higher, waves start getting quicker and
      * quicker until the plateau is hit (LEVEL_TRANS_LIMIT).
      */
-    public static void setLevelTransitionTimer() {
-        if (levelTransitionTimer <= LEVEL_TRANS_LIMIT) {
+    public void setLevelTransitionTimer() {
+        if (this.levelTransitionTimer <= LEVEL_TRANS_LIMIT) {
             return;
         }
-        levelTransitionTimer *= (2 - difficultyFactor);
+        this.levelTransitionTimer *= (2 - this.difficultyFactor);
     }
 
     /**
      * Resets the difficulty factor variables if the game is start from scratch
      * from within a game (if they quit and start a brand-new game).
      */
-    public static void resetDifficultyFactors() {
-        DifficultyController.levelTransitionTimer = 50000;
-        DifficultyController.difficultyFactor = 1.0f;
-        DifficultyController.basicMonsterSpawnRate = 1.0f;
-        DifficultyController.greenMonsterSpawnRate = 0.0f;
-        DifficultyController.spawnerAmount = 0;
+    public void resetDifficultyFactors() {
+        this.levelTransitionTimer = 50000;
+        this.difficultyFactor = 1.0f;
+        this.basicMonsterSpawnRate = 1.0f;
+        this.greenMonsterSpawnRate = 0.0f;
+        this.spawnerAmount = 0;
+        this.resetBaseHealth();
     }
 
     /**
      * Slowly increments the mob health depending on what difficulty the game
-     * is. Is there a better way to do this? Probably. I'll experiment with
-     * reflection later.
+     * is. The boss keeps its health; every other enemy type is scaled.
      */
-    protected static void incrementMobHealth() {
-        BasicMonster.originalHealth *= DifficultyController.difficultyFactor;
-        GreenMonster.originalHealth *= DifficultyController.difficultyFactor;
-        RedHeadMonster.originalHealth *= DifficultyController.difficultyFactor;
-        TinyMonster.originalHealth *= DifficultyController.difficultyFactor;
-        DarkFemaleMonster.originalHealth *= DifficultyController.difficultyFactor;
+    protected void incrementMobHealth() {
+        for (EnemyType type : EnemyType.values()) {
+            if (type == EnemyType.FEMALE_BOSS_MONSTER) {
+                continue;
+            }
+            this.baseHealth.put(type, (int) (this.baseHealth.get(type) * this.difficultyFactor));
+        }
+    }
+
+    /**
+     * Puts every enemy type back at the health it starts a new game with.
+     */
+    private void resetBaseHealth() {
+        this.baseHealth.put(EnemyType.BASIC_MONSTER, 100);
+        this.baseHealth.put(EnemyType.GREEN_MONSTER, 200);
+        this.baseHealth.put(EnemyType.FEMALE_BOSS_MONSTER, 500);
+        this.baseHealth.put(EnemyType.DARK_FEMALE_MONSTER, 250);
+        this.baseHealth.put(EnemyType.RED_HEAD_MONSTER, 100);
+        this.baseHealth.put(EnemyType.TINY_MONSTER, 100);
     }
 
     /**
@@ -110,9 +124,9 @@ public class DifficultyController implements SerializableObject {
      * @param _levelTransitionTimer
      * @param _difficultyFactor
      */
-    protected static void setDifficultyFactors(int _levelTransitionTimer, float _difficultyFactor) {
-        DifficultyController.levelTransitionTimer = _levelTransitionTimer;
-        DifficultyController.difficultyFactor = _difficultyFactor;
+    protected void setDifficultyFactors(int _levelTransitionTimer, float _difficultyFactor) {
+        this.levelTransitionTimer = _levelTransitionTimer;
+        this.difficultyFactor = _difficultyFactor;
     }
 
     @Override
@@ -121,13 +135,13 @@ public class DifficultyController implements SerializableObject {
             return null;
         }
         StringBuilder difficultyControllerInfo = new StringBuilder();
-        difficultyControllerInfo.append(levelTransitionTimer).append(";");
-        difficultyControllerInfo.append(difficultyFactor).append(";");
+        difficultyControllerInfo.append(this.levelTransitionTimer).append(";");
+        difficultyControllerInfo.append(this.difficultyFactor).append(";");
         return difficultyControllerInfo.toString();
     }
 
     public void readObject(int _levelTransitionTimer, double _difficultyType) {
-        DifficultyController.setDifficultyFactors(_levelTransitionTimer, (float) _difficultyType);
+        this.setDifficultyFactors(_levelTransitionTimer, (float) _difficultyType);
     }
 
     @Override
@@ -140,4 +154,26 @@ public class DifficultyController implements SerializableObject {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+//============================== GETTERS =====================================
+    public DifficultyType getDifficultyType() {
+        return this.difficultyType;
+    }
+
+    public float getDifficultyFactor() {
+        return this.difficultyFactor;
+    }
+
+    public int getLevelTransitionTimer() {
+        return this.levelTransitionTimer;
+    }
+
+    public int getBaseHealth(EnemyType _type) {
+        return this.baseHealth.get(_type);
+    }
+
+//============================== SETTERS =====================================
+    public void setDifficultyType(DifficultyType _difficultyType) {
+        this.difficultyType = _difficultyType;
+    }
+
 }
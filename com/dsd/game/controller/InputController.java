@@ -0,0 +1,265 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.commands.RecordableCommand;
+import com.dsd.game.core.Game;
+import com.dsd.game.core.InputAction;
+import com.revivedstandards.input.Mouse;
+import com.revivedstandards.main.StandardCamera;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns the player's input for a game. The keyboard reports key activity to it
+ * from whatever thread the engine delivers it on; at the start of every
+ * simulation step the controller turns that into an InputFrame (or takes the
+ * frame from an InputSource instead, such as a replay or a bot), optionally
+ * records it, and then runs every
+ * RecordableCommand against it on the game thread. The player's facing and
+ * the guns' aim read the mouse from the same frame.
+ *
+ * Because the frame is the only way input reaches the simulation, a game
+ * created with the recording's seed and fed the recorded frames plays out
+ * exactly like the original session.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class InputController {
+
+    //  Miscellaneous reference variables.
+    private final Game game;
+    //  Commands by InputAction ordinal.
+    private final RecordableCommand[] commands;
+    //  Key activity reported by the keyboard since the last step.
+    private final AtomicInteger heldMask;
+    private final AtomicInteger pressedMask;
+    private final AtomicInteger releasedMask;
+    //  Input for the step currently being simulated.
+    private final InputFrame frame;
+    //  Where to record to once play starts, the active recorder, and the
+    //  source standing in for the keyboard and mouse (if any).
+    private String recordPath;
+    private InputRecorder recorder;
+    private InputSource replay;
+
+    public InputController(Game _game) {
+        this.game = _game;
+        this.commands = new RecordableCommand[InputAction.values().length];
+        this.heldMask = new AtomicInteger(0);
+        this.pressedMask = new AtomicInteger(0);
+        this.releasedMask = new AtomicInteger(0);
+        this.frame = new InputFrame();
+    }
+
+    /**
+     * Makes _command the one run for _action. A new command for the same
+     * action replaces the old one.
+     *
+     * @param _action
+     * @param _command
+     */
+    public void register(InputAction _action, RecordableCommand _command) {
+        this.commands[_action.ordinal()] = _command;
+    }
+
+    /**
+     * Called by the keyboard when _action's key goes down. Safe to call from
+     * any thread.
+     *
+     * @param _action
+     */
+    public void press(InputAction _action) {
+        InputController.setBits(this.pressedMask, _action.getMask());
+        InputController.setBits(this.heldMask, _action.getMask());
+    }
+
+    /**
+     * Called by the keyboard while _action's key is held. Safe to call from
+     * any thread.
+     *
+     * @param _action
+     */
+    public void hold(InputAction _action) {
+        InputController.setBits(this.heldMask, _action.getMask());
+    }
+
+    /**
+     * Called by the keyboard when _action's key comes up. Safe to call from
+     * any thread.
+     *
+     * @param _action
+     */
+    public void release(InputAction _action) {
+        InputController.setBits(this.releasedMask, _action.getMask());
+        InputController.clearBits(this.heldMask, _action.getMask());
+    }
+
+    /**
+     * Builds the input frame for the upcoming simulation step, records it if
+     * a recording is running, and runs the commands against it. Called by
+     * Game at the start of every step.
+     */
+    public void step() {
+        if (this.replay != null && !this.replay.isFinished()) {
+            try {
+                this.replay.read(this.frame);
+            } catch (IOException ex) {
+                throw new IllegalStateException("Could not read from the input source!", ex);
+            }
+            //  Keys pressed while another source is in control are ignored.
+            this.pressedMask.set(0);
+            this.releasedMask.set(0);
+        } else {
+            Mouse mouse = this.game.getMouse();
+            this.frame.set(this.heldMask.get(), this.pressedMask.getAndSet(0), this.releasedMask.getAndSet(0),
+                    mouse == null ? 0 : mouse.getMouseX(), mouse == null ? 0 : mouse.getMouseY());
+        }
+        if (this.recorder != null) {
+            try {
+                this.recorder.write(this.frame);
+            } catch (IOException ex) {
+                System.err.println("Could not write the input recording; recording stopped.");
+                this.stopRecording();
+            }
+        }
+        float dt = (float) (this.game.getMillisPerStep() / 1000.0);
+        for (int i = 0; i < this.commands.length; i++) {
+            if (this.commands[i] == null) {
+                continue;
+            }
+            int mask = 1 << i;
+            this.commands[i].apply((this.frame.getPressedMask() & mask) != 0,
+                    (this.frame.getHeldMask() & mask) != 0,
+                    (this.frame.getReleasedMask() & mask) != 0, dt);
+        }
+    }
+
+    /**
+     * Starts recording to _path the next time the game starts playing (see
+     * uponPlay()).
+     *
+     * @param _path
+     */
+    public void recordOnPlay(String _path) {
+        this.recordPath = _path;
+    }
+
+    /**
+     * Opens the pending recording, if there is one. Called by Game once the
+     * difficulty and starting state are known.
+     */
+    public void uponPlay() {
+        if (this.recordPath == null || this.recorder != null) {
+            return;
+        }
+        if (this.game.getDifficultyController().getDifficultyType() == null) {
+            throw new IllegalStateException("Cannot record input before a difficulty is chosen!");
+        }
+        try {
+            this.recorder = new InputRecorder(this.recordPath, this.game.getRandomController().getSeed(),
+                    this.game.getSimulationHz(), this.game.getGameWidth(), this.game.getGameHeight(),
+                    this.game.getDifficultyController().getDifficultyType(), this.game.getGameState());
+        } catch (IOException ex) {
+            System.err.println("Could not create input recording " + this.recordPath + "; not recording.");
+        }
+        this.recordPath = null;
+    }
+
+    /**
+     * Feeds _source's input to the game instead of the keyboard and mouse,
+     * until it runs out.
+     *
+     * @param _source
+     */
+    public void startReplay(InputSource _source) {
+        this.replay = _source;
+    }
+
+    /**
+     * Stops and closes any running recording and replay.
+     */
+    public void stop() {
+        this.stopRecording();
+        if (this.replay != null) {
+            try {
+                this.replay.close();
+            } catch (IOException ex) {
+                System.err.println("Could not close the input source.");
+            }
+            this.replay = null;
+        }
+    }
+
+    private void stopRecording() {
+        if (this.recorder == null) {
+            return;
+        }
+        try {
+            this.recorder.close();
+        } catch (IOException ex) {
+            System.err.println("Could not close the input recording.");
+        }
+        this.recorder = null;
+    }
+
+    private static void setBits(AtomicInteger _mask, int _bits) {
+        int current;
+        do {
+            current = _mask.get();
+        } while (!_mask.compareAndSet(current, current | _bits));
+    }
+
+    private static void clearBits(AtomicInteger _mask, int _bits) {
+        int current;
+        do {
+            current = _mask.get();
+        } while (!_mask.compareAndSet(current, current & ~_bits));
+    }
+
+//============================== GETTERS =====================================
+    public int getMouseX() {
+        return this.frame.getMouseX();
+    }
+
+    public int getMouseY() {
+        return this.frame.getMouseY();
+    }
+
+    /**
+     * Returns the world x coordinate the frame's mouse is over, given where
+     * the camera is now.
+     *
+     * @return
+     */
+    public double getWorldMouseX() {
+        StandardCamera camera = this.game.getCamera();
+        return camera.getX() + this.frame.getMouseX() - camera.getVpw();
+    }
+
+    /**
+     * Returns the world y coordinate the frame's mouse is over, given where
+     * the camera is now.
+     *
+     * @return
+     */
+    public double getWorldMouseY() {
+        StandardCamera camera = this.game.getCamera();
+        return camera.getY() + this.frame.getMouseY() - camera.getVph();
+    }
+
+    public boolean isRecording() {
+        return this.recorder != null;
+    }
+
+    public boolean isReplaying() {
+        return this.replay != null && !this.replay.isFinished();
+    }
+
+    public InputSource getReplay() {
+        return this.replay;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.dsd.game.controller;
+
+/**
+ * The player's input for a single simulation step: which actions' keys are
+ * held, which went down or came up during the step (one bit per InputAction),
+ * and where the mouse is on screen.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class InputFrame {
+
+    private int heldMask;
+    private int pressedMask;
+    private int releasedMask;
+    private int mouseX;
+    private int mouseY;
+
+    /**
+     * Copies every field of _other into this frame.
+     *
+     * @param _other
+     */
+    public void set(InputFrame _other) {
+        this.set(_other.heldMask, _other.pressedMask, _other.releasedMask, _other.mouseX, _other.mouseY);
+    }
+
+    public void set(int _held, int _pressed, int _released, int _mouseX, int _mouseY) {
+        this.heldMask = _held;
+        this.pressedMask = _pressed;
+        this.releasedMask = _released;
+        this.mouseX = _mouseX;
+        this.mouseY = _mouseY;
+    }
+
+    /**
+     * Returns true if this frame is identical to _other.
+     *
+     * @param _other
+     * @return
+     */
+    public boolean matches(InputFrame _other) {
+        return this.heldMask == _other.heldMask && this.pressedMask == _other.pressedMask
+                && this.releasedMask == _other.releasedMask && this.mouseX == _other.mouseX
+                && this.mouseY == _other.mouseY;
+    }
+
+//============================== GETTERS =====================================
+    public int getHeldMask() {
+        return this.heldMask;
+    }
+
+    public int getPressedMask() {
+        return this.pressedMask;
+    }
+
+    public int getReleasedMask() {
+        return this.releasedMask;
+    }
+
+    public int getMouseX() {
+        return this.mouseX;
+    }
+
+    public int getMouseY() {
+        return this.mouseY;
+    }
+
+}
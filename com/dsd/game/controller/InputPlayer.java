@@ -0,0 +1,139 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.core.DifficultyType;
+import com.dsd.game.core.GameState;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Reads back a file written by an InputRecorder, one InputFrame per
+ * simulation step. Opening the file reads its header, so the caller can build
+ * a game that matches the one the input was recorded against (see
+ * Game.startReplay()) before any frames are read.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class InputPlayer implements InputSource {
+
+    private final DataInputStream in;
+    //  Header fields.
+    private final long seed;
+    private final int simulationHz;
+    private final int width;
+    private final int height;
+    private final DifficultyType difficultyType;
+    private final GameState gameState;
+    //  The last full frame read; repeat tags hand this back again.
+    private final InputFrame lastFrame;
+    private boolean finished = false;
+    private long frameCount = 0;
+
+    public InputPlayer(String _path) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(_path)));
+        this.lastFrame = new InputFrame();
+        if (this.in.readInt() != InputRecorder.MAGIC) {
+            this.in.close();
+            throw new IOException(_path + " is not an input recording!");
+        }
+        int version = this.in.readUnsignedShort();
+        if (version != InputRecorder.VERSION) {
+            this.in.close();
+            throw new IOException("Unsupported input recording version " + version + "!");
+        }
+        this.seed = this.in.readLong();
+        this.simulationHz = this.in.readInt();
+        this.width = this.in.readUnsignedShort();
+        this.height = this.in.readUnsignedShort();
+        this.difficultyType = DifficultyType.values()[this.in.readUnsignedByte()];
+        this.gameState = GameState.values()[this.in.readUnsignedByte()];
+    }
+
+    /**
+     * Reads the input for the next step into _frame. Once the recording runs
+     * out, _frame is left with no keys held and the mouse where it last was,
+     * and isFinished() starts returning true.
+     *
+     * @param _frame
+     * @throws IOException
+     */
+    @Override
+    public void read(InputFrame _frame) throws IOException {
+        if (this.finished) {
+            _frame.set(0, 0, 0, this.lastFrame.getMouseX(), this.lastFrame.getMouseY());
+            return;
+        }
+        int tag;
+        try {
+            tag = this.in.readUnsignedByte();
+        } catch (EOFException ex) {
+            this.close();
+            this.read(_frame);
+            return;
+        }
+        switch (tag) {
+            case InputRecorder.TAG_REPEAT:
+                break;
+            case InputRecorder.TAG_FRAME:
+                this.lastFrame.set(this.in.readUnsignedByte(), this.in.readUnsignedByte(),
+                        this.in.readUnsignedByte(), this.in.readShort(), this.in.readShort());
+                break;
+            default:
+                throw new IOException("Corrupt input recording (tag " + tag + ")!");
+        }
+        _frame.set(this.lastFrame);
+        this.frameCount++;
+    }
+
+    /**
+     * Stops the replay and closes the file.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        this.finished = true;
+        this.in.close();
+    }
+
+//============================== GETTERS =====================================
+    public long getSeed() {
+        return this.seed;
+    }
+
+    public int getSimulationHz() {
+        return this.simulationHz;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    public DifficultyType getDifficultyType() {
+        return this.difficultyType;
+    }
+
+    public GameState getGameState() {
+        return this.gameState;
+    }
+
+    public long getFrameCount() {
+        return this.frameCount;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+}
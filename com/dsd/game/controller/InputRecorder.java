@@ -0,0 +1,109 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.core.DifficultyType;
+import com.dsd.game.core.GameState;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes a game's input, one InputFrame per simulation step, to a compact
+ * binary file that an InputPlayer can feed back into a new game.
+ *
+ * The file starts with a header holding everything needed to recreate the
+ * game the input was recorded against (random seed, simulation rate, window
+ * size, difficulty and starting state). Each step then takes one byte when
+ * the input did not change since the step before (the common case), or eight
+ * bytes when it did: a tag, the held/pressed/released masks, and the mouse
+ * position as two shorts.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class InputRecorder {
+
+    //  "LOPR", and the version of the format below.
+    public static final int MAGIC = 0x4C4F5052;
+    public static final int VERSION = 1;
+    //  Per-step tags.
+    public static final int TAG_REPEAT = 0;
+    public static final int TAG_FRAME = 1;
+    //  Flush to disk about once a second of game time at 60hz, so little is
+    //  lost if the game is closed without the recording being stopped.
+    private static final int FLUSH_INTERVAL = 60;
+
+    private final DataOutputStream out;
+    //  The last frame written, to detect repeats.
+    private final InputFrame lastFrame;
+    private boolean hasLastFrame = false;
+    private long frameCount = 0;
+
+    /**
+     * Creates _path and writes the recording header to it.
+     *
+     * @param _path
+     * @param _seed
+     * @param _simulationHz
+     * @param _width
+     * @param _height
+     * @param _difficulty
+     * @param _state
+     * @throws IOException
+     */
+    public InputRecorder(String _path, long _seed, int _simulationHz, int _width, int _height,
+            DifficultyType _difficulty, GameState _state) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(_path)));
+        this.lastFrame = new InputFrame();
+        this.out.writeInt(InputRecorder.MAGIC);
+        this.out.writeShort(InputRecorder.VERSION);
+        this.out.writeLong(_seed);
+        this.out.writeInt(_simulationHz);
+        this.out.writeShort(_width);
+        this.out.writeShort(_height);
+        this.out.writeByte(_difficulty.ordinal());
+        this.out.writeByte(_state.ordinal());
+    }
+
+    /**
+     * Appends the input for one step.
+     *
+     * @param _frame
+     * @throws IOException
+     */
+    public void write(InputFrame _frame) throws IOException {
+        if (this.hasLastFrame && this.lastFrame.matches(_frame)) {
+            this.out.writeByte(InputRecorder.TAG_REPEAT);
+        } else {
+            this.out.writeByte(InputRecorder.TAG_FRAME);
+            this.out.writeByte(_frame.getHeldMask());
+            this.out.writeByte(_frame.getPressedMask());
+            this.out.writeByte(_frame.getReleasedMask());
+            this.out.writeShort(_frame.getMouseX());
+            this.out.writeShort(_frame.getMouseY());
+            this.lastFrame.set(_frame);
+            this.hasLastFrame = true;
+        }
+        if (++this.frameCount % InputRecorder.FLUSH_INTERVAL == 0) {
+            this.out.flush();
+        }
+    }
+
+    /**
+     * Flushes and closes the file.
+     *
+     * @throws IOException
+     */
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+//============================== GETTERS =====================================
+    public long getFrameCount() {
+        return this.frameCount;
+    }
+
+}
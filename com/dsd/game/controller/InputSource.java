@@ -0,0 +1,41 @@
+package com.dsd.game.controller;
+
+import java.io.IOException;
+
+/**
+ * Anything that can supply the player's input in place of the keyboard and
+ * mouse, one InputFrame per simulation step: a recording being played back,
+ * or a scripted bot.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public interface InputSource {
+
+    /**
+     * Fills in _frame with the input for the next simulation step.
+     *
+     * @param _frame
+     * @throws IOException
+     */
+    public void read(InputFrame _frame) throws IOException;
+
+    /**
+     * Returns true once the source has no more input to give; the keyboard and
+     * mouse take over from then on.
+     *
+     * @return
+     */
+    public boolean isFinished();
+
+    /**
+     * Releases whatever the source holds open.
+     *
+     * @throws IOException
+     */
+    public void close() throws IOException;
+
+}
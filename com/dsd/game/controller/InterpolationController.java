@@ -0,0 +1,194 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.util.IdentityIntMap;
+import com.revivedstandards.handlers.StandardHandler;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Keeps track of where every tracked object was before the most recent
+ * simulation step, so the render pass can draw each one somewhere between its
+ * previous and current position. Without this, running the simulation at a
+ * fixed rate that differs from the display rate makes movement stutter.
+ *
+ * capture() is called right before each simulation step. beginRender() moves
+ * every object to its interpolated position for the duration of the render
+ * pass, and endRender() puts them all back, so objects never need to know
+ * they are being interpolated.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class InterpolationController {
+
+    //  Handlers whose entities get interpolated, plus any standalone objects (the camera).
+    private final ArrayList<StandardHandler> handlers;
+    private final ArrayList<StandardGameObject> objects;
+    //  Position of each object before the last step: the map gives where in
+    //  the coordinate array ({x0, y0, x1, y1, ...}) the object's are. Two of
+    //  each are swapped every capture so dead objects fall out without a
+    //  separate sweep, and nothing is allocated per object.
+    private IdentityIntMap<StandardGameObject> previous;
+    private IdentityIntMap<StandardGameObject> swap;
+    private double[] previousCoords;
+    private double[] swapCoords;
+    //  Objects moved by beginRender() and their real positions ({x0, y0, x1, y1, ...}).
+    private final ArrayList<StandardGameObject> restoreObjects;
+    private double[] restoreCoords;
+    //  Objects that moved further than this in a single step (teleports,
+    //  respawns) are drawn where they are rather than streaked across the map.
+    private static final double MAX_INTERPOLATION_DISTANCE = 256;
+    private boolean rendering = false;
+
+    public InterpolationController() {
+        this.handlers = new ArrayList<>();
+        this.objects = new ArrayList<>();
+        this.previous = new IdentityIntMap<>(64);
+        this.swap = new IdentityIntMap<>(64);
+        this.previousCoords = new double[64];
+        this.swapCoords = new double[64];
+        this.restoreObjects = new ArrayList<>();
+        this.restoreCoords = new double[64];
+    }
+
+    /**
+     * Tracks every entity inside _handler.
+     *
+     * @param _handler
+     */
+    public void addHandler(StandardHandler _handler) {
+        this.handlers.add(_handler);
+    }
+
+    /**
+     * Tracks a single object that does not live in a handler.
+     *
+     * @param _obj
+     */
+    public void addObject(StandardGameObject _obj) {
+        this.objects.add(_obj);
+    }
+
+    /**
+     * Records the current position of every tracked object. Called right
+     * before a simulation step so the positions become the "previous" ones.
+     */
+    public void capture() {
+        for (int i = 0; i < this.handlers.size(); i++) {
+            ArrayList<StandardGameObject> entities = this.handlers.get(i).getEntities();
+            for (int j = 0; j < entities.size(); j++) {
+                this.capture(entities.get(j));
+            }
+        }
+        for (int i = 0; i < this.objects.size(); i++) {
+            this.capture(this.objects.get(i));
+        }
+        IdentityIntMap<StandardGameObject> tmp = this.previous;
+        this.previous = this.swap;
+        this.swap = tmp;
+        this.swap.clear();
+        double[] tmpCoords = this.previousCoords;
+        this.previousCoords = this.swapCoords;
+        this.swapCoords = tmpCoords;
+    }
+
+    /**
+     * Moves every tracked object to its position _alpha of the way from its
+     * previous position to its current one. Must be paired with endRender().
+     *
+     * @param _alpha in the range [0, 1].
+     */
+    public void beginRender(double _alpha) {
+        if (this.rendering) {
+            throw new IllegalStateException("beginRender() called twice without endRender()!");
+        }
+        this.rendering = true;
+        for (int i = 0; i < this.handlers.size(); i++) {
+            ArrayList<StandardGameObject> entities = this.handlers.get(i).getEntities();
+            for (int j = 0; j < entities.size(); j++) {
+                this.interpolate(entities.get(j), _alpha);
+            }
+        }
+        for (int i = 0; i < this.objects.size(); i++) {
+            this.interpolate(this.objects.get(i), _alpha);
+        }
+    }
+
+    /**
+     * Puts every object moved by beginRender() back at its real position.
+     */
+    public void endRender() {
+        for (int i = 0; i < this.restoreObjects.size(); i++) {
+            StandardGameObject obj = this.restoreObjects.get(i);
+            obj.setX(this.restoreCoords[i << 1]);
+            obj.setY(this.restoreCoords[(i << 1) + 1]);
+        }
+        this.restoreObjects.clear();
+        this.rendering = false;
+    }
+
+    /**
+     * Forgets every captured position; the next frame draws objects exactly
+     * where they are. Used when the level is reset.
+     */
+    public void clear() {
+        this.previous.clear();
+        this.swap.clear();
+    }
+
+    /**
+     * Copies _obj's position into the map being built.
+     *
+     * @param _obj
+     */
+    private void capture(StandardGameObject _obj) {
+        int index = this.swap.get(_obj);
+        if (index == IdentityIntMap.NO_VALUE) {
+            index = this.swap.size() << 1;
+            if (index + 1 >= this.swapCoords.length) {
+                this.swapCoords = Arrays.copyOf(this.swapCoords, this.swapCoords.length << 1);
+            }
+            this.swap.put(_obj, index);
+        }
+        this.swapCoords[index] = _obj.getX();
+        this.swapCoords[index + 1] = _obj.getY();
+    }
+
+    /**
+     * Moves _obj to its interpolated position, remembering where it really is.
+     * Objects spawned since the last capture have no previous position and are
+     * left alone.
+     *
+     * @param _obj
+     * @param _alpha
+     */
+    private void interpolate(StandardGameObject _obj, double _alpha) {
+        int prev = this.previous.get(_obj);
+        if (prev == IdentityIntMap.NO_VALUE) {
+            return;
+        }
+        double prevX = this.previousCoords[prev];
+        double prevY = this.previousCoords[prev + 1];
+        double x = _obj.getX();
+        double y = _obj.getY();
+        double dx = x - prevX;
+        double dy = y - prevY;
+        if (dx * dx + dy * dy > MAX_INTERPOLATION_DISTANCE * MAX_INTERPOLATION_DISTANCE) {
+            return;
+        }
+        int index = this.restoreObjects.size() << 1;
+        if (index + 1 >= this.restoreCoords.length) {
+            this.restoreCoords = Arrays.copyOf(this.restoreCoords, this.restoreCoords.length << 1);
+        }
+        this.restoreCoords[index] = x;
+        this.restoreCoords[index + 1] = y;
+        this.restoreObjects.add(_obj);
+        _obj.setX(prevX + dx * _alpha);
+        _obj.setY(prevY + dy * _alpha);
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.dsd.game.controller;
 
 import com.dsd.game.api.TranslatorAPI;
+import com.dsd.game.core.LanguageEnum;
 
 /**
- * This class controls which language is currently being used.
+ * This class controls which language is currently being used. Each game owns
+ * its own controller, so two games in the same JVM can run in different
+ * languages.
  *
  * [Group Name: Data Structure Deadheads]
  *
@@ -13,15 +16,18 @@ import com.dsd.game.api.TranslatorAPI;
  */
 public class LanguageController {
 
-    public static String lang = "en";
+    //  Language code handed to the translator API.
+    private String lang = "en";
+    //  Index of the selected language in LanguageEnum's list (English by default).
+    private int languageIndex = 5;
 
     /**
      * Sets the overall language of the game. This is used upon reload.
      *
      * @param _lang
      */
-    public static void setLanguage(String _lang) {
-        LanguageController.lang = "en-" + _lang;
+    public void setLanguage(String _lang) {
+        this.lang = "en-" + _lang;
     }
 
     /**
@@ -31,11 +37,11 @@ public class LanguageController {
      * @param _text
      * @return String of text with the language.
      */
-    public static String translate(String _text) {
-        if (lang.equals("en-en")) {
+    public String translate(String _text) {
+        if (this.lang.equals("en-en")) {
             return _text;
         }
-        return TranslatorAPI.translate(_text, lang);
+        return TranslatorAPI.translate(_text, this.lang);
     }
 
     /**
@@ -52,5 +58,54 @@ public class LanguageController {
         }
         return TranslatorAPI.translate(_text, _lang);
     }
-    
+
+    /**
+     * Moves the selection to the next language in LanguageEnum's list.
+     */
+    public void increaseLanguage() {
+        if (this.languageIndex < LanguageEnum.getLanguageCount() - 1) {
+            this.languageIndex++;
+        }
+        this.setLanguage(LanguageEnum.getLanguage(this.languageIndex).getLanguageCode());
+    }
+
+    /**
+     * Moves the selection to the previous language in LanguageEnum's list.
+     */
+    public void decreaseLanguage() {
+        if (this.languageIndex > 0) {
+            this.languageIndex--;
+        }
+        this.setLanguage(LanguageEnum.getLanguage(this.languageIndex).getLanguageCode());
+    }
+
+    /**
+     * Returns whether the game is being displayed in plain English, in which
+     * case nothing needs translating and the custom fonts can be used.
+     *
+     * @return true if English is selected.
+     */
+    public boolean isEnglish() {
+        return this.lang.equals("en-en");
+    }
+
+//================================== GETTERS ==================================
+    public String getLanguage() {
+        return this.lang;
+    }
+
+    public int getLanguageIndex() {
+        return this.languageIndex;
+    }
+
+    public String getLanguageName() {
+        return LanguageEnum.getLanguage(this.languageIndex).getLanguageString();
+    }
+
+// =============================== SETTERS ===================================
+    public void setLanguageIndex(int _n) {
+        this.languageIndex = _n;
+        this.setLanguage(LanguageEnum.getLanguage(this.languageIndex).getLanguageCode());
+    }
+
 }
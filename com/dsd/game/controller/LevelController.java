@@ -1,17 +1,15 @@
 package com.dsd.game.controller;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.objects.SerializableObject;
 import com.dsd.game.database.SerializableType;
 import com.dsd.game.userinterface.TimerInterface;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardLevel;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * This class acts as the level controller; it will change the level depending
@@ -33,7 +31,7 @@ public class LevelController implements TimerInterface, SerializableObject {
     // Miscellaneous reference variables.
     private final Game game;
     private final List<StandardLevel> levels;
-    private Timer levelTimer;
+    private TimerHandle levelTimer;
     /**
      * LevelID and wave number; corresponds to the map and the current wave
      * number (as the name suggests) respectively.
@@ -46,8 +44,7 @@ public class LevelController implements TimerInterface, SerializableObject {
     public LevelController(Game _game) {
         this.game = _game;
         this.levels = new ArrayList<>();
-        this.levelTimer = new Timer(true);
-        TimerController.addTimer(this);
+        this.game.getTimerController().addTimer(this);
     }
 
     /**
@@ -94,11 +91,11 @@ public class LevelController implements TimerInterface, SerializableObject {
      * Begins the wave timer, depending on what difficulty the game is on.
      */
     public void startWaveTimer() {
-        this.levelTimer = new Timer(true);
-        this.levelTimer.scheduleAtFixedRate(new LevelTimer(this.game, this),
-                (long) DifficultyController.levelTransitionTimer,
-                (long) DifficultyController.levelTransitionTimer);
-        TimerController.addTimer(this);
+        this.cancelTimer();
+        this.levelTimer = this.game.getTimerController().scheduleAtFixedRate(
+                new LevelTimer(this.game, this), TimerClock.WAVE,
+                (long) this.game.getDifficultyController().getLevelTransitionTimer(),
+                (long) this.game.getDifficultyController().getLevelTransitionTimer());
     }
 
     /**
@@ -116,19 +113,22 @@ public class LevelController implements TimerInterface, SerializableObject {
      * Plays the music track associated with the current level ID.
      */
     public void playMusic() {
-        StandardAudioController.play("src/resources/audio/music/level" + this.currentLevelID + ".mp3", StandardAudioType.MUSIC);
+        this.game.getAudioBoxController().play("src/resources/audio/music/level" + this.currentLevelID + ".mp3", StandardAudioType.MUSIC);
     }
 
     /**
      * Stops the music track associated with the current level ID.
      */
     public void stopMusic() {
-        StandardAudioController.stop("src/resources/audio/music/level" + this.currentLevelID + ".mp3", StandardAudioType.MUSIC);
+        this.game.getAudioBoxController().stop("src/resources/audio/music/level" + this.currentLevelID + ".mp3", StandardAudioType.MUSIC);
     }
 
     @Override
     public void cancelTimer() {
-        this.levelTimer.cancel();
+        if (this.levelTimer != null) {
+            this.levelTimer.cancel();
+        }
+        this.levelTimer = null;
     }
 
     @Override
@@ -196,7 +196,7 @@ public class LevelController implements TimerInterface, SerializableObject {
      * This timer, overtime, will continuously increase the difficulty of the
      * game.
      */
-    private class LevelTimer extends TimerTask {
+    private class LevelTimer implements Runnable {
 
         // Miscellaneous level information.
         private final Game game;
@@ -209,9 +209,6 @@ public class LevelController implements TimerInterface, SerializableObject {
 
         @Override
         public void run() {
-            if (!this.game.isRunning()) {
-                return;
-            }
             this.levelController.incrementWave();
             if (this.levelController.getWaveNumber() % 5 == 0) {
                 this.updateLevelDifficulty();
@@ -220,7 +217,7 @@ public class LevelController implements TimerInterface, SerializableObject {
         }
 
         private void updateLevelDifficulty() {
-            DifficultyController.incrementMobHealth();
+            this.game.getDifficultyController().incrementMobHealth();
         }
     }
     
@@ -1,6 +1,9 @@
 package com.dsd.game.controller;
 
+import com.dsd.game.handlers.IndexedParticleHandler;
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.objects.LightningFlash;
 import com.dsd.game.api.TranslatorAPI;
 import com.dsd.game.handlers.LightningHandler;
@@ -8,7 +11,6 @@ import com.dsd.game.objects.RainDrop;
 import com.dsd.game.userinterface.Screen;
 import com.revivedstandards.handlers.StandardParticleHandler;
 import com.revivedstandards.main.StandardCamera;
-import com.revivedstandards.util.StdOps;
 import com.revivedstandards.view.Renderable;
 import com.revivedstandards.view.Updatable;
 import java.awt.Graphics2D;
@@ -16,7 +18,9 @@ import org.apache.commons.math3.util.FastMath;
 
 /**
  * RainController will spawn different rain (blue) particles if it is raining in
- * the location provided by the user.
+ * the location provided by the user. Rain is ticked TICK_HZ times a second
+ * rather than on every simulation step; each tick does the work of however
+ * many steps it stands in for, so the rain falls just as fast and as thick.
  *
  * [Group Name: Data Structure Deadheads]
  *
@@ -51,12 +55,16 @@ public class RainController implements Renderable, Updatable {
     // Constant for how "often" lightning should spawn. The higher, the rarer.
     
     private static final int LIGHTNING_INTERVAL = 2500;
+    
+    // How many times a second the rain is ticked, and its handle on the scheduler.
+    private static final int TICK_HZ = 30;
+    private final ScheduledTick scheduledTick;
 
     public RainController(Game _game) {
         this.game = _game;
         this.sc = _game.getCamera();
-        this.sph = new StandardParticleHandler(MAX_RAIN_PARTICLES);
-        this.lightningHandler = new LightningHandler();
+        this.sph = new IndexedParticleHandler(MAX_RAIN_PARTICLES);
+        this.lightningHandler = new LightningHandler(this.game);
         // Be sure to always set the SPH camera or it'll throw a NPE.
         this.sph.setCamera(this.sc);
         try {
@@ -65,12 +73,13 @@ public class RainController implements Renderable, Updatable {
             System.err.println("Could not connect; continuing without rain.");
             this.isRaining = false;
         }
+        this.scheduledTick = _game.getTickScheduler().register("Rain", RainController.TICK_HZ, TimerClock.LEVEL, this);
     }
 
     @Override
     public void render(Graphics2D _g2) {
+        // The rain drops themselves are rasterized by the RenderController.
         if (this.isRaining()) {
-            this.sph.render(_g2);
             this.lightningHandler.render(_g2);
         }
     }
@@ -83,10 +92,15 @@ public class RainController implements Renderable, Updatable {
             int xGenMax = (int) (this.sc.getX() + RainController.X_BORDER);
             int yGenMin = (int) (this.sc.getY() - RainController.Y_BORDER);
             int yGenMax = (int) (this.sc.getY() + RainController.Y_BORDER / 4);
-            this.sph.addEntity(this.generateRainDrop(xGenMin, xGenMax, yGenMin, yGenMax));
+            int steps = this.scheduledTick.getPeriodSteps();
+            for (int i = 0; i < steps; i++) {
+                this.sph.addEntity(this.generateRainDrop(xGenMin, xGenMax, yGenMin, yGenMax, steps));
+            }
             this.sph.tick();
-            this.generateLightning();
-            this.lightningHandler.tick();
+            for (int i = 0; i < steps; i++) {
+                this.generateLightning();
+                this.lightningHandler.tick();
+            }
         }
     }
 
@@ -97,20 +111,21 @@ public class RainController implements Renderable, Updatable {
      * @param _xGenMax
      * @param _yGenMin
      * @param _yGenMax
+     * @param _steps simulation steps the drop moves per tick.
      * @return
      */
-    private RainDrop generateRainDrop(int _xGenMin, int _xGenMax, int _yGenMin, int _yGenMax) {
-        int xPos = StdOps.rand(_xGenMin, _xGenMax);
-        int yPos = StdOps.rand(_yGenMin, _yGenMax);
+    private RainDrop generateRainDrop(int _xGenMin, int _xGenMax, int _yGenMin, int _yGenMax, int _steps) {
+        int xPos = this.game.getRandomController().rand(RandomStream.WEATHER, _xGenMin, _xGenMax);
+        int yPos = this.game.getRandomController().rand(RandomStream.WEATHER, _yGenMin, _yGenMax);
         return new RainDrop(xPos, yPos, RAIN_DIRECTION, this.getRandomSpeed(VEL_FACTOR),
-                (int) (this.sc.getY() + this.sc.getVph() * Y_BOUND_FACTOR));
+                (int) (this.sc.getY() + this.sc.getVph() * Y_BOUND_FACTOR), _steps, this.game);
     }
 
     /**
      * Generates a random lightning flash.
      */
     private void generateLightning() {
-        if ((int) (Math.random() * LIGHTNING_INTERVAL) < 2) {
+        if ((int) (this.game.getRandomController().random(RandomStream.WEATHER) * LIGHTNING_INTERVAL) < 2) {
             this.lightningHandler.getHandler().add(new LightningFlash(game, this.lightningHandler.getHandler()));
             this.lightningHandler.playLightningSFX();
         }
@@ -119,10 +134,14 @@ public class RainController implements Renderable, Updatable {
 //================================ GETTERS ===============================
     private double getRandomSpeed(int _speedFactor) {
         // Returns a random speed between [0, speedFactor). Determines how fast each rain drop will fall.
-        return Math.random() * _speedFactor;
+        return this.game.getRandomController().random(RandomStream.WEATHER) * _speedFactor;
     }
 
 //=================================== SETTERS ==============================
+    public StandardParticleHandler getParticleHandler() {
+        return this.sph;
+    }
+
     public boolean isRaining() {
         return this.isRaining;
     }
@@ -0,0 +1,118 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.core.RandomStream;
+import java.util.SplittableRandom;
+
+/**
+ * This class is the single source of randomness for a game's simulation. Every
+ * subsystem draws from its own stream (see RandomStream), and every stream is
+ * split off one root generator seeded when the game is created, so two games
+ * given the same seed and the same input play out identically.
+ *
+ * The methods mirror StdOps.rand()/randBounds(), so converting a call site is
+ * a matter of naming the stream it belongs to. Only the game thread may draw
+ * from a stream.
+ *
+ * Randomness that is purely presentational and only happens while rendering
+ * or in menus (label shake, the preamble lightning bolt) stays on StdOps, since
+ * how often it is drawn depends on the frame rate.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class RandomController {
+
+    //  Seed the streams were last derived from.
+    private long seed;
+    //  One generator per stream, indexed by ordinal.
+    private final SplittableRandom[] streams;
+
+    public RandomController(long _seed) {
+        this.streams = new SplittableRandom[RandomStream.values().length];
+        this.setSeed(_seed);
+    }
+
+    /**
+     * Returns a random integer in the range [_min, _max].
+     *
+     * @param _stream
+     * @param _min
+     * @param _max
+     * @return
+     */
+    public int rand(RandomStream _stream, int _min, int _max) {
+        if (_max <= _min) {
+            return _min;
+        }
+        return this.streams[_stream.ordinal()].nextInt(_min, _max + 1);
+    }
+
+    /**
+     * Returns a random double in the range [_min, _max).
+     *
+     * @param _stream
+     * @param _min
+     * @param _max
+     * @return
+     */
+    public double rand(RandomStream _stream, double _min, double _max) {
+        if (_max <= _min) {
+            return _min;
+        }
+        return this.streams[_stream.ordinal()].nextDouble(_min, _max);
+    }
+
+    /**
+     * Returns a random double from either [_minOne, _maxOne) or [_minTwo,
+     * _maxTwo), picking between the two ranges with equal probability. Used
+     * for velocities that should never be close to zero.
+     *
+     * @param _stream
+     * @param _minOne
+     * @param _maxOne
+     * @param _minTwo
+     * @param _maxTwo
+     * @return
+     */
+    public double randBounds(RandomStream _stream, double _minOne, double _maxOne,
+            double _minTwo, double _maxTwo) {
+        if (this.streams[_stream.ordinal()].nextBoolean()) {
+            return this.rand(_stream, _minOne, _maxOne);
+        }
+        return this.rand(_stream, _minTwo, _maxTwo);
+    }
+
+    /**
+     * Returns a random double in the range [0, 1), the same as Math.random().
+     *
+     * @param _stream
+     * @return
+     */
+    public double random(RandomStream _stream) {
+        return this.streams[_stream.ordinal()].nextDouble();
+    }
+
+//============================== GETTERS =====================================
+    public long getSeed() {
+        return this.seed;
+    }
+
+//============================== SETTERS =====================================
+    /**
+     * Reseeds every stream from _seed. The streams are split off the root in
+     * RandomStream order, so each one is fully determined by the seed.
+     *
+     * @param _seed
+     */
+    public void setSeed(long _seed) {
+        this.seed = _seed;
+        SplittableRandom root = new SplittableRandom(_seed);
+        for (int i = 0; i < this.streams.length; i++) {
+            this.streams[i] = root.split();
+        }
+    }
+
+}
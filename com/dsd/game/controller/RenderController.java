@@ -0,0 +1,235 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.core.Game;
+import com.dsd.game.render.DrawFrame;
+import com.dsd.game.render.DrawLayer;
+import com.dsd.game.render.DrawList;
+import com.dsd.game.render.RasterFrame;
+import com.dsd.game.render.Recordable;
+import com.dsd.game.render.TripleBuffer;
+import com.revivedstandards.handlers.StandardHandler;
+import com.revivedstandards.main.StandardCamera;
+import com.revivedstandards.model.StandardGameObject;
+import com.revivedstandards.model.StandardParticle;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves the rasterization of the particle-heavy layers (blood, casings, rain
+ * and snow) off the game thread. At the end of each tick, record() copies what
+ * those layers look like into a DrawFrame and publishes it. A worker thread
+ * rasterizes the newest published frame into a set of images while the next
+ * tick runs, and the game's render pass just draws those images. A layer with
+ * only a few particles in it is cheaper to draw directly than as an image, so
+ * RasterFrame copies such a layer and the render pass replays it instead.
+ *
+ * Both handoffs (game thread to worker, worker to render pass) go through a
+ * TripleBuffer, so nobody takes a lock on the hot path; the worker parks when
+ * it has nothing to do and is unparked when a new frame is published.
+ *
+ * On a single-core machine there is nothing to gain from a second thread (and
+ * a headless game never starts one), so whenever the worker isn't running the
+ * frame is rasterized on the game thread at render time instead.
+ *
+ * The worker only runs while a game is being played: Game starts it in
+ * uponPlay(), and stops it when the game is reset to the menu or shut down.
+ *
+ * Frames are recorded once per tick, at the positions of the last simulation
+ * step, and rasterized before the render pass knows how far it is between
+ * steps; so unlike the entities of the collision handler, the particles in
+ * these layers are not interpolated. The images are placed in world space, so
+ * they still follow the (interpolated) camera; only the particles' own motion
+ * moves in whole simulation steps. For short-lived blood, casings and
+ * precipitation this is not noticeable at the default simulation rate.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class RenderController {
+
+    //  Miscellaneous reference variables.
+    private final Game game;
+    private final StandardCamera sc;
+    //  Handlers recorded into each layer.
+    private final ArrayList<StandardHandler> groundHandlers;
+    private final ArrayList<StandardHandler> weatherHandlers;
+    //  Recorded frames handed to the worker, and rasterized frames handed back.
+    private final TripleBuffer<DrawFrame> drawFrames;
+    private final TripleBuffer<RasterFrame> rasterFrames;
+    //  Frame being drawn by the current render pass.
+    private RasterFrame currentFrame;
+    private final boolean threaded;
+    private volatile Thread worker;
+    private volatile boolean running = false;
+
+    public RenderController(Game _game) {
+        this.game = _game;
+        this.sc = _game.getCamera();
+        this.groundHandlers = new ArrayList<>();
+        this.weatherHandlers = new ArrayList<>();
+        this.drawFrames = new TripleBuffer<>(new DrawFrame(), new DrawFrame(), new DrawFrame());
+        this.rasterFrames = new TripleBuffer<>(new RasterFrame(), new RasterFrame(), new RasterFrame());
+        this.currentFrame = this.rasterFrames.acquire();
+        this.threaded = Runtime.getRuntime().availableProcessors() > 1;
+    }
+
+    /**
+     * Starts the worker thread (if this machine has more than one core).
+     */
+    public void start() {
+        if (!this.threaded || this.running) {
+            return;
+        }
+        this.running = true;
+        this.worker = new Thread(new RasterWorker(this), "Render-Worker");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Stops the worker thread, waiting for it to finish the frame it is on so
+     * a later start() never has two workers rasterizing at once. Until then,
+     * frames are rasterized on the game thread.
+     */
+    public void stop() {
+        this.running = false;
+        Thread thread = this.worker;
+        if (thread == null) {
+            return;
+        }
+        this.worker = null;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records every handler into the producer's DrawFrame and publishes it.
+     * Only objects inside the camera's view are recorded.
+     */
+    public void record() {
+        DrawFrame frame = this.drawFrames.getProducerSlot();
+        int vpw = this.sc.getVpw();
+        int vph = this.sc.getVph();
+        frame.reset(this.sc.getX() - vpw, this.sc.getY() - vph, vpw << 1, vph << 1);
+        this.recordHandlers(frame, this.groundHandlers, frame.getLayer(DrawLayer.GROUND));
+        this.recordHandlers(frame, this.weatherHandlers, frame.getLayer(DrawLayer.WEATHER));
+        this.drawFrames.publish();
+        if (this.worker != null) {
+            LockSupport.unpark(this.worker);
+        }
+    }
+
+    /**
+     * Picks up the newest rasterized frame for this render pass. Called once at
+     * the start of Game.render() so every layer comes from the same frame.
+     */
+    public void beginFrame() {
+        if (this.worker == null && this.drawFrames.hasFresh()) {
+            this.rasterizeNext();
+        }
+        this.currentFrame = this.rasterFrames.acquire();
+    }
+
+    /**
+     * Draws _layer of the current frame.
+     *
+     * @param _g2
+     * @param _layer
+     */
+    public void render(Graphics2D _g2, DrawLayer _layer) {
+        this.currentFrame.render(_g2, _layer);
+    }
+
+    /**
+     * Adds a handler whose entities are recorded into _layer.
+     *
+     * @param _handler
+     * @param _layer
+     */
+    public void addHandler(StandardHandler _handler, DrawLayer _layer) {
+        if (_layer == DrawLayer.GROUND) {
+            this.groundHandlers.add(_handler);
+        } else {
+            this.weatherHandlers.add(_handler);
+        }
+    }
+
+    /**
+     * Takes the newest recorded frame, rasterizes it, and hands it to the
+     * render pass.
+     */
+    private void rasterizeNext() {
+        DrawFrame frame = this.drawFrames.acquire();
+        this.rasterFrames.getProducerSlot().rasterize(frame);
+        this.rasterFrames.publish();
+    }
+
+    /**
+     * Records every visible entity in _handlers into _list. Entities that know
+     * how to record themselves do so; plain particles (blood) are recorded as
+     * filled circles of their color. Positions are those of the last step;
+     * see the class comment.
+     *
+     * @param _frame
+     * @param _handlers
+     * @param _list
+     */
+    private void recordHandlers(DrawFrame _frame, ArrayList<StandardHandler> _handlers, DrawList _list) {
+        for (int i = 0; i < _handlers.size(); i++) {
+            ArrayList<StandardGameObject> entities = _handlers.get(i).getEntities();
+            for (int j = 0; j < entities.size(); j++) {
+                StandardGameObject obj = entities.get(j);
+                if (!_frame.isVisible(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight())) {
+                    continue;
+                }
+                if (obj instanceof Recordable) {
+                    ((Recordable) obj).record(_list);
+                } else if (obj instanceof StandardParticle) {
+                    _list.addOval(((StandardParticle) obj).getColor(), obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
+                }
+            }
+        }
+    }
+
+//============================== GETTERS =====================================
+    public boolean isThreaded() {
+        return this.threaded;
+    }
+
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Worker loop: rasterize whatever has been published, otherwise sleep until
+     * record() wakes it up.
+     */
+    private class RasterWorker implements Runnable {
+
+        private final RenderController controller;
+
+        public RasterWorker(RenderController _controller) {
+            this.controller = _controller;
+        }
+
+        @Override
+        public void run() {
+            while (this.controller.isRunning()) {
+                if (this.controller.drawFrames.hasFresh()) {
+                    this.controller.rasterizeNext();
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.core.TimerClock;
+import com.revivedstandards.view.Updatable;
+
+/**
+ * A subsystem registered with the TickScheduler, along with the rate it asked
+ * to be ticked at and how much its ticks have been costing.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class ScheduledTick {
+
+    //  Name shown in the debug overlay, the subsystem itself, and the clock
+    //  whose active states it is ticked in.
+    private final String name;
+    private final Updatable task;
+    private final TimerClock clock;
+    //  Declared rate (in Hz), and the resulting number of simulation steps
+    //  between ticks and the step (mod period) the ticks land on.
+    private int hz;
+    private int periodSteps = 1;
+    private int phase = 0;
+    //  Cost of the most recent tick, and a running average (in ns).
+    private long lastNanos = 0;
+    private double averageNanos = 0;
+    private long runs = 0;
+    //  Weight of the newest tick in the running average.
+    private static final double AVERAGE_WEIGHT = 0.05;
+
+    protected ScheduledTick(String _name, Updatable _task, TimerClock _clock, int _hz) {
+        this.name = _name;
+        this.task = _task;
+        this.clock = _clock;
+        this.hz = _hz;
+    }
+
+    /**
+     * Ticks the subsystem and records how long it took.
+     */
+    protected void run() {
+        long start = System.nanoTime();
+        this.task.tick();
+        this.lastNanos = System.nanoTime() - start;
+        this.averageNanos = this.runs == 0 ? this.lastNanos
+                : this.averageNanos + (this.lastNanos - this.averageNanos) * ScheduledTick.AVERAGE_WEIGHT;
+        this.runs++;
+    }
+
+    /**
+     * Returns true if the subsystem is due on simulation step _step.
+     *
+     * @param _step
+     * @return
+     */
+    protected boolean isDue(long _step) {
+        return (_step - this.phase) % this.periodSteps == 0;
+    }
+
+//============================== GETTERS =====================================
+    public String getName() {
+        return this.name;
+    }
+
+    public TimerClock getClock() {
+        return this.clock;
+    }
+
+    public int getHz() {
+        return this.hz;
+    }
+
+    public int getPeriodSteps() {
+        return this.periodSteps;
+    }
+
+    public int getPhase() {
+        return this.phase;
+    }
+
+    public long getRuns() {
+        return this.runs;
+    }
+
+    public double getLastMicros() {
+        return this.lastNanos / 1000.0;
+    }
+
+    public double getAverageMicros() {
+        return this.averageNanos / 1000.0;
+    }
+
+//=============================== SETTERS =====================================
+    protected void setHz(int _hz) {
+        this.hz = _hz;
+    }
+
+    protected void setPeriodSteps(int _periodSteps) {
+        this.periodSteps = _periodSteps;
+    }
+
+    protected void setPhase(int _phase) {
+        this.phase = _phase;
+    }
+
+}
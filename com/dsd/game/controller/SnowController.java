@@ -1,12 +1,14 @@
 package com.dsd.game.controller;
 
+import com.dsd.game.handlers.IndexedParticleHandler;
 import com.dsd.game.core.Game;
 import com.dsd.game.api.TranslatorAPI;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.objects.Snowflake;
 import com.dsd.game.userinterface.Screen;
 import com.revivedstandards.handlers.StandardParticleHandler;
 import com.revivedstandards.main.StandardCamera;
-import com.revivedstandards.util.StdOps;
 import com.revivedstandards.view.Renderable;
 import com.revivedstandards.view.Updatable;
 import java.awt.Color;
@@ -15,7 +17,8 @@ import org.apache.commons.math3.util.FastMath;
 
 /*
  * This class calls the weather API adapter and if it is snowing in real life,
- * then it will snow in the game.
+ * then it will snow in the game. Like the rain, snow is ticked TICK_HZ times a
+ * second, each tick standing in for several simulation steps.
  *
  * [Group Name: Data Structure Deadheads]
  *
@@ -43,11 +46,14 @@ public class SnowController implements Renderable, Updatable {
     private static final int Y_BOUND_OFFSET = 50;
     // Constants for how many snow particles should spawn.
     private static final int MAX_SNOW_PARTICLES = 5000;
+    // How many times a second the snow is ticked, and its handle on the scheduler.
+    private static final int TICK_HZ = 30;
+    private final ScheduledTick scheduledTick;
 
     public SnowController(Game _game) {
         this.game = _game;
         this.sc = _game.getCamera();
-        this.sph = new StandardParticleHandler(MAX_SNOW_PARTICLES);
+        this.sph = new IndexedParticleHandler(MAX_SNOW_PARTICLES);
         // Be sure to always set the SPH camera or it'll throw a NPE.
         this.sph.setCamera(this.sc);
         try {
@@ -56,12 +62,13 @@ public class SnowController implements Renderable, Updatable {
             System.err.println("Could not connect; continuing without snow.");
             this.isSnowing = false;
         }
+        this.scheduledTick = _game.getTickScheduler().register("Snow", SnowController.TICK_HZ, TimerClock.LEVEL, this);
     }
 
     @Override
     public void render(Graphics2D _g2) {
+        // The snowflakes themselves are rasterized by the RenderController.
         if (this.isSnowing()) {
-            this.sph.render(_g2);
             this.drawSnowHaze(_g2);
         }
     }
@@ -74,7 +81,10 @@ public class SnowController implements Renderable, Updatable {
             int xGenMax = (int) (this.sc.getX() + SnowController.X_BORDER);
             int yGenMin = (int) (this.sc.getY() - SnowController.Y_BORDER);
             int yGenMax = (int) (this.sc.getY() - SnowController.Y_BORDER + Y_BOUND_OFFSET);
-            this.sph.addEntity(this.generateSnowflake(xGenMin, xGenMax, yGenMin, yGenMax));
+            int steps = this.scheduledTick.getPeriodSteps();
+            for (int i = 0; i < steps; i++) {
+                this.sph.addEntity(this.generateSnowflake(xGenMin, xGenMax, yGenMin, yGenMax, steps));
+            }
             this.sph.tick();
         }
     }
@@ -86,13 +96,14 @@ public class SnowController implements Renderable, Updatable {
      * @param _xGenMax
      * @param _yGenMin
      * @param _yGenMax
+     * @param _steps simulation steps the flake moves per tick.
      * @return
      */
-    private Snowflake generateSnowflake(int _xGenMin, int _xGenMax, int _yGenMin, int _yGenMax) {
-        int xPos = StdOps.rand(_xGenMin, _xGenMax);
-        int yPos = StdOps.rand(_yGenMin, _yGenMax);
+    private Snowflake generateSnowflake(int _xGenMin, int _xGenMax, int _yGenMin, int _yGenMax, int _steps) {
+        int xPos = this.game.getRandomController().rand(RandomStream.WEATHER, _xGenMin, _xGenMax);
+        int yPos = this.game.getRandomController().rand(RandomStream.WEATHER, _yGenMin, _yGenMax);
         return new Snowflake(xPos, yPos, SNOW_DIRECTION, this.getRandomSpeed(VEL_FACTOR),
-                (int) (this.sc.getY() + this.sc.getVph() * Y_BOUND_FACTOR));
+                (int) (this.sc.getY() + this.sc.getVph() * Y_BOUND_FACTOR), _steps, this.game);
     }
 
     /**
@@ -113,10 +124,14 @@ public class SnowController implements Renderable, Updatable {
 //================================= GETTERS ===================================
     private double getRandomSpeed(int _speedFactor) {
         // Returns a random speed between [0 - speedFactor]. Determines how fast each snow drop will fall.
-        return Math.random() * _speedFactor;
+        return this.game.getRandomController().random(RandomStream.WEATHER) * _speedFactor;
     }
 
 //================================== SETTERS ==================================
+    public StandardParticleHandler getParticleHandler() {
+        return this.sph;
+    }
+
     public boolean isSnowing() {
         return this.isSnowing;
     }
@@ -1,6 +1,8 @@
 package com.dsd.game.controller;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.enemies.BasicMonster;
 import com.dsd.game.enemies.DarkFemaleMonster;
 import com.dsd.game.enemies.FemaleMonsterBoss;
@@ -8,14 +10,10 @@ import com.dsd.game.enemies.GreenMonster;
 import com.dsd.game.enemies.RedHeadMonster;
 import com.dsd.game.enemies.TinyMonster;
 import com.dsd.game.enemies.enums.EnemyType;
-import com.dsd.game.userinterface.TimerInterface;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Graphics2D;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * This class is a "mob-spawner". As in, using a pre-specified radius and
@@ -27,14 +25,14 @@ import java.util.TimerTask;
  * 
  * @updated 12/10/19
  */
-public class SpawnerController extends StandardGameObject implements TimerInterface {
+public class SpawnerController extends StandardGameObject {
 
     // Miscellaneous reference variables
     private final StandardCollisionHandler parentContainer;
     private final EnemyType spawnerID;
     private final Game game;
-    // Timer object controlling the spawn-rate.
-    private final Timer spawnerTimer;
+    // Timer handle controlling the spawn-rate.
+    private final TimerHandle spawnerTimer;
     // Delay and radius of the timer.
     private final long delay;
     private final int radius;
@@ -46,9 +44,12 @@ public class SpawnerController extends StandardGameObject implements TimerInterf
         this.parentContainer = _sch;
         this.delay = _delay;
         this.radius = _radius;
-        this.spawnerTimer = new Timer(true);
-        this.spawnerTimer.scheduleAtFixedRate(new SpawnerDelayTimer(this, this.game), this.delay, this.delay);
-        TimerController.addTimer(this);
+        /**
+         * Spawners run on the WAVE clock, so they are frozen while the game is
+         * paused, in the shop, or in the preamble.
+         */
+        this.spawnerTimer = this.game.getTimerController().scheduleAtFixedRate(
+                new SpawnerDelayTimer(this), TimerClock.WAVE, this.delay, this.delay);
     }
 
     @Override
@@ -59,11 +60,6 @@ public class SpawnerController extends StandardGameObject implements TimerInterf
     public void render(Graphics2D _gd) {
     }
 
-    @Override
-    public void cancelTimer() {
-        this.spawnerTimer.cancel();
-    }
-
     /**
      * Spawns _n mobs randomly in the specified radius of the spawner.
      *
@@ -73,29 +69,30 @@ public class SpawnerController extends StandardGameObject implements TimerInterf
         if (this.game.getLevelController().getWaveNumber() % this.game.getLevelController().getBossSpawnInterval() == 0) {
             return;
         }
+        RandomController random = this.game.getRandomController();
         for (int i = 0; i < _n; i++) {
-            int xPos = (int) StdOps.rand(this.getX() - this.radius, this.getX() + this.radius);
-            int yPos = (int) StdOps.rand(this.getY() - this.radius, this.getY() + this.radius);
+            int xPos = (int) random.rand(RandomStream.SPAWNING, this.getX() - this.radius, this.getX() + this.radius);
+            int yPos = (int) random.rand(RandomStream.SPAWNING, this.getY() - this.radius, this.getY() + this.radius);
             //  Depending on what type of spawner we have, we spawn that type of monster.
             //  Eventually we will probably want to use reflection classes to make this easier/cleaner.
             switch (this.spawnerID) {
                 case BASIC_MONSTER:
-                    this.parentContainer.addEntity(new BasicMonster(xPos, yPos, this.game, this.parentContainer));
+                    this.game.getCollisionHandlerController().queueAddEntity(new BasicMonster(xPos, yPos, this.game, this.parentContainer));
                     break;
                 case GREEN_MONSTER:
-                    this.parentContainer.addEntity(new GreenMonster(xPos, yPos, this.game, this.parentContainer));
+                    this.game.getCollisionHandlerController().queueAddEntity(new GreenMonster(xPos, yPos, this.game, this.parentContainer));
                     break;
                 case DARK_FEMALE_MONSTER:
-                    this.parentContainer.addEntity(new DarkFemaleMonster(xPos, yPos, this.game, this.parentContainer));
+                    this.game.getCollisionHandlerController().queueAddEntity(new DarkFemaleMonster(xPos, yPos, this.game, this.parentContainer));
                     break;
                 case RED_HEAD_MONSTER:
-                    this.parentContainer.addEntity(new RedHeadMonster(xPos, yPos, this.game, this.parentContainer));
+                    this.game.getCollisionHandlerController().queueAddEntity(new RedHeadMonster(xPos, yPos, this.game, this.parentContainer));
                     break;
                 case FEMALE_BOSS_MONSTER:
-                    this.parentContainer.addEntity(new FemaleMonsterBoss(xPos, yPos, this.game, this.parentContainer));
+                    this.game.getCollisionHandlerController().queueAddEntity(new FemaleMonsterBoss(xPos, yPos, this.game, this.parentContainer));
                     break;
                 case TINY_MONSTER:
-                    this.parentContainer.addEntity(new TinyMonster(xPos, yPos, this.game, this.parentContainer));
+                    this.game.getCollisionHandlerController().queueAddEntity(new TinyMonster(xPos, yPos, this.game, this.parentContainer));
                     break;
                 default:
                     throw new IllegalStateException("Invalid enemy spawner type!");
@@ -108,25 +105,16 @@ public class SpawnerController extends StandardGameObject implements TimerInterf
      * spawning. We only want mobs to spawn at a certain interval, so this
      * allows for that.
      */
-    private class SpawnerDelayTimer extends TimerTask {
+    private class SpawnerDelayTimer implements Runnable {
 
         private final SpawnerController spawnerController;
-        private final Game game;
 
-        public SpawnerDelayTimer(SpawnerController _spawnerController, Game _game) {
+        public SpawnerDelayTimer(SpawnerController _spawnerController) {
             this.spawnerController = _spawnerController;
-            this.game = _game;
         }
 
         @Override
         public void run() {
-            /**
-             * If we're not paused AND the game isn't in its preamble state, we
-             * can spawn the entities.
-             */
-            if (this.game.isPaused() || this.game.isPreamble() || this.game.isShop()) {
-                return;
-            }
             this.spawnerController.spawn(1);
         }
     }
@@ -0,0 +1,169 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.core.Game;
+import com.dsd.game.core.GameState;
+import com.dsd.game.core.TimerClock;
+import com.revivedstandards.view.Updatable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ticks the game's non-critical subsystems (the HUD, the minimap, the weather,
+ * the cursor) at whatever rate each of them declares, instead of on every
+ * simulation step. Gameplay itself is not scheduled here; it always runs at
+ * the full simulation rate.
+ *
+ * A subsystem declared at N Hz is ticked every (simulation rate / N) steps.
+ * Each subsystem is also given a phase within its period, picked so that it
+ * collides with as few of the other slow subsystems as possible; a 10 Hz and a
+ * 5 Hz subsystem, for instance, never tick on the same step, so the slow work
+ * is spread out instead of all landing on one frame.
+ *
+ * Like the TimerController, everything is counted in simulation steps, so the
+ * schedule is the same every time a game is replayed.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class TickScheduler {
+
+    //  Miscellaneous reference variables.
+    private final Game game;
+    private final ArrayList<ScheduledTick> ticks;
+    //  Simulation rate the periods are computed against.
+    private int simulationHz;
+    //  Number of simulation steps run so far.
+    private long step = 0;
+
+    public TickScheduler(Game _game, int _simulationHz) {
+        this.game = _game;
+        this.ticks = new ArrayList<>();
+        this.simulationHz = _simulationHz;
+    }
+
+    /**
+     * Registers _task to be ticked _hz times per second while the game is in
+     * one of _clock's active states. A rate at or above the simulation rate
+     * ticks the task on every step.
+     *
+     * @param _name shown in the debug overlay.
+     * @param _hz
+     * @param _clock
+     * @param _task
+     * @return
+     */
+    public ScheduledTick register(String _name, int _hz, TimerClock _clock, Updatable _task) {
+        if (_hz <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive!");
+        }
+        ScheduledTick tick = new ScheduledTick(_name, _task, _clock, _hz);
+        this.schedule(tick);
+        this.ticks.add(tick);
+        return tick;
+    }
+
+    /**
+     * Ticks every subsystem due on this step. Called once per simulation step.
+     */
+    public void tick() {
+        GameState state = this.game.getGameState();
+        for (int i = 0; i < this.ticks.size(); i++) {
+            ScheduledTick tick = this.ticks.get(i);
+            if (tick.getClock().isActive(state) && tick.isDue(this.step)) {
+                tick.run();
+            }
+        }
+        this.step++;
+    }
+
+    /**
+     * Changes the rate _tick is ticked at.
+     *
+     * @param _tick
+     * @param _hz
+     */
+    public void setRate(ScheduledTick _tick, int _hz) {
+        if (_hz <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive!");
+        }
+        _tick.setHz(_hz);
+        this.schedule(_tick);
+    }
+
+    /**
+     * Works out the period and phase of _tick from its declared rate.
+     *
+     * @param _tick
+     */
+    private void schedule(ScheduledTick _tick) {
+        int period = (int) Math.max(1, Math.round((double) this.simulationHz / _tick.getHz()));
+        _tick.setPeriodSteps(period);
+        _tick.setPhase(this.choosePhase(_tick, period));
+    }
+
+    /**
+     * Picks the phase for _tick that shares steps with the fewest other
+     * subsystems. Two subsystems with periods a and b and phases pa and pb
+     * tick on the same step at some point if and only if pa and pb are equal
+     * modulo gcd(a, b). Full-rate subsystems run on every step anyway, so they
+     * are ignored.
+     *
+     * @param _tick
+     * @param _period
+     * @return
+     */
+    private int choosePhase(ScheduledTick _tick, int _period) {
+        int bestPhase = 0;
+        int bestCollisions = Integer.MAX_VALUE;
+        for (int phase = 0; phase < _period && bestCollisions > 0; phase++) {
+            int collisions = 0;
+            for (int i = 0; i < this.ticks.size(); i++) {
+                ScheduledTick other = this.ticks.get(i);
+                if (other == _tick || other.getPeriodSteps() == 1) {
+                    continue;
+                }
+                int gcd = TickScheduler.gcd(_period, other.getPeriodSteps());
+                if ((phase - other.getPhase()) % gcd == 0) {
+                    collisions++;
+                }
+            }
+            if (collisions < bestCollisions) {
+                bestCollisions = collisions;
+                bestPhase = phase;
+            }
+        }
+        return bestPhase;
+    }
+
+    private static int gcd(int _a, int _b) {
+        while (_b != 0) {
+            int t = _a % _b;
+            _a = _b;
+            _b = t;
+        }
+        return _a;
+    }
+
+//============================== GETTERS =====================================
+    public List<ScheduledTick> getTicks() {
+        return Collections.unmodifiableList(this.ticks);
+    }
+
+//=============================== SETTERS =====================================
+    /**
+     * Recomputes every subsystem's period against a new simulation rate.
+     *
+     * @param _simulationHz
+     */
+    public void setSimulationHz(int _simulationHz) {
+        this.simulationHz = _simulationHz;
+        for (int i = 0; i < this.ticks.size(); i++) {
+            this.schedule(this.ticks.get(i));
+        }
+    }
+
+}
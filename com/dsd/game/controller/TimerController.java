@@ -1,39 +1,231 @@
 package com.dsd.game.controller;
 
+import com.dsd.game.core.Game;
+import com.dsd.game.core.GameState;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.userinterface.TimerInterface;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.PriorityQueue;
 
 /**
- * This class controls all TimerInterface objects in the game. When the game is
- * reset, they need to be halted/canceled.
- * 
+ * This class is the single scheduler for every timed event in the game. Rather
+ * than each object spinning up its own java.util.Timer thread, tasks are
+ * scheduled here against one of the simulation clocks (see TimerClock), and
+ * are run on the game thread from within Game.tick(). A clock only advances
+ * while the game is in one of its active states, so pausing, shopping, or
+ * sitting in the preamble suspends the timers on that clock natively.
+ *
+ * Each clock has its own priority queue keyed on due time, so finding the next
+ * task to run is O(1), and scheduling/rescheduling is O(log n). Cancelled
+ * handles are dropped lazily when they reach the front of the queue, or in bulk
+ * once they make up the majority of it.
+ *
+ * Objects that need to reset some state when the game is reset (as opposed to
+ * simply having their tasks cancelled) implement TimerInterface and register
+ * themselves once with addTimer().
+ *
  * [Group Name: Data Structure Deadheads]
- * 
+ *
  * @author Joshua
- * 
+ *
  * @updated 12/10/19
  */
 public class TimerController {
 
-    private static final ArrayList<TimerInterface> timers = new ArrayList<>();
+    //  Miscellaneous reference variables.
+    private final Game game;
+    //  One queue and one running time (in ms) per clock, indexed by ordinal.
+    private final ArrayList<PriorityQueue<TimerHandle>> queues;
+    private final double[] clockTimes;
+    //  Number of cancelled handles still sitting in the queues.
+    private int cancelledCount = 0;
+    //  Monotonically increasing counter so equal due times run in FIFO order.
+    private long sequence = 0;
+    //  Objects that want to be told when every timer is stopped.
+    private final ArrayList<TimerInterface> listeners;
+
+    public TimerController(Game _game) {
+        this.game = _game;
+        this.queues = new ArrayList<>();
+        this.clockTimes = new double[TimerClock.values().length];
+        this.listeners = new ArrayList<>();
+        for (int i = 0; i < TimerClock.values().length; i++) {
+            this.queues.add(new PriorityQueue<TimerHandle>());
+        }
+    }
+
+    /**
+     * Advances every clock that is active in the current game state by
+     * _elapsedMillis, then runs every task on that clock that has come due.
+     * Tasks may safely schedule or cancel other tasks while running.
+     *
+     * @param _elapsedMillis
+     */
+    public void tick(double _elapsedMillis) {
+        GameState state = this.game.getGameState();
+        for (TimerClock clock : TimerClock.values()) {
+            if (!clock.isActive(state)) {
+                continue;
+            }
+            int index = clock.ordinal();
+            this.clockTimes[index] += _elapsedMillis;
+            this.runDueTasks(this.queues.get(index), this.clockTimes[index]);
+        }
+    }
+
+    /**
+     * Schedules _task to run once, _delay milliseconds from now on _clock.
+     *
+     * @param _task
+     * @param _clock
+     * @param _delay
+     * @return handle used to cancel the task.
+     */
+    public TimerHandle schedule(Runnable _task, TimerClock _clock, long _delay) {
+        return this.enqueue(_task, _clock, _delay, 0);
+    }
 
     /**
-     * Adds a timer to the ArrayList of timers.
+     * Schedules _task to run _delay milliseconds from now on _clock, then every
+     * _period milliseconds after that until it is cancelled.
+     *
+     * @param _task
+     * @param _clock
+     * @param _delay
+     * @param _period
+     * @return handle used to cancel the task.
+     */
+    public TimerHandle scheduleAtFixedRate(Runnable _task, TimerClock _clock, long _delay, long _period) {
+        if (_period <= 0) {
+            throw new IllegalArgumentException("Timer period must be positive!");
+        }
+        return this.enqueue(_task, _clock, _delay, _period);
+    }
+
+    /**
+     * Registers a TimerInterface to be notified when all timers are stopped.
+     * Registering the same object twice has no effect.
      *
      * @param _timer
      */
-    public static void addTimer(TimerInterface _timer) {
-        timers.add(_timer);
+    public void addTimer(TimerInterface _timer) {
+        if (!this.listeners.contains(_timer)) {
+            this.listeners.add(_timer);
+        }
+    }
+
+    /**
+     * Cancels and drops every scheduled task, resets every clock back to zero,
+     * and notifies each registered TimerInterface.
+     */
+    public void stopTimers() {
+        for (PriorityQueue<TimerHandle> queue : this.queues) {
+            for (TimerHandle handle : queue) {
+                handle.setQueued(false);
+                handle.cancel();
+            }
+            queue.clear();
+        }
+        for (int i = 0; i < this.clockTimes.length; i++) {
+            this.clockTimes[i] = 0;
+        }
+        this.cancelledCount = 0;
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).cancelTimer();
+        }
+    }
+
+    /**
+     * Creates the handle and inserts it into its clock's queue.
+     *
+     * @param _task
+     * @param _clock
+     * @param _delay
+     * @param _period
+     * @return
+     */
+    private TimerHandle enqueue(Runnable _task, TimerClock _clock, long _delay, long _period) {
+        if (_delay < 0) {
+            throw new IllegalArgumentException("Timer delay cannot be negative!");
+        }
+        double dueTime = this.clockTimes[_clock.ordinal()] + _delay;
+        TimerHandle handle = new TimerHandle(this, _task, _clock, dueTime, _period, this.sequence++);
+        handle.setQueued(true);
+        this.queues.get(_clock.ordinal()).add(handle);
+        return handle;
     }
 
-    // Stops all timers that are in the timer controller.
-    public static void stopTimers() {
-        for (int i = 0; i < TimerController.timers.size(); i++) {
-            TimerInterface currentTimer = timers.get(i);
-            if (currentTimer != null) {
-                currentTimer.cancelTimer();
+    /**
+     * Pops and runs every task whose due time is at or before _now. Periodic
+     * tasks are pushed back onto the queue with their next due time.
+     *
+     * @param _queue
+     * @param _now
+     */
+    private void runDueTasks(PriorityQueue<TimerHandle> _queue, double _now) {
+        while (!_queue.isEmpty() && _queue.peek().getDueTime() <= _now) {
+            TimerHandle handle = _queue.poll();
+            handle.setQueued(false);
+            if (handle.isCancelled()) {
+                this.cancelledCount--;
+                continue;
+            }
+            handle.run();
+            if (handle.isPeriodic() && !handle.isCancelled()) {
+                handle.setQueued(true);
+                _queue.add(handle);
             }
         }
     }
 
+    /**
+     * Called by a queued TimerHandle when it is cancelled. If more than half of
+     * the queued handles have been cancelled, the queues are rebuilt without
+     * them so they can't accumulate.
+     */
+    protected void handleCancelled() {
+        this.cancelledCount++;
+        if (this.cancelledCount <= (this.size() >> 1)) {
+            return;
+        }
+        for (PriorityQueue<TimerHandle> queue : this.queues) {
+            Iterator<TimerHandle> it = queue.iterator();
+            while (it.hasNext()) {
+                TimerHandle handle = it.next();
+                if (handle.isCancelled()) {
+                    handle.setQueued(false);
+                    it.remove();
+                }
+            }
+        }
+        this.cancelledCount = 0;
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns the number of tasks still waiting to run (cancelled tasks that
+     * have not been dropped yet are included).
+     *
+     * @return
+     */
+    public int size() {
+        int size = 0;
+        for (PriorityQueue<TimerHandle> queue : this.queues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns how much simulation time (in ms) has passed on _clock since the
+     * timers were last stopped.
+     *
+     * @param _clock
+     * @return
+     */
+    public double getClockTime(TimerClock _clock) {
+        return this.clockTimes[_clock.ordinal()];
+    }
+
 }
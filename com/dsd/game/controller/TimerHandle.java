@@ -0,0 +1,94 @@
+package com.dsd.game.controller;
+
+import com.dsd.game.core.TimerClock;
+
+/**
+ * A handle to a task scheduled on the TimerController. The handle is the only
+ * way to cancel a task once it has been scheduled; holding onto it is the
+ * responsibility of whoever scheduled the task.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class TimerHandle implements Comparable<TimerHandle> {
+
+    //  Controller that owns the handle, task to run, and the clock that decides when it runs.
+    private final TimerController controller;
+    private final Runnable task;
+    private final TimerClock clock;
+    //  Period (in ms) between runs; zero for one-shot timers.
+    private final long period;
+    //  Order the handle was scheduled in (breaks ties between equal due times).
+    private final long sequence;
+    //  Clock time (in ms) at which the task is next due.
+    private double dueTime;
+    private boolean cancelled = false;
+    //  True while the handle is sitting in one of the controller's queues.
+    private boolean queued = false;
+
+    protected TimerHandle(TimerController _controller, Runnable _task, TimerClock _clock, double _dueTime, long _period, long _sequence) {
+        this.controller = _controller;
+        this.task = _task;
+        this.clock = _clock;
+        this.dueTime = _dueTime;
+        this.period = _period;
+        this.sequence = _sequence;
+    }
+
+    /**
+     * Cancels the task. If it is periodic, it will not run again; if it has not
+     * yet run, it never will. The controller drops cancelled handles lazily.
+     */
+    public void cancel() {
+        if (this.cancelled) {
+            return;
+        }
+        this.cancelled = true;
+        if (this.queued) {
+            this.controller.handleCancelled();
+        }
+    }
+
+    @Override
+    public int compareTo(TimerHandle _other) {
+        int cmp = Double.compare(this.dueTime, _other.dueTime);
+        return cmp != 0 ? cmp : Long.compare(this.sequence, _other.sequence);
+    }
+
+    /**
+     * Runs the task, and if it is periodic, pushes its due time back by one
+     * period.
+     */
+    protected void run() {
+        this.task.run();
+        if (this.isPeriodic()) {
+            this.dueTime += this.period;
+        }
+    }
+
+//============================== GETTERS =====================================
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    public boolean isPeriodic() {
+        return this.period > 0;
+    }
+
+    public TimerClock getClock() {
+        return this.clock;
+    }
+
+    protected double getDueTime() {
+        return this.dueTime;
+    }
+
+//============================== SETTERS =====================================
+    protected void setQueued(boolean _queued) {
+        this.queued = _queued;
+    }
+
+}
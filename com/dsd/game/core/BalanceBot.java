@@ -0,0 +1,120 @@
+package com.dsd.game.core;
+
+import com.dsd.game.controller.InputFrame;
+import com.dsd.game.controller.InputSource;
+import com.dsd.game.enemies.Enemy;
+import com.dsd.game.objects.Player;
+import com.dsd.game.objects.weapons.Gun;
+import com.revivedstandards.main.StandardCamera;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+
+/**
+ * A very simple scripted player used by the BalanceRunner. Every step it aims
+ * at the nearest living enemy and holds the attack key, reloads when the gun
+ * runs dry, and walks forwards or backwards to stay within a comfortable range
+ * of its target. It is not meant to play well, only the same way every time, so
+ * that difficulty settings can be compared against each other.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class BalanceBot implements InputSource {
+
+    private final Game game;
+    //  Distances (in pixels) the bot tries to keep between itself and its target.
+    private static final double RETREAT_DISTANCE = 150;
+    private static final double ADVANCE_DISTANCE = 400;
+    //  Where the cursor sits when there is nothing to aim at (relative to the
+    //  center of the screen); it must not sit on the player or their velocity
+    //  turns into NaN.
+    private static final int IDLE_AIM_OFFSET = 100;
+    //  Keys held on the previous step, so presses and releases can be derived.
+    private int lastHeld = 0;
+
+    public BalanceBot(Game _game) {
+        this.game = _game;
+    }
+
+    @Override
+    public void read(InputFrame _frame) {
+        Player player = this.game.getPlayer();
+        StandardCamera camera = this.game.getCamera();
+        double px = player.getX() + player.getWidth() / 2;
+        double py = player.getY() + player.getHeight() / 2;
+        int mouseX = camera.getVpw() + BalanceBot.IDLE_AIM_OFFSET;
+        int mouseY = camera.getVph();
+        int held = 0;
+        Enemy target = this.findTarget(px, py);
+        Gun gun = player.getInventory().getGun();
+        if (gun != null && gun.isWeaponEmpty()) {
+            if (!gun.isReloading()) {
+                held |= InputAction.RELOAD.getMask();
+            }
+        } else if (target != null) {
+            held |= InputAction.ATTACK.getMask();
+        }
+        if (target != null) {
+            double tx = target.getX() + target.getWidth() / 2;
+            double ty = target.getY() + target.getHeight() / 2;
+            mouseX = (int) (tx - camera.getX()) + camera.getVpw();
+            mouseY = (int) (ty - camera.getY()) + camera.getVph();
+            double distance = Math.hypot(tx - px, ty - py);
+            if (distance < BalanceBot.RETREAT_DISTANCE) {
+                held |= InputAction.MOVE_BACKWARD.getMask();
+            } else if (distance > BalanceBot.ADVANCE_DISTANCE) {
+                held |= InputAction.MOVE_FORWARD.getMask();
+            }
+        }
+        int pressed = held & ~this.lastHeld;
+        int released = this.lastHeld & ~held;
+        this.lastHeld = held;
+        _frame.set(held, pressed, released, mouseX, mouseY);
+    }
+
+    /**
+     * The bot plays for as long as the game runs.
+     *
+     * @return
+     */
+    @Override
+    public boolean isFinished() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Returns the living enemy closest to (_px, _py), or null if there are
+     * none.
+     *
+     * @param _px
+     * @param _py
+     * @return
+     */
+    private Enemy findTarget(double _px, double _py) {
+        ArrayList<StandardGameObject> entities = this.game.getHandler().getEntities();
+        Enemy closest = null;
+        double closestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < entities.size(); i++) {
+            StandardGameObject obj = entities.get(i);
+            if (!(obj instanceof Enemy) || !obj.isAlive()) {
+                continue;
+            }
+            double dx = obj.getX() + obj.getWidth() / 2 - _px;
+            double dy = obj.getY() + obj.getHeight() / 2 - _py;
+            double distance = dx * dx + dy * dy;
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = (Enemy) obj;
+            }
+        }
+        return closest;
+    }
+
+}
@@ -0,0 +1,385 @@
+package com.dsd.game.core;
+
+import com.dsd.game.enemies.Enemy;
+import com.dsd.game.objects.Player;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays many headless games at once, each driven by a BalanceBot, and reports
+ * how every wave went: how long it lasted, how quickly enemies died, how
+ * crowded the level got, how much damage the player took, how much money they
+ * earned and how expensive the simulation step was. Games are stepped as fast
+ * as the CPU allows rather than in real time, and are spread across every core,
+ * so a full EASY/MEDIUM/HARD sweep takes minutes instead of hours.
+ *
+ * Usage: BalanceRunner [--sessions N] [--waves N] [--threads N] [--seed N]
+ * [--difficulty EASY|MEDIUM|HARD|ALL]
+ *
+ * --sessions N: games played per difficulty (default 8).
+ * --waves N: waves played per game (default 10).
+ * --threads N: games played at once (default: one per core).
+ * --seed N: seed of the first game; session i is seeded with N + i, so the
+ * same options always play the same games (default 0).
+ * --difficulty: which difficulties to play (default ALL).
+ *
+ * One CSV row is printed per session and wave, followed by the average of each
+ * wave over all sessions of a difficulty.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class BalanceRunner {
+
+    //  Default options.
+    private static final int DEFAULT_SESSIONS = 8;
+    private static final int DEFAULT_WAVES = 10;
+    private static final long DEFAULT_SEED = 0;
+    //  A wave that runs longer than this (in simulated seconds) ends the game,
+    //  so a bot stuck behind the scenery can't hold up the whole sweep.
+    private static final int MAX_WAVE_SECONDS = 600;
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+    private static final String CSV_HEADER = "difficulty,session,wave,sim_seconds,kills,avg_ttk_ms,"
+            + "peak_entities,damage_taken,money_earned,avg_tick_us,deaths";
+    /**
+     * Creating a game builds its (hidden) window and reads the settings file,
+     * neither of which is safe to do from several threads at once; games are
+     * therefore created one at a time, and only stepped in parallel.
+     */
+    private static final Object CREATE_LOCK = new Object();
+
+    public static void main(String[] args) {
+        int sessions = BalanceRunner.DEFAULT_SESSIONS;
+        int waves = BalanceRunner.DEFAULT_WAVES;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = BalanceRunner.DEFAULT_SEED;
+        DifficultyType[] difficulties = DifficultyType.values();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sessions":
+                    sessions = Integer.parseInt(args[++i]);
+                    break;
+                case "--waves":
+                    waves = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--difficulty":
+                    String difficulty = args[++i].toUpperCase();
+                    if (!difficulty.equals("ALL")) {
+                        difficulties = new DifficultyType[]{DifficultyType.valueOf(difficulty)};
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (sessions <= 0 || waves <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("--sessions, --waves and --threads must be positive!");
+        }
+        long start = System.nanoTime();
+        List<List<WaveStatistics>> results = BalanceRunner.runSweep(difficulties, sessions, waves, threads, seed);
+        System.out.println(BalanceRunner.CSV_HEADER);
+        for (int i = 0; i < results.size(); i++) {
+            for (WaveStatistics stats : results.get(i)) {
+                System.out.println(stats.toCsv());
+            }
+        }
+        System.out.println();
+        System.out.println(BalanceRunner.CSV_HEADER);
+        for (DifficultyType difficulty : difficulties) {
+            for (int wave = 1; wave <= waves; wave++) {
+                WaveStatistics average = BalanceRunner.average(results, difficulty, wave);
+                if (average != null) {
+                    System.out.println(average.toCsv());
+                }
+            }
+        }
+        System.out.printf("Played %d games in %.1fs.%n", results.size(), (System.nanoTime() - start) / 1e9);
+        System.exit(0);
+    }
+
+    /**
+     * Plays _sessions games at every difficulty in _difficulties, _threads at a
+     * time, and returns the per-wave statistics of each game in the order the
+     * games were submitted (difficulty first, then session), regardless of
+     * the order in which they finished.
+     *
+     * @param _difficulties
+     * @param _sessions
+     * @param _waves
+     * @param _threads
+     * @param _seed
+     * @return
+     */
+    public static List<List<WaveStatistics>> runSweep(DifficultyType[] _difficulties, int _sessions,
+            int _waves, int _threads, long _seed) {
+        ExecutorService executor = Executors.newFixedThreadPool(_threads);
+        List<Future<List<WaveStatistics>>> futures = new ArrayList<>();
+        for (DifficultyType difficulty : _difficulties) {
+            for (int session = 0; session < _sessions; session++) {
+                futures.add(executor.submit(new Session(difficulty, session, _seed + session, _waves)));
+            }
+        }
+        List<List<WaveStatistics>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(futures.get(i).get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the sweep to finish!", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("A balance session failed!", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Averages wave _wave over every session played at _difficulty, or returns
+     * null if no session got that far.
+     *
+     * @param _results
+     * @param _difficulty
+     * @param _wave
+     * @return
+     */
+    private static WaveStatistics average(List<List<WaveStatistics>> _results, DifficultyType _difficulty, int _wave) {
+        WaveStatistics average = new WaveStatistics(_difficulty, -1, _wave);
+        int count = 0;
+        for (int i = 0; i < _results.size(); i++) {
+            for (WaveStatistics stats : _results.get(i)) {
+                if (stats.difficulty == _difficulty && stats.wave == _wave) {
+                    average.add(stats);
+                    count++;
+                }
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        average.divide(count);
+        return average;
+    }
+
+    /**
+     * Creates a headless game at _difficulty and puts it straight into the
+     * first wave with a BalanceBot at the controls.
+     *
+     * @param _seed
+     * @param _difficulty
+     * @return
+     */
+    private static Game createGame(long _seed, DifficultyType _difficulty) {
+        Game game;
+        synchronized (BalanceRunner.CREATE_LOCK) {
+            game = new Game(BalanceRunner.WIDTH, BalanceRunner.HEIGHT, "Lock Out Protocol (balance)", true, _seed);
+        }
+        game.getHandler().addEntity(game.getPlayer());
+        game.setGameState(GameState.RUNNING);
+        game.getDifficultyController().setDifficultyType(_difficulty);
+        game.uponPlay();
+        game.getInputController().startReplay(new BalanceBot(game));
+        return game;
+    }
+
+    /**
+     * Plays one game on a worker thread and collects its per-wave statistics.
+     * Nothing inside the game knows it is being measured; everything is read
+     * from the outside between simulation steps.
+     */
+    private static class Session implements Callable<List<WaveStatistics>> {
+
+        private final DifficultyType difficulty;
+        private final int session;
+        private final long seed;
+        private final int waves;
+        //  The step each enemy was first seen on, and whether its death has
+        //  been counted yet ({step, counted}). Two maps are swapped every step
+        //  so enemies that leave the handler fall out on their own.
+        private IdentityHashMap<Enemy, long[]> tracked;
+        private IdentityHashMap<Enemy, long[]> swap;
+
+        public Session(DifficultyType _difficulty, int _session, long _seed, int _waves) {
+            this.difficulty = _difficulty;
+            this.session = _session;
+            this.seed = _seed;
+            this.waves = _waves;
+            this.tracked = new IdentityHashMap<>();
+            this.swap = new IdentityHashMap<>();
+        }
+
+        @Override
+        public List<WaveStatistics> call() {
+            Game game = BalanceRunner.createGame(this.seed, this.difficulty);
+            Player player = game.getPlayer();
+            double millisPerStep = game.getMillisPerStep();
+            long maxWaveSteps = (long) (BalanceRunner.MAX_WAVE_SECONDS * 1000 / millisPerStep);
+            List<WaveStatistics> results = new ArrayList<>();
+            int wave = game.getWaveNumber();
+            WaveStatistics current = new WaveStatistics(this.difficulty, this.session, wave);
+            double lastHealth = player.getHealth();
+            int lastMoney = player.getMoney();
+            int lastDeaths = player.getDeaths();
+            long step = 0;
+            while (true) {
+                long tickStart = System.nanoTime();
+                game.stepSimulation();
+                current.tickNanos += System.nanoTime() - tickStart;
+                current.steps++;
+                step++;
+                //  A death revives the player within the same step, so the
+                //  health they had left is counted as damage on its own.
+                if (player.getDeaths() != lastDeaths) {
+                    current.deaths += player.getDeaths() - lastDeaths;
+                    current.damageTaken += Math.max(lastHealth, 0);
+                    lastDeaths = player.getDeaths();
+                } else if (player.getHealth() < lastHealth) {
+                    current.damageTaken += lastHealth - player.getHealth();
+                }
+                lastHealth = player.getHealth();
+                if (player.getMoney() > lastMoney) {
+                    current.moneyEarned += player.getMoney() - lastMoney;
+                }
+                lastMoney = player.getMoney();
+                this.trackEnemies(game, current, step, millisPerStep);
+                if (game.getWaveNumber() != wave) {
+                    current.simSeconds = current.steps * millisPerStep / 1000;
+                    results.add(current);
+                    if (results.size() >= this.waves) {
+                        break;
+                    }
+                    wave = game.getWaveNumber();
+                    current = new WaveStatistics(this.difficulty, this.session, wave);
+                } else if (current.steps >= maxWaveSteps) {
+                    current.simSeconds = current.steps * millisPerStep / 1000;
+                    results.add(current);
+                    break;
+                }
+            }
+            return results;
+        }
+
+        /**
+         * Updates the peak entity count, and records the time-to-kill of
+         * every enemy that died during the last step.
+         *
+         * @param _game
+         * @param _current
+         * @param _step
+         * @param _millisPerStep
+         */
+        private void trackEnemies(Game _game, WaveStatistics _current, long _step, double _millisPerStep) {
+            ArrayList<StandardGameObject> entities = _game.getHandler().getEntities();
+            _current.peakEntities = Math.max(_current.peakEntities, entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                StandardGameObject obj = entities.get(i);
+                if (!(obj instanceof Enemy)) {
+                    continue;
+                }
+                Enemy enemy = (Enemy) obj;
+                long[] info = this.tracked.get(enemy);
+                if (info == null) {
+                    info = new long[]{_step, 0};
+                }
+                if (info[1] == 0 && !enemy.isAlive()) {
+                    info[1] = 1;
+                    _current.kills++;
+                    _current.timeToKillMillis += (_step - info[0]) * _millisPerStep;
+                }
+                this.swap.put(enemy, info);
+            }
+            IdentityHashMap<Enemy, long[]> tmp = this.tracked;
+            this.tracked = this.swap;
+            this.swap = tmp;
+            this.swap.clear();
+        }
+    }
+
+    /**
+     * Everything measured about one wave of one game. Averages reuse the same
+     * class, with the session set to -1.
+     */
+    private static class WaveStatistics {
+
+        private final DifficultyType difficulty;
+        private final int session;
+        private final int wave;
+        private double simSeconds;
+        private long steps;
+        private double kills;
+        private double timeToKillMillis;
+        private double peakEntities;
+        private double damageTaken;
+        private double moneyEarned;
+        private double tickNanos;
+        private double deaths;
+
+        public WaveStatistics(DifficultyType _difficulty, int _session, int _wave) {
+            this.difficulty = _difficulty;
+            this.session = _session;
+            this.wave = _wave;
+        }
+
+        /**
+         * Adds every measurement of _other to this one.
+         *
+         * @param _other
+         */
+        public void add(WaveStatistics _other) {
+            this.simSeconds += _other.simSeconds;
+            this.steps += _other.steps;
+            this.kills += _other.kills;
+            this.timeToKillMillis += _other.timeToKillMillis;
+            this.peakEntities += _other.peakEntities;
+            this.damageTaken += _other.damageTaken;
+            this.moneyEarned += _other.moneyEarned;
+            this.tickNanos += _other.tickNanos;
+            this.deaths += _other.deaths;
+        }
+
+        /**
+         * Divides every measurement by _n. Time-to-kill and tick cost are kept
+         * as totals and divided by kills and steps at print time, so they
+         * stay correctly weighted.
+         *
+         * @param _n
+         */
+        public void divide(int _n) {
+            this.simSeconds /= _n;
+            this.kills /= _n;
+            this.timeToKillMillis /= _n;
+            this.peakEntities /= _n;
+            this.damageTaken /= _n;
+            this.moneyEarned /= _n;
+            this.deaths /= _n;
+        }
+
+        public String toCsv() {
+            double avgTimeToKill = this.kills > 0 ? this.timeToKillMillis / this.kills : 0;
+            double avgTickMicros = this.steps > 0 ? this.tickNanos / this.steps / 1000 : 0;
+            return String.format("%s,%s,%d,%.1f,%.1f,%.0f,%.1f,%.1f,%.1f,%.1f,%.2f",
+                    this.difficulty, this.session < 0 ? "avg" : Integer.toString(this.session), this.wave,
+                    this.simSeconds, this.kills, avgTimeToKill, this.peakEntities, this.damageTaken,
+                    this.moneyEarned, avgTickMicros, this.deaths);
+        }
+    }
+
+}
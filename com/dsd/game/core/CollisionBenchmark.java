@@ -0,0 +1,148 @@
+package com.dsd.game.core;
+
+import com.dsd.game.controller.CollisionHandlerController;
+import com.revivedstandards.model.StandardGameObject;
+import com.revivedstandards.model.StandardID;
+import java.awt.Graphics2D;
+import java.util.Random;
+
+/**
+ * Measures how long the collision handler takes to tick with 100, 1,000 and
+ * 10,000 moving entities, once comparing every collider with every entity
+ * (what StandardCollisionHandler does on its own), once with the spatial hash
+ * broadphase on the game thread alone, and once with the broadphase and the
+ * narrowphase split across every core, and prints the ms per tick and number
+ * of pair tests of each. The first line gives the number of cores; with only
+ * one, the parallel run has nothing to split across.
+ *
+ * Usage: CollisionBenchmark [--sizes N,N,...] [--seed N]
+ *
+ * The entities are plain boxes that wander around a 4096 by 4096 area; they
+ * have no collision response, so only the cost of finding the pairs is
+ * measured. Like the HeadlessRunner, this needs a display (or Xvfb).
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class CollisionBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {100, 1000, 10000};
+    private static final int WORLD_SIZE = 4096;
+    private static final int MIN_ENTITY_SIZE = 32;
+    private static final int MAX_ENTITY_SIZE = 96;
+    private static final int WARMUP_TICKS = 20;
+    //  Roughly how many entity ticks to measure per run; small runs get more
+    //  ticks so their timings aren't lost in the noise.
+    private static final long ENTITY_TICKS_PER_RUN = 2_000_000L;
+
+    public static void main(String[] args) {
+        int[] sizes = CollisionBenchmark.DEFAULT_SIZES;
+        long seed = 0;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sizes":
+                    String[] parts = args[++i].split(",");
+                    sizes = new int[parts.length];
+                    for (int j = 0; j < parts.length; j++) {
+                        sizes[j] = Integer.parseInt(parts[j].trim());
+                    }
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        Game game = new Game(1280, 720, "Lock Out Protocol (collision benchmark)", true, seed);
+        CollisionHandlerController handler = game.getCollisionHandlerController();
+        handler.addCollider(StandardID.Block);
+        handler.getCollisionMatrix().setCollides(StandardID.Block, StandardID.Block);
+        System.out.println("# cores: " + Runtime.getRuntime().availableProcessors());
+        System.out.println("entities,brute_force_ms_per_tick,broadphase_ms_per_tick,parallel_ms_per_tick,"
+                + "brute_force_pair_tests,broadphase_pair_tests");
+        for (int size : sizes) {
+            long ticks = Math.max(10, CollisionBenchmark.ENTITY_TICKS_PER_RUN / size);
+            double[] bruteForce = CollisionBenchmark.measure(handler, size, ticks, seed, false, false);
+            double[] broadphase = CollisionBenchmark.measure(handler, size, ticks, seed, true, false);
+            double[] parallel = CollisionBenchmark.measure(handler, size, ticks, seed, true, true);
+            System.out.printf("%d,%.3f,%.3f,%.3f,%.0f,%.0f%n", size, bruteForce[0], broadphase[0], parallel[0],
+                    bruteForce[1], broadphase[1]);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Fills _handler with _size wandering boxes and ticks it _ticks times.
+     * Returns the average ms per tick and the average number of pair tests
+     * per tick.
+     *
+     * @param _handler
+     * @param _size
+     * @param _ticks
+     * @param _seed
+     * @param _broadphase
+     * @param _parallel
+     * @return
+     */
+    private static double[] measure(CollisionHandlerController _handler, int _size, long _ticks,
+            long _seed, boolean _broadphase, boolean _parallel) {
+        _handler.clearEntities();
+        _handler.setBroadphaseEnabled(_broadphase);
+        _handler.setParallelNarrowphaseEnabled(_parallel);
+        Random random = new Random(_seed);
+        for (int i = 0; i < _size; i++) {
+            _handler.addEntity(new WanderingBox(random));
+        }
+        for (int i = 0; i < CollisionBenchmark.WARMUP_TICKS; i++) {
+            _handler.tick();
+        }
+        long pairTests = 0;
+        long start = System.nanoTime();
+        for (long i = 0; i < _ticks; i++) {
+            _handler.tick();
+            pairTests += _handler.getPairTestCount();
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        _handler.clearEntities();
+        return new double[]{millis / _ticks, (double) pairTests / _ticks};
+    }
+
+    /**
+     * A box that drifts around the benchmark area, bouncing off its edges.
+     */
+    private static class WanderingBox extends StandardGameObject {
+
+        private static final double MAX_SPEED = 4;
+
+        public WanderingBox(Random _random) {
+            super(_random.nextInt(CollisionBenchmark.WORLD_SIZE), _random.nextInt(CollisionBenchmark.WORLD_SIZE),
+                    StandardID.Block);
+            int size = CollisionBenchmark.MIN_ENTITY_SIZE
+                    + _random.nextInt(CollisionBenchmark.MAX_ENTITY_SIZE - CollisionBenchmark.MIN_ENTITY_SIZE);
+            this.setWidth(size);
+            this.setHeight(size);
+            this.setVelX((_random.nextDouble() * 2 - 1) * WanderingBox.MAX_SPEED);
+            this.setVelY((_random.nextDouble() * 2 - 1) * WanderingBox.MAX_SPEED);
+        }
+
+        @Override
+        public void tick() {
+            if (this.getX() < 0 || this.getX() > CollisionBenchmark.WORLD_SIZE) {
+                this.setVelX(-this.getVelX());
+            }
+            if (this.getY() < 0 || this.getY() > CollisionBenchmark.WORLD_SIZE) {
+                this.setVelY(-this.getVelY());
+            }
+            this.updatePosition();
+        }
+
+        @Override
+        public void render(Graphics2D _g2) {
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+package com.dsd.game.core;
+
+/**
+ * Holds rendered frames to a steady frame rate. The engine renders as often as
+ * it can, so without pacing frames come out as soon as they are drawn and
+ * their spacing depends on whatever else the machine is doing. pace() is
+ * called at the start of every frame and waits out the rest of the previous
+ * frame's slot: it sleeps for most of the wait (which is cheap but coarse,
+ * since the OS may wake us a millisecond or more late) and spins for the last
+ * spinThreshold nanoseconds (which is expensive but precise).
+ *
+ * The pacer also keeps track of how much of each frame's slot was left over
+ * once the frame was drawn (the budget), how many frames missed their deadline
+ * entirely, and how much frame-to-frame spacing varies (the jitter), over the
+ * last STATISTICS_WINDOW frames.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class FramePacer {
+
+    //  Default frame rates for the CAPPED and POWER_SAVE modes.
+    public static final int DEFAULT_TARGET_FPS = 60;
+    public static final int DEFAULT_POWER_SAVE_FPS = 20;
+    //  How long before the deadline we stop sleeping and start spinning.
+    public static final long DEFAULT_SPIN_THRESHOLD_NANOS = 2_000_000L;
+    //  Number of recent frames the budget and jitter statistics cover.
+    private static final int STATISTICS_WINDOW = 120;
+    private PacingMode mode = PacingMode.CAPPED;
+    private int targetFps;
+    private int powerSaveFps;
+    private long spinThresholdNanos = FramePacer.DEFAULT_SPIN_THRESHOLD_NANOS;
+    //  When the next frame is due; 0 until the first frame is paced.
+    private long nextDeadline = 0;
+    private long lastFrameStart = 0;
+    //  Ring buffers of the most recent frame intervals and budgets (in ns).
+    private final long[] intervals;
+    private final long[] budgets;
+    private int sampleIndex = 0;
+    private int sampleCount = 0;
+    private long frames = 0;
+    private long missedDeadlines = 0;
+
+    public FramePacer() {
+        this.intervals = new long[FramePacer.STATISTICS_WINDOW];
+        this.budgets = new long[FramePacer.STATISTICS_WINDOW];
+        this.setTargetFps(FramePacer.DEFAULT_TARGET_FPS);
+        this.setPowerSaveFps(FramePacer.DEFAULT_POWER_SAVE_FPS);
+    }
+
+    /**
+     * Waits until the next frame is due, then returns. A frame that is
+     * already late counts as a missed deadline and starts right away; the
+     * schedule restarts from it instead of rushing the following frames to
+     * catch up.
+     *
+     * @param _idle true if nothing on screen is moving (the menus and overlays); a CAPPED
+     * pacer drops to the power-saving frame rate while idle.
+     */
+    public void pace(boolean _idle) {
+        PacingMode effectiveMode = this.mode;
+        if (_idle && effectiveMode == PacingMode.CAPPED) {
+            effectiveMode = PacingMode.POWER_SAVE;
+        }
+        long now = System.nanoTime();
+        long budget = 0;
+        if (effectiveMode != PacingMode.UNCAPPED) {
+            long period = 1_000_000_000L / (effectiveMode == PacingMode.POWER_SAVE ? this.powerSaveFps : this.targetFps);
+            if (this.nextDeadline == 0 || this.nextDeadline - now > period) {
+                //  First frame, or the frame rate just went up: start the schedule over.
+                this.nextDeadline = now;
+            }
+            budget = this.nextDeadline - now;
+            if (budget < 0) {
+                this.missedDeadlines++;
+                this.nextDeadline = now;
+            } else {
+                this.waitUntil(this.nextDeadline, effectiveMode == PacingMode.CAPPED);
+                now = System.nanoTime();
+            }
+            this.nextDeadline += period;
+        } else {
+            this.nextDeadline = 0;
+        }
+        this.record(now, budget);
+    }
+
+    /**
+     * Forgets every statistic gathered so far.
+     */
+    public void resetStatistics() {
+        this.sampleIndex = 0;
+        this.sampleCount = 0;
+        this.frames = 0;
+        this.missedDeadlines = 0;
+        this.lastFrameStart = 0;
+    }
+
+    /**
+     * Sleeps until shortly before _deadline and, if _spin is set, spins the
+     * rest of the way.
+     *
+     * @param _deadline
+     * @param _spin
+     */
+    private void waitUntil(long _deadline, boolean _spin) {
+        long sleepUntil = _spin ? _deadline - this.spinThresholdNanos : _deadline;
+        long remaining = sleepUntil - System.nanoTime();
+        while (remaining > 0) {
+            try {
+                Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            remaining = sleepUntil - System.nanoTime();
+        }
+        if (_spin) {
+            while (System.nanoTime() - _deadline < 0) {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Records the start time and leftover budget of the frame starting at
+     * _now.
+     *
+     * @param _now
+     * @param _budget
+     */
+    private void record(long _now, long _budget) {
+        if (this.lastFrameStart != 0) {
+            this.intervals[this.sampleIndex] = _now - this.lastFrameStart;
+            this.budgets[this.sampleIndex] = _budget;
+            this.sampleIndex = (this.sampleIndex + 1) % FramePacer.STATISTICS_WINDOW;
+            this.sampleCount = Math.min(this.sampleCount + 1, FramePacer.STATISTICS_WINDOW);
+        }
+        this.lastFrameStart = _now;
+        this.frames++;
+    }
+
+//============================== GETTERS =====================================
+    public PacingMode getMode() {
+        return this.mode;
+    }
+
+    public int getTargetFps() {
+        return this.targetFps;
+    }
+
+    public int getPowerSaveFps() {
+        return this.powerSaveFps;
+    }
+
+    public long getSpinThresholdNanos() {
+        return this.spinThresholdNanos;
+    }
+
+    public long getFrames() {
+        return this.frames;
+    }
+
+    public long getMissedDeadlines() {
+        return this.missedDeadlines;
+    }
+
+    /**
+     * Returns the average time (in ms) between recent frames.
+     *
+     * @return
+     */
+    public double getAverageFrameMillis() {
+        if (this.sampleCount == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < this.sampleCount; i++) {
+            total += this.intervals[i];
+        }
+        return total / (double) this.sampleCount / 1_000_000.0;
+    }
+
+    /**
+     * Returns the standard deviation (in ms) of the time between recent
+     * frames; 0 means perfectly even pacing.
+     *
+     * @return
+     */
+    public double getJitterMillis() {
+        if (this.sampleCount < 2) {
+            return 0;
+        }
+        double mean = this.getAverageFrameMillis() * 1_000_000.0;
+        double sumSquares = 0;
+        for (int i = 0; i < this.sampleCount; i++) {
+            double diff = this.intervals[i] - mean;
+            sumSquares += diff * diff;
+        }
+        return Math.sqrt(sumSquares / (this.sampleCount - 1)) / 1_000_000.0;
+    }
+
+    /**
+     * Returns the largest difference (in ms) between a recent frame interval
+     * and the average one.
+     *
+     * @return
+     */
+    public double getMaxJitterMillis() {
+        double mean = this.getAverageFrameMillis() * 1_000_000.0;
+        double max = 0;
+        for (int i = 0; i < this.sampleCount; i++) {
+            max = Math.max(max, Math.abs(this.intervals[i] - mean));
+        }
+        return max / 1_000_000.0;
+    }
+
+    /**
+     * Returns how much time (in ms) was left over in the most recent frame's
+     * slot once it was drawn, or a negative value if it ran over.
+     *
+     * @return
+     */
+    public double getBudgetMillis() {
+        if (this.sampleCount == 0) {
+            return 0;
+        }
+        int last = (this.sampleIndex + FramePacer.STATISTICS_WINDOW - 1) % FramePacer.STATISTICS_WINDOW;
+        return this.budgets[last] / 1_000_000.0;
+    }
+
+    /**
+     * Returns the smallest budget (in ms) over recent frames.
+     *
+     * @return
+     */
+    public double getMinBudgetMillis() {
+        if (this.sampleCount == 0) {
+            return 0;
+        }
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < this.sampleCount; i++) {
+            min = Math.min(min, this.budgets[i]);
+        }
+        return min / 1_000_000.0;
+    }
+
+//=============================== SETTERS =====================================
+    public void setMode(PacingMode _mode) {
+        this.mode = _mode;
+    }
+
+    public void setTargetFps(int _fps) {
+        if (_fps <= 0) {
+            throw new IllegalArgumentException("Target frame rate must be positive!");
+        }
+        this.targetFps = _fps;
+    }
+
+    public void setPowerSaveFps(int _fps) {
+        if (_fps <= 0) {
+            throw new IllegalArgumentException("Power-saving frame rate must be positive!");
+        }
+        this.powerSaveFps = _fps;
+    }
+
+    public void setSpinThresholdNanos(long _nanos) {
+        if (_nanos < 0) {
+            throw new IllegalArgumentException("Spin threshold cannot be negative!");
+        }
+        this.spinThresholdNanos = _nanos;
+    }
+
+}
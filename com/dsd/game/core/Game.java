@@ -5,15 +5,23 @@ import com.dsd.game.controller.CollisionHandlerController;
 import com.dsd.game.controller.CursorController;
 import com.dsd.game.controller.DebugController;
 import com.dsd.game.controller.DifficultyController;
+import com.dsd.game.controller.InputController;
+import com.dsd.game.controller.InputPlayer;
+import com.dsd.game.controller.InterpolationController;
 import com.dsd.game.controller.LanguageController;
 import com.dsd.game.controller.LevelController;
 import com.dsd.game.controller.RainController;
+import com.dsd.game.controller.RandomController;
+import com.dsd.game.controller.RenderController;
 import com.dsd.game.controller.SnowController;
+import com.dsd.game.controller.TickScheduler;
 import com.dsd.game.controller.TimerController;
 import com.dsd.game.database.TranslatorDatabase;
 import com.dsd.game.handlers.BloodParticleHandler;
 import com.dsd.game.levels.MetalLevel;
 import com.dsd.game.objects.Player;
+import com.dsd.game.render.DrawLayer;
+import com.dsd.game.render.FreezeFrame;
 import com.dsd.game.userinterface.HUDScreen;
 import com.dsd.game.userinterface.HelpScreen;
 import com.dsd.game.userinterface.MenuScreen;
@@ -21,7 +29,6 @@ import com.dsd.game.userinterface.PauseScreen;
 import com.dsd.game.userinterface.PreambleScreen;
 import com.dsd.game.userinterface.Screen;
 import com.dsd.game.userinterface.ShopScreen;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.handlers.StandardHandler;
 import com.revivedstandards.main.StandardCamera;
@@ -29,6 +36,7 @@ import com.revivedstandards.main.StandardDraw;
 import com.revivedstandards.main.StandardGame;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardLevel;
+import java.awt.Graphics2D;
 import javax.swing.JOptionPane;
 
 /**
@@ -48,8 +56,20 @@ import javax.swing.JOptionPane;
 public class Game extends StandardGame {
 
     // Miscellaneous reference variables.
-    private final StandardCollisionHandler sch;
+    private final TimerController timerController;
+    // Ticks the HUD, minimap, weather and cursor at their own (lower) rates.
+    private final TickScheduler tickScheduler;
+    // Seeded source of every random number the simulation uses.
+    private final RandomController randomController;
+    // Plays this game's sound; silent for headless games.
+    private final AudioBoxController audioBoxController;
+    // Samples, records and replays the player's input once per simulation step.
+    private final InputController inputController;
+    private final InterpolationController interpolationController;
+    private final CollisionHandlerController sch;
     private final StandardCamera sc;
+    // Per-game language selection; read by every translated UI element.
+    private final LanguageController languageController;
     // Database references.
     private final TranslatorDatabase translatorDatabase;
     // UI Element views.
@@ -68,22 +88,84 @@ public class Game extends StandardGame {
     private final LevelController levelController;
     private final CursorController cursorController;
     private final BloodParticleHandler bloodParticleHandler;
+    // Rasterizes the particle layers (blood, casings, weather) on a separate thread.
+    private final RenderController renderController;
+    // Snapshot of the world drawn underneath the pause, shop and help screens.
+    private final FreezeFrame freezeFrame;
+    // Spaces rendered frames evenly; see FramePacer.
+    private final FramePacer framePacer;
+    // Whether the player's guns resolve shots instantly as rays instead of spawning bullets.
+    private boolean hitscanEnabled = false;
     // Game state variable (paused, running, menu, etc.)
     private GameState gameState = GameState.MENU;
     // Main player reference so other monsters can track them
     private Player player;
+    // Fixed simulation rate. Whatever the rate, each step stands for 1/DEFAULT_SIMULATION_HZ
+    // seconds of game time (velocities are in pixels per step), so the rate sets the game's speed.
+    public static final int DEFAULT_SIMULATION_HZ = 60;
+    private static final double MILLIS_PER_STEP = 1000.0 / Game.DEFAULT_SIMULATION_HZ;
+    private int simulationHz;
+    private long nanosPerStep;
+    // Real time owed to the simulation, and the time it was last topped up.
+    private long accumulatorNanos = 0;
+    private long lastTickNanos = 0;
+    // Upper bound on steps run per engine tick, so a slow frame can't snowball into a slower one.
+    public static final int MAX_CATCH_UP_STEPS = 5;
+    // Total simulation time (in steps) dropped because the catch-up bound was hit.
+    private long droppedSteps = 0;
+    // Headless games have no menu, cursor, audio or visible window, and are stepped by hand.
+    private final boolean headless;
 
     public Game(int _width, int _height, String _title) {
+        this(_width, _height, _title, false);
+    }
+
+    public Game(int _width, int _height, String _title, boolean _headless) {
+        this(_width, _height, _title, _headless, System.nanoTime());
+    }
+
+    /**
+     * Creates the game. A headless game skips the menu screen, the cursor, the
+     * audio system and the render thread, never shows its window, and does not
+     * start the engine loop; whoever creates it is expected to drive it with
+     * stepSimulation().
+     *
+     * @param _width
+     * @param _height
+     * @param _title
+     * @param _headless
+     * @param _seed seed for the random streams; the same seed and the same
+     * input reproduce the same game.
+     */
+    public Game(int _width, int _height, String _title, boolean _headless, long _seed) {
         /**
          * Note: Magic numbers for the player and the monster are just for
          * demonstration; they will NOT be in the final game.
          */
         super(_width, _height, _title);
+        this.headless = _headless;
+        // Initialize the timer controller first; almost everything schedules on it.
+        this.timerController = new TimerController(this);
+        this.tickScheduler = new TickScheduler(this, Game.DEFAULT_SIMULATION_HZ);
+        this.randomController = new RandomController(_seed);
+        // The player's commands register themselves here, so it has to exist before the player.
+        this.inputController = new InputController(this);
+        this.interpolationController = new InterpolationController();
+        // Headless games render (if at all) only for benchmarking, so they never wait.
+        this.framePacer = new FramePacer();
+        this.freezeFrame = new FreezeFrame();
+        if (this.headless) {
+            this.framePacer.setMode(PacingMode.UNCAPPED);
+        }
+        this.setSimulationHz(Game.DEFAULT_SIMULATION_HZ);
+        // The settings file restores the language, so the controller has to exist first.
+        this.languageController = new LanguageController();
         // Initialize the database translator.
         this.translatorDatabase = new TranslatorDatabase(this);
         this.translatorDatabase.loadFromSettings();
         // Initialize the sound controller.
-        AudioBoxController.initialize(40);
+        this.audioBoxController = new AudioBoxController(!this.headless);
+        this.audioBoxController.initialize(40);
         // Create a new collision handler.
         this.sch = new CollisionHandlerController(this);
         // Instantiates player & adds it to the handler.
@@ -99,26 +181,89 @@ public class Game extends StandardGame {
         this.debugController = new DebugController(this, this.sch);
         this.difficultyController = new DifficultyController(this);
         this.levelController = new LevelController(this);
-        this.cursorController = new CursorController(this);
+        this.cursorController = this.headless ? null : new CursorController(this);
         this.bloodParticleHandler = new BloodParticleHandler(this);
         this.instantiateLevels();
         // Instantates all menu screen components.
-        this.menuScreen = new MenuScreen(this);
+        this.menuScreen = this.headless ? null : new MenuScreen(this);
         this.pauseScreen = new PauseScreen(this);
         this.preambleScreen = new PreambleScreen(this);
         this.shopScreen = new ShopScreen(this);
         this.helpScreen = new HelpScreen(this);
         this.hudScreen = new HUDScreen(this, this.player, this.sch);
+        // Everything that moves gets drawn between its last two simulated positions.
+        this.interpolationController.addHandler(this.sch);
+        this.interpolationController.addObject(this.sc);
+        // Particle-heavy layers are recorded each tick and rasterized off the game thread.
+        this.renderController = new RenderController(this);
+        this.renderController.addHandler(this.player.getCasingHandler(), DrawLayer.GROUND);
+        this.renderController.addHandler(this.bloodParticleHandler, DrawLayer.GROUND);
+        this.renderController.addHandler(this.player.getTracerHandler(), DrawLayer.WEATHER);
+        this.renderController.addHandler(this.rainController.getParticleHandler(), DrawLayer.WEATHER);
+        this.renderController.addHandler(this.snowController.getParticleHandler(), DrawLayer.WEATHER);
+        if (this.headless) {
+            return;
+        }
         this.getWindow().setWindowVisible(true);
         this.startGame();
     }
 
+    /**
+     * Called by the engine; tops up the accumulator with however much real time
+     * has passed and runs as many fixed-size simulation steps as it covers. At
+     * most MAX_CATCH_UP_STEPS are run per call; any time beyond that is thrown
+     * away rather than carried over, so an overloaded machine slows the game
+     * down instead of falling further and further behind.
+     */
     @Override
     public void tick() {
+        long now = System.nanoTime();
+        if (this.lastTickNanos == 0) {
+            this.lastTickNanos = now - this.nanosPerStep;
+        }
+        this.accumulatorNanos += now - this.lastTickNanos;
+        this.lastTickNanos = now;
+        int steps = 0;
+        while (this.accumulatorNanos >= this.nanosPerStep && steps < Game.MAX_CATCH_UP_STEPS) {
+            this.interpolationController.capture();
+            this.step();
+            this.accumulatorNanos -= this.nanosPerStep;
+            steps++;
+        }
+        // Hand the new state of the particle layers over to the render thread
+        // (unless there is no world on screen, or it's frozen under an overlay).
+        if (steps > 0 && !this.isMenu() && !this.isOverlayState()) {
+            this.renderController.record();
+        }
+        if (this.accumulatorNanos >= this.nanosPerStep) {
+            this.droppedSteps += this.accumulatorNanos / this.nanosPerStep;
+            this.accumulatorNanos %= this.nanosPerStep;
+        }
+    }
+
+    /**
+     * Runs a single fixed simulation step right now, regardless of how much
+     * real time has passed. Used to drive a headless game.
+     */
+    public void stepSimulation() {
+        this.interpolationController.capture();
+        this.step();
+    }
+
+    /**
+     * Advances the game by exactly one fixed simulation step.
+     */
+    private void step() {
+        // Input goes first so this step's commands run against this step's input.
+        this.inputController.step();
+        // Run any timers that have come due on the clocks active in this state.
+        this.timerController.tick(this.getMillisPerStep());
         // Depending on the game state, update different things.
         switch (this.gameState) {
             case MENU:
-                this.menuScreen.tick();
+                if (this.menuScreen != null) {
+                    this.menuScreen.tick();
+                }
                 break;
             case PAUSED:
                 this.pauseScreen.tick();
@@ -137,47 +282,51 @@ public class Game extends StandardGame {
                 this.levelController.tickLevel();
                 // Update the handler with the casings.
                 StandardHandler.Handler(this.player.getCasingHandler());
+                // And the hitscan tracers.
+                StandardHandler.Handler(this.player.getTracerHandler());
                 // Then update the blood handler.
                 StandardHandler.Handler(this.bloodParticleHandler);
                 // Then the objects within the handler.
                 StandardHandler.Handler(this.sch);
-                // Then the rain if applicable.
-                this.rainController.tick();
-                // Then the snow if applicable.
-                this.snowController.tick();
-                // Then the heads up display.
-                this.hudScreen.tick();
                 // And lastly the camera.
                 StandardHandler.Object(this.sc);
                 break;
             default:
                 throw new IllegalStateException("Invalid game tick state!");
         }
-        this.cursorController.tick();
+        // The weather, the HUD and the cursor tick at their own rates.
+        this.tickScheduler.tick();
     }
 
     @Override
     public void render() {
+        // Wait for this frame's slot; the menus and overlays are paced at the power-saving rate.
+        this.framePacer.pace(this.isMenu() || this.isOverlayState());
         // Depending on the game state, render different things.
         if (this.gameState == GameState.MENU) {
-            this.menuScreen.render(StandardDraw.Renderer);
+            if (this.menuScreen != null) {
+                this.menuScreen.render(StandardDraw.Renderer);
+            }
         } else {
-            //  First things first: render the camera.
-            StandardDraw.Object(this.sc);
-            //  Then render the current [active] level.
-            this.levelController.renderLevel(StandardDraw.Renderer);
-            // Then render the handler with the casings.
-            StandardDraw.Handler(this.player.getCasingHandler());
-            // Then render the handler with the blood.
-            StandardDraw.Handler(this.bloodParticleHandler);
-            //  Then render the handler objects.
-            StandardDraw.Handler(this.sch);
-            //  Then render the rain if applicable.
-            this.rainController.render(StandardDraw.Renderer);
-            //  Then render the snow if applicable.
-            this.snowController.render(StandardDraw.Renderer);
-            //  Then render the heads up display.
-            this.hudScreen.render(StandardDraw.Renderer);
+            //  Draw everything part-way between its last two simulated positions.
+            this.interpolationController.beginRender(this.getInterpolationAlpha());
+            if (this.isOverlayState()) {
+                //  Nothing in the world moves under an overlay, so draw the
+                //  snapshot taken on entering it instead of the whole world.
+                if (!this.freezeFrame.isReady()) {
+                    this.captureFreezeFrame();
+                }
+                StandardDraw.Object(this.sc);
+                this.freezeFrame.render(StandardDraw.Renderer);
+            } else {
+                this.freezeFrame.invalidate();
+                //  Pick up the particle layers most recently rasterized by the render thread.
+                this.renderController.beginFrame();
+                //  First things first: render the camera.
+                StandardDraw.Object(this.sc);
+                //  Then the world itself.
+                this.renderWorld();
+            }
             //  Then render the preamble, pause or shop effect if necessary.
             switch (this.gameState) {
                 case PREAMBLE:
@@ -199,27 +348,92 @@ public class Game extends StandardGame {
             if (DebugController.DEBUG_MODE) {
                 this.debugController.render(StandardDraw.Renderer);
             }
+            this.interpolationController.endRender();
         }
     }
 
+    /**
+     * Renders the level, the entities, the particle layers, the weather and
+     * the heads up display to StandardDraw.Renderer, which must already be in
+     * world coordinates.
+     */
+    private void renderWorld() {
+        //  Render the current [active] level.
+        this.levelController.renderLevel(StandardDraw.Renderer);
+        // Then render the casings and the blood.
+        this.renderController.render(StandardDraw.Renderer, DrawLayer.GROUND);
+        //  Then render the handler objects.
+        StandardDraw.Handler(this.sch);
+        //  Then render the rain and snow particles.
+        this.renderController.render(StandardDraw.Renderer, DrawLayer.WEATHER);
+        //  Then render the lightning if applicable.
+        this.rainController.render(StandardDraw.Renderer);
+        //  Then render the snow haze if applicable.
+        this.snowController.render(StandardDraw.Renderer);
+        //  Then render the heads up display.
+        this.hudScreen.render(StandardDraw.Renderer);
+    }
+
+    /**
+     * Renders the world as it currently stands (the camera's view of it) into
+     * the freeze frame instead of onto the screen.
+     */
+    private void captureFreezeFrame() {
+        Graphics2D screen = StandardDraw.Renderer;
+        StandardDraw.Renderer = this.freezeFrame.beginCapture(this.sc.getX() - this.sc.getVpw(),
+                this.sc.getY() - this.sc.getVph(), this.getGameWidth(), this.getGameHeight());
+        this.renderController.beginFrame();
+        this.renderWorld();
+        this.freezeFrame.endCapture(StandardDraw.Renderer);
+        StandardDraw.Renderer = screen;
+    }
+
     /**
      * Once the game turns to the PLAY state, this method is called. It will
      * instantiate the Spawner controllers, level controllers, etc.
      */
     public void uponPlay() {
-        DifficultyController.setDifficultyFactor();
-        DifficultyController.setLevelTransitionTimer();
+        this.difficultyController.setDifficultyFactor();
+        this.difficultyController.setLevelTransitionTimer();
         this.levelController.getCurrentLevel().loadLevelData();
         this.levelController.startWaveTimer();
         this.levelController.playMusic();
-        this.menuScreen.stopMenuMusic();
+        if (this.menuScreen != null) {
+            this.menuScreen.stopMenuMusic();
+        }
+        this.inputController.uponPlay();
+        if (!this.headless) {
+            this.renderController.start();
+        }
+    }
+
+    /**
+     * Skips the menus, puts the game in the state _replay was recorded in, and
+     * starts feeding the recorded input to it. The game must have been created
+     * with the replay's seed and window size for it to play out the same way.
+     *
+     * @param _replay
+     */
+    public void startReplay(InputPlayer _replay) {
+        if (_replay.getSeed() != this.randomController.getSeed()) {
+            throw new IllegalArgumentException("Replay was recorded with a different seed!");
+        }
+        this.setSimulationHz(_replay.getSimulationHz());
+        this.difficultyController.setDifficultyType(_replay.getDifficultyType());
+        if (_replay.getGameState() == GameState.PREAMBLE) {
+            this.setPreambleState();
+        } else {
+            this.setGameState(_replay.getGameState());
+        }
+        this.uponPlay();
+        this.inputController.startReplay(_replay);
     }
 
     /**
      * Plays the wave change sfx.
      */
     public void playWaveChangeSFX() {
-        StandardAudioController.play("src/resources/audio/sfx/round_change.wav", StandardAudioType.SFX);
+        this.getAudioBoxController().play("src/resources/audio/sfx/round_change.wav", StandardAudioType.SFX);
     }
 
     /**
@@ -235,9 +449,12 @@ public class Game extends StandardGame {
     public void changeResolution(int _width, int _height) {
         this.setGameWidth(_width);
         this.setGameHeight(_height);
-        Screen.setGameDimensions();
+        Screen.setGameDimensions(this);
         this.reinstantiateCamera();
-        this.menuScreen.loadMenuBackground();
+        this.freezeFrame.invalidate();
+        if (this.menuScreen != null) {
+            this.menuScreen.loadMenuBackground();
+        }
     }
 
     /**
@@ -251,14 +468,28 @@ public class Game extends StandardGame {
     public void resetGame() {
         this.sch.clearEntities();
         this.levelController.clearLevels();
-        this.menuScreen.playMenuMusic();
+        if (this.menuScreen != null) {
+            this.menuScreen.playMenuMusic();
+        }
         this.player.resetPlayer();
         this.bloodParticleHandler.clearEntities();
         this.player.getInventory().resetInventory();
         this.hudScreen.getPowerupTextHandler().clearLabels();
         this.instantiateLevels();
-        TimerController.stopTimers();
-        DifficultyController.resetDifficultyFactors();
+        this.timerController.stopTimers();
+        this.interpolationController.clear();
+        this.inputController.stop();
+        this.renderController.stop();
+        this.difficultyController.resetDifficultyFactors();
+    }
+
+    /**
+     * Stops the render thread along with the game loop.
+     */
+    @Override
+    public void stopGame() {
+        this.renderController.stop();
+        super.stopGame();
     }
 
     /**
@@ -268,7 +499,7 @@ public class Game extends StandardGame {
      */
     public boolean saveToDatabase() {
         if (!this.translatorDatabase.saveToDatabase()) {
-            JOptionPane.showMessageDialog(null, LanguageController.translate("Unable to save data."));
+            JOptionPane.showMessageDialog(null, this.languageController.translate("Unable to save data."));
             return false;
         }
         return true;
@@ -281,7 +512,7 @@ public class Game extends StandardGame {
      */
     public boolean loadFromDatabase() {
         if (!this.translatorDatabase.loadFromDatabase()) {
-            JOptionPane.showMessageDialog(null, LanguageController.translate("Unable to load data, did you log in?."));
+            JOptionPane.showMessageDialog(null, this.languageController.translate("Unable to load data, did you log in?."));
             return false;
         }
         return true;
@@ -293,7 +524,7 @@ public class Game extends StandardGame {
      */
     public void saveToSettings() {
         if (!this.translatorDatabase.saveToSettings()) {
-            JOptionPane.showMessageDialog(null, LanguageController.translate("Unable to save to the settings file."));
+            JOptionPane.showMessageDialog(null, this.languageController.translate("Unable to save to the settings file."));
         }
     }
 
@@ -303,7 +534,7 @@ public class Game extends StandardGame {
      */
     public void loadFromSettings() {
         if (!this.translatorDatabase.saveToSettings()) {
-            JOptionPane.showMessageDialog(null, LanguageController.translate("Unable to load from the settings file."));
+            JOptionPane.showMessageDialog(null, this.languageController.translate("Unable to load from the settings file."));
         }
     }
 
@@ -325,6 +556,60 @@ public class Game extends StandardGame {
     }
 
 //=================================== GETTERS ==================================
+    public TimerController getTimerController() {
+        return this.timerController;
+    }
+
+    public TickScheduler getTickScheduler() {
+        return this.tickScheduler;
+    }
+
+    public RenderController getRenderController() {
+        return this.renderController;
+    }
+
+    public InterpolationController getInterpolationController() {
+        return this.interpolationController;
+    }
+
+    public FramePacer getFramePacer() {
+        return this.framePacer;
+    }
+
+    public int getSimulationHz() {
+        return this.simulationHz;
+    }
+
+    /**
+     * Returns how much game time a simulation step stands for; the timers
+     * advance by this much per step. It does not depend on the simulation
+     * rate (see setSimulationHz()).
+     *
+     * @return
+     */
+    public double getMillisPerStep() {
+        return Game.MILLIS_PER_STEP;
+    }
+
+    public long getDroppedSteps() {
+        return this.droppedSteps;
+    }
+
+    /**
+     * Returns how far (from 0 to 1) real time has progressed between the last
+     * simulation step and the next one; used to interpolate positions when
+     * rendering.
+     *
+     * @return
+     */
+    public double getInterpolationAlpha() {
+        if (!this.isInGameState()) {
+            return 1.0;
+        }
+        long owed = this.accumulatorNanos + (System.nanoTime() - this.lastTickNanos);
+        return Math.min(1.0, (double) owed / this.nanosPerStep);
+    }
+
     public Player getPlayer() {
         return this.player;
     }
@@ -341,6 +626,10 @@ public class Game extends StandardGame {
         return this.sch;
     }
 
+    public CollisionHandlerController getCollisionHandlerController() {
+        return this.sch;
+    }
+
     public MenuScreen getMenuScreen() {
         return this.menuScreen;
     }
@@ -357,6 +646,26 @@ public class Game extends StandardGame {
         return this.difficultyController;
     }
 
+    public InputController getInputController() {
+        return this.inputController;
+    }
+
+    public RandomController getRandomController() {
+        return this.randomController;
+    }
+
+    public AudioBoxController getAudioBoxController() {
+        return this.audioBoxController;
+    }
+
+    public LanguageController getLanguageController() {
+        return this.languageController;
+    }
+
+    public TranslatorDatabase getTranslatorDatabase() {
+        return this.translatorDatabase;
+    }
+
     public BloodParticleHandler getBloodHandler() {
         return this.bloodParticleHandler;
     }
@@ -405,11 +714,61 @@ public class Game extends StandardGame {
         return this.gameState == GameState.HELP;
     }
 
+    /**
+     * Returns true if the game is showing an overlay (pause, shop or help
+     * screen) on top of a world that isn't being simulated.
+     *
+     * @return
+     */
+    public boolean isOverlayState() {
+        return this.isPaused() || this.isShop() || this.isHelp();
+    }
+
+    public boolean isHeadless() {
+        return this.headless;
+    }
+
+    public boolean isHitscanEnabled() {
+        return this.hitscanEnabled;
+    }
+
 //=============================== SETTERS =====================================
     public void setGameState(GameState _gs) {
         this.gameState = _gs;
     }
 
+    /**
+     * Changes how many simulation steps run per second of real time. Entities
+     * move a fixed number of pixels per step, and the timers advance a fixed
+     * getMillisPerStep() per step, so this is a speed knob rather than a
+     * precision one: at twice DEFAULT_SIMULATION_HZ, movement and timers alike
+     * run twice as fast. Replays store the rate and play back at it.
+     *
+     * Because of that, it is left to replays and the benchmarks in this
+     * package; letting players change it would first need every entity's
+     * movement scaled by getMillisPerStep().
+     *
+     * @param _hz
+     */
+    void setSimulationHz(int _hz) {
+        if (_hz <= 0) {
+            throw new IllegalArgumentException("Simulation rate must be positive!");
+        }
+        this.simulationHz = _hz;
+        this.nanosPerStep = 1_000_000_000L / _hz;
+        this.tickScheduler.setSimulationHz(_hz);
+    }
+
+    /**
+     * Switches the player's guns (other than the grenade launcher) between
+     * spawning bullets and resolving each shot instantly as a ray.
+     *
+     * @param _enabled
+     */
+    public void setHitscanEnabled(boolean _enabled) {
+        this.hitscanEnabled = _enabled;
+    }
+
     public void setPlayer(Player _player) {
         this.player = _player;
         this.player.setCamera(sc);
@@ -0,0 +1,205 @@
+package com.dsd.game.core;
+
+import com.dsd.game.controller.InputPlayer;
+import com.revivedstandards.main.StandardDraw;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * Runs the game loop without showing a window, playing audio, or going through
+ * the menus, and reports how many simulation ticks per second it manages. Used
+ * for load testing and measuring simulation throughput independent of the
+ * display.
+ *
+ * Usage: HeadlessRunner [--ticks N] [--hz N] [--seed N] [--replay FILE] [--render]
+ *
+ * --ticks N: number of ticks to run before exiting (default 36000).
+ * --hz N: target tick rate; 0 runs as fast as possible (default 0).
+ * --seed N: seed for the game's random streams (default 0), so runs with the
+ * same options simulate the same game.
+ * --replay FILE: play back an input recording (see InputRecorder) instead of
+ * running with no input. The game takes its seed, tick rate and window size
+ * from the recording, and the run stops when the recording ends unless
+ * --ticks ends it first.
+ * --render: also render every tick into an offscreen image.
+ *
+ * Note that the engine still creates (but never shows) its window, so a
+ * display (or a virtual one such as Xvfb) is still required.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class HeadlessRunner {
+
+    //  Default options.
+    private static final long DEFAULT_TICKS = 36000;
+    private static final int DEFAULT_HZ = 0;
+    private static final long DEFAULT_SEED = 0;
+    //  How often (in ns) progress is printed.
+    private static final long REPORT_INTERVAL = 1_000_000_000L;
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+
+    public static void main(String[] args) {
+        long ticks = HeadlessRunner.DEFAULT_TICKS;
+        boolean ticksSet = false;
+        int hz = HeadlessRunner.DEFAULT_HZ;
+        long seed = HeadlessRunner.DEFAULT_SEED;
+        boolean render = false;
+        String replayPath = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--ticks":
+                    ticks = Long.parseLong(args[++i]);
+                    ticksSet = true;
+                    break;
+                case "--hz":
+                    hz = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--replay":
+                    replayPath = args[++i];
+                    break;
+                case "--render":
+                    render = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        Game game;
+        if (replayPath != null) {
+            InputPlayer replay;
+            try {
+                replay = new InputPlayer(replayPath);
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("Could not open replay " + replayPath + "!", ex);
+            }
+            game = new Game(replay.getWidth(), replay.getHeight(), "Lock Out Protocol (headless)", true, replay.getSeed());
+            game.getHandler().addEntity(game.getPlayer());
+            game.startReplay(replay);
+            if (!ticksSet) {
+                ticks = Long.MAX_VALUE;
+            }
+        } else {
+            game = HeadlessRunner.createGame(seed);
+        }
+        HeadlessRunner.run(game, ticks, hz, render);
+        System.exit(0);
+    }
+
+    /**
+     * Creates a headless game and puts it straight into the first wave, the
+     * same way choosing a difficulty from the menu would.
+     *
+     * @param _seed seed for the game's random streams.
+     * @return
+     */
+    public static Game createGame(long _seed) {
+        Game game = new Game(HeadlessRunner.WIDTH, HeadlessRunner.HEIGHT, "Lock Out Protocol (headless)", true, _seed);
+        game.getHandler().addEntity(game.getPlayer());
+        game.setGameState(GameState.RUNNING);
+        game.getDifficultyController().setDifficultyType(DifficultyType.MEDIUM);
+        game.uponPlay();
+        return game;
+    }
+
+    /**
+     * Ticks _game _ticks times, at _hz ticks per second (or as fast as possible
+     * if _hz is 0), printing the tick rate once a second and a summary at the
+     * end. If _game is playing back a replay, the run also stops when the
+     * replay runs out.
+     *
+     * @param _game
+     * @param _ticks
+     * @param _hz
+     * @param _render
+     */
+    public static void run(Game _game, long _ticks, int _hz, boolean _render) {
+        BufferedImage frame = null;
+        Graphics2D g2 = null;
+        if (_render) {
+            frame = new BufferedImage(_game.getGameWidth(), _game.getGameHeight(), BufferedImage.TYPE_INT_RGB);
+            g2 = frame.createGraphics();
+        }
+        long nanosPerTick = _hz > 0 ? 1_000_000_000L / _hz : 0;
+        long start = System.nanoTime();
+        long nextTick = start;
+        long lastReport = start;
+        long ticksAtLastReport = 0;
+        boolean replaying = _game.getInputController().isReplaying();
+        long tick = 0;
+        while (tick < _ticks) {
+            if (replaying && !_game.getInputController().isReplaying()) {
+                break;
+            }
+            tick++;
+            _game.stepSimulation();
+            if (_render) {
+                HeadlessRunner.renderFrame(_game, frame, g2);
+            }
+            long now = System.nanoTime();
+            if (now - lastReport >= HeadlessRunner.REPORT_INTERVAL) {
+                System.out.printf("ticks/sec: %.1f (entities: %d, wave: %d)%n",
+                        (tick - ticksAtLastReport) * 1e9 / (now - lastReport),
+                        _game.getHandler().getEntities().size(), _game.getWaveNumber());
+                lastReport = now;
+                ticksAtLastReport = tick;
+            }
+            if (nanosPerTick > 0) {
+                nextTick += nanosPerTick;
+                HeadlessRunner.sleepUntil(nextTick);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Ran %d ticks in %.2fs: %.1f ticks/sec, %d player deaths.%n",
+                tick, seconds, tick / seconds, _game.getPlayer().getDeaths());
+        if (g2 != null) {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Renders the game into _frame the way the engine would render it to the
+     * window. StandardDraw.Renderer is shared by every game in the JVM, so it
+     * is put back as it was afterwards, as in Game.captureFreezeFrame().
+     *
+     * @param _game
+     * @param _frame
+     * @param _g2
+     */
+    private static void renderFrame(Game _game, BufferedImage _frame, Graphics2D _g2) {
+        _game.getRenderController().record();
+        _g2.clearRect(0, 0, _frame.getWidth(), _frame.getHeight());
+        Graphics2D frameGraphics = (Graphics2D) _g2.create();
+        Graphics2D screen = StandardDraw.Renderer;
+        StandardDraw.Renderer = frameGraphics;
+        _game.render();
+        StandardDraw.Renderer = screen;
+        frameGraphics.dispose();
+    }
+
+    /**
+     * Sleeps until System.nanoTime() reaches _deadline.
+     *
+     * @param _deadline
+     */
+    private static void sleepUntil(long _deadline) {
+        long remaining = _deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.dsd.game.core;
+
+/**
+ * Enum that lists the player inputs the InputController samples once per
+ * simulation step (and therefore the ones that can be recorded and replayed).
+ * Each action is one bit of a frame's button masks, so there can be at most
+ * eight of them.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum InputAction {
+
+    MOVE_FORWARD,
+    MOVE_BACKWARD,
+    ATTACK,
+    RELOAD,
+    INCREMENT_WEAPON,
+    DECREMENT_WEAPON,
+    PAUSE,
+    SHOP;
+
+//============================== GETTERS =====================================
+    public int getMask() {
+        return 1 << this.ordinal();
+    }
+
+}
@@ -37,42 +37,17 @@ public enum LanguageEnum {
 
     private final String language;
     private final String isoCode;
-    private static int languageIndex = 5;
 
     private static final LanguageEnum[] LANGUAGE_LIST = {
         AR, ZH, CS, DA, NL, EN, FI, FR, DE, EL, GA, IT, JA, PL, PT, RO, RU, ES, SV, UR, VI
     };
 
-    /**
-     * Increases the index pointer for the LANGUAGE_LIST array.
-     */
-    public static void increaseLanguage() {
-        if (languageIndex < LANGUAGE_LIST.length - 1) {
-            languageIndex++;
-        }
-        LanguageController.setLanguage(LANGUAGE_LIST[languageIndex].isoCode);
-    }
-
-    /**
-     * Decreases the index pointer for the LANGUAGE_LIST array.
-     */
-    public static void decreaseLanguage() {
-        if (languageIndex > 0) {
-            languageIndex--;
-        }
-        LanguageController.setLanguage(LANGUAGE_LIST[languageIndex].isoCode);
-    }
-
     private LanguageEnum(String _language, String _isoCode) {
         this.language = _language;
         this.isoCode = _isoCode;
     }
 
 //================================== GETTERS ==================================
-    public static int getLanguageIndex() {
-        return languageIndex;
-    }
-
     public String getLanguageString() {
         // Returns a string representation of the language.
         return this.language;
@@ -83,20 +58,13 @@ public enum LanguageEnum {
         return this.isoCode;
     }
 
-    public static String getLanguage() {
-        // Returns a string representation of the language in the array.
-        return LANGUAGE_LIST[languageIndex].language;
-    }
-
-    public static String getCode() {
-        // Returns the language code for the language pointed at by languageIndex in the array.
-        return LANGUAGE_LIST[languageIndex].isoCode;
+    public static LanguageEnum getLanguage(int _index) {
+        // Returns the language at _index in the array.
+        return LANGUAGE_LIST[_index];
     }
 
-// =============================== SETTERS ===================================
-    public static void setLanguageIndex(int _n) {
-        languageIndex = _n;
-        LanguageController.setLanguage(LANGUAGE_LIST[languageIndex].isoCode);
+    public static int getLanguageCount() {
+        return LANGUAGE_LIST.length;
     }
 
 }
@@ -1,5 +1,8 @@
 package com.dsd.game.core;
 
+import com.dsd.game.controller.InputPlayer;
+import java.io.IOException;
+
 /**
  * This is the main class for actually creating a Game object and running the
  * game.
@@ -17,8 +20,73 @@ package com.dsd.game.core;
  */
 public class LockOutProtocolRunner {
 
+    /**
+     * Usage: LockOutProtocolRunner [--record FILE | --replay FILE] [--fps N]
+     * [--uncapped] [--hitscan]
+     *
+     * --record FILE: record the player's input to FILE from the moment a
+     * difficulty is chosen, for playing back later with --replay here or in
+     * the HeadlessRunner.
+     * --replay FILE: skip the menus and play back FILE in the window.
+     * --fps N: frame rate to pace rendering to (default 60).
+     * --uncapped: render as fast as possible, for benchmarking.
+     * --hitscan: resolve gun shots instantly as rays instead of bullets.
+     *
+     * @param args
+     */
     public static void main(String[] args) {
-        Game game = new Game(1280, 720, "Lock Out Protocol");
+        String recordPath = null;
+        String replayPath = null;
+        int fps = FramePacer.DEFAULT_TARGET_FPS;
+        boolean uncapped = false;
+        boolean hitscan = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--record":
+                    recordPath = args[++i];
+                    break;
+                case "--replay":
+                    replayPath = args[++i];
+                    break;
+                case "--fps":
+                    fps = Integer.parseInt(args[++i]);
+                    break;
+                case "--uncapped":
+                    uncapped = true;
+                    break;
+                case "--hitscan":
+                    hitscan = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Usage: LockOutProtocolRunner [--record FILE | --replay FILE] "
+                            + "[--fps N] [--uncapped] [--hitscan]");
+            }
+        }
+        if (recordPath != null && replayPath != null) {
+            throw new IllegalArgumentException("Cannot record and replay at the same time!");
+        }
+        Game game;
+        InputPlayer replay = null;
+        if (replayPath != null) {
+            try {
+                replay = new InputPlayer(replayPath);
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("Could not open replay " + replayPath + "!", ex);
+            }
+            game = new Game(replay.getWidth(), replay.getHeight(), "Lock Out Protocol", false, replay.getSeed());
+        } else {
+            game = new Game(1280, 720, "Lock Out Protocol");
+        }
+        game.getFramePacer().setTargetFps(fps);
+        if (uncapped) {
+            game.getFramePacer().setMode(PacingMode.UNCAPPED);
+        }
+        game.setHitscanEnabled(hitscan);
+        if (replay != null) {
+            game.startReplay(replay);
+        } else if (recordPath != null) {
+            game.getInputController().recordOnPlay(recordPath);
+        }
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.dsd.game.core;
+
+/**
+ * Enum that lists the ways the FramePacer can pace rendered frames.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum PacingMode {
+
+    //  Holds every frame to the target frame rate, sleeping for most of the
+    //  wait and spinning for the last part of it so frames start on time.
+    CAPPED,
+    //  Renders as fast as possible; used for benchmarks.
+    UNCAPPED,
+    //  Holds frames to the (much lower) power-saving frame rate and only ever
+    //  sleeps, trading precision for an idle CPU. Used for the menus.
+    POWER_SAVE;
+
+}
@@ -0,0 +1,27 @@
+package com.dsd.game.core;
+
+/**
+ * Enum that lists the independent random number streams a game draws from.
+ * Each subsystem has its own stream, so extra draws in one (say, a heavier
+ * rain storm) never shift the numbers another one sees.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum RandomStream {
+
+    //  Where spawners and levels place enemies, and per-enemy variation.
+    SPAWNING,
+    //  Blood, casings, coin scatter and other particle effects.
+    PARTICLES,
+    //  Coin values, coin counts and powerup drops.
+    LOOT,
+    //  Rain, snow and lightning.
+    WEATHER,
+    //  Which sound effect variant gets played.
+    AUDIO;
+
+}
@@ -0,0 +1,43 @@
+package com.dsd.game.core;
+
+import java.util.EnumSet;
+
+/**
+ * Enum that lists the simulation clocks a scheduled timer can run on. Each
+ * clock only advances while the game is in one of its active states, so a
+ * timer on the WAVE clock is naturally frozen while the game is paused, in the
+ * shop, or showing the preamble.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum TimerClock {
+
+    //  Advances only while a wave is actively being played.
+    WAVE(EnumSet.of(GameState.RUNNING)),
+    //  Advances whenever the level is being simulated (including the preamble).
+    LEVEL(EnumSet.of(GameState.RUNNING, GameState.PREAMBLE)),
+    //  Advances regardless of what state the game is in.
+    GLOBAL(EnumSet.allOf(GameState.class));
+
+    private final EnumSet<GameState> activeStates;
+
+    private TimerClock(EnumSet<GameState> _activeStates) {
+        this.activeStates = _activeStates;
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns true if this clock should advance while the game is in _state.
+     *
+     * @param _state
+     * @return
+     */
+    public boolean isActive(GameState _state) {
+        return this.activeStates.contains(_state);
+    }
+
+}
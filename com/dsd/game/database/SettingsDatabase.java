@@ -1,7 +1,6 @@
 package com.dsd.game.database;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.core.LanguageEnum;
 import com.dsd.game.objects.ResolutionEnum;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
@@ -34,7 +33,7 @@ public class SettingsDatabase implements Database {
         try {
             this.writer = new BufferedWriter(new FileWriter("settings.cfg"));
             this.writer.append("res=" + ResolutionEnum.getResolutionIndex()).append("\n");
-            this.writer.append("lang=" + LanguageEnum.getLanguageIndex());
+            this.writer.append("lang=" + this.game.getLanguageController().getLanguageIndex());
             this.writer.close();
         } catch (IOException ex) {
             Logger.getLogger(SettingsDatabase.class.getName()).log(Level.SEVERE, null, ex);
@@ -54,7 +53,7 @@ public class SettingsDatabase implements Database {
             this.game.setGameHeight(ResolutionEnum.getDimension().height);
             // Parse the language line.
             line = this.reader.readLine();
-            LanguageEnum.setLanguageIndex(Integer.parseInt(line.substring(line.indexOf("=") + 1)));
+            this.game.getLanguageController().setLanguageIndex(Integer.parseInt(line.substring(line.indexOf("=") + 1)));
             this.reader.close();
         } catch (IOException ex) {
             Logger.getLogger(SettingsDatabase.class.getName()).log(Level.SEVERE, null, ex);
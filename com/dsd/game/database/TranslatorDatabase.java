@@ -25,12 +25,12 @@ import com.dsd.game.core.Game;
 public class TranslatorDatabase {
 
     // Miscellaneous reference variables.
-    private static RemoteDatabase remoteDatabase;
-    private static SettingsDatabase settingsDatabase;
+    private final RemoteDatabase remoteDatabase;
+    private final SettingsDatabase settingsDatabase;
 
     public TranslatorDatabase(Game _game) {
-        TranslatorDatabase.remoteDatabase = new PersistentDatabase(_game);
-        TranslatorDatabase.settingsDatabase = new SettingsDatabase(_game);
+        this.remoteDatabase = new PersistentDatabase(_game);
+        this.settingsDatabase = new SettingsDatabase(_game);
     }
 
     /**
@@ -40,7 +40,7 @@ public class TranslatorDatabase {
      * @return true if the save to the database was successful, false otherwise.
      */
     public boolean saveToDatabase() {
-        return TranslatorDatabase.remoteDatabase.save();
+        return this.remoteDatabase.save();
     }
 
     /**
@@ -51,7 +51,7 @@ public class TranslatorDatabase {
      * otherwise.
      */
     public boolean loadFromDatabase() {
-        return TranslatorDatabase.remoteDatabase.load();
+        return this.remoteDatabase.load();
     }
 
     /**
@@ -61,7 +61,7 @@ public class TranslatorDatabase {
      * @return true if successful save, false otherwise.
      */
     public boolean saveToSettings() {
-        return settingsDatabase.save();
+        return this.settingsDatabase.save();
     }
 
     /**
@@ -71,7 +71,7 @@ public class TranslatorDatabase {
      * @return true if successful load, false otherwise.
      */
     public boolean loadFromSettings() {
-        return settingsDatabase.load();
+        return this.settingsDatabase.load();
     }
 
     /**
@@ -84,9 +84,9 @@ public class TranslatorDatabase {
      * @param _password
      * @return true or false
      */
-    public static AccountStatus authenticateUser(String _email, String _password) {
-        if (remoteDatabase.connect("users")) {
-            return remoteDatabase.userAuthenticated(_email, _password);
+    public AccountStatus authenticateUser(String _email, String _password) {
+        if (this.remoteDatabase.connect("users")) {
+            return this.remoteDatabase.userAuthenticated(_email, _password);
         }
         throw new IllegalStateException("Could not connect to db!");
     }
@@ -99,9 +99,9 @@ public class TranslatorDatabase {
      * @param _password
      * @return true or false
      */
-    public static AccountStatus addUser(String _email, String _password) {
-        if (remoteDatabase.connect("users")) {
-            return remoteDatabase.addUser(_email, _password);
+    public AccountStatus addUser(String _email, String _password) {
+        if (this.remoteDatabase.connect("users")) {
+            return this.remoteDatabase.addUser(_email, _password);
         }
         throw new IllegalStateException("Could not connect to db!");
     }
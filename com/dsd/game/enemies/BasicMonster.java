@@ -1,15 +1,15 @@
 package com.dsd.game.enemies;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.enemies.enums.EnemyType;
 import com.dsd.game.objects.items.Coin;
 import com.dsd.game.objects.powerups.HealthPowerup;
 import com.dsd.game.util.Utilities;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.DeathListener;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
@@ -39,14 +39,13 @@ public class BasicMonster extends Enemy implements DeathListener {
     private final double DAMAGE = 0.20;
     //  AlphaComposite factor for when the BasicMonster dies.
     private static final float DEATH_ALPHA_FACTOR = 0.001f;
-    //  Health factor for this BasicMonster object.
-    public static int originalHealth = 100;
 
     public BasicMonster(int _x, int _y, Game _game, StandardCollisionHandler _sch) {
-        super(_x, _y, APPROACH_VEL, BasicMonster.originalHealth, StandardID.BasicMonster, _game, _sch);
+        super(_x, _y, APPROACH_VEL, _game.getDifficultyController().getBaseHealth(EnemyType.BASIC_MONSTER), StandardID.BasicMonster, _game, _sch);
         super.setTarget(_game.getPlayer());
         //  Randomly generates the walking frames per second for variability
-        this.walkingFPS = StdOps.rand(this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
+        this.walkingFPS = _game.getRandomController().rand(RandomStream.SPAWNING,
+                this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
         //  Sets the walking/death frames for this monster
         super.initWalkingFrames(BasicMonster.WALK_FRAMES, this.walkingFPS);
         super.initAttackingFrames(BasicMonster.ATTACK_FRAMES, BasicMonster.ATTACK_FPS);
@@ -77,8 +76,8 @@ public class BasicMonster extends Enemy implements DeathListener {
     @Override
     public void uponDeath() {
         super.uponDeath();
-        this.generateCoins(StdOps.rand(0, 5));
-        this.generateDeathSound(StdOps.rand(1, 2));
+        this.generateCoins(this.getGame().getRandomController().rand(RandomStream.LOOT, 0, 5));
+        this.generateDeathSound(this.getGame().getRandomController().rand(RandomStream.AUDIO, 1, 2));
         this.generatePowerup();
     }
 
@@ -89,7 +88,7 @@ public class BasicMonster extends Enemy implements DeathListener {
      */
     @Override
     public void generateHurtSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/basic_monster/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/basic_monster/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -98,7 +97,7 @@ public class BasicMonster extends Enemy implements DeathListener {
      * @param sfx either 1 or 2
      */
     private void generateDeathSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -119,7 +118,7 @@ public class BasicMonster extends Enemy implements DeathListener {
      * Generates a random powerup based on RNG (will definitely change).
      */
     private void generatePowerup() {
-        int luck = StdOps.rand(1, 5);
+        int luck = this.getGame().getRandomController().rand(RandomStream.LOOT, 1, 5);
         if (luck == 1) {
             this.getHandler().addEntity(new HealthPowerup((int) (this.getX() + this.getWidth() / 2),
                     (int) (this.getY() + this.getHealth() / 2),
@@ -1,15 +1,16 @@
 package com.dsd.game.enemies;
 
+import com.dsd.game.controller.RandomController;
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.enemies.enums.EnemyType;
 import com.dsd.game.objects.items.Coin;
 import com.dsd.game.objects.powerups.HealthPowerup;
 import com.dsd.game.util.Utilities;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.DeathListener;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
@@ -38,18 +39,17 @@ public class DarkFemaleMonster extends Enemy implements DeathListener {
     private final double DAMAGE = 1.0;
     //  AlphaComposite factor for when the DarkFemaleMonster dies
     private static final float DEATH_ALPHA_FACTOR = 0.001f;
-    //  Health factor for this DarkFemaleMonster object.
-    public static int originalHealth = 250;
     //  Blood color RGB limits (for generating a random color. For this monster, we generate a random purple color).
     private static final int RED_BOUND = 120;
     private static final int BLUE_BOUND = 161;
 
     public DarkFemaleMonster(int _x, int _y, Game _game, StandardCollisionHandler _sch) {
-        super(_x, _y, DarkFemaleMonster.APPROACH_VEL, DarkFemaleMonster.originalHealth,
+        super(_x, _y, DarkFemaleMonster.APPROACH_VEL, _game.getDifficultyController().getBaseHealth(EnemyType.DARK_FEMALE_MONSTER),
                 StandardID.Monster3, _game, _sch);
         super.setTarget(_game.getPlayer());
         //  Randomly generates the walking frames per second for variability
-        this.walkingFPS = StdOps.rand(this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
+        this.walkingFPS = _game.getRandomController().rand(RandomStream.SPAWNING,
+                this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
         //  Sets the walking/death frames for this monster
         super.initWalkingFrames(DarkFemaleMonster.WALK_FRAMES, this.walkingFPS);
         super.initDeathFrames(DarkFemaleMonster.DEATH_FRAMES, DarkFemaleMonster.DEATH_FPS, 5);
@@ -89,8 +89,8 @@ public class DarkFemaleMonster extends Enemy implements DeathListener {
     @Override
     public void uponDeath() {
         super.uponDeath();
-        this.generateCoins(StdOps.rand(0, 5));
-        this.generateDeathSound(StdOps.rand(1, 2));
+        this.generateCoins(this.getGame().getRandomController().rand(RandomStream.LOOT, 0, 5));
+        this.generateDeathSound(this.getGame().getRandomController().rand(RandomStream.AUDIO, 1, 2));
         this.generatePowerup();
     }
 
@@ -101,7 +101,7 @@ public class DarkFemaleMonster extends Enemy implements DeathListener {
      */
     @Override
     public void generateHurtSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/zombies/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/zombies/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -111,8 +111,9 @@ public class DarkFemaleMonster extends Enemy implements DeathListener {
      * @return new Color object.
      */
     private Color generateRandomBloodColor() {
-        return new Color(StdOps.rand(DarkFemaleMonster.RED_BOUND, DarkFemaleMonster.BLUE_BOUND), 0,
-                StdOps.rand(DarkFemaleMonster.BLUE_BOUND, 0xFF));
+        RandomController random = this.getGame().getRandomController();
+        return new Color(random.rand(RandomStream.PARTICLES, DarkFemaleMonster.RED_BOUND, DarkFemaleMonster.BLUE_BOUND),
+                0, random.rand(RandomStream.PARTICLES, DarkFemaleMonster.BLUE_BOUND, 0xFF));
     }
 
     /**
@@ -121,7 +122,7 @@ public class DarkFemaleMonster extends Enemy implements DeathListener {
      * @param sfx either 1 or 2
      */
     private void generateDeathSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -142,7 +143,7 @@ public class DarkFemaleMonster extends Enemy implements DeathListener {
      * Generates a random powerup based on RNG (will definitely change).
      */
     private void generatePowerup() {
-        int luck = StdOps.rand(1, 10);
+        int luck = this.getGame().getRandomController().rand(RandomStream.LOOT, 1, 10);
         if (luck == 1) {
             this.getHandler().addEntity(new HealthPowerup((int) (this.getX() + this.getWidth() / 2),
                     (int) (this.getY() + this.getHealth() / 2),
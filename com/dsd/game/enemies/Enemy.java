@@ -1,10 +1,14 @@
 package com.dsd.game.enemies;
 
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.controller.CollisionHandlerController;
+import com.dsd.game.controller.RandomController;
 import com.dsd.game.handlers.BloodParticleHandler;
 import com.dsd.game.core.Game;
 import com.dsd.game.enemies.enums.EnemyState;
 import com.dsd.game.objects.Entity;
 import com.dsd.game.particles.BloodType;
+import com.dsd.game.render.ZLayer;
 import com.revivedstandards.controller.StandardAnimatorController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.handlers.StandardHandler;
@@ -14,16 +18,12 @@ import com.revivedstandards.main.StandardDraw;
 import com.revivedstandards.model.DeathListener;
 import com.revivedstandards.model.StandardAnimation;
 import com.revivedstandards.model.StandardBoxParticle;
-import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import com.revivedstandards.view.ShapeType;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.Collections;
 import org.apache.commons.math3.util.FastMath;
 
 /**
@@ -204,15 +204,20 @@ public abstract class Enemy extends Entity implements DeathListener {
         }
         this.explosionHandler = new StandardParticleHandler(50);
         this.explosionHandler.setCamera(this.getCamera());
+        RandomController random = this.getGame().getRandomController();
         for (int i = 0; i < this.explosionHandler.getMaxParticles(); i++) {
             double centerX = this.getX() + this.getWidth() / 2;
             double centerY = this.getY() + this.getHeight() / 2;
             this.explosionHandler.addEntity(new StandardBoxParticle(centerX, centerY,
-                    StdOps.rand(1.0, 5.0), StdOps.randBounds(-10.0, -3.0, 3.0, 10.0),
-                    StdOps.randBounds(-10.0, -3.0, 3.0, 10.0), this.bloodColor, 3f, this.explosionHandler,
-                    this.getAngle(), ShapeType.CIRCLE, false));
+                    random.rand(RandomStream.PARTICLES, 1.0, 5.0),
+                    random.randBounds(RandomStream.PARTICLES, -10.0, -3.0, 3.0, 10.0),
+                    random.randBounds(RandomStream.PARTICLES, -10.0, -3.0, 3.0, 10.0),
+                    this.bloodColor, 3f, this.explosionHandler, this.getAngle(), ShapeType.CIRCLE, false));
+        }
+        //  Corpses are drawn under the live monsters.
+        if (this.getHandler() instanceof CollisionHandlerController) {
+            ((CollisionHandlerController) this.getHandler()).setLayer(this, ZLayer.CORPSES);
         }
-        this.moveEntityToFront();
     };
 
     /**
@@ -281,15 +286,6 @@ public abstract class Enemy extends Entity implements DeathListener {
         this.deathController = new StandardAnimatorController(new StandardAnimation(this, _frames, _fps, _haltFrame));
     }
 
-    /**
-     * Moves the current entity to the front of the handler. Actually performs a
-     * swap.
-     */
-    protected void moveEntityToFront() {
-        ArrayList<StandardGameObject> entities = this.getHandler().getEntities();
-        Collections.swap(entities, 0, entities.indexOf(this));
-    }
-
     /**
      * Applies the composition factor to the actual transparency.
      */
@@ -1,20 +1,20 @@
 package com.dsd.game.enemies;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.enemies.enums.EnemyType;
+import com.dsd.game.core.TimerClock;
+import com.dsd.game.controller.TimerHandle;
 import com.dsd.game.objects.items.Coin;
 import com.dsd.game.objects.powerups.HealthPowerup;
 import com.dsd.game.objects.weapons.projectiles.BossProjectileObject;
 import com.dsd.game.util.Utilities;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.DeathListener;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Boss monster entity; follows the player around and (eventually) drains their
@@ -29,7 +29,7 @@ import java.util.TimerTask;
 public class FemaleMonsterBoss extends Enemy implements DeathListener {
 
     //  Timer for spawning in projectiles.
-    private final Timer bossProjectileTimer;
+    private final TimerHandle bossProjectileTimer;
     //  Static bufferedimage array so the images aren't constantly loading in upon instantiation of a new monster.
     private static final BufferedImage[] WALK_FRAMES;
     private static final BufferedImage[] DEATH_FRAMES;
@@ -50,15 +50,14 @@ public class FemaleMonsterBoss extends Enemy implements DeathListener {
     private int bulletDamage = 25;
     //  AlphaComposite factor for when the FemaleMonsterBoss dies.
     private static final float DEATH_ALPHA_FACTOR = 0.001f;
-    //  Health factor for this FemaleMonsterBoss object.
-    public static int originalHealth = 500;
 
     public FemaleMonsterBoss(int _x, int _y, Game _game, StandardCollisionHandler _sch) {
-        super(_x, _y, FemaleMonsterBoss.APPROACH_VEL, FemaleMonsterBoss.originalHealth,
+        super(_x, _y, FemaleMonsterBoss.APPROACH_VEL, _game.getDifficultyController().getBaseHealth(EnemyType.FEMALE_BOSS_MONSTER),
                 StandardID.Monster4, _game, _sch);
         super.setTarget(_game.getPlayer());
         //  Randomly generates the walking frames per second for variability
-        this.walkingFPS = StdOps.rand(this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
+        this.walkingFPS = _game.getRandomController().rand(RandomStream.SPAWNING,
+                this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
         //  Sets the walking/death frames for this monster.
         super.initWalkingFrames(FemaleMonsterBoss.WALK_FRAMES, this.walkingFPS);
         super.initDeathFrames(FemaleMonsterBoss.DEATH_FRAMES, FemaleMonsterBoss.DEATH_FPS,
@@ -71,8 +70,9 @@ public class FemaleMonsterBoss extends Enemy implements DeathListener {
         super.getHandler().addCollider(this.getId());
         super.getHandler().flagAlive(this.getId());
         super.setTransparentFactor((float) DEATH_ALPHA_FACTOR);
-        this.bossProjectileTimer = new Timer(true);
-        this.bossProjectileTimer.scheduleAtFixedRate(new BossProjectileSpawner(this), 2000, 2000);
+        //  On the WAVE clock, so the boss holds fire during the preamble.
+        this.bossProjectileTimer = _game.getTimerController().scheduleAtFixedRate(
+                new BossProjectileSpawner(this), TimerClock.WAVE, 2000, 2000);
     }
 
     /**
@@ -100,8 +100,9 @@ public class FemaleMonsterBoss extends Enemy implements DeathListener {
     @Override
     public void uponDeath() {
         super.uponDeath();
-        this.generateCoins(StdOps.rand(0, 5));
-        this.generateDeathSound(StdOps.rand(1, 2));
+        this.bossProjectileTimer.cancel();
+        this.generateCoins(this.getGame().getRandomController().rand(RandomStream.LOOT, 0, 5));
+        this.generateDeathSound(this.getGame().getRandomController().rand(RandomStream.AUDIO, 1, 2));
         this.generatePowerup();
     }
 
@@ -112,7 +113,7 @@ public class FemaleMonsterBoss extends Enemy implements DeathListener {
      */
     @Override
     public void generateHurtSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/zombies/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/zombies/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -121,7 +122,7 @@ public class FemaleMonsterBoss extends Enemy implements DeathListener {
      * @param sfx either 1 or 2
      */
     private void generateDeathSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -142,7 +143,7 @@ public class FemaleMonsterBoss extends Enemy implements DeathListener {
      * Generates a random powerup based on RNG (will definitely change).
      */
     private void generatePowerup() {
-        int luck = StdOps.rand(1, 10);
+        int luck = this.getGame().getRandomController().rand(RandomStream.LOOT, 1, 10);
         if (luck == 1) {
             this.getHandler().addEntity(new HealthPowerup((int) (this.getX() + this.getWidth() / 2),
                     (int) (this.getY() + this.getHealth() / 2),
@@ -158,13 +159,13 @@ public class FemaleMonsterBoss extends Enemy implements DeathListener {
         int[] velX = {0, 4, 4, 4, 0, -4, -4, -4};
         int[] velY = {-4, -4, 0, 4, 4, 4, 0, -4};
         for (int i = 0; i < velX.length; i++) {
-            this.getHandler().addEntity(new BossProjectileObject((int) this.getX() + this.getWidth() / 2,
+            this.getGame().getCollisionHandlerController().queueAddEntity(new BossProjectileObject((int) this.getX() + this.getWidth() / 2,
                     (int) this.getY() + this.getHeight() / 2, velX[i], velY[i], this.bulletDamage, this.getGame(),
                     this.getHandler(), this));
         }
     }
 
-    private class BossProjectileSpawner extends TimerTask {
+    private class BossProjectileSpawner implements Runnable {
         private final FemaleMonsterBoss boss;
 
         public BossProjectileSpawner(FemaleMonsterBoss _boss) {
@@ -1,17 +1,17 @@
 package com.dsd.game.enemies;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.enemies.enums.EnemyType;
 import com.dsd.game.objects.items.Coin;
 import com.dsd.game.objects.powerups.BerserkPowerup;
 import com.dsd.game.objects.powerups.HealthPowerup;
 import com.dsd.game.objects.powerups.InfiniteAmmoPowerup;
 import com.dsd.game.util.Utilities;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.DeathListener;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
@@ -40,14 +40,13 @@ public class GreenMonster extends Enemy implements DeathListener {
     private final double DAMAGE = 0.50;
     //  AlphaComposite factor for when the GreenMonster dies
     private static final float DEATH_ALPHA_FACTOR = 0.001f;
-    //  Health factor for this GreenMonster object.
-    public static int originalHealth = 200;
 
     public GreenMonster(int _x, int _y, Game _game, StandardCollisionHandler _sch) {
-        super(_x, _y, GreenMonster.APPROACH_VEL, GreenMonster.originalHealth, StandardID.Monster2, _game, _sch);
+        super(_x, _y, GreenMonster.APPROACH_VEL, _game.getDifficultyController().getBaseHealth(EnemyType.GREEN_MONSTER), StandardID.Monster2, _game, _sch);
         super.setTarget(_game.getPlayer());
         //  Randomly generates the walking frames per second for variability
-        this.walkingFPS = StdOps.rand(this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
+        this.walkingFPS = _game.getRandomController().rand(RandomStream.SPAWNING,
+                this.WALKING_FPS_MIN, this.WALKING_FPS_MAX);
         //  Sets the walking/death frames for this monster
         super.initWalkingFrames(GreenMonster.WALK_FRAMES, this.walkingFPS);
         super.initDeathFrames(GreenMonster.DEATH_FRAMES, GreenMonster.DEATH_FPS, 5);
@@ -87,8 +86,8 @@ public class GreenMonster extends Enemy implements DeathListener {
     @Override
     public void uponDeath() {
         super.uponDeath();
-        this.generateCoins(StdOps.rand(0, 5));
-        this.generateDeathSound(StdOps.rand(1, 2));
+        this.generateCoins(this.getGame().getRandomController().rand(RandomStream.LOOT, 0, 5));
+        this.generateDeathSound(this.getGame().getRandomController().rand(RandomStream.AUDIO, 1, 2));
         this.generatePowerup();
     }
 
@@ -99,7 +98,7 @@ public class GreenMonster extends Enemy implements DeathListener {
      */
     @Override
     public void generateHurtSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/green_monster/pain" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/green_monster/pain" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -108,7 +107,7 @@ public class GreenMonster extends Enemy implements DeathListener {
      * @param sfx either 1 or 2
      */
     private void generateDeathSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -129,7 +128,7 @@ public class GreenMonster extends Enemy implements DeathListener {
      * Generates a random powerup based on RNG (will definitely change).
      */
     private void generatePowerup() {
-        int luck = StdOps.rand(1, 10);
+        int luck = this.getGame().getRandomController().rand(RandomStream.LOOT, 1, 10);
         switch (luck) {
             case 1:
                 this.getHandler().addEntity(new HealthPowerup((int) (this.getX() + this.getWidth() / 2),
@@ -1,15 +1,15 @@
 package com.dsd.game.enemies;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.enemies.enums.EnemyType;
 import com.dsd.game.objects.items.Coin;
 import com.dsd.game.objects.powerups.HealthPowerup;
 import com.dsd.game.util.Utilities;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.DeathListener;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
@@ -36,11 +36,9 @@ public class RedHeadMonster extends Enemy implements DeathListener {
     //  Death reward probabilities.
     private static final int MIN_COINS = 0;
     private static final int MAX_COINS = 5;
-    //  Health factor for this BasicMonster object.
-    public static int originalHealth = 100;
 
     public RedHeadMonster(int _x, int _y, Game _game, StandardCollisionHandler _sch) {
-        super(_x, _y, RedHeadMonster.APPROACH_VEL, RedHeadMonster.originalHealth, StandardID.Monster6, _game, _sch);
+        super(_x, _y, RedHeadMonster.APPROACH_VEL, _game.getDifficultyController().getBaseHealth(EnemyType.RED_HEAD_MONSTER), StandardID.Monster6, _game, _sch);
         super.setTarget(_game.getPlayer());
         //  Sets the walking/death frames for this monster.
         super.initWalkingFrames(RedHeadMonster.WALK_FRAMES, this.walkingFPS);
@@ -79,8 +77,8 @@ public class RedHeadMonster extends Enemy implements DeathListener {
     @Override
     public void uponDeath() {
         super.uponDeath();
-        this.generateCoins(StdOps.rand(MIN_COINS, MAX_COINS));
-        this.generateDeathSound(StdOps.rand(1, 2));
+        this.generateCoins(this.getGame().getRandomController().rand(RandomStream.LOOT, MIN_COINS, MAX_COINS));
+        this.generateDeathSound(this.getGame().getRandomController().rand(RandomStream.AUDIO, 1, 2));
         this.generatePowerup();
     }
 
@@ -91,7 +89,7 @@ public class RedHeadMonster extends Enemy implements DeathListener {
      */
     @Override
     public void generateHurtSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/zombies/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/zombies/zombie-" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -100,7 +98,7 @@ public class RedHeadMonster extends Enemy implements DeathListener {
      * @param sfx either 1 or 2
      */
     private void generateDeathSound(int _sfx) {
-        StandardAudioController.play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/splat" + _sfx + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -121,7 +119,7 @@ public class RedHeadMonster extends Enemy implements DeathListener {
      * Generates a random powerup based on RNG (will definitely change).
      */
     private void generatePowerup() {
-        int luck = StdOps.rand(1, 5);
+        int luck = this.getGame().getRandomController().rand(RandomStream.LOOT, 1, 5);
         if (luck == 1) {
             this.getHandler().addEntity(new HealthPowerup((int) (this.getX() + this.getWidth() / 2),
                     (int) (this.getY() + this.getHealth() / 2),
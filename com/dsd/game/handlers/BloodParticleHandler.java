@@ -1,12 +1,12 @@
 package com.dsd.game.handlers;
 
+import com.dsd.game.controller.RandomController;
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
 import com.dsd.game.particles.BloodType;
 import static com.dsd.game.particles.BloodType.STANDARD;
 import com.dsd.game.particles.SlowingBoxParticle;
-import com.revivedstandards.handlers.StandardParticleHandler;
 import com.revivedstandards.model.StandardBoxParticle;
-import com.revivedstandards.util.StdOps;
 import com.revivedstandards.view.ShapeType;
 import java.awt.Color;
 
@@ -20,7 +20,7 @@ import java.awt.Color;
  *
  * @updated 12/3/19
  */
-public class BloodParticleHandler extends StandardParticleHandler {
+public class BloodParticleHandler extends IndexedParticleHandler {
 
     //  Miscellaneous reference variables.
     private final Game game;
@@ -51,19 +51,21 @@ public class BloodParticleHandler extends StandardParticleHandler {
      * @param _bloodColor
      */
     public void addBloodParticle(BloodType _type, double _x, double _y, double _angle, Color _bloodColor) {
+        RandomController random = this.game.getRandomController();
         switch (_type) {
             //  The standard blood particle will scatter softly, but not wildly.
             case STANDARD:
                 this.addEntity(new StandardBoxParticle(
-                        _x + StdOps.rand(-PARTICLE_SCATTER_OFFSET, PARTICLE_SCATTER_OFFSET),
-                        _y + StdOps.rand(-PARTICLE_SCATTER_OFFSET, PARTICLE_SCATTER_OFFSET),
-                        StdOps.rand(PARTICLE_MIN_SIZE, PARTICLE_MAX_SIZE), 0, 0, _bloodColor, PARTICLE_LIFE, this,
-                        _angle, ShapeType.CIRCLE, false));
+                        _x + random.rand(RandomStream.PARTICLES, -PARTICLE_SCATTER_OFFSET, PARTICLE_SCATTER_OFFSET),
+                        _y + random.rand(RandomStream.PARTICLES, -PARTICLE_SCATTER_OFFSET, PARTICLE_SCATTER_OFFSET),
+                        random.rand(RandomStream.PARTICLES, PARTICLE_MIN_SIZE, PARTICLE_MAX_SIZE), 0, 0, _bloodColor,
+                        PARTICLE_LIFE, this, _angle, ShapeType.CIRCLE, false));
                 break;
             //  The slowing blood particle's velocity will decrease over time, eventually coming to a stop.
             case SLOWING:
-                this.addEntity(new SlowingBoxParticle(_x, _y, StdOps.rand(PARTICLE_MIN_SIZE, PARTICLE_MAX_SIZE),
-                        _bloodColor, PARTICLE_LIFE, this, _angle, ShapeType.CIRCLE));
+                this.addEntity(new SlowingBoxParticle(_x, _y,
+                        random.rand(RandomStream.PARTICLES, PARTICLE_MIN_SIZE, PARTICLE_MAX_SIZE), _bloodColor,
+                        PARTICLE_LIFE, this, _angle, ShapeType.CIRCLE, this.game));
                 break;
             /**
              * Scattered particles will go in random directions, but stay in
@@ -71,17 +73,17 @@ public class BloodParticleHandler extends StandardParticleHandler {
              */
             case SCATTERED:
                 this.addEntity(new StandardBoxParticle(
-                        _x + StdOps.randBounds(-MAX_PARTICLE_OFFSET - PARTICLE_SCATTER_OFFSET,
+                        _x + random.randBounds(RandomStream.PARTICLES, -MAX_PARTICLE_OFFSET - PARTICLE_SCATTER_OFFSET,
                                 -MIN_PARTICLE_OFFSET, MIN_PARTICLE_OFFSET,
                                 MAX_PARTICLE_OFFSET + PARTICLE_SCATTER_OFFSET),
-                        _y + StdOps.randBounds(MAX_PARTICLE_OFFSET - PARTICLE_SCATTER_OFFSET,
+                        _y + random.randBounds(RandomStream.PARTICLES, MAX_PARTICLE_OFFSET - PARTICLE_SCATTER_OFFSET,
                                 -MIN_PARTICLE_OFFSET, MIN_PARTICLE_OFFSET,
                                 MAX_PARTICLE_OFFSET + PARTICLE_SCATTER_OFFSET),
-                        StdOps.rand(PARTICLE_MIN_SIZE, GROUND_PARTICLE_MAX_SIZE), 0, 0, _bloodColor, PARTICLE_LIFE, this,
-                        _angle, ShapeType.CIRCLE, false));
+                        random.rand(RandomStream.PARTICLES, PARTICLE_MIN_SIZE, GROUND_PARTICLE_MAX_SIZE), 0, 0,
+                        _bloodColor, PARTICLE_LIFE, this, _angle, ShapeType.CIRCLE, false));
             default:
                 break;
         }
     }
-    
+
 }
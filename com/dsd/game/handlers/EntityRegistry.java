@@ -0,0 +1,339 @@
+package com.dsd.game.handlers;
+
+import com.dsd.game.util.IdentityIntMap;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Keeps track of where each entity is in a handler's entity list, so that
+ * finding, moving and removing one takes constant time instead of a search
+ * through the list (and, for a removal, a shift of everything after it).
+ *
+ * The list itself stays dense and is still what the handler iterates. Each
+ * entity is given a slot, and a handle to it: the slot number plus the
+ * slot's generation, which goes up every time the slot is freed. A handle
+ * held after its entity is removed therefore never finds the entity that
+ * takes over the slot.
+ *
+ * Removals are deferred: remove() only marks the entity, and flush() takes
+ * the marked entities out by moving the last entity of the list into each
+ * one's place. The handler flushes at points in its tick where nothing is
+ * iterating the list, so an entity that removes itself (or another) during a
+ * pass never makes the pass skip the entity after it. Entities added during a
+ * pass go on the end of the list, as before.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class EntityRegistry {
+
+    //  Handle that never refers to anything.
+    public static final long NO_HANDLE = -1L;
+    private static final int INITIAL_CAPACITY = 64;
+    //  List index sync() gives a slot whose entity it hasn't found yet.
+    private static final int STALE = -2;
+    //  The handler's entity list.
+    private final ArrayList<StandardGameObject> entities;
+    //  Slot of each entity, kept unboxed so that registering and removing
+    //  entities allocates nothing once the tables have grown to fit.
+    private final IdentityIntMap<StandardGameObject> slots;
+    //  By slot: its entity, its generation, where in the list its entity is
+    //  (-1 if the slot is free), and whether its entity is waiting to be
+    //  removed.
+    private StandardGameObject[] objects;
+    private int[] generations;
+    private int[] indices;
+    private boolean[] removing;
+    //  By list index: the slot of the entity there.
+    private int[] slotAt;
+    //  Free slots, used last-in first-out.
+    private int[] freeSlots;
+    private int freeCount = 0;
+    private int slotCount = 0;
+    //  Entities marked by remove() since the last flush.
+    private final ArrayList<StandardGameObject> pending;
+    private long removedCount = 0;
+
+    public EntityRegistry(ArrayList<StandardGameObject> _entities) {
+        if (_entities == null) {
+            throw new IllegalArgumentException("Entity list cannot be null!");
+        }
+        this.entities = _entities;
+        this.slots = new IdentityIntMap<>(EntityRegistry.INITIAL_CAPACITY);
+        this.objects = new StandardGameObject[EntityRegistry.INITIAL_CAPACITY];
+        this.generations = new int[EntityRegistry.INITIAL_CAPACITY];
+        this.indices = new int[EntityRegistry.INITIAL_CAPACITY];
+        this.removing = new boolean[EntityRegistry.INITIAL_CAPACITY];
+        this.slotAt = new int[EntityRegistry.INITIAL_CAPACITY];
+        this.freeSlots = new int[EntityRegistry.INITIAL_CAPACITY];
+        this.pending = new ArrayList<>();
+        this.sync();
+    }
+
+    /**
+     * Registers _obj, which the handler has just been asked to add to the end
+     * of its list, and returns its handle. If the handler didn't add it (a
+     * particle handler that is full won't), nothing is registered and
+     * NO_HANDLE is returned.
+     *
+     * @param _obj
+     * @return
+     */
+    public long added(StandardGameObject _obj) {
+        int index = this.entities.size() - 1;
+        if (index < 0 || this.entities.get(index) != _obj) {
+            return EntityRegistry.NO_HANDLE;
+        }
+        int existing = this.slots.get(_obj);
+        if (existing != IdentityIntMap.NO_VALUE) {
+            //  Added twice; the registry only tracks the first copy, so drop
+            //  this one, and if the first was about to be removed, keep it.
+            this.entities.remove(index);
+            if (this.removing[existing]) {
+                this.removing[existing] = false;
+                this.pending.remove(_obj);
+            }
+            return this.toHandle(existing);
+        }
+        int slot = this.allocateSlot(_obj);
+        this.indices[slot] = index;
+        this.ensureIndexCapacity(index + 1);
+        this.slotAt[index] = slot;
+        return this.toHandle(slot);
+    }
+
+    /**
+     * Marks _obj to be removed at the next flush(); it stays in the list
+     * until then. Does nothing if _obj isn't registered or is already marked.
+     *
+     * @param _obj
+     * @return true if _obj was registered and not already marked.
+     */
+    public boolean remove(StandardGameObject _obj) {
+        int slot = this.slots.get(_obj);
+        if (slot == IdentityIntMap.NO_VALUE || this.removing[slot]) {
+            return false;
+        }
+        this.removing[slot] = true;
+        this.pending.add(_obj);
+        return true;
+    }
+
+    /**
+     * Takes every entity marked by remove() out of the list. Each hole is
+     * filled with the entity at the end of the list, so the order of the
+     * rest changes, but no entity after the hole is shifted. Must not be
+     * called while the list is being iterated.
+     */
+    public void flush() {
+        if (this.entities.size() != this.slots.size()) {
+            this.sync();
+        }
+        for (int i = 0; i < this.pending.size(); i++) {
+            int slot = this.slots.get(this.pending.get(i));
+            if (slot == IdentityIntMap.NO_VALUE) {
+                continue;
+            }
+            int index = this.indices[slot];
+            int last = this.entities.size() - 1;
+            if (index != last) {
+                this.moveTo(last, index);
+            }
+            this.entities.remove(last);
+            this.freeSlot(slot);
+            this.removedCount++;
+        }
+        this.pending.clear();
+    }
+
+    /**
+     * Swaps the entities at indices _i and _j of the list.
+     *
+     * @param _i
+     * @param _j
+     */
+    public void swap(int _i, int _j) {
+        if (_i == _j) {
+            return;
+        }
+        StandardGameObject a = this.entities.get(_i);
+        this.entities.set(_i, this.entities.get(_j));
+        this.entities.set(_j, a);
+        int slot = this.slotAt[_i];
+        this.slotAt[_i] = this.slotAt[_j];
+        this.slotAt[_j] = slot;
+        this.indices[this.slotAt[_i]] = _i;
+        this.indices[this.slotAt[_j]] = _j;
+    }
+
+    /**
+     * Forgets every entity; call after the handler's list has been cleared.
+     */
+    public void clear() {
+        this.pending.clear();
+        for (int slot = 0; slot < this.slotCount; slot++) {
+            if (this.indices[slot] >= 0) {
+                this.freeSlot(slot);
+            }
+        }
+        if (!this.entities.isEmpty()) {
+            this.sync();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the list, for when the list was changed behind
+     * the registry's back; entities still in the list keep their handles.
+     * This costs a pass over the whole list, so the handlers only get here
+     * when the list's size no longer matches the registry's.
+     */
+    public void sync() {
+        //  Mark every slot in use as stale; the ones whose entity isn't found
+        //  in the list are still marked afterwards, and are freed.
+        for (int slot = 0; slot < this.slotCount; slot++) {
+            if (this.indices[slot] >= 0) {
+                this.indices[slot] = EntityRegistry.STALE;
+            }
+        }
+        this.ensureIndexCapacity(this.entities.size());
+        for (int i = 0; i < this.entities.size(); i++) {
+            StandardGameObject obj = this.entities.get(i);
+            int slot = this.slots.get(obj);
+            if (slot == IdentityIntMap.NO_VALUE) {
+                slot = this.allocateSlot(obj);
+            }
+            this.indices[slot] = i;
+            this.slotAt[i] = slot;
+        }
+        for (int slot = 0; slot < this.slotCount; slot++) {
+            if (this.indices[slot] == EntityRegistry.STALE) {
+                this.freeSlot(slot);
+            }
+        }
+    }
+
+    /**
+     * Moves the entity at index _from of the list to index _to, overwriting
+     * whatever was there.
+     *
+     * @param _from
+     * @param _to
+     */
+    private void moveTo(int _from, int _to) {
+        int slot = this.slotAt[_from];
+        this.entities.set(_to, this.entities.get(_from));
+        this.slotAt[_to] = slot;
+        this.indices[slot] = _to;
+    }
+
+    private int allocateSlot(StandardGameObject _obj) {
+        int slot;
+        if (this.freeCount > 0) {
+            slot = this.freeSlots[--this.freeCount];
+        } else {
+            if (this.slotCount == this.generations.length) {
+                this.growSlots(this.slotCount * 2);
+            }
+            slot = this.slotCount++;
+        }
+        this.objects[slot] = _obj;
+        this.slots.put(_obj, slot);
+        return slot;
+    }
+
+    private void growSlots(int _capacity) {
+        this.objects = Arrays.copyOf(this.objects, _capacity);
+        this.generations = Arrays.copyOf(this.generations, _capacity);
+        this.indices = Arrays.copyOf(this.indices, _capacity);
+        this.removing = Arrays.copyOf(this.removing, _capacity);
+        this.freeSlots = Arrays.copyOf(this.freeSlots, _capacity);
+    }
+
+    private void freeSlot(int _slot) {
+        this.slots.remove(this.objects[_slot]);
+        this.objects[_slot] = null;
+        this.generations[_slot]++;
+        this.indices[_slot] = -1;
+        this.removing[_slot] = false;
+        this.freeSlots[this.freeCount++] = _slot;
+    }
+
+    private void ensureIndexCapacity(int _size) {
+        if (this.slotAt.length < _size) {
+            this.slotAt = Arrays.copyOf(this.slotAt, Math.max(_size, this.slotAt.length * 2));
+        }
+    }
+
+    private long toHandle(int _slot) {
+        return ((long) this.generations[_slot] << 32) | _slot;
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns the entity _handle refers to, or null if it has been removed.
+     *
+     * @param _handle
+     * @return
+     */
+    public StandardGameObject get(long _handle) {
+        if (_handle == EntityRegistry.NO_HANDLE) {
+            return null;
+        }
+        int slot = (int) _handle;
+        if (slot < 0 || slot >= this.slotCount || this.indices[slot] < 0
+                || this.generations[slot] != (int) (_handle >>> 32)) {
+            return null;
+        }
+        return this.entities.get(this.indices[slot]);
+    }
+
+    /**
+     * Returns the handle of _obj, or NO_HANDLE if it isn't registered.
+     *
+     * @param _obj
+     * @return
+     */
+    public long getHandle(StandardGameObject _obj) {
+        int slot = this.slots.get(_obj);
+        return slot == IdentityIntMap.NO_VALUE ? EntityRegistry.NO_HANDLE : this.toHandle(slot);
+    }
+
+    /**
+     * Returns where _obj is in the list, or -1 if it isn't registered.
+     *
+     * @param _obj
+     * @return
+     */
+    public int indexOf(StandardGameObject _obj) {
+        int slot = this.slots.get(_obj);
+        return slot == IdentityIntMap.NO_VALUE ? -1 : this.indices[slot];
+    }
+
+    /**
+     * Returns true if _obj has been marked by remove() but not yet flushed.
+     *
+     * @param _obj
+     * @return
+     */
+    public boolean isRemoving(StandardGameObject _obj) {
+        int slot = this.slots.get(_obj);
+        return slot != IdentityIntMap.NO_VALUE && this.removing[slot];
+    }
+
+    public int size() {
+        return this.slots.size();
+    }
+
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    public long getRemovedCount() {
+        return this.removedCount;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.dsd.game.handlers;
+
+import com.dsd.game.core.Game;
+import com.dsd.game.objects.Explosion;
+import com.dsd.game.objects.enums.ExplosionType;
+
+/**
+ * This class holds the explosion animations. Explosions deal their damage the
+ * moment they go off, so what is left is purely visual and is kept out of the
+ * collision handler.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/2019
+ */
+public class ExplosionHandler extends IndexedParticleHandler {
+
+    private static final int MAX_EXPLOSIONS = 500;
+
+    public ExplosionHandler(Game _game) {
+        super(MAX_EXPLOSIONS);
+        this.setCamera(_game.getCamera());
+    }
+
+    /**
+     * Starts the animation of an explosion of type _type, with its top-left
+     * corner at (_x, _y).
+     *
+     * @param _x
+     * @param _y
+     * @param _type
+     */
+    public void addExplosion(int _x, int _y, ExplosionType _type) {
+        this.addEntity(new Explosion(_x, _y, _type));
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.dsd.game.handlers;
+
+import com.revivedstandards.handlers.StandardParticleHandler;
+import com.revivedstandards.main.StandardCamera;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+
+/**
+ * A particle handler whose entity list is indexed by an EntityRegistry.
+ * Particles come and go by the thousand, and each one that runs its course
+ * removes itself in the middle of the handler's pass; here that only marks
+ * it, and the marked particles are swapped out with the last ones in the list
+ * once the pass is over, instead of each removal searching the list and
+ * shifting everything after it down.
+ *
+ * The handler runs its own pass rather than StandardParticleHandler's, so the
+ * registry is the only thing that ever changes the list.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class IndexedParticleHandler extends StandardParticleHandler {
+
+    private final EntityRegistry registry;
+
+    public IndexedParticleHandler(int _maxParticles) {
+        super(_maxParticles);
+        this.registry = new EntityRegistry(this.getEntities());
+    }
+
+    /**
+     * Ticks every particle, then takes out the ones that died or left the
+     * camera's view. Particles added during the pass are first ticked on the
+     * next one.
+     */
+    @Override
+    public void tick() {
+        this.registry.flush();
+        ArrayList<StandardGameObject> entities = this.getEntities();
+        StandardCamera camera = this.getCamera();
+        int count = entities.size();
+        for (int i = 0; i < count; i++) {
+            StandardGameObject particle = entities.get(i);
+            if (camera != null && !camera.SGOInBounds(particle)) {
+                this.registry.remove(particle);
+                continue;
+            }
+            if (particle.isAlive()) {
+                particle.tick();
+            }
+            if (!particle.isAlive()) {
+                this.registry.remove(particle);
+            }
+        }
+        this.registry.flush();
+    }
+
+    @Override
+    public void addEntity(StandardGameObject _obj) {
+        super.addEntity(_obj);
+        this.registry.added(_obj);
+    }
+
+    /**
+     * Marks _obj to be taken out once this tick's pass over the particles is
+     * done.
+     *
+     * @param _obj
+     */
+    @Override
+    public void removeEntity(StandardGameObject _obj) {
+        this.registry.remove(_obj);
+    }
+
+    @Override
+    public void clearEntities() {
+        super.clearEntities();
+        this.registry.clear();
+    }
+
+//============================== GETTERS =====================================
+    public EntityRegistry getRegistry() {
+        return this.registry;
+    }
+
+}
@@ -1,7 +1,8 @@
 package com.dsd.game.handlers;
 
+import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
 import com.dsd.game.objects.LightningFlash;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.model.StandardAudioType;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
@@ -18,10 +19,12 @@ import java.util.ArrayList;
  */
 public class LightningHandler {
 
+    private final Game game;
     private final ArrayList<LightningFlash> lightningFlashes;
     private final int LIGHTNING_SFX = 3;
 
-    public LightningHandler() {
+    public LightningHandler(Game _game) {
+        this.game = _game;
         this.lightningFlashes = new ArrayList<>();
     }
 
@@ -41,8 +44,9 @@ public class LightningHandler {
      * Plays a random lightning/thunder sfx.
      */
     public void playLightningSFX() {
-        StandardAudioController.play("src/resources/audio/sfx/thunder"
-                + (int) (Math.random() * LIGHTNING_SFX) + ".wav", StandardAudioType.SFX);
+        this.game.getAudioBoxController().play("src/resources/audio/sfx/thunder"
+                + this.game.getRandomController().rand(RandomStream.AUDIO, 0, LIGHTNING_SFX - 1) + ".wav",
+                StandardAudioType.SFX);
     }
 
     public ArrayList<LightningFlash> getHandler() {
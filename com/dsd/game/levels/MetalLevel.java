@@ -1,6 +1,9 @@
 package com.dsd.game.levels;
 
+import com.dsd.game.collision.OccupancyGrid;
+import com.dsd.game.controller.RandomController;
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
 import com.dsd.game.enemies.enums.EnemyType;
 import com.dsd.game.factories.SpawnerFactory;
 import com.dsd.game.objects.NatureObject;
@@ -11,9 +14,9 @@ import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.main.StandardCamera;
 import com.revivedstandards.model.StandardID;
 import com.revivedstandards.model.StandardLevel;
-import com.revivedstandards.util.StdOps;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 
 /**
  * Demonstrates the concept of a very primitive level using the Standards API.
@@ -30,8 +33,12 @@ public class MetalLevel extends StandardLevel {
     private final Game game;
     private final Player player;
     private final StandardCamera sc;
-    //  Handler for the random foliage.
-    private static StandardCollisionHandler natureHandler;
+    //  The random foliage, and the cells its collidable pieces take up.
+    private final ArrayList<NatureObject> foliage;
+    private OccupancyGrid obstacles;
+    private static final int OBSTACLE_CELL_SIZE = 16;
+    //  Size of the obstacle grid if the background couldn't be loaded.
+    private static final int DEFAULT_LEVEL_SIZE = 4000;
     //  Images loaded in at runtime for random nature objects.
     private static final BufferedImage[] natureImages;
     /**
@@ -62,29 +69,30 @@ public class MetalLevel extends StandardLevel {
         this.setHandler(_sch);
         this.setCameraBounds(this.getBgImage().getWidth() - Screen.gameHalfWidth,
                 this.getBgImage().getHeight() - Screen.gameHalfHeight);
-        MetalLevel.natureHandler = new StandardCollisionHandler(this.sc);
+        this.foliage = new ArrayList<>();
     }
 
     @Override
     public void loadLevelData() {
+        RandomController random = this.game.getRandomController();
         this.addEntity(SpawnerFactory.generateBossSpawner(EnemyType.FEMALE_BOSS_MONSTER,
-                StdOps.rand(400, 3400), StdOps.rand(400, 3600), this.game,
+                random.rand(RandomStream.SPAWNING, 400, 3400), random.rand(RandomStream.SPAWNING, 400, 3600), this.game,
                 (StandardCollisionHandler) this.getHandler()));
         this.addEntity(SpawnerFactory.generateSpawner(EnemyType.BASIC_MONSTER,
-                StdOps.rand(600, 3400), StdOps.rand(600, 3400), 10000, 150,
-                this.game, (StandardCollisionHandler) this.getHandler()));
+                random.rand(RandomStream.SPAWNING, 600, 3400), random.rand(RandomStream.SPAWNING, 600, 3400),
+                10000, 150, this.game, (StandardCollisionHandler) this.getHandler()));
         this.addEntity(SpawnerFactory.generateSpawner(EnemyType.GREEN_MONSTER,
-                StdOps.rand(600, 3400), StdOps.rand(600, 3400), 10000, 150,
-                this.game, (StandardCollisionHandler) this.getHandler()));
+                random.rand(RandomStream.SPAWNING, 600, 3400), random.rand(RandomStream.SPAWNING, 600, 3400),
+                10000, 150, this.game, (StandardCollisionHandler) this.getHandler()));
         this.addEntity(SpawnerFactory.generateSpawner(EnemyType.DARK_FEMALE_MONSTER,
-                StdOps.rand(600, 3400), StdOps.rand(600, 3400), 10000, 150,
-                this.game, (StandardCollisionHandler) this.getHandler()));
+                random.rand(RandomStream.SPAWNING, 600, 3400), random.rand(RandomStream.SPAWNING, 600, 3400),
+                10000, 150, this.game, (StandardCollisionHandler) this.getHandler()));
         this.addEntity(SpawnerFactory.generateSpawner(EnemyType.RED_HEAD_MONSTER,
-                StdOps.rand(600, 3400), StdOps.rand(600, 3400), 10000, 150,
-                this.game, (StandardCollisionHandler) this.getHandler()));
+                random.rand(RandomStream.SPAWNING, 600, 3400), random.rand(RandomStream.SPAWNING, 600, 3400),
+                10000, 150, this.game, (StandardCollisionHandler) this.getHandler()));
         this.addEntity(SpawnerFactory.generateSpawner(EnemyType.TINY_MONSTER,
-                StdOps.rand(600, 3400), StdOps.rand(600, 3400), 10000, 150,
-                this.game, (StandardCollisionHandler) this.getHandler()));
+                random.rand(RandomStream.SPAWNING, 600, 3400), random.rand(RandomStream.SPAWNING, 600, 3400),
+                10000, 150, this.game, (StandardCollisionHandler) this.getHandler()));
         this.loadFoliage();
     }
 
@@ -102,17 +110,44 @@ public class MetalLevel extends StandardLevel {
                 _g2.drawImage(this.getBgImage(), 0, 0, null);
             }
         }
-        MetalLevel.natureHandler.render(_g2);
+        //  Only draw the foliage that's on screen, so big levels stay cheap.
+        double minX = this.sc.getX() - this.sc.getVpw();
+        double minY = this.sc.getY() - this.sc.getVph();
+        double maxX = this.sc.getX() + this.sc.getVpw();
+        double maxY = this.sc.getY() + this.sc.getVph();
+        for (int i = 0; i < this.foliage.size(); i++) {
+            NatureObject obj = this.foliage.get(i);
+            if (obj.getX() <= maxX && obj.getX() + obj.getWidth() >= minX
+                    && obj.getY() <= maxY && obj.getY() + obj.getHeight() >= minY) {
+                obj.render(_g2);
+            }
+        }
     }
 
+    /**
+     * Scatters the foliage around the level, then bakes the collidable pieces
+     * into the obstacle grid and hands it to the collision handler.
+     */
     private void loadFoliage() {
+        this.foliage.clear();
+        RandomController random = this.game.getRandomController();
         for (int i = 0; i < this.FOLIAGE_OBJECT_COUNT; i++) {
-            MetalLevel.natureHandler.addEntity(new NatureObject(this.game,
-                    MetalLevel.natureHandler,
-                    StdOps.rand(400, 3600), StdOps.rand(400, 3600),
+            this.foliage.add(new NatureObject(this.game,
+                    random.rand(RandomStream.SPAWNING, 400, 3600), random.rand(RandomStream.SPAWNING, 400, 3600),
                     StandardID.Tile3,
-                    MetalLevel.natureImages[StdOps.rand(0, MetalLevel.natureImages.length - 1)], true));
+                    MetalLevel.natureImages[random.rand(RandomStream.SPAWNING, 0, MetalLevel.natureImages.length - 1)],
+                    true));
+        }
+        int width = this.getBgImage() != null ? this.getBgImage().getWidth() : MetalLevel.DEFAULT_LEVEL_SIZE;
+        int height = this.getBgImage() != null ? this.getBgImage().getHeight() : MetalLevel.DEFAULT_LEVEL_SIZE;
+        this.obstacles = new OccupancyGrid(width, height, MetalLevel.OBSTACLE_CELL_SIZE);
+        for (int i = 0; i < this.foliage.size(); i++) {
+            NatureObject obj = this.foliage.get(i);
+            if (obj.isCollidable() && obj.getCurrentSprite() != null) {
+                this.obstacles.fillSprite(obj.getCurrentSprite(), (int) obj.getX(), (int) obj.getY());
+            }
         }
+        this.game.getCollisionHandlerController().setObstacleGrid(this.obstacles);
     }
     static {
         natureImages = Utilities.loadFrames("src/resources/img/objects/nature", 22);
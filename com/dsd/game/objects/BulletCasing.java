@@ -1,8 +1,11 @@
 package com.dsd.game.objects;
 
+import com.dsd.game.controller.RandomController;
+import com.dsd.game.core.RandomStream;
 import com.dsd.game.objects.weapons.Gun;
+import com.dsd.game.render.DrawList;
+import com.dsd.game.render.Recordable;
 import com.revivedstandards.model.StandardParticle;
-import com.revivedstandards.util.StdOps;
 import com.revivedstandards.view.Renderable;
 import com.revivedstandards.view.Updatable;
 import java.awt.Graphics2D;
@@ -17,7 +20,7 @@ import java.awt.image.BufferedImage;
  * 
  * @updated 12/10/2019
  */
-public class BulletCasing extends StandardParticle implements Renderable, Updatable {
+public class BulletCasing extends StandardParticle implements Renderable, Updatable, Recordable {
 
     //  Miscellaneous reference variables.
     private final Player player;
@@ -39,8 +42,9 @@ public class BulletCasing extends StandardParticle implements Renderable, Updata
         this.setX(this.player.getX() + this.player.getWidth() / 2);
         this.setY(this.player.getY() + this.player.getHeight() / 2);
         //  Randomizes the velocity ot seem like it is dropping.
-        this.setVelX(StdOps.rand(CASING_VEL_X_MIN, CASING_VEL_X_MAX));
-        this.setVelY(StdOps.rand(CASING_VEL_Y_MIN, CASING_VEL_Y_MAX));
+        RandomController random = _player.getGame().getRandomController();
+        this.setVelX(random.rand(RandomStream.PARTICLES, CASING_VEL_X_MIN, CASING_VEL_X_MAX));
+        this.setVelY(random.rand(RandomStream.PARTICLES, CASING_VEL_Y_MIN, CASING_VEL_Y_MAX));
         this.casingImage = this.gun.getRandomCasing();
         _player.getCasingHandler().addEntity(this);
     }
@@ -58,5 +62,10 @@ public class BulletCasing extends StandardParticle implements Renderable, Updata
         _g2.setColor(this.getColor());
         _g2.drawImage(this.casingImage, (int) this.getX(), (int) this.getY(), null);
     }
+
+    @Override
+    public void record(DrawList _list) {
+        _list.addSprite(this.casingImage, (int) this.getX(), (int) this.getY());
+    }
     
 }
@@ -2,14 +2,16 @@ package com.dsd.game.objects;
 
 import com.dsd.game.objects.enums.ExplosionType;
 import com.revivedstandards.controller.StandardAnimatorController;
-import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.StandardAnimation;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
 import java.awt.Graphics2D;
 
 /**
- * This class is a simple explosion artifact in the game.
+ * This class is a simple explosion artifact in the game. It is only the
+ * animation; the damage is dealt all at once when the explosion goes off
+ * (see CollisionHandlerController.explode()), so explosions live in their own
+ * handler and never take part in collisions.
  *
  * [Group Name: Data Structure Deadheads]
  *
@@ -20,23 +22,17 @@ import java.awt.Graphics2D;
 public class Explosion extends StandardGameObject {
 
     //  Miscellaneous reference variables.
-    private final StandardCollisionHandler parentContainer;
     private final StandardAnimatorController animation;
     //  The gun that the bullet comes from determines what type of explosion to use (i.e. which frames, etc).
     private ExplosionType explosionType;
-    //  Information about the FPS of the explosion and its damage (if applicable).
+    //  Information about the FPS of the explosion.
     private static final int EXPLOSION_FPS = 45;
-    private final int DAMAGE;
 
-    public Explosion(int _x, int _y, int _damage, ExplosionType _type, StandardCollisionHandler _parentContainer) {
+    public Explosion(int _x, int _y, ExplosionType _type) {
         super(_x, _y, StandardID.Tile1);
         this.explosionType = _type;
-        this.DAMAGE = _damage;
-        this.parentContainer = _parentContainer;
         this.animation = new StandardAnimatorController(new StandardAnimation(this,
                 _type.getExplosionFrames(), EXPLOSION_FPS, _type.getExplosionFrames().length - 1));
-        this.parentContainer.addCollider(this.getId());
-        this.parentContainer.flagAlive(this.getId());
     }
 
     @Override
@@ -53,15 +49,11 @@ public class Explosion extends StandardGameObject {
         }
         /**
          * If we're on the last frame of the explosion animation, we can flag
-         * the explosion as "dead" meaning it won't affect other entities.
+         * the explosion as "dead" so the handler removes it.
          */
         if (this.animation.getStandardAnimation().getCurrentFrameIndex() == explosionType.getExplosionFrames().length - 1) {
             this.setAlive(false);
         }
     }
 
-    public int getDamage() {
-        return this.DAMAGE;
-    }
-    
 }
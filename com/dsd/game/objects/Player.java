@@ -1,5 +1,6 @@
 package com.dsd.game.objects;
 
+import com.dsd.game.handlers.IndexedParticleHandler;
 import com.dsd.game.core.Game;
 import com.dsd.game.commands.AttackCommand;
 import com.dsd.game.commands.DebugCommand;
@@ -7,6 +8,7 @@ import com.dsd.game.commands.DecrementWeaponCommand;
 import com.dsd.game.commands.IncrementWeaponCommand;
 import com.dsd.game.commands.MoveBackwardCommand;
 import com.dsd.game.commands.MoveForwardCommand;
+import com.dsd.game.commands.PacingModeCommand;
 import com.dsd.game.commands.ReloadCommand;
 import com.dsd.game.controller.DebugController;
 import com.dsd.game.database.SerializableType;
@@ -44,6 +46,9 @@ public class Player extends Entity implements DeathListener, SerializableObject
     private StandardCamera sc;
     //  Bullet Casing particle handler.
     private final StandardParticleHandler casingHandler;
+    //  Tracers left by hitscan shots.
+    private final StandardParticleHandler tracerHandler;
+    private static final int MAX_TRACERS = 200;
     /**
      * Refers to the player's current state (walking, shooting, etc.)
      * PlayerState is set by commands.
@@ -58,12 +63,15 @@ public class Player extends Entity implements DeathListener, SerializableObject
     //  Money amount.
     private int money = 0;
     //  Health vars (this may change with time).
-    private static int maxHealth = 200;
+    private static final int DEFAULT_MAX_HEALTH = 200;
+    private int maxHealth = Player.DEFAULT_MAX_HEALTH;
     //  Sex of player.
     private String sex = "male";
+    //  Times the player has died (only counted in headless games, where death doesn't end the game).
+    private int deaths = 0;
 
     public Player(int _x, int _y, Game _game, StandardCollisionHandler _sch) {
-        super(_x, _y, maxHealth, StandardID.Player, (Game) _game, _sch);
+        super(_x, _y, Player.DEFAULT_MAX_HEALTH, StandardID.Player, (Game) _game, _sch);
         //  Instantiate the inventory.
         this.inventory = new Inventory(_game, this, _sch);
         //  Initializes the miscellaneous variables.
@@ -74,7 +82,8 @@ public class Player extends Entity implements DeathListener, SerializableObject
         this.initCommands();
         //  Initializes the player's default state to standing.
         this.playerState = PlayerState.STANDING;
-        this.casingHandler = new StandardParticleHandler(1000);
+        this.casingHandler = new IndexedParticleHandler(1000);
+        this.tracerHandler = new IndexedParticleHandler(Player.MAX_TRACERS);
         //  Adds the player to the list of collidable objects.
         _sch.addCollider(StandardID.Player);
         _sch.flagAlive(StandardID.Player);
@@ -92,8 +101,8 @@ public class Player extends Entity implements DeathListener, SerializableObject
             this.getAnimationController().getStandardAnimation().setRotation(this.getAngle());
             this.updateDimensions();
             // Save the mouse position.
-            double mx = this.sc.getX() + this.getGame().getMouse().getMouseX() - this.sc.getVpw();
-            double my = this.sc.getY() + this.getGame().getMouse().getMouseY() - this.sc.getVph();
+            double mx = this.getGame().getInputController().getWorldMouseX();
+            double my = this.getGame().getInputController().getWorldMouseY();
             //*******************************************************************//
             //      Causes the player to follow the cursor wherever on the screen //
             //*******************************************************************//
@@ -124,10 +133,17 @@ public class Player extends Entity implements DeathListener, SerializableObject
 
     /**
      * Displays a death message upon player's health reaching 0, and then closes
-     * out the application (currently WIP).
+     * out the application (currently WIP). In a headless game there is nobody to
+     * show the message to, so the death is counted and the player is revived.
      */
     @Override
     public void uponDeath() {
+        if (this.getGame().isHeadless()) {
+            this.deaths++;
+            this.setHealth(this.maxHealth);
+            this.setAlive(true);
+            return;
+        }
         JOptionPane.showMessageDialog(this.getGame(), "You have died!");
         this.getGame().stopGame();
         System.exit(0);
@@ -140,6 +156,7 @@ public class Player extends Entity implements DeathListener, SerializableObject
         this.money = 0;
         this.setHealth(this.maxHealth);
         this.casingHandler.clearEntities();
+        this.tracerHandler.clearEntities();
         this.inventory.resetInventory();
     }
 
@@ -303,6 +320,7 @@ public class Player extends Entity implements DeathListener, SerializableObject
         IncrementWeaponCommand incWeaponCommand = new IncrementWeaponCommand(this.getGame(), this);
         DecrementWeaponCommand decWeaponCommand = new DecrementWeaponCommand(this.getGame(), this);
         DebugCommand debugCommand = new DebugCommand(this.getGame());
+        PacingModeCommand pacingModeCommand = new PacingModeCommand(this.getGame());
     }
 
 //============================== GETTERS ================================
@@ -314,6 +332,10 @@ public class Player extends Entity implements DeathListener, SerializableObject
         return this.money;
     }
 
+    public int getDeaths() {
+        return this.deaths;
+    }
+
     /**
      * If either the state is walking forward OR backward, then we are
      * "walking".
@@ -349,6 +371,10 @@ public class Player extends Entity implements DeathListener, SerializableObject
         return this.casingHandler;
     }
 
+    public StandardParticleHandler getTracerHandler() {
+        return this.tracerHandler;
+    }
+
     public int getPlayerDirection() {
         int directionSign = 0;
         switch (this.playerState) {
@@ -372,6 +398,7 @@ public class Player extends Entity implements DeathListener, SerializableObject
     public void setCamera(StandardCamera _sc) {
         this.sc = _sc;
         this.casingHandler.setCamera(_sc);
+        this.tracerHandler.setCamera(_sc);
     }
 
     public void setPlayerState(PlayerState _playerState) {
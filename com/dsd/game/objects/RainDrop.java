@@ -1,8 +1,11 @@
 package com.dsd.game.objects;
 
+import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.render.DrawList;
+import com.dsd.game.render.Recordable;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import org.apache.commons.math3.util.FastMath;
@@ -16,7 +19,7 @@ import org.apache.commons.math3.util.FastMath;
  * 
  * @updated 12/10/2019
  */
-public class RainDrop extends StandardGameObject {
+public class RainDrop extends StandardGameObject implements Recordable {
 
     /**
      * Gravity pulling the rain drop to the bottom of the screen, as well as its
@@ -27,13 +30,17 @@ public class RainDrop extends StandardGameObject {
     private final double GRAVITY = 0.25d;
     private final int BLUE_COLOR = 100;
     private final int VEL_FACTOR = 2;
+    //  Simulation steps the drop moves through per tick (see RainController).
+    private final int steps;
 
-    public RainDrop(double _x, double _y, double _direction, double _speed, int _vanish) {
+    public RainDrop(double _x, double _y, double _direction, double _speed, int _vanish, int _steps, Game _game) {
         super(_x, _y, StandardID.Particle);
+        this.steps = _steps;
         //  Solve for horizontal leg of right triangle formed by velocity vector.
         this.setVelX(_speed * FastMath.sin(_direction));
         this.vanish = _vanish;
-        this.color = new Color(BLUE_COLOR, BLUE_COLOR, StdOps.rand(BLUE_COLOR, 0xFF));
+        this.color = new Color(BLUE_COLOR, BLUE_COLOR,
+                _game.getRandomController().rand(RandomStream.WEATHER, BLUE_COLOR, 0xFF));
     }
 
     @Override
@@ -41,8 +48,10 @@ public class RainDrop extends StandardGameObject {
         if (this.getY() > this.vanish) {
             this.setAlive(false);
         }
-        this.setVelY(this.getVelY() + this.GRAVITY);
-        this.updatePosition();
+        for (int i = 0; i < this.steps; i++) {
+            this.setVelY(this.getVelY() + this.GRAVITY);
+            this.updatePosition();
+        }
     }
 
     @Override
@@ -51,5 +60,11 @@ public class RainDrop extends StandardGameObject {
         _g2.drawLine((int) this.getX(), (int) this.getY(), (int) (this.getX() - this.getVelX() * VEL_FACTOR),
                 (int) (this.getY() - this.getVelY() * VEL_FACTOR));
     }
+
+    @Override
+    public void record(DrawList _list) {
+        _list.addLine(this.color, (int) this.getX(), (int) this.getY(), (int) (this.getX() - this.getVelX() * VEL_FACTOR),
+                (int) (this.getY() - this.getVelY() * VEL_FACTOR));
+    }
     
 }
@@ -0,0 +1,34 @@
+package com.dsd.game.objects;
+
+/**
+ * This interface is implemented by objects that spend most of their life
+ * sitting still, like coins once they stop sliding and the powerups. While
+ * one is at rest, the collision handler puts it to sleep: it leaves the tick
+ * and collision passes, and the only thing still checked is whether the
+ * player has walked into it. It is woken (put back with the other entities)
+ * on contact, or when CollisionHandlerController.wake() is called on it after
+ * something pushes it.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public interface Sleepable {
+
+    /**
+     * Returns true if the object is alive and isn't moving, so it can be put
+     * to sleep.
+     *
+     * @return
+     */
+    public boolean isAtRest();
+
+    /**
+     * Does whatever the object still needs to do each tick while it is
+     * asleep and on screen, which is usually just playing its animation. It
+     * must not move the object.
+     */
+    public void tickAsleep();
+}
@@ -1,8 +1,11 @@
 package com.dsd.game.objects;
 
+import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
+import com.dsd.game.render.DrawList;
+import com.dsd.game.render.Recordable;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import org.apache.commons.math3.util.FastMath;
@@ -16,7 +19,7 @@ import org.apache.commons.math3.util.FastMath;
  *
  * @updated 12/10/2019
  */
-public class Snowflake extends StandardGameObject {
+public class Snowflake extends StandardGameObject implements Recordable {
 
     /**
      * Gravity pulling the snow drop to the bottom of the screen, as well as its
@@ -30,15 +33,20 @@ public class Snowflake extends StandardGameObject {
     private final int VEL_FACTOR = 2;
     private final int SNOWFLAKE_WIDTH_MIN = 3;
     private final int SNOWFLAKE_WIDTH_MAX = 8;
+    //  Simulation steps the flake moves through per tick (see SnowController).
+    private final int steps;
 
-    public Snowflake(double _x, double _y, double _direction, double _speed, int _vanish) {
+    public Snowflake(double _x, double _y, double _direction, double _speed, int _vanish, int _steps, Game _game) {
         super(_x, _y, StandardID.Particle);
+        this.steps = _steps;
         //Solve for horizontal leg of right triangle formed by velocity vector
         this.setVelX(_speed * FastMath.sin(_direction));
-        this.setWidth(StdOps.rand(this.SNOWFLAKE_WIDTH_MIN, this.SNOWFLAKE_WIDTH_MAX));
+        this.setWidth(_game.getRandomController().rand(RandomStream.WEATHER,
+                this.SNOWFLAKE_WIDTH_MIN, this.SNOWFLAKE_WIDTH_MAX));
         this.setHeight(this.getWidth());
         this.vanish = _vanish;
-        this.snowColor = Color.getHSBColor(1.0f, 0.0f, (float) StdOps.rand(WHITE_COLOR, 1d));
+        this.snowColor = Color.getHSBColor(1.0f, 0.0f,
+                (float) _game.getRandomController().rand(RandomStream.WEATHER, WHITE_COLOR, 1d));
     }
 
     @Override
@@ -46,8 +54,10 @@ public class Snowflake extends StandardGameObject {
         if (this.getY() > this.vanish) {
             this.setAlive(false);
         }
-        this.setVelY(this.getVelY() + this.GRAVITY);
-        this.updatePosition();
+        for (int i = 0; i < this.steps; i++) {
+            this.setVelY(this.getVelY() + this.GRAVITY);
+            this.updatePosition();
+        }
     }
 
     @Override
@@ -55,5 +65,10 @@ public class Snowflake extends StandardGameObject {
         _g2.setColor(this.snowColor);
         _g2.fillOval((int) this.getX(), (int) this.getY(), this.getWidth(), this.getHeight());
     }
+
+    @Override
+    public void record(DrawList _list) {
+        _list.addOval(this.snowColor, (int) this.getX(), (int) this.getY(), this.getWidth(), this.getHeight());
+    }
     
 }
@@ -0,0 +1,68 @@
+package com.dsd.game.objects;
+
+import com.dsd.game.render.DrawList;
+import com.dsd.game.render.Recordable;
+import com.revivedstandards.model.StandardGameObject;
+import com.revivedstandards.model.StandardID;
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+/**
+ * The streak left by a hitscan shot, from the muzzle to whatever it hit (or
+ * the edge of the screen). It is only a visual: it lives in a particle
+ * handler rather than the collision handler, and fades out after a few
+ * ticks.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/2019
+ */
+public class Tracer extends StandardGameObject implements Recordable {
+
+    //  End point of the streak (the start point is the object's position).
+    private final double endX;
+    private final double endY;
+    //  How many ticks the tracer lasts, and how many it has left.
+    private static final int LIFETIME = 4;
+    private int ticksLeft = Tracer.LIFETIME;
+    //  Colors the tracer fades through, from first tick to last.
+    private static final Color[] COLORS = new Color[Tracer.LIFETIME];
+
+    public Tracer(double _x1, double _y1, double _x2, double _y2) {
+        super(_x1, _y1, StandardID.Particle);
+        this.endX = _x2;
+        this.endY = _y2;
+    }
+
+    @Override
+    public void tick() {
+        this.ticksLeft--;
+        if (this.ticksLeft <= 0) {
+            this.setAlive(false);
+        }
+    }
+
+    @Override
+    public void render(Graphics2D _g2) {
+        _g2.setColor(this.getColor());
+        _g2.drawLine((int) this.getX(), (int) this.getY(), (int) this.endX, (int) this.endY);
+    }
+
+    @Override
+    public void record(DrawList _list) {
+        _list.addLine(this.getColor(), (int) this.getX(), (int) this.getY(), (int) this.endX, (int) this.endY);
+    }
+
+    private Color getColor() {
+        return Tracer.COLORS[Tracer.LIFETIME - Math.max(1, this.ticksLeft)];
+    }
+
+    //  Initializes the fading colors.
+    static {
+        for (int i = 0; i < Tracer.LIFETIME; i++) {
+            Tracer.COLORS[i] = new Color(0xFF, 0xE0, 0x80, 0xFF * (Tracer.LIFETIME - i) / Tracer.LIFETIME);
+        }
+    }
+}
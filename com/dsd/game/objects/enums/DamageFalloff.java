@@ -0,0 +1,41 @@
+package com.dsd.game.objects.enums;
+
+/**
+ * Enum that describes how area damage (such as an explosion's) weakens
+ * towards the edge of its radius.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/2019
+ */
+public enum DamageFalloff {
+
+    //  Full damage everywhere in the radius.
+    NONE,
+    //  Full damage at the center, down to nothing at the edge.
+    LINEAR,
+    //  Stays strong near the center, then drops off quickly towards the edge.
+    QUADRATIC;
+
+    /**
+     * Returns the fraction of the full damage dealt at _distance of the way
+     * (0 to 1) from the center to the edge of the radius.
+     *
+     * @param _distance
+     * @return
+     */
+    public double getScale(double _distance) {
+        double distance = Math.max(0, Math.min(1, _distance));
+        switch (this) {
+            case LINEAR:
+                return 1 - distance;
+            case QUADRATIC:
+                return 1 - distance * distance;
+            default:
+                return 1;
+        }
+    }
+
+}
@@ -8,6 +8,10 @@ import java.awt.image.BufferedImage;
  * different from grenade launcher explosions. We only want to load in the
  * information once, so we can delegate it to an enum and call it a day.
  *
+ * Each type also says how its damage is dealt: once, to every enemy within
+ * its radius (half the size of its frames) of its center, scaled down by its
+ * falloff towards the edge.
+ *
  * [Group Name: Data Structure Deadheads]
  * 
  * @author Joshua, Ronald, Rinty
@@ -17,18 +21,21 @@ import java.awt.image.BufferedImage;
 public enum ExplosionType {
 
     //  Various types of explosions (and possibly more to come).
-    SHOTGUN_EXPLOSION("src/resources/img/bullet/explosion/explosion1", 16, 16),
-    GRENADE_EXPLOSION("src/resources/img/bullet/explosion/explosion2", 16, 8);
+    SHOTGUN_EXPLOSION("src/resources/img/bullet/explosion/explosion1", 16, 16, DamageFalloff.NONE),
+    GRENADE_EXPLOSION("src/resources/img/bullet/explosion/explosion2", 16, 8, DamageFalloff.LINEAR);
     //  Information relevant to the explosion animation.
     private final String explosionPath;
     private final BufferedImage[] explosionImages;
     private final int frames;
     private final int explosionFPS;
+    //  How the explosion's damage weakens towards the edge of its radius.
+    private final DamageFalloff falloff;
 
-    private ExplosionType(String _path, int _frames, int _fps) {
+    private ExplosionType(String _path, int _frames, int _fps, DamageFalloff _falloff) {
         this.explosionPath = _path;
         this.frames = _frames;
         this.explosionFPS = _fps;
+        this.falloff = _falloff;
         this.explosionImages = Utilities.loadFrames(this.explosionPath, this.frames);
     }
 
@@ -36,5 +43,21 @@ public enum ExplosionType {
     public BufferedImage[] getExplosionFrames() {
         return this.explosionImages;
     }
+
+    public int getWidth() {
+        return this.explosionImages[0] == null ? 0 : this.explosionImages[0].getWidth();
+    }
+
+    public int getHeight() {
+        return this.explosionImages[0] == null ? 0 : this.explosionImages[0].getHeight();
+    }
+
+    public double getRadius() {
+        return Math.max(this.getWidth(), this.getHeight()) / 2.0;
+    }
+
+    public DamageFalloff getFalloff() {
+        return this.falloff;
+    }
     
 }
@@ -1,17 +1,18 @@
 package com.dsd.game.objects.items;
 
+import com.dsd.game.controller.RandomController;
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.Sleepable;
 import com.dsd.game.objects.powerups.Powerup;
 import com.dsd.game.objects.powerups.PowerupType;
 import com.dsd.game.util.Utilities;
 import com.revivedstandards.controller.StandardAnimatorController;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.model.StandardID;
-import com.revivedstandards.util.StdOps;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
@@ -26,7 +27,7 @@ import java.awt.image.BufferedImage;
  *
  * @updated 12/3/19
  */
-public class Coin extends StandardGameObject implements Powerup {
+public class Coin extends StandardGameObject implements Powerup, Sleepable {
 
     //  Handler for the coins.
     private final StandardCollisionHandler parentContainer;
@@ -51,6 +52,8 @@ public class Coin extends StandardGameObject implements Powerup {
     private final int SMALL_COIN_VALUE = 1;
     private final int MED_COIN_VALUE = 5;
     private final int LARGE_COIN_VALUE = 10;
+    //  Below this speed (on both axes), the coin has stopped sliding.
+    private static final double REST_VELOCITY = 0.05;
     
     /**
      * The _small, _medium, and _large parameters should be sequential, and go
@@ -70,10 +73,11 @@ public class Coin extends StandardGameObject implements Powerup {
         super(_x, _y, StandardID.Coin);
         this.parentContainer = _sch;
         this.player = _game.getPlayer();
-        this.generateCoinType(_small, _medium, _large);
-        this.setVelX(StdOps.randBounds(-Coin.VEL_UPPER_BOUND, -Coin.VEL_LOWER_BOUND,
+        this.generateCoinType(_game, _small, _medium, _large);
+        RandomController random = _game.getRandomController();
+        this.setVelX(random.randBounds(RandomStream.PARTICLES, -Coin.VEL_UPPER_BOUND, -Coin.VEL_LOWER_BOUND,
                 Coin.VEL_LOWER_BOUND, Coin.VEL_UPPER_BOUND));
-        this.setVelY(StdOps.randBounds(-Coin.VEL_UPPER_BOUND, -Coin.VEL_LOWER_BOUND,
+        this.setVelY(random.randBounds(RandomStream.PARTICLES, -Coin.VEL_UPPER_BOUND, -Coin.VEL_LOWER_BOUND,
                 Coin.VEL_LOWER_BOUND, Coin.VEL_UPPER_BOUND));
     }
 
@@ -95,6 +99,19 @@ public class Coin extends StandardGameObject implements Powerup {
         }
     }
 
+    @Override
+    public boolean isAtRest() {
+        return this.isAlive() && Math.abs(this.getVelX()) < Coin.REST_VELOCITY
+                && Math.abs(this.getVelY()) < Coin.REST_VELOCITY;
+    }
+
+    @Override
+    public void tickAsleep() {
+        if (this.getAnimationController() != null) {
+            this.getAnimationController().tick();
+        }
+    }
+
     @Override
     public void activate() {
         this.player.setMoney(this.player.getMoney() + this.getValue());
@@ -105,7 +122,7 @@ public class Coin extends StandardGameObject implements Powerup {
      * Plays a random coin collection sfx.
      */
     private void playCoinSFX() {
-        StandardAudioController.play("src/resources/audio/sfx/coin0.wav", StandardAudioType.SFX);
+        this.player.getGame().getAudioBoxController().play("src/resources/audio/sfx/coin0.wav", StandardAudioType.SFX);
     }
 
     /**
@@ -119,12 +136,13 @@ public class Coin extends StandardGameObject implements Powerup {
     /**
      * Generates a coin type depending on the probability of the coins.
      *
+     * @param _game
      * @param _small
      * @param _medium
      * @param _large
      */
-    private void generateCoinType(double _small, double _medium, double _large) {
-        int coin = StdOps.rand(Coin.MIN_GEN_VALUE, Coin.MAX_GEN_VALUE);
+    private void generateCoinType(Game _game, double _small, double _medium, double _large) {
+        int coin = _game.getRandomController().rand(RandomStream.LOOT, Coin.MIN_GEN_VALUE, Coin.MAX_GEN_VALUE);
         if (coin < _small * Coin.MAX_GEN_VALUE) {
             this.setAnimation(new StandardAnimatorController(this, Coin.coinOneFrames, this.COIN_FPS));
             this.value = this.SMALL_COIN_VALUE;
@@ -1,14 +1,14 @@
 package com.dsd.game.objects.powerups;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.TimerController;
+import com.dsd.game.core.TimerClock;
+import com.dsd.game.controller.TimerHandle;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.Sleepable;
 import com.dsd.game.objects.weapons.Weapon;
 import com.dsd.game.userinterface.Screen;
-import com.dsd.game.userinterface.TimerInterface;
 import com.dsd.game.util.Utilities;
 import com.revivedstandards.controller.StandardAnimatorController;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.controller.StandardFadeController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.main.StandardCamera;
@@ -21,8 +21,6 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.Stroke;
 import java.awt.image.BufferedImage;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Health object for when the player is damaged, they can pick it up and restore
@@ -34,14 +32,14 @@ import java.util.TimerTask;
  *
  * @updated 12/10/19
  */
-public class BerserkPowerup extends StandardGameObject implements TimerInterface, Powerup {
+public class BerserkPowerup extends StandardGameObject implements Powerup, Sleepable {
 
     //  Miscellaneous reference variables
     private final Game game;
     private final Player player;
     private final StandardCamera camera;
     private final StandardCollisionHandler parentContainer;
-    private Timer powerupTimer;
+    private TimerHandle powerupTimer;
     //  View (how the object is displayed).
     private final StandardFadeController color;
     private static final BufferedImage[] BERSERK_FRAMES;
@@ -77,6 +75,16 @@ public class BerserkPowerup extends StandardGameObject implements TimerInterface
         }
     }
 
+    @Override
+    public boolean isAtRest() {
+        return this.isAlive();
+    }
+
+    @Override
+    public void tickAsleep() {
+        this.getAnimationController().tick();
+    }
+
     @Override
     public void render(Graphics2D _g2) {
         if (this.isAlive()) {
@@ -96,22 +104,12 @@ public class BerserkPowerup extends StandardGameObject implements TimerInterface
         }
         this.playBerserkSFX();
         this.setCollected();
-        /**
-         * We need to instantiate a new timer in the event that the previous one
-         * was canceled.
-         */
-        this.powerupTimer = new Timer(true);
-        this.powerupTimer.schedule(new BerserkTimer(this), timer);
-        TimerController.addTimer(this);
+        this.powerupTimer = this.game.getTimerController().schedule(
+                new BerserkTimer(this), TimerClock.LEVEL, this.timer);
         this.isActivated = true;
         this.activateDamageBoost();
     }
 
-    @Override
-    public void cancelTimer() {
-        this.powerupTimer.cancel();
-    }
-
     /**
      * Adds the 2x damage multiplier to the player's current weapon.
      */
@@ -135,7 +133,7 @@ public class BerserkPowerup extends StandardGameObject implements TimerInterface
         if (this.isCollected) {
             return;
         }
-        StandardAudioController.play("src/resources/audio/sfx/berserk.wav", StandardAudioType.SFX);
+        this.game.getAudioBoxController().play("src/resources/audio/sfx/berserk.wav", StandardAudioType.SFX);
     }
 
     /**
@@ -182,7 +180,7 @@ public class BerserkPowerup extends StandardGameObject implements TimerInterface
         BERSERK_FRAMES = Utilities.loadFrames("src/resources/img/items/drops/berserk/", 6);
     }
 
-    private class BerserkTimer extends TimerTask {
+    private class BerserkTimer implements Runnable {
 
         private final BerserkPowerup powerup;
 
@@ -2,9 +2,9 @@ package com.dsd.game.objects.powerups;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.Sleepable;
 import com.dsd.game.util.Utilities;
 import com.revivedstandards.controller.StandardAnimatorController;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.StandardAnimation;
 import com.revivedstandards.model.StandardAudioType;
@@ -23,7 +23,7 @@ import java.awt.image.BufferedImage;
  *
  * @updated 12/3/19
  */
-public class HealthPowerup extends StandardGameObject implements Powerup {
+public class HealthPowerup extends StandardGameObject implements Powerup, Sleepable {
 
     //  Miscellaneous reference variabeles.
     private final Player player;
@@ -53,11 +53,26 @@ public class HealthPowerup extends StandardGameObject implements Powerup {
         if (this.isAlive()) {
             this.getAnimationController().tick();
         } else {
-            StandardAudioController.play("src/resources/audio/sfx/restore_health.wav", StandardAudioType.SFX);
+            this.player.getGame().getAudioBoxController().play("src/resources/audio/sfx/restore_health.wav", StandardAudioType.SFX);
             this.parentContainer.removeEntity(this);
         }
     }
 
+    /**
+     * Powerups never move, so they can sleep until they're picked up.
+     *
+     * @return
+     */
+    @Override
+    public boolean isAtRest() {
+        return this.isAlive();
+    }
+
+    @Override
+    public void tickAsleep() {
+        this.getAnimationController().tick();
+    }
+
     @Override
     public void render(Graphics2D _g2) {
         if (this.isAlive()) {
@@ -1,15 +1,15 @@
 package com.dsd.game.objects.powerups;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.TimerController;
+import com.dsd.game.core.TimerClock;
+import com.dsd.game.controller.TimerHandle;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.Sleepable;
 import com.dsd.game.objects.weapons.Gun;
 import com.dsd.game.objects.weapons.Weapon;
 import com.dsd.game.userinterface.Screen;
-import com.dsd.game.userinterface.TimerInterface;
 import com.dsd.game.util.Utilities;
 import com.revivedstandards.controller.StandardAnimatorController;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.controller.StandardFadeController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.main.StandardCamera;
@@ -22,8 +22,6 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.Stroke;
 import java.awt.image.BufferedImage;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Health object for when the player is damaged, they can pick it up and restore
@@ -35,14 +33,14 @@ import java.util.TimerTask;
  *
  * @updated 12/3/19
  */
-public class InfiniteAmmoPowerup extends StandardGameObject implements TimerInterface, Powerup {
+public class InfiniteAmmoPowerup extends StandardGameObject implements Powerup, Sleepable {
 
     // Miscellaneous reference variables.
     private final Game game;
     private final Player player;
     private final StandardCamera camera;
     private final StandardCollisionHandler parentContainer;
-    private Timer powerupTimer;
+    private TimerHandle powerupTimer;
     //  View variables and configurations.
     private final StandardFadeController color;
     private static final BufferedImage[] INFINITE_AMMO_FRAMES;
@@ -77,6 +75,16 @@ public class InfiniteAmmoPowerup extends StandardGameObject implements TimerInte
         }
     }
 
+    @Override
+    public boolean isAtRest() {
+        return this.isAlive();
+    }
+
+    @Override
+    public void tickAsleep() {
+        this.getAnimationController().tick();
+    }
+
     @Override
     public void render(Graphics2D _g2) {
         if (this.isAlive()) {
@@ -95,22 +103,12 @@ public class InfiniteAmmoPowerup extends StandardGameObject implements TimerInte
         if (this.isActivated) {
             return;
         }
-        /**
-         * We need to instantiate a new timer in the event that the previous one
-         * was canceled.
-         */
-        this.powerupTimer = new Timer(true);
-        this.powerupTimer.schedule(new InfiniteAmmoTimer(this), timer);
-        TimerController.addTimer(this);
+        this.powerupTimer = this.game.getTimerController().schedule(
+                new InfiniteAmmoTimer(this), TimerClock.LEVEL, this.timer);
         this.isActivated = true;
         this.playInfAmmoSFX();
     }
 
-    @Override
-    public void cancelTimer() {
-        this.powerupTimer.cancel();
-    }
-
     /**
      * Sets the player's ammo to their current magazine ammount, thus simulating
      * infinite ammo.
@@ -131,7 +129,7 @@ public class InfiniteAmmoPowerup extends StandardGameObject implements TimerInte
         if (this.isCollected) {
             return;
         }
-        StandardAudioController.play("src/resources/audio/sfx/pickup.wav", StandardAudioType.SFX);
+        this.game.getAudioBoxController().play("src/resources/audio/sfx/pickup.wav", StandardAudioType.SFX);
     }
 
     /**
@@ -182,7 +180,7 @@ public class InfiniteAmmoPowerup extends StandardGameObject implements TimerInte
      * powerup, the timer starts and continues until x milliseconds have passed,
      * then deactivates the powerup.
      */
-    private class InfiniteAmmoTimer extends TimerTask {
+    private class InfiniteAmmoTimer implements Runnable {
 
         private final InfiniteAmmoPowerup powerup;
 
@@ -1,19 +1,30 @@
 package com.dsd.game.objects.weapons;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.Tracer;
+import com.dsd.game.objects.enums.ExplosionType;
+import com.dsd.game.objects.weapons.enums.ProjectileType;
 import com.dsd.game.objects.weapons.enums.WeaponState;
 import com.dsd.game.objects.weapons.enums.WeaponType;
+import com.dsd.game.objects.weapons.projectiles.ProjectileGameObject;
 import com.dsd.game.util.Utilities;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
+import com.revivedstandards.main.StandardCamera;
 import com.revivedstandards.model.StandardAudioType;
 import java.awt.image.BufferedImage;
+import org.apache.commons.math3.util.FastMath;
 
 /**
  * This class is a template for a gun. In the future, this will be abstract, so
  * other guns can extend it and modify the fields as needed.
  *
+ * When the game has hitscan enabled, guns that support it call
+ * shootHitscan() instead of spawning a bullet: the shot is resolved on the
+ * spot as a ray from the player towards the cursor, and only a tracer is
+ * left behind to draw.
+ *
  * [Group Name: Data Structure Deadheads]
  *
  * @author Joshua, Ronald, Rinty
@@ -82,11 +93,77 @@ public abstract class Gun extends Weapon {
      */
     public abstract void shoot();
 
+    /**
+     * Fires a shot as a ray rather than a bullet, aimed the same way a bullet
+     * would be. It reaches as far as the edge of the screen, which is where a
+     * bullet would have been removed.
+     *
+     * @param _damage
+     * @param _speed speed of the bullet the shot stands in for; the enemy hit
+     * is pushed as if by that bullet.
+     * @param _explosion explosion the bullet would have set off, or null.
+     */
+    protected void shootHitscan(int _damage, double _speed, ExplosionType _explosion) {
+        StandardCamera camera = this.game.getCamera();
+        double x = this.player.getX() + this.player.getWidth() / 2;
+        double y = this.player.getY() + this.player.getHeight() / 2;
+        double dirX = this.game.getInputController().getWorldMouseX() - this.player.getX();
+        double dirY = this.game.getInputController().getWorldMouseY() - this.player.getY();
+        double distance = FastMath.sqrt(dirX * dirX + dirY * dirY);
+        if (distance == 0) {
+            return;
+        }
+        dirX /= distance;
+        dirY /= distance;
+        double range = this.getRangeInView(camera, x, y, dirX, dirY);
+        double reach = this.game.getCollisionHandlerController().castRay(x, y, dirX, dirY, range, _damage, _speed, _explosion);
+        this.player.getTracerHandler().addEntity(new Tracer(x, y, x + dirX * reach, y + dirY * reach));
+    }
+
+    /**
+     * Fires a projectile of type _type from the middle of the player, taking
+     * it from the collision handler's pool.
+     *
+     * @param _type
+     * @param _damage
+     */
+    protected void shootProjectile(ProjectileType _type, int _damage) {
+        ProjectileGameObject projectile = this.game.getCollisionHandlerController().getProjectilePool().acquire(_type,
+                (int) this.player.getX() + this.player.getWidth() / 2,
+                (int) this.player.getY() + this.player.getHeight() / 2,
+                this.player.getAngle(), _damage, this.player);
+        this.globalHandler.addEntity(projectile);
+    }
+
+    /**
+     * Returns how far a ray from (_x, _y) in the direction (_dirX, _dirY) goes
+     * before it leaves the camera's view.
+     *
+     * @param _camera
+     * @param _x
+     * @param _y
+     * @param _dirX
+     * @param _dirY
+     * @return
+     */
+    private double getRangeInView(StandardCamera _camera, double _x, double _y, double _dirX, double _dirY) {
+        double range = Double.MAX_VALUE;
+        if (_dirX != 0) {
+            double edge = _dirX > 0 ? _camera.getX() + _camera.getVpw() : _camera.getX() - _camera.getVpw();
+            range = Math.min(range, (edge - _x) / _dirX);
+        }
+        if (_dirY != 0) {
+            double edge = _dirY > 0 ? _camera.getY() + _camera.getVph() : _camera.getY() - _camera.getVph();
+            range = Math.min(range, (edge - _y) / _dirY);
+        }
+        return Math.max(0, range);
+    }
+
     /**
      * Plays the sound effect associated with the gun type.
      */
     public void playGunShotSFX() {
-        StandardAudioController.play("src/resources/audio/sfx/" + this.getWeaponType() + ".wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/" + this.getWeaponType() + ".wav", StandardAudioType.SFX);
     }
 
     /**
@@ -181,7 +258,8 @@ public abstract class Gun extends Weapon {
     }
 
     public BufferedImage getRandomCasing() {
-        return this.casingImages[(int) (Math.random() * this.casingImages.length)];
+        return this.casingImages[this.getGame().getRandomController().rand(RandomStream.PARTICLES,
+                0, this.casingImages.length - 1)];
     }
 //============================== SETTERS ===================================//
 
@@ -2,6 +2,7 @@ package com.dsd.game.objects.weapons;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.weapons.enums.ProjectileType;
 import com.dsd.game.objects.weapons.enums.WeaponType;
 import com.dsd.game.objects.weapons.projectiles.BulletGameObject;
 import com.dsd.game.util.Utilities;
@@ -51,7 +52,11 @@ public class Minigun extends Gun {
 
     @Override
     public void shoot() {
-        this.addBullet();
+        if (super.getGame().isHitscanEnabled()) {
+            super.shootHitscan(BULLET_DAMAGE * this.getDamageFactor(), BulletGameObject.VEL_FACTOR, null);
+        } else {
+            this.addBullet();
+        }
         super.deductAmmo();
     }
 
@@ -59,11 +64,7 @@ public class Minigun extends Gun {
      * Adds a bullet to the global handler.
      */
     private void addBullet() {
-        super.getHandler().addEntity(new BulletGameObject(
-                (int) super.getPlayer().getX() + super.getPlayer().getWidth() / 2,
-                (int) super.getPlayer().getY() + super.getPlayer().getHeight() / 2,
-                super.getPlayer().getAngle(), BULLET_DAMAGE * this.getDamageFactor(),
-                super.getGame(), super.getHandler(), super.getPlayer()));
+        super.shootProjectile(ProjectileType.BULLET, BULLET_DAMAGE * this.getDamageFactor());
     }
 
     @Override
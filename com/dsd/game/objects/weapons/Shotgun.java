@@ -2,6 +2,8 @@ package com.dsd.game.objects.weapons;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.objects.Player;
+import com.dsd.game.objects.enums.ExplosionType;
+import com.dsd.game.objects.weapons.enums.ProjectileType;
 import com.dsd.game.objects.weapons.enums.WeaponType;
 import com.dsd.game.objects.weapons.projectiles.ShotgunBulletObject;
 import com.dsd.game.util.Utilities;
@@ -51,7 +53,11 @@ public class Shotgun extends Gun {
 
     @Override
     public void shoot() {
-        this.addBullet();
+        if (super.getGame().isHitscanEnabled()) {
+            super.shootHitscan(BULLET_DAMAGE * this.getDamageFactor(), ShotgunBulletObject.VEL_FACTOR, ExplosionType.SHOTGUN_EXPLOSION);
+        } else {
+            this.addBullet();
+        }
         super.deductAmmo();
     }
 
@@ -72,11 +78,7 @@ public class Shotgun extends Gun {
      * Adds a bullet to the global handler.
      */
     private void addBullet() {
-        super.getHandler().addEntity(new ShotgunBulletObject(
-                (int) super.getPlayer().getX() + super.getPlayer().getWidth() / 2,
-                (int) super.getPlayer().getY() + super.getPlayer().getHeight() / 2,
-                super.getPlayer().getAngle(), BULLET_DAMAGE * this.getDamageFactor(),
-                super.getGame(), super.getHandler(), super.getPlayer()));
+        super.shootProjectile(ProjectileType.SHOTGUN_BULLET, BULLET_DAMAGE * this.getDamageFactor());
     }
 
 }
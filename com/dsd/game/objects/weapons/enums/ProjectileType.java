@@ -0,0 +1,16 @@
+package com.dsd.game.objects.weapons.enums;
+
+/**
+ * Enum of the projectiles kept in the ProjectilePool, one free list each.
+ * Grenades and boss projectiles aren't pooled; they are rare, and set things
+ * off when they die.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum ProjectileType {
+    BULLET, SHOTGUN_BULLET;
+}
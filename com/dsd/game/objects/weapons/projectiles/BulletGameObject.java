@@ -20,7 +20,7 @@ import java.awt.image.BufferedImage;
 public class BulletGameObject extends ProjectileGameObject {
 
     //  Velocity factor applied to the bullet.
-    private static final int VEL_FACTOR = 20;
+    public static final int VEL_FACTOR = 20;
 
     //  Static reference to the BufferedImages.
     private static final BufferedImage[] frames = new BufferedImage[1];
@@ -2,7 +2,6 @@ package com.dsd.game.objects.weapons.projectiles;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.objects.Player;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.model.DeathListener;
 import com.revivedstandards.model.StandardAudioType;
@@ -60,7 +59,7 @@ public class GrenadeBulletObject extends ProjectileGameObject implements DeathLi
 
     @Override
     public void uponDeath() {
-        StandardAudioController.play("src/resources/audio/sfx/grenade_explosion.wav", StandardAudioType.SFX);
+        this.getGame().getAudioBoxController().play("src/resources/audio/sfx/grenade_explosion.wav", StandardAudioType.SFX);
     }
 
     /**
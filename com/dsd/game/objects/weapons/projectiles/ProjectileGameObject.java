@@ -1,6 +1,7 @@
 package com.dsd.game.objects.weapons.projectiles;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.objects.weapons.enums.ProjectileType;
 import com.revivedstandards.controller.StandardAnimatorController;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.main.StandardCamera;
@@ -15,6 +16,14 @@ import org.apache.commons.math3.util.FastMath;
  * This class represents some arbitrary projectile in the game. This can range
  * from bullets shot from the player, or projectiles shot by the enemy, etc.
  *
+ * Projectiles move far enough in one tick to pass straight through a small
+ * enemy, so the position they started the tick at is kept; the collision
+ * handler sweeps them from there to where they are now (see SweptCollision)
+ * instead of only testing where they end up.
+ *
+ * Bullets are reused through the ProjectilePool, so everything a shot sets
+ * up is set up again by reset().
+ *
  * [Group Name: Data Structure Deadheads]
  *
  * @author Joshua, Ronald, Rinty
@@ -30,12 +39,22 @@ public class ProjectileGameObject extends StandardGameObject {
 
     private int damage = 0;
 
+    //  Position at the start of the last tick.
+    private double previousX;
+    private double previousY;
+
     //  Velocity factor applied to the bullet.
     private final int VEL_FACTOR;
 
     //  Animation frame per second setting
     private static final int BULLET_FPS = 20;
 
+    //  Pool this projectile came from (null if it wasn't pooled), and whether
+    //  it is sitting in the pool right now.
+    private ProjectilePool pool;
+    private ProjectileType poolType;
+    private boolean free = false;
+
     public ProjectileGameObject(int _x, int _y, double _angle, int _damage,
             int _velFactor, BufferedImage[] _frames, int _projectileFPS, Game _game,
             StandardCollisionHandler _parentContainer, StandardGameObject _parent, StandardID _id) {
@@ -50,14 +69,19 @@ public class ProjectileGameObject extends StandardGameObject {
         this.setAlive(true);
         this.setAngle(_angle);
         this.VEL_FACTOR = _velFactor;
-        this.setVelocity(_parent.getX(), _parent.getY(), _game.getCamera().getCamMouseX(), _game.getCamera().getCamMouseY());
+        this.setVelocity(_parent.getX(), _parent.getY(), _game.getInputController().getWorldMouseX(),
+                _game.getInputController().getWorldMouseY());
         this.sch.flagAlive(this.getId());
         this.sch.addCollider(this.getId());
         this.camera = this.game.getCamera();
+        this.previousX = this.getX();
+        this.previousY = this.getY();
     }
 
     @Override
     public void tick() {
+        this.previousX = this.getX();
+        this.previousY = this.getY();
         if (this.camera.SGOInBounds(this)) {
             this.setX(this.getX() + this.getVelX());
             this.setY(this.getY() + this.getVelY());
@@ -83,16 +107,62 @@ public class ProjectileGameObject extends StandardGameObject {
     }
 
 //============================ SETTERS ====================================//
+    /**
+     * Readies a projectile taken from the pool to be fired again, as if it
+     * had just been constructed with these arguments.
+     *
+     * @param _x
+     * @param _y
+     * @param _angle
+     * @param _damage
+     * @param _parent
+     */
+    void reset(int _x, int _y, double _angle, int _damage, StandardGameObject _parent) {
+        this.setX(_x);
+        this.setY(_y);
+        this.damage = _damage;
+        this.setAlive(true);
+        this.setAngle(_angle);
+        this.setVelocity(_parent.getX(), _parent.getY(), this.game.getInputController().getWorldMouseX(),
+                this.game.getInputController().getWorldMouseY());
+        this.previousX = this.getX();
+        this.previousY = this.getY();
+        this.getAnimationController().getStandardAnimation().setCurrentFrameIndex(0);
+        this.free = false;
+    }
+
+    void setPool(ProjectilePool _pool, ProjectileType _type) {
+        this.pool = _pool;
+        this.poolType = _type;
+    }
+
+    void setFree(boolean _free) {
+        this.free = _free;
+    }
+
+    /**
+     * Moves the projectile back along its path for the last tick, to the
+     * point _time of the way (0 to 1) from where it started; used to put it
+     * where it actually hit something.
+     *
+     * @param _time
+     */
+    public void rewindTo(double _time) {
+        this.setX(this.previousX + (this.getX() - this.previousX) * _time);
+        this.setY(this.previousY + (this.getY() - this.previousY) * _time);
+    }
+
     /**
      * Instantiates the velocity of the bullet depending on where the cursor is
-     * in relation to the player.
+     * in relation to the player. The cursor comes from the current input
+     * frame, so a replayed shot goes where the recorded one did.
      *
      * @param _x
      * @param _y
      * @param _mx
      * @param _my
      */
-    private void setVelocity(double _x, double _y, int _mx, int _my) {
+    private void setVelocity(double _x, double _y, double _mx, double _my) {
         double deltaX = (_mx - _x);
         double deltaY = (_my - _y);
         // Use the pythagorean theorem to solve for the hypotenuse distance
@@ -105,7 +175,40 @@ public class ProjectileGameObject extends StandardGameObject {
     }
 
 //========================== GETTERS =======================================//
+    public Game getGame() {
+        return this.game;
+    }
+
     public int getDamage() {
         return this.damage;
     }
-}
+
+    public ProjectilePool getPool() {
+        return this.pool;
+    }
+
+    public ProjectileType getPoolType() {
+        return this.poolType;
+    }
+
+    public boolean isFree() {
+        return this.free;
+    }
+
+    public double getPreviousX() {
+        return this.previousX;
+    }
+
+    public double getPreviousY() {
+        return this.previousY;
+    }
+
+    /**
+     * Returns true if the projectile moved during its last tick.
+     *
+     * @return
+     */
+    public boolean hasMoved() {
+        return this.previousX != this.getX() || this.previousY != this.getY();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.dsd.game.objects.weapons.projectiles;
+
+import com.dsd.game.core.Game;
+import com.dsd.game.objects.Player;
+import com.dsd.game.objects.weapons.enums.ProjectileType;
+import com.revivedstandards.handlers.StandardCollisionHandler;
+import java.util.ArrayList;
+
+/**
+ * Reuses the projectiles the guns fire. A projectile that went off screen or
+ * hit something is handed back by the collision handler once it is out of
+ * the entity list, and the next shot of its type gets it back with a new
+ * position, angle, velocity and damage, keeping its animation controller.
+ * Once there are as many of a type as are ever in flight at once, sustained
+ * fire allocates nothing.
+ *
+ * Only touched by the game thread, like the handler's entity list itself.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class ProjectilePool {
+
+    //  Projectiles beyond this many free of a type are left to the GC.
+    private static final int MAX_FREE_PER_TYPE = 512;
+    //  Miscellaneous reference variables.
+    private final Game game;
+    private final StandardCollisionHandler sch;
+    //  Free projectiles, by the ordinal of their type.
+    private final ArrayList<ArrayList<ProjectileGameObject>> free;
+    //  Shots served from a free list, shots that needed a new projectile, and
+    //  projectiles handed back.
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long releasedCount = 0;
+
+    public ProjectilePool(Game _game, StandardCollisionHandler _sch) {
+        this.game = _game;
+        this.sch = _sch;
+        this.free = new ArrayList<>();
+        for (int i = 0; i < ProjectileType.values().length; i++) {
+            this.free.add(new ArrayList<ProjectileGameObject>());
+        }
+    }
+
+    /**
+     * Returns a projectile of type _type at (_x, _y), fired by _parent towards
+     * the mouse; it still has to be added to the handler.
+     *
+     * @param _type
+     * @param _x
+     * @param _y
+     * @param _angle
+     * @param _damage
+     * @param _parent
+     * @return
+     */
+    public ProjectileGameObject acquire(ProjectileType _type, int _x, int _y, double _angle, int _damage,
+            Player _parent) {
+        ArrayList<ProjectileGameObject> projectiles = this.free.get(_type.ordinal());
+        if (!projectiles.isEmpty()) {
+            ProjectileGameObject projectile = projectiles.remove(projectiles.size() - 1);
+            projectile.reset(_x, _y, _angle, _damage, _parent);
+            this.hitCount++;
+            return projectile;
+        }
+        ProjectileGameObject projectile;
+        switch (_type) {
+            case BULLET:
+                projectile = new BulletGameObject(_x, _y, _angle, _damage, this.game, this.sch, _parent);
+                break;
+            case SHOTGUN_BULLET:
+                projectile = new ShotgunBulletObject(_x, _y, _angle, _damage, this.game, this.sch, _parent);
+                break;
+            default:
+                throw new IllegalArgumentException("Projectile type " + _type + " isn't pooled!");
+        }
+        projectile.setPool(this, _type);
+        this.missCount++;
+        return projectile;
+    }
+
+    /**
+     * Takes _projectile back. It must already be out of every handler.
+     *
+     * @param _projectile
+     * @return false if it doesn't belong to this pool or was already free.
+     */
+    public boolean release(ProjectileGameObject _projectile) {
+        if (_projectile.getPool() != this || _projectile.isFree()) {
+            return false;
+        }
+        _projectile.setFree(true);
+        ArrayList<ProjectileGameObject> projectiles = this.free.get(_projectile.getPoolType().ordinal());
+        if (projectiles.size() < ProjectilePool.MAX_FREE_PER_TYPE) {
+            projectiles.add(_projectile);
+        }
+        this.releasedCount++;
+        return true;
+    }
+
+    /**
+     * Lets go of every free projectile.
+     */
+    public void clear() {
+        for (int i = 0; i < this.free.size(); i++) {
+            this.free.get(i).clear();
+        }
+    }
+
+//============================== GETTERS =====================================
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    public long getReleasedCount() {
+        return this.releasedCount;
+    }
+
+    public int getFreeCount(ProjectileType _type) {
+        return this.free.get(_type.ordinal()).size();
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.dsd.game.particles;
 
+import com.dsd.game.controller.RandomController;
+import com.dsd.game.core.Game;
+import com.dsd.game.core.RandomStream;
 import com.revivedstandards.handlers.StandardParticleHandler;
 import com.revivedstandards.model.StandardBoxParticle;
-import com.revivedstandards.util.StdOps;
 import com.revivedstandards.view.ShapeType;
 import java.awt.Color;
 import java.awt.Graphics2D;
@@ -26,11 +28,14 @@ public class SlowingBoxParticle extends StandardBoxParticle {
     private static final double VEL_LOWER_BOUND = 0.05;
     private static final double VEL_UPPER_BOUND = 2.5;
 
-    public SlowingBoxParticle(double _x, double _y, double _dimension, Color _color, double _life, StandardParticleHandler _sph, double _angle, ShapeType _type) {
+    public SlowingBoxParticle(double _x, double _y, double _dimension, Color _color, double _life, StandardParticleHandler _sph, double _angle, ShapeType _type, Game _game) {
         super(_x, _y, _dimension, 0, 0, _color, _life, _sph, _angle, _type, false);
-        this.setVelX(StdOps.randBounds(-SlowingBoxParticle.VEL_UPPER_BOUND, -SlowingBoxParticle.VEL_LOWER_BOUND,
+        RandomController random = _game.getRandomController();
+        this.setVelX(random.randBounds(RandomStream.PARTICLES,
+                -SlowingBoxParticle.VEL_UPPER_BOUND, -SlowingBoxParticle.VEL_LOWER_BOUND,
                 SlowingBoxParticle.VEL_LOWER_BOUND, SlowingBoxParticle.VEL_UPPER_BOUND));
-        this.setVelY(StdOps.randBounds(-SlowingBoxParticle.VEL_UPPER_BOUND, -SlowingBoxParticle.VEL_LOWER_BOUND,
+        this.setVelY(random.randBounds(RandomStream.PARTICLES,
+                -SlowingBoxParticle.VEL_UPPER_BOUND, -SlowingBoxParticle.VEL_LOWER_BOUND,
                 SlowingBoxParticle.VEL_LOWER_BOUND, SlowingBoxParticle.VEL_UPPER_BOUND));
     }
 
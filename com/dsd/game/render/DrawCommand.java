@@ -0,0 +1,16 @@
+package com.dsd.game.render;
+
+/**
+ * Enum that lists the kinds of commands a DrawList can hold.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum DrawCommand {
+
+    SPRITE, LINE, OVAL, RECT, TEXT, COMPOSITE;
+
+}
@@ -0,0 +1,84 @@
+package com.dsd.game.render;
+
+/**
+ * Everything the render thread needs to rasterize one frame: one DrawList per
+ * layer, plus the world-space rectangle the frame covers (the camera's view
+ * when the frame was recorded).
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class DrawFrame {
+
+    private final DrawList[] layers;
+    private double originX;
+    private double originY;
+    private int width;
+    private int height;
+
+    public DrawFrame() {
+        this.layers = new DrawList[DrawLayer.values().length];
+        for (int i = 0; i < this.layers.length; i++) {
+            this.layers[i] = new DrawList();
+        }
+    }
+
+    /**
+     * Empties every layer and sets the area the next recording covers.
+     *
+     * @param _originX
+     * @param _originY
+     * @param _width
+     * @param _height
+     */
+    public void reset(double _originX, double _originY, int _width, int _height) {
+        for (DrawList list : this.layers) {
+            list.clear();
+        }
+        this.originX = _originX;
+        this.originY = _originY;
+        this.width = _width;
+        this.height = _height;
+    }
+
+    /**
+     * Returns true if the world-space box at (_x, _y) of size (_width,
+     * _height) overlaps the area this frame covers. Used to skip recording
+     * anything that would land off screen.
+     *
+     * @param _x
+     * @param _y
+     * @param _width
+     * @param _height
+     * @return
+     */
+    public boolean isVisible(double _x, double _y, double _width, double _height) {
+        return _x + _width >= this.originX && _x <= this.originX + this.width
+                && _y + _height >= this.originY && _y <= this.originY + this.height;
+    }
+
+//============================== GETTERS =====================================
+    public DrawList getLayer(DrawLayer _layer) {
+        return this.layers[_layer.ordinal()];
+    }
+
+    public double getOriginX() {
+        return this.originX;
+    }
+
+    public double getOriginY() {
+        return this.originY;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+}
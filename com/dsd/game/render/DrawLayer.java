@@ -0,0 +1,18 @@
+package com.dsd.game.render;
+
+/**
+ * Enum that lists the layers recorded into draw lists and rasterized off the
+ * game thread. GROUND is drawn underneath the entities (blood, casings), and
+ * WEATHER on top of them (rain, snow, hitscan tracers).
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum DrawLayer {
+
+    GROUND, WEATHER;
+
+}
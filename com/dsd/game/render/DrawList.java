@@ -0,0 +1,209 @@
+package com.dsd.game.render;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.util.Arrays;
+
+/**
+ * A recorded list of draw commands, in world coordinates. The game thread
+ * fills a list during tick, and once it is published it is treated as
+ * immutable; the render thread replays it with rasterize().
+ *
+ * Commands are packed into three parallel arrays (the command itself, its
+ * numeric arguments, and its object arguments such as colors and sprites)
+ * that are reused from frame to frame, so recording thousands of particles
+ * doesn't allocate a command object for each one.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class DrawList {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private DrawCommand[] commands;
+    private float[] args;
+    private Object[] refs;
+    private int commandCount = 0;
+    private int argCount = 0;
+    private int refCount = 0;
+
+    public DrawList() {
+        this.commands = new DrawCommand[INITIAL_CAPACITY];
+        this.args = new float[INITIAL_CAPACITY << 2];
+        this.refs = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Empties the list so it can be recorded into again. References to sprites,
+     * colors, etc. are dropped so the list doesn't keep them alive.
+     */
+    public void clear() {
+        Arrays.fill(this.refs, 0, this.refCount, null);
+        this.commandCount = 0;
+        this.argCount = 0;
+        this.refCount = 0;
+    }
+
+    /**
+     * Replaces this list's commands with a copy of _other's, growing the
+     * arrays only if _other's don't fit.
+     *
+     * @param _other
+     */
+    public void copyFrom(DrawList _other) {
+        this.clear();
+        if (this.commands.length < _other.commandCount) {
+            this.commands = new DrawCommand[_other.commands.length];
+        }
+        if (this.args.length < _other.argCount) {
+            this.args = new float[_other.args.length];
+        }
+        if (this.refs.length < _other.refCount) {
+            this.refs = new Object[_other.refs.length];
+        }
+        System.arraycopy(_other.commands, 0, this.commands, 0, _other.commandCount);
+        System.arraycopy(_other.args, 0, this.args, 0, _other.argCount);
+        System.arraycopy(_other.refs, 0, this.refs, 0, _other.refCount);
+        this.commandCount = _other.commandCount;
+        this.argCount = _other.argCount;
+        this.refCount = _other.refCount;
+    }
+
+    public void addSprite(Image _sprite, double _x, double _y) {
+        this.push(DrawCommand.SPRITE, 2, 1);
+        this.refs[this.refCount++] = _sprite;
+        this.args[this.argCount++] = (float) _x;
+        this.args[this.argCount++] = (float) _y;
+    }
+
+    public void addLine(Color _color, double _x1, double _y1, double _x2, double _y2) {
+        this.push(DrawCommand.LINE, 4, 1);
+        this.refs[this.refCount++] = _color;
+        this.pushArgs(_x1, _y1, _x2, _y2);
+    }
+
+    public void addOval(Color _color, double _x, double _y, double _width, double _height) {
+        this.push(DrawCommand.OVAL, 4, 1);
+        this.refs[this.refCount++] = _color;
+        this.pushArgs(_x, _y, _width, _height);
+    }
+
+    public void addRect(Color _color, double _x, double _y, double _width, double _height) {
+        this.push(DrawCommand.RECT, 4, 1);
+        this.refs[this.refCount++] = _color;
+        this.pushArgs(_x, _y, _width, _height);
+    }
+
+    public void addText(String _text, Font _font, Color _color, double _x, double _y) {
+        this.push(DrawCommand.TEXT, 2, 3);
+        this.refs[this.refCount++] = _text;
+        this.refs[this.refCount++] = _font;
+        this.refs[this.refCount++] = _color;
+        this.args[this.argCount++] = (float) _x;
+        this.args[this.argCount++] = (float) _y;
+    }
+
+    /**
+     * Every command after this one is drawn with _composite, until the next
+     * composite command.
+     *
+     * @param _composite
+     */
+    public void setComposite(Composite _composite) {
+        this.push(DrawCommand.COMPOSITE, 0, 1);
+        this.refs[this.refCount++] = _composite;
+    }
+
+    /**
+     * Replays every command, in order, onto _g2. The graphics context is
+     * expected to already be translated so that world coordinates land in the
+     * right place.
+     *
+     * @param _g2
+     */
+    public void rasterize(Graphics2D _g2) {
+        Composite originalComposite = _g2.getComposite();
+        int a = 0;
+        int r = 0;
+        for (int i = 0; i < this.commandCount; i++) {
+            switch (this.commands[i]) {
+                case SPRITE:
+                    _g2.drawImage((Image) this.refs[r++], (int) this.args[a], (int) this.args[a + 1], null);
+                    a += 2;
+                    break;
+                case LINE:
+                    _g2.setColor((Color) this.refs[r++]);
+                    _g2.drawLine((int) this.args[a], (int) this.args[a + 1], (int) this.args[a + 2], (int) this.args[a + 3]);
+                    a += 4;
+                    break;
+                case OVAL:
+                    _g2.setColor((Color) this.refs[r++]);
+                    _g2.fillOval((int) this.args[a], (int) this.args[a + 1], (int) this.args[a + 2], (int) this.args[a + 3]);
+                    a += 4;
+                    break;
+                case RECT:
+                    _g2.setColor((Color) this.refs[r++]);
+                    _g2.fillRect((int) this.args[a], (int) this.args[a + 1], (int) this.args[a + 2], (int) this.args[a + 3]);
+                    a += 4;
+                    break;
+                case TEXT:
+                    _g2.setFont((Font) this.refs[r + 1]);
+                    _g2.setColor((Color) this.refs[r + 2]);
+                    _g2.drawString((String) this.refs[r], this.args[a], this.args[a + 1]);
+                    r += 3;
+                    a += 2;
+                    break;
+                case COMPOSITE:
+                    _g2.setComposite((Composite) this.refs[r++]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown draw command!");
+            }
+        }
+        _g2.setComposite(originalComposite);
+    }
+
+    /**
+     * Appends a command, growing the arrays if it and its arguments don't fit.
+     *
+     * @param _command
+     * @param _args number of numeric arguments the command takes.
+     * @param _refs number of object arguments the command takes.
+     */
+    private void push(DrawCommand _command, int _args, int _refs) {
+        if (this.commandCount == this.commands.length) {
+            this.commands = Arrays.copyOf(this.commands, this.commands.length << 1);
+        }
+        if (this.argCount + _args > this.args.length) {
+            this.args = Arrays.copyOf(this.args, Math.max(this.args.length << 1, this.argCount + _args));
+        }
+        if (this.refCount + _refs > this.refs.length) {
+            this.refs = Arrays.copyOf(this.refs, Math.max(this.refs.length << 1, this.refCount + _refs));
+        }
+        this.commands[this.commandCount++] = _command;
+    }
+
+    private void pushArgs(double _a, double _b, double _c, double _d) {
+        this.args[this.argCount++] = (float) _a;
+        this.args[this.argCount++] = (float) _b;
+        this.args[this.argCount++] = (float) _c;
+        this.args[this.argCount++] = (float) _d;
+    }
+
+//============================== GETTERS =====================================
+    public int size() {
+        return this.commandCount;
+    }
+
+    public boolean isEmpty() {
+        return this.commandCount == 0;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.dsd.game.render;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * A snapshot of the world, taken when the game enters a state that shows an
+ * overlay on top of a world that isn't moving (paused, shop, help). Drawing
+ * the snapshot costs a single image blit, where redrawing the world costs the
+ * level, every handler, the particle layers and the HUD, every frame.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class FreezeFrame {
+
+    private BufferedImage image;
+    //  World-space position of the image's top-left corner.
+    private double originX;
+    private double originY;
+    //  False until a snapshot has been taken, and again once it goes stale.
+    private boolean ready = false;
+
+    /**
+     * Starts a new snapshot of the _width by _height area whose top-left
+     * corner is at (_originX, _originY) in the world. Returns a graphics
+     * context (in world coordinates) to draw the world into; pass it to
+     * endCapture() once done.
+     *
+     * @param _originX
+     * @param _originY
+     * @param _width
+     * @param _height
+     * @return
+     */
+    public Graphics2D beginCapture(double _originX, double _originY, int _width, int _height) {
+        if (this.image == null || this.image.getWidth() != _width || this.image.getHeight() != _height) {
+            this.image = new BufferedImage(Math.max(1, _width), Math.max(1, _height), BufferedImage.TYPE_INT_ARGB);
+        }
+        this.originX = _originX;
+        this.originY = _originY;
+        Graphics2D g2 = this.image.createGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, this.image.getWidth(), this.image.getHeight());
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.translate(-_originX, -_originY);
+        return g2;
+    }
+
+    /**
+     * Finishes the snapshot started by beginCapture().
+     *
+     * @param _g2 the graphics context returned by beginCapture().
+     */
+    public void endCapture(Graphics2D _g2) {
+        _g2.dispose();
+        this.ready = true;
+    }
+
+    /**
+     * Draws the snapshot onto _g2 (which is in world coordinates).
+     *
+     * @param _g2
+     */
+    public void render(Graphics2D _g2) {
+        if (this.ready) {
+            _g2.drawImage(this.image, (int) this.originX, (int) this.originY, null);
+        }
+    }
+
+    /**
+     * Marks the snapshot as stale; the next overlay state takes a new one.
+     */
+    public void invalidate() {
+        this.ready = false;
+    }
+
+//============================== GETTERS =====================================
+    public boolean isReady() {
+        return this.ready;
+    }
+
+}
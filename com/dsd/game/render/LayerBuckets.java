@@ -0,0 +1,118 @@
+package com.dsd.game.render;
+
+import com.dsd.game.handlers.EntityRegistry;
+import com.revivedstandards.model.StandardGameObject;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+/**
+ * The entities of a handler sorted into one list per ZLayer, so drawing them
+ * bottom to top is just walking the lists in order; nothing is ever sorted.
+ * Each list has an EntityRegistry of its own, so taking an entity out of one
+ * (to remove it, or to move it to another layer) is a swap with the last
+ * entity of that list rather than a search.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class LayerBuckets {
+
+    //  The entities of each layer, by the layer's ordinal.
+    private final ArrayList<ArrayList<StandardGameObject>> buckets;
+    private final EntityRegistry[] registries;
+    //  The layer each entity is in.
+    private final IdentityHashMap<StandardGameObject, ZLayer> layers;
+
+    public LayerBuckets() {
+        this.buckets = new ArrayList<>();
+        this.registries = new EntityRegistry[ZLayer.values().length];
+        for (int i = 0; i < this.registries.length; i++) {
+            ArrayList<StandardGameObject> bucket = new ArrayList<>();
+            this.buckets.add(bucket);
+            this.registries[i] = new EntityRegistry(bucket);
+        }
+        this.layers = new IdentityHashMap<>();
+    }
+
+    /**
+     * Puts _obj in _layer, taking it out of the layer it was in (if any).
+     *
+     * @param _obj
+     * @param _layer
+     */
+    public void add(StandardGameObject _obj, ZLayer _layer) {
+        if (_obj == null || _layer == null) {
+            throw new IllegalArgumentException("Object and layer cannot be null!");
+        }
+        ZLayer current = this.layers.put(_obj, _layer);
+        if (current == _layer) {
+            return;
+        }
+        if (current != null) {
+            this.take(_obj, current);
+        }
+        this.buckets.get(_layer.ordinal()).add(_obj);
+        this.registries[_layer.ordinal()].added(_obj);
+    }
+
+    /**
+     * Takes _obj out of whatever layer it is in.
+     *
+     * @param _obj
+     * @return true if it was in one.
+     */
+    public boolean remove(StandardGameObject _obj) {
+        ZLayer current = this.layers.remove(_obj);
+        if (current == null) {
+            return false;
+        }
+        this.take(_obj, current);
+        return true;
+    }
+
+    /**
+     * Forgets every entity.
+     */
+    public void clear() {
+        for (int i = 0; i < this.registries.length; i++) {
+            this.buckets.get(i).clear();
+            this.registries[i].clear();
+        }
+        this.layers.clear();
+    }
+
+    private void take(StandardGameObject _obj, ZLayer _layer) {
+        EntityRegistry registry = this.registries[_layer.ordinal()];
+        registry.remove(_obj);
+        registry.flush();
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns the entities in _layer. Must not be changed by the caller.
+     *
+     * @param _layer
+     * @return
+     */
+    public ArrayList<StandardGameObject> getBucket(ZLayer _layer) {
+        return this.buckets.get(_layer.ordinal());
+    }
+
+    /**
+     * Returns the layer _obj is in, or null if it isn't in one.
+     *
+     * @param _obj
+     * @return
+     */
+    public ZLayer getLayer(StandardGameObject _obj) {
+        return this.layers.get(_obj);
+    }
+
+    public int size() {
+        return this.layers.size();
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.dsd.game.render;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * The result of rasterizing a DrawFrame: one transparent image per layer, and
+ * the world-space position the images should be drawn at.
+ *
+ * Clearing a view-sized image and drawing it back onto the screen costs the
+ * same however little is on it, and most of the time a layer holds only a
+ * few casings or drops of blood (or nothing at all). So a layer with no more
+ * than SMALL_LAYER commands isn't rasterized: its commands are copied, and
+ * replayed straight onto the screen by render() instead.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class RasterFrame {
+
+    //  Largest layer replayed by render() rather than rasterized into an
+    //  image. Replaying this many particles still takes well under the time
+    //  it takes just to draw a view-sized image onto the screen.
+    private static final int SMALL_LAYER = 256;
+    private final BufferedImage[] layers;
+    //  By layer: the copied commands of a small layer, and whether the layer
+    //  was small this frame.
+    private final DrawList[] replays;
+    private final boolean[] replayed;
+    private double originX;
+    private double originY;
+    //  False until the first frame has been rasterized into this slot.
+    private boolean ready = false;
+
+    public RasterFrame() {
+        this.layers = new BufferedImage[DrawLayer.values().length];
+        this.replays = new DrawList[this.layers.length];
+        for (int i = 0; i < this.replays.length; i++) {
+            this.replays[i] = new DrawList();
+        }
+        this.replayed = new boolean[this.layers.length];
+    }
+
+    /**
+     * Rasterizes every layer of _frame into this frame's images, resizing them
+     * first if the view has changed size. Small layers are copied instead.
+     *
+     * @param _frame
+     */
+    public void rasterize(DrawFrame _frame) {
+        for (DrawLayer layer : DrawLayer.values()) {
+            DrawList list = _frame.getLayer(layer);
+            if (list.size() <= RasterFrame.SMALL_LAYER) {
+                this.replays[layer.ordinal()].copyFrom(list);
+                this.replayed[layer.ordinal()] = true;
+                continue;
+            }
+            this.replays[layer.ordinal()].clear();
+            this.replayed[layer.ordinal()] = false;
+            BufferedImage image = this.getImage(layer, _frame.getWidth(), _frame.getHeight());
+            Graphics2D g2 = image.createGraphics();
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g2.setComposite(AlphaComposite.SrcOver);
+            g2.translate(-_frame.getOriginX(), -_frame.getOriginY());
+            list.rasterize(g2);
+            g2.dispose();
+        }
+        this.originX = _frame.getOriginX();
+        this.originY = _frame.getOriginY();
+        this.ready = true;
+    }
+
+    /**
+     * Draws _layer onto _g2 (which is in world coordinates).
+     *
+     * @param _g2
+     * @param _layer
+     */
+    public void render(Graphics2D _g2, DrawLayer _layer) {
+        if (!this.ready) {
+            return;
+        }
+        if (this.replayed[_layer.ordinal()]) {
+            this.replays[_layer.ordinal()].rasterize(_g2);
+        } else {
+            _g2.drawImage(this.layers[_layer.ordinal()], (int) this.originX, (int) this.originY, null);
+        }
+    }
+
+    /**
+     * Returns the image for _layer, creating it if it does not exist or is the
+     * wrong size.
+     *
+     * @param _layer
+     * @param _width
+     * @param _height
+     * @return
+     */
+    private BufferedImage getImage(DrawLayer _layer, int _width, int _height) {
+        BufferedImage image = this.layers[_layer.ordinal()];
+        if (image == null || image.getWidth() != _width || image.getHeight() != _height) {
+            image = new BufferedImage(Math.max(1, _width), Math.max(1, _height), BufferedImage.TYPE_INT_ARGB);
+            this.layers[_layer.ordinal()] = image;
+        }
+        return image;
+    }
+
+}
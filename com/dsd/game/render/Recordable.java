@@ -0,0 +1,18 @@
+package com.dsd.game.render;
+
+/**
+ * This interface is implemented by any object that can describe how it is
+ * drawn as commands in a DrawList, rather than drawing itself directly. The
+ * list is rasterized later on the render thread, so the object must copy
+ * whatever state it needs into the list; it cannot be read again.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public interface Recordable {
+
+    public void record(DrawList _list);
+}
@@ -0,0 +1,80 @@
+package com.dsd.game.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free handoff of frames from one producer thread to one consumer thread.
+ * There are three slots: one owned by the producer, one by the consumer, and
+ * one in the middle. Publishing swaps the producer's slot with the middle one,
+ * and acquiring swaps the middle one with the consumer's, so each side always
+ * works on a slot the other cannot touch, and neither side ever waits.
+ *
+ * If the producer publishes twice before the consumer acquires, the older
+ * frame is simply overwritten; the consumer always sees the newest one.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ *
+ * @param <T> frame type.
+ */
+public class TripleBuffer<T> {
+
+    //  Set on the middle index when it holds a frame the consumer has not seen.
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final T[] slots;
+    //  Index of the middle slot, plus the FRESH bit.
+    private final AtomicInteger middle;
+    //  Only ever touched by the producer and the consumer, respectively.
+    private int producerIndex = 0;
+    private int consumerIndex = 1;
+
+    public TripleBuffer(T _first, T _second, T _third) {
+        @SuppressWarnings("unchecked")
+        T[] s = (T[]) new Object[]{_first, _second, _third};
+        this.slots = s;
+        this.middle = new AtomicInteger(2);
+    }
+
+    /**
+     * Hands the producer's slot over to the consumer and gives the producer a
+     * new one to fill.
+     */
+    public void publish() {
+        int old = this.middle.getAndSet(this.producerIndex | FRESH);
+        this.producerIndex = old & INDEX_MASK;
+    }
+
+    /**
+     * Takes the newest published frame if there is one, and returns it. If
+     * nothing new has been published, returns the frame acquired last time.
+     *
+     * @return
+     */
+    public T acquire() {
+        if (this.hasFresh()) {
+            int old = this.middle.getAndSet(this.consumerIndex);
+            this.consumerIndex = old & INDEX_MASK;
+        }
+        return this.slots[this.consumerIndex];
+    }
+
+//============================== GETTERS =====================================
+    /**
+     * Returns the slot the producer is currently allowed to write into.
+     *
+     * @return
+     */
+    public T getProducerSlot() {
+        return this.slots[this.producerIndex];
+    }
+
+    public boolean hasFresh() {
+        return (this.middle.get() & FRESH) != 0;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.dsd.game.render;
+
+/**
+ * Enum that lists the layers the collision handler draws its entities in,
+ * bottom to top. Within a layer, entities are drawn in no particular order.
+ *
+ * Blood and casings are recorded into DrawLayer.GROUND instead, and drawn
+ * before the handler; GROUND_DECALS is for decals that live among the
+ * entities themselves.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public enum ZLayer {
+
+    GROUND_DECALS, CORPSES, PICKUPS, ACTORS, PROJECTILES, EFFECTS, HUD;
+
+}
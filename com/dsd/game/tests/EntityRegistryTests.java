@@ -0,0 +1,133 @@
+package com.dsd.game.tests;
+
+import com.dsd.game.handlers.EntityRegistry;
+import com.revivedstandards.model.StandardGameObject;
+import com.revivedstandards.model.StandardID;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+
+/**
+ * This class will unit test the EntityRegistry: handles, deferred removal,
+ * and what a handle does once its slot has been given to another entity.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public abstract class EntityRegistryTests {
+
+    public static void main(String[] args) {
+        ArrayList<StandardGameObject> entities = new ArrayList<>();
+        EntityRegistry registry = new EntityRegistry(entities);
+        StandardGameObject a = EntityRegistryTests.add(entities, registry);
+        StandardGameObject b = EntityRegistryTests.add(entities, registry);
+        StandardGameObject c = EntityRegistryTests.add(entities, registry);
+        long handleA = registry.getHandle(a);
+        //  Normal cases.
+        System.out.println(assertEquals(registry.get(handleA) == a, true));
+        System.out.println(assertEquals(registry.indexOf(c), 2));
+        System.out.println(assertEquals(registry.size(), 3));
+        //  Removal is deferred until flush().
+        System.out.println(assertEquals(registry.remove(a), true));
+        System.out.println(assertEquals(entities.size(), 3));
+        System.out.println(assertEquals(registry.isRemoving(a), true));
+        //  Edge case (removing the same entity twice before a flush).
+        System.out.println(assertEquals(registry.remove(a), false));
+        System.out.println(assertEquals(registry.getPendingCount(), 1));
+        //  The last entity fills the hole; nothing else moves.
+        registry.flush();
+        System.out.println(assertEquals(entities.size(), 2));
+        System.out.println(assertEquals(entities.get(0) == c, true));
+        System.out.println(assertEquals(registry.indexOf(c), 0));
+        System.out.println(assertEquals(registry.indexOf(b), 1));
+        System.out.println(assertEquals(registry.get(handleA) == null, true));
+        //  Edge case (removing an entity that has already been flushed out).
+        System.out.println(assertEquals(registry.remove(a), false));
+        System.out.println(assertEquals(registry.getPendingCount(), 0));
+        //  Edge case (stale handle after its slot is reused: the new entity
+        //  gets the same slot, but the old handle still finds nothing).
+        StandardGameObject d = EntityRegistryTests.add(entities, registry);
+        long handleD = registry.getHandle(d);
+        System.out.println(assertEquals((int) handleD, (int) handleA));
+        System.out.println(assertEquals(handleD != handleA, true));
+        System.out.println(assertEquals(registry.get(handleA) == null, true));
+        System.out.println(assertEquals(registry.get(handleD) == d, true));
+        //  Edge case (an entity the handler didn't actually add).
+        System.out.println(assertEquals(registry.added(new Marker()) == EntityRegistry.NO_HANDLE, true));
+        //  Edge case (re-adding an entity marked for removal keeps it).
+        registry.remove(b);
+        entities.add(b);
+        registry.added(b);
+        registry.flush();
+        System.out.println(assertEquals(entities.size(), 3));
+        System.out.println(assertEquals(registry.indexOf(b), 1));
+        //  Edge case (the list changed behind the registry's back).
+        entities.remove(c);
+        registry.flush();
+        System.out.println(assertEquals(registry.size(), 2));
+        System.out.println(assertEquals(registry.indexOf(c), -1));
+        System.out.println(assertEquals(registry.get(registry.getHandle(d)) == d, true));
+        //  Clearing invalidates every handle.
+        entities.clear();
+        registry.clear();
+        System.out.println(assertEquals(registry.get(handleD) == null, true));
+        System.out.println(assertEquals(registry.size(), 0));
+    }
+
+    /**
+     * Adds a new entity to the end of _entities the way a handler does, and
+     * registers it.
+     *
+     * @param _entities
+     * @param _registry
+     * @return
+     */
+    private static StandardGameObject add(ArrayList<StandardGameObject> _entities, EntityRegistry _registry) {
+        StandardGameObject obj = new Marker();
+        _entities.add(obj);
+        _registry.added(obj);
+        return obj;
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(boolean _resultA, boolean _resultB) {
+        return _resultA == _resultB;
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(int _resultA, int _resultB) {
+        return _resultA == _resultB;
+    }
+
+    /**
+     * An entity that does nothing; only its identity matters here.
+     */
+    private static class Marker extends StandardGameObject {
+
+        public Marker() {
+            super(0, 0, StandardID.Block);
+        }
+
+        @Override
+        public void tick() {
+        }
+
+        @Override
+        public void render(Graphics2D _g2) {
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.dsd.game.tests;
+
+import com.dsd.game.collision.PixelMask;
+import java.util.Random;
+
+/**
+ * This class will unit test PixelMask.overlaps(), both on hand-built masks and
+ * against a pixel-by-pixel check on random ones.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public abstract class PixelMaskTests {
+
+    public static void main(String[] args) {
+        //  Three words per row; solid pixels on either side of each word boundary.
+        PixelMask wide = new PixelMask(130, 3);
+        wide.set(0, 0);
+        wide.set(63, 1);
+        wide.set(64, 1);
+        wide.set(129, 2);
+        PixelMask dot = new PixelMask(1, 1);
+        dot.set(0, 0);
+        //  Edge case (offset larger than 64 px, first pixel of a word).
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(dot, 64, 1), true));
+        //  Edge case (offset larger than 64 px, last pixel of the mask).
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(dot, 129, 2), true));
+        //  Edge case (offset larger than 64 px, onto an empty pixel).
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(dot, 100, 2), false));
+        //  Edge case (other mask entirely left of or right of this one).
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(dot, -1, 0), false));
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(dot, 130, 0), false));
+        //  Edge case (negative offset more than a word: other mask hangs off
+        //  the left edge, and only its pixel 70 lands on this one).
+        PixelMask bar = new PixelMask(100, 1);
+        bar.set(70, 0);
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(bar, -70, 0), true));
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(bar, -71, 0), false));
+        //  Edge case (negative vertical offset).
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(dot, 63, -1), false));
+        PixelMask column = new PixelMask(1, 3);
+        column.set(0, 2);
+        System.out.println(PixelMaskTests.assertEquals(wide.overlaps(column, 63, -1), true));
+        //  Random masks at random offsets, from well past the left edge to well
+        //  past the right; none should disagree with the brute-force check.
+        System.out.println(PixelMaskTests.assertEquals(PixelMaskTests.countMismatches(new Random(42), 2000), 0));
+    }
+
+    /**
+     * Builds _trials random pairs of masks and returns how many times
+     * overlaps() disagrees with checking every solid pixel one at a time.
+     *
+     * @param _random
+     * @param _trials
+     * @return
+     */
+    private static int countMismatches(Random _random, int _trials) {
+        int mismatches = 0;
+        for (int i = 0; i < _trials; i++) {
+            PixelMask a = PixelMaskTests.randomMask(_random);
+            PixelMask b = PixelMaskTests.randomMask(_random);
+            int dx = _random.nextInt(a.getWidth() + b.getWidth() + 140) - b.getWidth() - 70;
+            int dy = _random.nextInt(a.getHeight() + b.getHeight() + 4) - b.getHeight() - 2;
+            if (a.overlaps(b, dx, dy) != PixelMaskTests.bruteForceOverlaps(a, b, dx, dy)) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static boolean bruteForceOverlaps(PixelMask _a, PixelMask _b, int _dx, int _dy) {
+        for (int y = 0; y < _a.getHeight(); y++) {
+            for (int x = 0; x < _a.getWidth(); x++) {
+                if (_a.isSolid(x, y) && _b.isSolid(x - _dx, y - _dy)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a mask up to 200 px wide and 8 px tall with up to 20% of its
+     * pixels solid, sparse enough that many overlapping pairs still miss.
+     *
+     * @param _random
+     * @return
+     */
+    private static PixelMask randomMask(Random _random) {
+        PixelMask mask = new PixelMask(1 + _random.nextInt(200), 1 + _random.nextInt(8));
+        double density = _random.nextDouble() * 0.2;
+        for (int y = 0; y < mask.getHeight(); y++) {
+            for (int x = 0; x < mask.getWidth(); x++) {
+                if (_random.nextDouble() < density) {
+                    mask.set(x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(boolean _resultA, boolean _resultB) {
+        return _resultA == _resultB;
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(int _resultA, int _resultB) {
+        return _resultA == _resultB;
+    }
+}
@@ -0,0 +1,135 @@
+package com.dsd.game.tests;
+
+import com.dsd.game.controller.CollisionHandlerController;
+import com.dsd.game.core.Game;
+import com.dsd.game.core.HeadlessRunner;
+import com.dsd.game.objects.Player;
+import com.dsd.game.objects.weapons.enums.ProjectileType;
+import com.dsd.game.objects.weapons.projectiles.ProjectileGameObject;
+import com.dsd.game.objects.weapons.projectiles.ProjectilePool;
+import java.lang.management.ManagementFactory;
+
+/**
+ * This class will unit test the ProjectilePool, in particular that a
+ * projectile handed back twice is only ever handed out once. Projectiles need
+ * a game to be fired in, so this builds a headless one; like HeadlessRunner,
+ * run it from the directory the game's resources load from. It also checks
+ * that once the pool and the collision handler's tables have grown to fit,
+ * sustained fire allocates nothing on the game thread.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public abstract class ProjectilePoolTests {
+
+    public static void main(String[] args) {
+        Game game = HeadlessRunner.createGame(1L);
+        Player player = game.getPlayer();
+        ProjectilePool pool = new ProjectilePool(game, game.getCollisionHandlerController());
+        //  Normal cases (an empty pool makes a new projectile; handing it
+        //  back makes it free).
+        ProjectileGameObject bullet = pool.acquire(ProjectileType.BULLET, 0, 0, 0, 10, player);
+        System.out.println(assertEquals((int) pool.getMissCount(), 1));
+        System.out.println(assertEquals(bullet.isFree(), false));
+        System.out.println(assertEquals(pool.release(bullet), true));
+        System.out.println(assertEquals(bullet.isFree(), true));
+        System.out.println(assertEquals(pool.getFreeCount(ProjectileType.BULLET), 1));
+        //  Edge case (releasing the same projectile twice).
+        System.out.println(assertEquals(pool.release(bullet), false));
+        System.out.println(assertEquals(pool.getFreeCount(ProjectileType.BULLET), 1));
+        System.out.println(assertEquals((int) pool.getReleasedCount(), 1));
+        //  The next two shots must not share it.
+        ProjectileGameObject first = pool.acquire(ProjectileType.BULLET, 0, 0, 0, 10, player);
+        ProjectileGameObject second = pool.acquire(ProjectileType.BULLET, 0, 0, 0, 10, player);
+        System.out.println(assertEquals(first == bullet, true));
+        System.out.println(assertEquals(second != bullet, true));
+        System.out.println(assertEquals(first.isFree(), false));
+        System.out.println(assertEquals((int) pool.getHitCount(), 1));
+        //  Edge case (types have separate free lists).
+        pool.release(first);
+        ProjectileGameObject pellet = pool.acquire(ProjectileType.SHOTGUN_BULLET, 0, 0, 0, 10, player);
+        System.out.println(assertEquals(pellet != first, true));
+        System.out.println(assertEquals(pool.getFreeCount(ProjectileType.BULLET), 1));
+        //  Edge case (a projectile from another pool).
+        ProjectilePool other = new ProjectilePool(game, game.getCollisionHandlerController());
+        System.out.println(assertEquals(other.release(second), false));
+        System.out.println(assertEquals(other.getFreeCount(ProjectileType.BULLET), 0));
+        //  Clearing drops the free projectiles.
+        pool.clear();
+        System.out.println(assertEquals(pool.getFreeCount(ProjectileType.BULLET), 0));
+        //  Sustained fire: warm up until every projectile that leaves the
+        //  view is handed back and reused, then measure.
+        CollisionHandlerController sch = game.getCollisionHandlerController();
+        game.getCamera().setX(player.getX());
+        game.getCamera().setY(player.getY());
+        ProjectilePoolTests.fire(game, ProjectilePoolTests.WARM_UP_TICKS);
+        long misses = sch.getProjectilePool().getMissCount();
+        long before = ProjectilePoolTests.getAllocatedBytes();
+        ProjectilePoolTests.fire(game, ProjectilePoolTests.MEASURED_TICKS);
+        long allocated = ProjectilePoolTests.getAllocatedBytes() - before;
+        System.out.println(assertEquals(sch.getProjectilePool().getMissCount() == misses, true));
+        //  Less than a byte a shot means no shot allocates anything; the JVM
+        //  itself may still put the odd few bytes on this thread while it
+        //  recompiles the game's code.
+        System.out.println(assertEquals(allocated < ProjectilePoolTests.MEASURED_TICKS, true));
+    }
+
+    //  Ticks of sustained fire before and while allocation is measured.
+    private static final int WARM_UP_TICKS = 2000;
+    private static final int MEASURED_TICKS = 1000;
+
+    /**
+     * Fires a bullet from the middle of the player every tick for _ticks
+     * ticks, sweeping the angle round, as Gun.shootProjectile() would.
+     *
+     * @param _game
+     * @param _ticks
+     */
+    private static void fire(Game _game, int _ticks) {
+        CollisionHandlerController sch = _game.getCollisionHandlerController();
+        Player player = _game.getPlayer();
+        for (int i = 0; i < _ticks; i++) {
+            ProjectileGameObject projectile = sch.getProjectilePool().acquire(ProjectileType.BULLET,
+                    (int) player.getX() + player.getWidth() / 2, (int) player.getY() + player.getHeight() / 2,
+                    i * 0.1, 10, player);
+            sch.addEntity(projectile);
+            _game.getInterpolationController().capture();
+            sch.tick();
+        }
+    }
+
+    /**
+     * Returns how many bytes the current thread has allocated so far.
+     *
+     * @return
+     */
+    private static long getAllocatedBytes() {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(boolean _resultA, boolean _resultB) {
+        return _resultA == _resultB;
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(int _resultA, int _resultB) {
+        return _resultA == _resultB;
+    }
+}
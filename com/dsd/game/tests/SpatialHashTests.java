@@ -0,0 +1,171 @@
+package com.dsd.game.tests;
+
+import com.dsd.game.collision.SpatialHash;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+/**
+ * This class will unit test the SpatialHash broadphase: filing objects across
+ * cells (including negative ones), re-filing them as they move, dropping the
+ * ones an update pass didn't see, and layer masks; and, on random boxes, that
+ * a query never misses an object a brute-force scan would have found.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public abstract class SpatialHashTests {
+
+    public static void main(String[] args) {
+        SpatialHash<Box> hash = new SpatialHash<>(64);
+        ArrayList<Box> out = new ArrayList<>();
+        Box big = new Box(-100, -100, 300, 300, 1L);
+        Box small = new Box(10, 10, 8, 8, 2L);
+        hash.beginUpdate();
+        hash.update(big, big.x, big.y, big.w, big.h, 1, big.layer);
+        hash.update(small, small.x, small.y, small.w, small.h, 0, small.layer);
+        hash.endUpdate();
+        //  Normal case (both found, in update order, each only once even
+        //  though the big box is filed under 36 cells).
+        hash.query(0, 0, 200, 200, ~0L, out);
+        System.out.println(assertEquals(out.size(), 2));
+        System.out.println(assertEquals(out.get(0) == small, true));
+        System.out.println(assertEquals(out.get(1) == big, true));
+        //  Edge case (query box entirely in negative cells).
+        hash.query(-90, -90, 10, 10, ~0L, out);
+        System.out.println(assertEquals(out.size(), 1));
+        System.out.println(assertEquals(out.get(0) == big, true));
+        //  Edge case (the mask leaves one of them out).
+        hash.query(0, 0, 200, 200, 2L, out);
+        System.out.println(assertEquals(out.size(), 1));
+        System.out.println(assertEquals(hash.getSkippedCount(), 1));
+        //  Moving the small box to another cell re-files it.
+        hash.beginUpdate();
+        hash.update(big, big.x, big.y, big.w, big.h, 1, big.layer);
+        hash.update(small, 500, 500, small.w, small.h, 0, small.layer);
+        hash.endUpdate();
+        hash.query(0, 0, 32, 32, 2L, out);
+        System.out.println(assertEquals(out.size(), 0));
+        hash.query(500, 500, 1, 1, 2L, out);
+        System.out.println(assertEquals(out.size(), 1));
+        //  Edge case (an object not updated during a pass is dropped).
+        hash.beginUpdate();
+        hash.update(small, 500, 500, small.w, small.h, 0, small.layer);
+        hash.endUpdate();
+        System.out.println(assertEquals(hash.size(), 1));
+        hash.query(-90, -90, 10, 10, ~0L, out);
+        System.out.println(assertEquals(out.size(), 0));
+        //  Removing the last object keeps its cell, empty, for reuse.
+        int cellCount = hash.getCellCount();
+        hash.remove(small);
+        System.out.println(assertEquals(hash.size(), 0));
+        System.out.println(assertEquals(hash.getCellCount(), cellCount));
+        hash.query(500, 500, 1, 1, ~0L, out);
+        System.out.println(assertEquals(out.size(), 0));
+        //  Random boxes against a brute-force scan.
+        System.out.println(assertEquals(SpatialHashTests.countMismatches(new Random(7), 200), 0));
+    }
+
+    /**
+     * Runs _passes update passes over a set of random boxes, each followed by
+     * a random query, and returns how many queries missed a box that overlaps
+     * them, returned a box twice or outside the mask, or came back out of
+     * order.
+     *
+     * @param _random
+     * @param _passes
+     * @return
+     */
+    private static int countMismatches(Random _random, int _passes) {
+        SpatialHash<Box> hash = new SpatialHash<>(32);
+        ArrayList<Box> boxes = new ArrayList<>();
+        ArrayList<Box> out = new ArrayList<>();
+        int mismatches = 0;
+        for (int pass = 0; pass < _passes; pass++) {
+            //  Some boxes leave and some arrive each pass; the rest move.
+            if (!boxes.isEmpty() && _random.nextInt(4) == 0) {
+                boxes.remove(_random.nextInt(boxes.size()));
+            }
+            for (int i = _random.nextInt(4); i > 0; i--) {
+                boxes.add(new Box(0, 0, 1 + _random.nextInt(80), 1 + _random.nextInt(80), 1L << _random.nextInt(3)));
+            }
+            hash.beginUpdate();
+            for (int i = 0; i < boxes.size(); i++) {
+                Box box = boxes.get(i);
+                box.x = _random.nextInt(400) - 200;
+                box.y = _random.nextInt(400) - 200;
+                hash.update(box, box.x, box.y, box.w, box.h, i, box.layer);
+            }
+            hash.endUpdate();
+            Box area = new Box(_random.nextInt(400) - 200, _random.nextInt(400) - 200,
+                    _random.nextInt(120), _random.nextInt(120), 0L);
+            long mask = 1 + _random.nextInt(7);
+            hash.query(area.x, area.y, area.w, area.h, mask, out);
+            IdentityHashMap<Box, Integer> found = new IdentityHashMap<>();
+            for (int i = 0; i < out.size(); i++) {
+                Box box = out.get(i);
+                if (found.put(box, i) != null || (box.layer & mask) == 0
+                        || (i > 0 && boxes.indexOf(out.get(i - 1)) >= boxes.indexOf(box))) {
+                    mismatches++;
+                }
+            }
+            for (int i = 0; i < boxes.size(); i++) {
+                Box box = boxes.get(i);
+                if ((box.layer & mask) != 0 && box.overlaps(area) && !found.containsKey(box)) {
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(boolean _resultA, boolean _resultB) {
+        return _resultA == _resultB;
+    }
+
+    /**
+     * Returns true if the two values are equal to each other. False otherwise.
+     *
+     * @param _resultA
+     * @param _resultB
+     * @return
+     */
+    public static boolean assertEquals(int _resultA, int _resultB) {
+        return _resultA == _resultB;
+    }
+
+    /**
+     * An axis-aligned box on one collision layer.
+     */
+    private static class Box {
+
+        private int x;
+        private int y;
+        private final int w;
+        private final int h;
+        private final long layer;
+
+        public Box(int _x, int _y, int _w, int _h, long _layer) {
+            this.x = _x;
+            this.y = _y;
+            this.w = _w;
+            this.h = _h;
+            this.layer = _layer;
+        }
+
+        public boolean overlaps(Box _other) {
+            return this.x <= _other.x + _other.w && _other.x <= this.x + this.w
+                    && this.y <= _other.y + _other.h && _other.y <= this.y + this.h;
+        }
+    }
+}
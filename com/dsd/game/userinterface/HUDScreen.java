@@ -1,6 +1,7 @@
 package com.dsd.game.userinterface;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.handlers.PowerupTextHandler;
 import com.dsd.game.objects.Player;
 import com.dsd.game.userinterface.model.Interactor;
@@ -12,7 +13,10 @@ import com.revivedstandards.handlers.StandardCollisionHandler;
 import java.awt.Graphics2D;
 
 /**
- * This class defines the screen for the HUD elements.
+ * This class defines the screen for the HUD elements. The labels only change
+ * a few times a second, so they are ticked at LABEL_TICK_HZ rather than on
+ * every simulation step; the floating powerup text moves every step, so it
+ * still is (see TickScheduler).
  * 
  * [Group Name: Data Structure Deadheads]
  *
@@ -26,6 +30,9 @@ public class HUDScreen extends Screen {
     private final Player player;
     private final StandardCollisionHandler globalHandler;
     private final PowerupTextHandler powerupTextHandler;
+    //  Rates the labels and the powerup text are ticked at.
+    private static final int LABEL_TICK_HZ = 10;
+    private static final int POWERUP_TEXT_TICK_HZ = Game.DEFAULT_SIMULATION_HZ;
 
     public HUDScreen(Game _game, Player _player, StandardCollisionHandler _sch) {
         super(_game);
@@ -33,6 +40,9 @@ public class HUDScreen extends Screen {
         this.globalHandler = _sch;
         this.powerupTextHandler = new PowerupTextHandler(_game);
         this.createUIElements();
+        _game.getTickScheduler().register("HUD labels", HUDScreen.LABEL_TICK_HZ, TimerClock.LEVEL, this);
+        _game.getTickScheduler().register("Powerup text", HUDScreen.POWERUP_TEXT_TICK_HZ, TimerClock.LEVEL,
+                this.powerupTextHandler);
     }
 
     @Override
@@ -42,7 +52,6 @@ public class HUDScreen extends Screen {
         }
         super.tick();
         this.player.getInventory().getView().tick();
-        this.powerupTextHandler.tick();
     }
 
     @Override
@@ -25,7 +25,6 @@ import com.dsd.game.userinterface.view.AudioView;
 import com.dsd.game.userinterface.view.LanguageChangeView;
 import com.dsd.game.userinterface.view.MenuView;
 import com.dsd.game.userinterface.view.ResolutionView;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.model.StandardAudioType;
 import java.awt.Graphics2D;
 import java.util.Stack;
@@ -100,14 +99,14 @@ public class MenuScreen extends Screen {
      * Plays the music associated with the menu.
      */
     public void playMenuMusic() {
-        StandardAudioController.play("src/resources/audio/music/menu.mp3", StandardAudioType.MUSIC);
+        this.getGame().getAudioBoxController().play("src/resources/audio/music/menu.mp3", StandardAudioType.MUSIC);
     }
 
     /**
      * Stops the music associated with the menu.
      */
     public void stopMenuMusic() {
-        StandardAudioController.stop("src/resources/audio/music/menu.mp3", StandardAudioType.MUSIC);
+        this.getGame().getAudioBoxController().stop("src/resources/audio/music/menu.mp3", StandardAudioType.MUSIC);
     }
 
     /**
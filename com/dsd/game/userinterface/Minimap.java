@@ -1,22 +1,27 @@
 package com.dsd.game.userinterface;
 
 import com.dsd.game.core.Game;
+import com.dsd.game.core.TimerClock;
 import com.dsd.game.objects.Player;
 import com.dsd.game.userinterface.model.Interactor;
 import com.revivedstandards.handlers.StandardCollisionHandler;
 import com.revivedstandards.main.StandardDraw;
 import com.revivedstandards.model.StandardGameObject;
 import com.revivedstandards.util.StdOps;
+import com.revivedstandards.view.Updatable;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 
 /**
  * This class is a minimap in the top right of the screen. Pretty
- * self-explanatory.
+ * self-explanatory. Where everything is on the map is only worked out
+ * TICK_HZ times a second (see TickScheduler); every frame in between draws the
+ * same snapshot.
  *
  * [Group Name: Data Structure Deadheads]
  *
@@ -57,49 +62,96 @@ public class Minimap extends Interactor {
     private final int TRIANGLE_X_SCALE = 6;
     private final int TRIANGLE_Y_SCALE = 12;
 
+    //  How many times a second the snapshot is refreshed.
+    private static final int TICK_HZ = 5;
+    //  Snapshot of every marker on the map: its position on the map ({x, y}
+    //  pairs) and its color, plus the player's position and angle.
+    private double[] markerCoords;
+    private Color[] markerColors;
+    private int markerCount = 0;
+    private boolean hasPlayer = false;
+    private double playerMapX;
+    private double playerMapY;
+    private double playerAngle;
+
     public Minimap(Game _game, StandardCollisionHandler _sch) {
         this.game = _game;
         this.globalHandler = _sch;
         this.X_POINTS = new int[]{0, 0, 0, 0};
         this.Y_POINTS = new int[]{0, 0, 0, 0};
         this.border = StdOps.loadImage("src/resources/img/bg/borders/minimap_border2.png");
+        this.markerCoords = new double[64];
+        this.markerColors = new Color[32];
+        _game.getTickScheduler().register("Minimap", Minimap.TICK_HZ, TimerClock.LEVEL, new MinimapSnapshot(this));
     }
 
     @Override
     public void render(Graphics2D _g2) {
         this.drawMapBackground(_g2);
-        /**
-         * Renders a copy of all entities on the screen, but by a factor of 20x
-         * smaller.
-         */
+        //  Renders the snapshot of all entities, but by a factor of 20x smaller.
+        for (int i = 0; i < this.markerCount; i++) {
+            this.drawMarker(_g2, this.markerCoords[i << 1], this.markerCoords[(i << 1) + 1], this.markerColors[i]);
+        }
+        if (this.hasPlayer) {
+            this.drawPlayer(_g2);
+        }
+        this.drawBorder(_g2);
+    }
+
+    /**
+     * Records where every entity is on the map, and what color it is drawn
+     * in.
+     */
+    private void snapshot() {
+        this.markerCount = 0;
+        this.hasPlayer = false;
         for (int i = 0; i < this.globalHandler.size(); i++) {
             StandardGameObject obj = this.globalHandler.get(i);
             if (obj != null && obj.isAlive()) {
                 switch (obj.getId()) {
                     case Player:
-                        this.drawPlayer(_g2, (Player) obj);
+                        this.hasPlayer = true;
+                        this.playerMapX = obj.getX() / this.MINIMAP_SCALE;
+                        this.playerMapY = obj.getY() / this.MINIMAP_SCALE;
+                        this.playerAngle = ((Player) obj).getAngle();
                         break;
                     case BasicMonster:
-                        this.drawObject(_g2, obj, StandardDraw.RED);
+                        this.addMarker(obj, StandardDraw.RED);
                         break;
                     case Monster2:
-                        this.drawObject(_g2, obj, StandardDraw.BRUNSWICK_GREEN);
+                        this.addMarker(obj, StandardDraw.BRUNSWICK_GREEN);
                         break;
                     case Monster3:
-                        this.drawObject(_g2, obj, StandardDraw.PURPLE);
+                        this.addMarker(obj, StandardDraw.PURPLE);
                         break;
                     case Monster4:
-                        this.drawObject(_g2, obj, StandardDraw.PINK);
+                        this.addMarker(obj, StandardDraw.PINK);
                         break;
                     case Monster6:
-                        this.drawObject(_g2, obj, StandardDraw.CRIMSON);
+                        this.addMarker(obj, StandardDraw.CRIMSON);
                         break;
                     default:
                         break;
                 }
             }
         }
-        this.drawBorder(_g2);
+    }
+
+    /**
+     * Adds _obj to the snapshot as a marker of color _color.
+     *
+     * @param _obj
+     * @param _color
+     */
+    private void addMarker(StandardGameObject _obj, Color _color) {
+        if (this.markerCount == this.markerColors.length) {
+            this.markerColors = Arrays.copyOf(this.markerColors, this.markerCount << 1);
+            this.markerCoords = Arrays.copyOf(this.markerCoords, this.markerCount << 2);
+        }
+        this.markerCoords[this.markerCount << 1] = _obj.getX() / this.MINIMAP_SCALE;
+        this.markerCoords[(this.markerCount << 1) + 1] = _obj.getY() / this.MINIMAP_SCALE;
+        this.markerColors[this.markerCount] = _color;
+        this.markerCount++;
     }
 
     /**
@@ -134,11 +186,10 @@ public class Minimap extends Interactor {
      * facing in the minimap.
      *
      * @param _g2
-     * @param _player
      */
-    private void drawPlayer(Graphics2D _g2, Player _player) {
-        int scaledPX = (int) (this.game.getCamera().getX() + Screen.gameHalfWidth - this.MMX_OFFSET + (_player.getX() / this.MINIMAP_SCALE));
-        int scaledPY = (int) (this.game.getCamera().getY() - Screen.gameHalfHeight + this.MMY_OFFSET + (_player.getY() / this.MINIMAP_SCALE));
+    private void drawPlayer(Graphics2D _g2) {
+        int scaledPX = (int) (this.game.getCamera().getX() + Screen.gameHalfWidth - this.MMX_OFFSET + this.playerMapX);
+        int scaledPY = (int) (this.game.getCamera().getY() - Screen.gameHalfHeight + this.MMY_OFFSET + this.playerMapY);
         this.createPoints(scaledPX, scaledPY);
         /**
          * Instantiates the translation/transform object to rotate the triangle
@@ -146,7 +197,7 @@ public class Minimap extends Interactor {
          */
         AffineTransform backup = _g2.getTransform();
         AffineTransform transform = new AffineTransform();
-        transform.rotate(_player.getAngle(), scaledPX, scaledPY);
+        transform.rotate(this.playerAngle, scaledPX, scaledPY);
         _g2.setColor(StandardDraw.GREEN);
         _g2.transform(transform);
         _g2.fill(new Polygon(this.X_POINTS, this.Y_POINTS, this.X_POINTS.length));
@@ -154,16 +205,17 @@ public class Minimap extends Interactor {
     }
 
     /**
-     * Draws a square representing the SGO specified by the color.
+     * Draws a square of the specified color at (_mapX, _mapY) on the map.
      *
      * @param _g2
-     * @param obj
-     * @param color
+     * @param _mapX
+     * @param _mapY
+     * @param _color
      */
-    private void drawObject(Graphics2D _g2, StandardGameObject obj, Color color) {
-        _g2.setColor(color);
-        _g2.fillRect((int) (this.game.getCamera().getX() + Screen.gameHalfWidth - this.MMX_OFFSET + (obj.getX() / this.MINIMAP_SCALE)),
-                (int) (this.game.getCamera().getY() - Screen.gameHalfHeight + this.MMY_OFFSET + (obj.getY() / this.MINIMAP_SCALE)),
+    private void drawMarker(Graphics2D _g2, double _mapX, double _mapY, Color _color) {
+        _g2.setColor(_color);
+        _g2.fillRect((int) (this.game.getCamera().getX() + Screen.gameHalfWidth - this.MMX_OFFSET + _mapX),
+                (int) (this.game.getCamera().getY() - Screen.gameHalfHeight + this.MMY_OFFSET + _mapY),
                 OBJECT_DIMENTION, OBJECT_DIMENTION);
     }
 
@@ -205,4 +257,21 @@ public class Minimap extends Interactor {
     public void onMouseExitHover() {
         //  No mouse logic.
     }
+
+    /**
+     * Refreshes the minimap's snapshot when the TickScheduler says so.
+     */
+    private class MinimapSnapshot implements Updatable {
+
+        private final Minimap minimap;
+
+        public MinimapSnapshot(Minimap _minimap) {
+            this.minimap = _minimap;
+        }
+
+        @Override
+        public void tick() {
+            this.minimap.snapshot();
+        }
+    }
 }
@@ -2,14 +2,13 @@ package com.dsd.game.userinterface;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
-import com.dsd.game.controller.TimerController;
+import com.dsd.game.core.TimerClock;
+import com.dsd.game.controller.TimerHandle;
 import com.dsd.game.userinterface.model.LightningModel;
 import com.dsd.game.userinterface.model.labels.WaveLabel;
 import com.dsd.game.util.Utilities;
 import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * This class, conveniently named "PreambleScreen", will draw a lightning effect
@@ -35,7 +34,7 @@ public class PreambleScreen extends Screen implements TimerInterface {
      * Timer that decides how long the text stays fully visible on the screen
      * before fading out.
      */
-    private Timer preambleTimer;
+    private TimerHandle preambleTimer;
     private final long PREAMBLE_TIMER_DURATION = 4000;
 
     // State that the menu is currently on (in terms of fading in/out).
@@ -45,9 +44,8 @@ public class PreambleScreen extends Screen implements TimerInterface {
         super(_game);
         this.lightningEffect = new LightningModel(_game);
         this.waveModel = new WaveLabel(_game, _game.getLogicalCurrentLevelID());
-        this.preambleTimer = new Timer(true);
         this.state = PreambleScreenState.FADE_IN;
-        TimerController.addTimer(this);
+        _game.getTimerController().addTimer(this);
     }
 
     @Override
@@ -74,8 +72,9 @@ public class PreambleScreen extends Screen implements TimerInterface {
 
     /**
      * If we are fading in, we increase the alpha transparency until it's maxed
-     * out. Once we're there, we schedule a new preambletimer to fade the
-     * transparency back out after *preambleTimerDuration* time.
+     * out. Once we're there, we schedule a single preambletimer to fade the
+     * transparency back out after *preambleTimerDuration* time, and hold the
+     * alpha (STAGNANT) until it fires.
      */
     private void changeAlpha() {
         /**
@@ -88,15 +87,18 @@ public class PreambleScreen extends Screen implements TimerInterface {
          * Once we hit an alpha of 1, we can schedule our timer to wait for x
          * seconds, then decrease the text/bolt effects.
          */
-        else {
-            this.preambleTimer.schedule(new PreambleTimer(this), PREAMBLE_TIMER_DURATION);
-            if (this.state == PreambleScreenState.FADE_OUT && this.alpha > 0.0f) {
+        else if (this.state == PreambleScreenState.FADE_IN) {
+            this.state = PreambleScreenState.STAGNANT;
+            this.preambleTimer = this.getGame().getTimerController().schedule(
+                    new PreambleTimer(this), TimerClock.LEVEL, PREAMBLE_TIMER_DURATION);
+        } else if (this.state == PreambleScreenState.FADE_OUT) {
+            if (this.alpha > 0.0f) {
                 this.alpha -= ALPHA_TIMER;
             } /**
              * Finally, once our alpha is below or equal to 0.0, we can flag the
              * game as running.
              */
-            else if (this.alpha <= 0.0f) {
+            else {
                 this.getGame().setGameState(GameState.RUNNING);
                 return;
             }
@@ -115,20 +117,22 @@ public class PreambleScreen extends Screen implements TimerInterface {
         this.alpha = 0;
         this.state = PreambleScreenState.FADE_IN;
         this.waveModel.setWaveNumber(this.getGame().getWaveNumber());
-        this.preambleTimer = new Timer(true);
+        this.cancelTimer();
     }
 
     @Override
     public void cancelTimer() {
-        this.preambleTimer.cancel();
-        this.preambleTimer = new Timer(true);
+        if (this.preambleTimer != null) {
+            this.preambleTimer.cancel();
+        }
+        this.preambleTimer = null;
     }
 
     /**
      * Timer class to keep the alpha transparency the same until we begin to
      * fade back out.
      */
-    private class PreambleTimer extends TimerTask {
+    private class PreambleTimer implements Runnable {
 
         private final PreambleScreen screen;
 
@@ -23,7 +23,7 @@ import java.awt.Graphics2D;
 public abstract class Screen implements Renderable, Updatable {
 
     //  Miscellaneous reference variables
-    private static Game game;
+    private final Game game;
     private final StandardInteractorHandler sih;
 
     //  Variables for getting quickly-modified screen dimensions.
@@ -37,10 +37,10 @@ public abstract class Screen implements Renderable, Updatable {
     public static int gameHeight;
 
     public Screen(Game _game) {
-        Screen.game = _game;
-        this.sih = new StandardInteractorHandler(Screen.game);
+        this.game = _game;
+        this.sih = new StandardInteractorHandler(this.game);
         this.addUIElementsAsListeners();
-        Screen.setGameDimensions();
+        Screen.setGameDimensions(this.game);
     }
 
     @Override
@@ -67,26 +67,30 @@ public abstract class Screen implements Renderable, Updatable {
      * the StandardGame.
      */
     private void addUIElementsAsListeners() {
-        Screen.game.addMouseListener(this.sih);
-        Screen.game.addMouseMotionListener(this.sih);
+        this.game.addMouseListener(this.sih);
+        this.game.addMouseMotionListener(this.sih);
     }
 
     /**
-     * Sets the game dimensions
+     * Sets the game dimensions from _game's window size. The dimensions are
+     * shared by every game in the JVM, which is fine as long as they all run
+     * at the same resolution.
+     *
+     * @param _game
      */
-    public static void setGameDimensions() {
-        gameWidth = game.getGameWidth();
-        gameHeight = game.getGameHeight();
-        gameHalfWidth = game.getGameWidth() >> 1;
-        gameHalfHeight = game.getGameHeight() >> 1;
-        gameDoubleWidth = game.getGameWidth() << 1;
-        gameDoubleHeight = game.getGameHeight() << 1;
-        gameFourthWidth = game.getGameWidth() >> 2;
-        gameFourthHeight = game.getGameHeight() >> 2;
+    public static void setGameDimensions(Game _game) {
+        gameWidth = _game.getGameWidth();
+        gameHeight = _game.getGameHeight();
+        gameHalfWidth = _game.getGameWidth() >> 1;
+        gameHalfHeight = _game.getGameHeight() >> 1;
+        gameDoubleWidth = _game.getGameWidth() << 1;
+        gameDoubleHeight = _game.getGameHeight() << 1;
+        gameFourthWidth = _game.getGameWidth() >> 2;
+        gameFourthHeight = _game.getGameHeight() >> 2;
     }
 
 //============================ GETTERS =================================//
     public Game getGame() {
-        return Screen.game;
+        return this.game;
     }
 }
@@ -1,5 +1,6 @@
 package com.dsd.game.userinterface.model;
 
+import com.dsd.game.core.Game;
 import com.dsd.game.userinterface.StandardInteractorHandler;
 import com.dsd.game.userinterface.model.labels.StandardLabel;
 import com.revivedstandards.main.StandardDraw;
@@ -32,18 +33,17 @@ public class DamageText extends StandardLabel {
      */
     private Color fadeColor;
     private static final int RED_INC_VALUE = 20;
-    private static final int ORIGINAL_RED_VALUE = 90;
-    private static int redColorValue = ORIGINAL_RED_VALUE;
+    public static final int ORIGINAL_RED_VALUE = 90;
     private final int FADE_TIMER = 5;
-    private final int MAX_COLOR = 0xff;
+    private static final int MAX_COLOR = 0xff;
     
     //  Velocity of the text (as it moves upward).
     private final int Y_VEL = -1;
 
-    public DamageText(int _x, int _y, String _text, StandardInteractorHandler _sih) {
-        super(_x, _y, _text, font);
+    public DamageText(int _x, int _y, String _text, int _redValue, StandardInteractorHandler _sih, Game _game) {
+        super(_x, _y, _text, font, _game);
         this.sih = _sih;
-        this.fadeColor = new Color(this.generateRedColor(), 0, 0, this.MAX_COLOR);
+        this.fadeColor = new Color(_redValue, 0, 0, DamageText.MAX_COLOR);
         this.setVelY(this.Y_VEL);
     }
 
@@ -73,13 +73,15 @@ public class DamageText extends StandardLabel {
     }
 
     /**
-     * Continuously generates a red value for the text, getting increasingly
-     * brighter with every new text.
+     * Returns the red value for the text after one that was _previous, getting
+     * increasingly brighter with every new text. Whoever creates the texts
+     * keeps the previous value, so each game has its own sequence.
      *
-     * @return redValue if leq 255, original red value otherwise.
+     * @param _previous
+     * @return the next value if leq 255, original red value otherwise.
      */
-    private int generateRedColor() {
-        DamageText.redColorValue += RED_INC_VALUE;
-        return DamageText.redColorValue > this.MAX_COLOR ? (DamageText.redColorValue = ORIGINAL_RED_VALUE) : DamageText.redColorValue;
+    public static int nextRedValue(int _previous) {
+        int red = _previous + RED_INC_VALUE;
+        return red > DamageText.MAX_COLOR ? ORIGINAL_RED_VALUE : red;
     }
 }
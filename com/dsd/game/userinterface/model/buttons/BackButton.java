@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import java.awt.Color;
@@ -28,11 +27,11 @@ public class BackButton extends MenuButton implements MouseEventInterface {
     public BackButton(Game _game, MenuScreen _menuScreen) {
         super(_game.getGameWidth() - BUTTON_X_OFFSET - BUTTON_WIDTH / 2,
                 _game.getGameHeight() - BUTTON_Y_OFFSET,
-                LanguageController.translate("BACK"), _game, _menuScreen);
+                _game.getLanguageController().translate("BACK"), _game, _menuScreen);
     }
 
     public BackButton(int _x, int _y, Game _game, MenuScreen _menuScreen) {
-        super(_x, _y, LanguageController.translate("BACK"), _game, _menuScreen);
+        super(_x, _y, _game.getLanguageController().translate("BACK"), _game, _menuScreen);
     }
 
     @Override
@@ -4,8 +4,6 @@ import com.dsd.game.core.DifficultyType;
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
 import com.dsd.game.controller.DebugController;
-import com.dsd.game.controller.DifficultyController;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -34,7 +32,7 @@ public class EasyButton extends MenuButton implements MouseEventInterface {
     public EasyButton(Game _game, MenuScreen _menuScreen) {
         super(Screen.gameHalfWidth - BUTTON_X_OFFSET,
                 Screen.gameHalfHeight + BUTTON_Y_OFFSET,
-                LanguageController.translate(DifficultyType.EASY.getDifficultyLabel()),
+                _game.getLanguageController().translate(DifficultyType.EASY.getDifficultyLabel()),
                 _game, _menuScreen);
     }
 
@@ -65,7 +63,7 @@ public class EasyButton extends MenuButton implements MouseEventInterface {
         } else {
             this.getGame().setGameState(GameState.RUNNING);
         }
-        DifficultyController.difficultyType = DifficultyType.EASY;
+        this.getGame().getDifficultyController().setDifficultyType(DifficultyType.EASY);
         this.getGame().uponPlay();
         this.getMenuScreen().setMenuState(MenuState.MAIN);
     }
@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import com.dsd.game.userinterface.Screen;
@@ -27,7 +26,7 @@ public class ExitButton extends MenuButton implements MouseEventInterface {
 
     public ExitButton(Game _game, MenuScreen _menuScreen) {
         super(_game.getGameWidth() - ExitButton.BUTTON_X_OFFSET - ExitButton.BUTTON_WIDTH / 2,
-                _game.getGameHeight(), LanguageController.translate("QUIT GAME"), _game, _menuScreen);
+                _game.getGameHeight(), _game.getLanguageController().translate("QUIT GAME"), _game, _menuScreen);
     }
 
     @Override
@@ -5,7 +5,6 @@ import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
 import com.dsd.game.userinterface.view.PlayerView;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.model.StandardAudioType;
 import java.awt.Graphics2D;
 
@@ -61,7 +60,7 @@ public class FemalePlayerButton extends StandardButton implements MouseEventInte
         if (!this.menuScreen.isOnPlayerGender()) {
             return;
         }
-        StandardAudioController.play("src/resources/audio/sfx/menuselect.wav", StandardAudioType.SFX);
+        this.game.getAudioBoxController().play("src/resources/audio/sfx/menuselect.wav", StandardAudioType.SFX);
         this.game.getPlayer().setPlayerSex("female");
         this.menuScreen.pushMenuStack(MenuState.PLAYER_GENDER);
         this.menuScreen.setMenuState(MenuState.DIFFICULTY);
@@ -2,7 +2,6 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import java.awt.Color;
@@ -34,7 +33,7 @@ public class HelpBackButton extends MenuButton implements MouseEventInterface {
 
     public HelpBackButton(Game _game, MenuScreen _menuScreen) {
         super(BUTTON_X_OFFSET, BUTTON_Y_OFFSET,
-                LanguageController.translate("BACK"), _game, _menuScreen);
+                _game.getLanguageController().translate("BACK"), _game, _menuScreen);
         this.game = _game;
         this.menuScreen = _menuScreen;
         this.setX((int) this.game.getCamera().getX() - (BUTTON_X_OFFSET - BUTTON_X_CENTERER));
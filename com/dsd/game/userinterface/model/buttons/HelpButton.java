@@ -2,7 +2,6 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import java.awt.Color;
@@ -32,7 +31,7 @@ public class HelpButton extends MenuButton implements MouseEventInterface {
 
     public HelpButton(Game _game, MenuScreen _menuScreen) {
         super(HelpButton.BUTTON_X_OFFSET, HelpButton.BUTTON_Y_OFFSET,
-                LanguageController.translate("HELP"), _game, _menuScreen);
+                _game.getLanguageController().translate("HELP"), _game, _menuScreen);
         this.game = _game;
         this.menuScreen = _menuScreen;
         super.setX((int) this.game.getCamera().getX() - HelpButton.BUTTON_X_OFFSET);
@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -28,7 +27,7 @@ public class HelpOrOptionsButton extends MenuButton implements MouseEventInterfa
 
     public HelpOrOptionsButton(Game _game, MenuScreen _menuScreen) {
         super(BUTTON_X_OFFSET, _game.getGameHeight() - BUTTON_Y_OFFSET,
-                LanguageController.translate("SETTINGS"), _game, _menuScreen);
+                _game.getLanguageController().translate("SETTINGS"), _game, _menuScreen);
     }
 
     @Override
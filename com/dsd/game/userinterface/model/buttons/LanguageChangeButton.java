@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -29,7 +28,7 @@ public class LanguageChangeButton extends MenuButton implements MouseEventInterf
 
     public LanguageChangeButton(Game _game, MenuScreen _menuScreen) {
         super(LanguageChangeButton.BUTTON_X_OFFSET, _game.getGameHeight() - LanguageChangeButton.BUTTON_Y_OFFSET,
-                LanguageController.translate("CHANGE LANGUAGE"), _game, _menuScreen);
+                _game.getLanguageController().translate("CHANGE LANGUAGE"), _game, _menuScreen);
     }
 
     @Override
@@ -3,7 +3,6 @@ package com.dsd.game.userinterface.model.buttons;
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
 import com.dsd.game.controller.DebugController;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import com.dsd.game.userinterface.Screen;
@@ -35,7 +34,7 @@ public class LoadButton extends MenuButton implements MouseEventInterface {
     public LoadButton(Game _game, MenuScreen _menuScreen) {
         super(Screen.gameHalfWidth - BUTTON_X_OFFSET,
                 Screen.gameHalfHeight - BUTTON_Y_OFFSET,
-                LanguageController.translate("LOAD GAME"), _game, _menuScreen);
+                _game.getLanguageController().translate("LOAD GAME"), _game, _menuScreen);
         this.game = _game;
         this.menuScreen = _menuScreen;
     }
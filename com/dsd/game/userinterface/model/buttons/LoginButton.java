@@ -2,8 +2,6 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.AccountStatus;
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
-import com.dsd.game.database.TranslatorDatabase;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -37,7 +35,7 @@ public class LoginButton extends MenuButton implements MouseEventInterface {
     public LoginButton(Game _game, MenuScreen _menuScreen, EmailTextFieldModel _email, PasswordTextFieldModel _pswd) {
         super(Screen.gameHalfWidth - LoginButton.BUTTON_X_OFFSET - LoginButton.BUTTON_WIDTH,
                 _game.getGameHeight() - LoginButton.BUTTON_Y_OFFSET,
-                LanguageController.translate("LOGIN"), _game, _menuScreen);
+                _game.getLanguageController().translate("LOGIN"), _game, _menuScreen);
         this.emailModel = _email;
         this.pswdModel = _pswd;
     }
@@ -67,7 +65,7 @@ public class LoginButton extends MenuButton implements MouseEventInterface {
         super.onMouseClick();
         //  Once we click on the button, we contact the database to make sure
         //  this is a valid user.
-        AccountStatus accountStatus = TranslatorDatabase.authenticateUser(this.emailModel.getString(),
+        AccountStatus accountStatus = this.getGame().getTranslatorDatabase().authenticateUser(this.emailModel.getString(),
                 this.pswdModel.getString());
         this.displayAccountStatus(accountStatus);
         this.getMenuScreen().setMenuState(MenuState.MAIN);
@@ -2,7 +2,6 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import java.awt.Color;
@@ -32,7 +31,7 @@ public class MainMenuButton extends MenuButton implements MouseEventInterface {
 
     public MainMenuButton(Game _game, MenuScreen _menuScreen) {
         super(BUTTON_X_OFFSET, BUTTON_Y_OFFSET,
-                LanguageController.translate("MAIN MENU"), _game, _menuScreen);
+                _game.getLanguageController().translate("MAIN MENU"), _game, _menuScreen);
         this.game = _game;
         this.menuScreen = _menuScreen;
         super.setX((int) this.game.getCamera().getX() - BUTTON_X_OFFSET);
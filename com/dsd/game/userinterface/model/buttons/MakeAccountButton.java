@@ -2,8 +2,6 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.AccountStatus;
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
-import com.dsd.game.database.TranslatorDatabase;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -37,7 +35,7 @@ public class MakeAccountButton extends MenuButton implements MouseEventInterface
     public MakeAccountButton(Game _game, MenuScreen _menuScreen, EmailTextFieldModel _email, PasswordTextFieldModel _pswd) {
         super(Screen.gameHalfWidth + BUTTON_X_OFFSET,
                 _game.getGameHeight() - BUTTON_Y_OFFSET,
-                LanguageController.translate("MAKE ACCOUNT"), _game, _menuScreen);
+                _game.getLanguageController().translate("MAKE ACCOUNT"), _game, _menuScreen);
         this.emailModel = _email;
         this.pswdModel = _pswd;
     }
@@ -65,7 +63,7 @@ public class MakeAccountButton extends MenuButton implements MouseEventInterface
             return;
         }
         super.onMouseClick();
-        AccountStatus accountStatus = TranslatorDatabase.addUser(this.emailModel.getString(), this.pswdModel.getString());
+        AccountStatus accountStatus = this.getGame().getTranslatorDatabase().addUser(this.emailModel.getString(), this.pswdModel.getString());
         this.displayAccountStatus(accountStatus);
         this.getMenuScreen().setMenuState(MenuState.MAIN);
         this.clearTextboxes();
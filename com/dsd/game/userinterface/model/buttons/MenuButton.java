@@ -2,10 +2,8 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.AccountStatus;
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
-import com.revivedstandards.controller.StandardAudioController;
 import com.revivedstandards.model.StandardAudioType;
 import com.revivedstandards.util.StdOps;
 import java.awt.Font;
@@ -44,7 +42,7 @@ public abstract class MenuButton extends StandardButton implements MouseEventInt
         super(_x, _y, BUTTON_WIDTH, BUTTON_HEIGHT);
         this.game = _game;
         this.menuScreen = _menuScreen;
-        if (LanguageController.lang.equals("en-en")) {
+        if (this.game.getLanguageController().isEnglish()) {
             this.font = StdOps.initFont("src/resources/fonts/chargen.ttf", 24f);
         } else {
             this.font = new Font("Arial Unicode MS", Font.BOLD, 16);
@@ -62,7 +60,7 @@ public abstract class MenuButton extends StandardButton implements MouseEventInt
 
     @Override
     public void onMouseClick() {
-        StandardAudioController.play("src/resources/audio/sfx/menuselect.wav", StandardAudioType.SFX);
+        this.game.getAudioBoxController().play("src/resources/audio/sfx/menuselect.wav", StandardAudioType.SFX);
     }
 
     /**
@@ -77,25 +75,25 @@ public abstract class MenuButton extends StandardButton implements MouseEventInt
         }
         switch (_status) {
             case DOES_NOT_EXIST:
-                JOptionPane.showMessageDialog(null, LanguageController.translate("Error: Your account does not exist."));
+                JOptionPane.showMessageDialog(null, this.game.getLanguageController().translate("Error: Your account does not exist."));
                 break;
             case EXISTS:
-                JOptionPane.showMessageDialog(null, LanguageController.translate("You already have an account!"));
+                JOptionPane.showMessageDialog(null, this.game.getLanguageController().translate("You already have an account!"));
                 break;
             case ACCOUNT_CREATED:
-                JOptionPane.showMessageDialog(null, LanguageController.translate("Your account has been created. You may log in now."));
+                JOptionPane.showMessageDialog(null, this.game.getLanguageController().translate("Your account has been created. You may log in now."));
                 break;
             case INVALID_EMAIL:
-                JOptionPane.showMessageDialog(null, LanguageController.translate("Your email does not meet the criteria."));
+                JOptionPane.showMessageDialog(null, this.game.getLanguageController().translate("Your email does not meet the criteria."));
                 break;
             case INVALID_PASS:
-                JOptionPane.showMessageDialog(null, LanguageController.translate("Your password does not meet the criteria."));
+                JOptionPane.showMessageDialog(null, this.game.getLanguageController().translate("Your password does not meet the criteria."));
                 break;
             case INCORRECT_PASS:
-                JOptionPane.showMessageDialog(null, LanguageController.translate("Your password is incorrect."));
+                JOptionPane.showMessageDialog(null, this.game.getLanguageController().translate("Your password is incorrect."));
                 break;
             case CORRECT:
-                JOptionPane.showMessageDialog(null, LanguageController.translate("Logged in successfully!"));
+                JOptionPane.showMessageDialog(null, this.game.getLanguageController().translate("Logged in successfully!"));
                 break;
             default:
                 throw new IllegalArgumentException("Invalid ACCOUNT_STATUS!");
@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -30,7 +29,7 @@ public class PlayButton extends MenuButton implements MouseEventInterface {
     public PlayButton(Game _game, MenuScreen _menuScreen) {
         super(Screen.gameHalfWidth - BUTTON_X_OFFSET,
                 Screen.gameHalfHeight - BUTTON_Y_OFFSET,
-                LanguageController.translate("NEW GAME"), _game, _menuScreen);
+                _game.getLanguageController().translate("NEW GAME"), _game, _menuScreen);
         this.getGame().getHandler().addEntity(_game.getPlayer());
     }
 
@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -29,7 +28,7 @@ public class ResolutionMenuButton extends MenuButton implements MouseEventInterf
 
     public ResolutionMenuButton(Game _game, MenuScreen _menuScreen) {
         super(ResolutionMenuButton.BUTTON_X_OFFSET, _game.getGameHeight() - ResolutionMenuButton.BUTTON_Y_OFFSET,
-                LanguageController.translate("CHANGE RESOLUTION"),
+                _game.getLanguageController().translate("CHANGE RESOLUTION"),
                 _game, _menuScreen);
     }
 
@@ -2,7 +2,6 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.objects.ResolutionEnum;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import com.dsd.game.userinterface.Screen;
@@ -34,7 +33,7 @@ public class SaveAudioChangesButton extends MenuButton implements MouseEventInte
     public SaveAudioChangesButton(Game _game, MenuScreen _menuScreen) {
         super(SaveAudioChangesButton.BUTTON_X_OFFSET,
                 _game.getGameHeight() - SaveAudioChangesButton.BUTTON_Y_OFFSET,
-                LanguageController.translate("SAVE CHANGES"), _game, _menuScreen);
+                _game.getLanguageController().translate("SAVE CHANGES"), _game, _menuScreen);
         this.menuScreen = _menuScreen;
     }
 
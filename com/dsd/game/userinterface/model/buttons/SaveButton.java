@@ -2,7 +2,6 @@ package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
 import com.dsd.game.core.GameState;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import java.awt.Color;
@@ -32,7 +31,7 @@ public class SaveButton extends MenuButton implements MouseEventInterface {
 
     public SaveButton(Game _game, MenuScreen _menuScreen) {
         super(SaveButton.BUTTON_X_OFFSET, SaveButton.BUTTON_Y_OFFSET,
-                LanguageController.translate("SAVE GAME"), _game, _menuScreen);
+                _game.getLanguageController().translate("SAVE GAME"), _game, _menuScreen);
         this.game = _game;
         this.menuScreen = _menuScreen;
         this.setX((int) this.game.getCamera().getX() - SaveButton.BUTTON_X_OFFSET);
@@ -4,7 +4,6 @@ import com.dsd.game.core.Game;
 import com.dsd.game.objects.ResolutionEnum;
 import com.dsd.game.commands.DecreaseLanguageCommand;
 import com.dsd.game.commands.IncreaseLanguageCommand;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import java.awt.Color;
@@ -39,7 +38,7 @@ public class SaveLanguageChangesButton extends MenuButton implements MouseEventI
 
     public SaveLanguageChangesButton(Game _game, MenuScreen _menuScreen) {
         super(BUTTON_X_OFFSET, _game.getGameHeight() - BUTTON_Y_OFFSET,
-                LanguageController.translate("SAVE CHANGES"), _game, _menuScreen);
+                _game.getLanguageController().translate("SAVE CHANGES"), _game, _menuScreen);
         this.menuScreen = _menuScreen;
         this.incLangCommand = new IncreaseLanguageCommand(this.getGame());
         this.decLangCommand = new DecreaseLanguageCommand(this.getGame());
@@ -96,7 +95,7 @@ public class SaveLanguageChangesButton extends MenuButton implements MouseEventI
      * appear upon reloading the game.
      */
     private void displaySaveChangesMsg() {
-        JOptionPane.showMessageDialog(null, LanguageController.translate("Your changes will appear upon reloading the game."));
+        JOptionPane.showMessageDialog(null, this.getGame().getLanguageController().translate("Your changes will appear upon reloading the game."));
     }
 
 }
@@ -4,7 +4,6 @@ import com.dsd.game.core.Game;
 import com.dsd.game.objects.ResolutionEnum;
 import com.dsd.game.commands.DecreaseResolutionCommand;
 import com.dsd.game.commands.IncreaseResolutionCommand;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MouseEventInterface;
 import java.awt.Color;
@@ -36,7 +35,7 @@ public class SaveResolutionChangesButton extends MenuButton implements MouseEven
 
     public SaveResolutionChangesButton(Game _game, MenuScreen _menuScreen) {
         super(BUTTON_X_OFFSET, _game.getGameHeight() - BUTTON_Y_OFFSET,
-                LanguageController.translate("SAVE CHANGES"), _game, _menuScreen);
+                _game.getLanguageController().translate("SAVE CHANGES"), _game, _menuScreen);
         this.menuScreen = _menuScreen;
         this.incResCommand = new IncreaseResolutionCommand(this.getGame());
         this.decResCommand = new DecreaseResolutionCommand(this.getGame());
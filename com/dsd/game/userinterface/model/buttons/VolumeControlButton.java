@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.buttons;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.MenuState;
 import com.dsd.game.userinterface.MouseEventInterface;
@@ -29,7 +28,7 @@ public class VolumeControlButton extends MenuButton implements MouseEventInterfa
 
     public VolumeControlButton(Game _game, MenuScreen _menuScreen) {
         super(VolumeControlButton.BUTTON_X_OFFSET, _game.getGameHeight() - VolumeControlButton.BUTTON_Y_OFFSET,
-                LanguageController.translate("CHANGE VOLUME"),
+                _game.getLanguageController().translate("CHANGE VOLUME"),
                 _game, _menuScreen);
     }
 
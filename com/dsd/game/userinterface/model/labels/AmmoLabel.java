@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.labels;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.objects.Player;
 import com.dsd.game.objects.weapons.Gun;
 import com.dsd.game.userinterface.Screen;
@@ -34,7 +33,7 @@ public class AmmoLabel extends StandardLabel {
     public AmmoLabel(Game _game, Player _player) {
         super((int) (Screen.gameHalfWidth + Screen.gameHalfWidth),
                 (int) (Screen.gameHalfHeight + Screen.gameHalfHeight / 2),
-                LanguageController.translate("AMMO: "), "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                _game.getLanguageController().translate("AMMO: "), "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
         this.player = _player;
     }
@@ -32,7 +32,7 @@ public class CoinLabel extends StandardLabel {
     public CoinLabel(Game _game, Player _player) {
         super((int) (Screen.gameHalfWidth + Screen.gameHalfWidth),
                 (int) (Screen.gameHalfHeight + Screen.gameFourthHeight),
-                "$", "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                "$", "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
         this.player = _player;
     }
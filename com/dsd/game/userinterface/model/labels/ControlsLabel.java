@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.labels;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.Screen;
 import java.awt.Color;
 import java.awt.Font;
@@ -38,8 +37,8 @@ public class ControlsLabel extends StandardLabel {
     public ControlsLabel(Game _game) {
         super((int) Screen.gameHalfWidth,
                 (int) Screen.gameHalfHeight,
-                LanguageController.translate("CONTROLS"),
-                "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                _game.getLanguageController().translate("CONTROLS"),
+                "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
     }
 
@@ -1,6 +1,5 @@
 package com.dsd.game.userinterface.model.labels;
 
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.model.EmailTextFieldModel;
 import java.awt.Color;
@@ -31,8 +30,8 @@ public class EmailLabel extends StandardLabel {
 
     public EmailLabel(EmailTextFieldModel _emailModel, MenuScreen _menuScreen) {
         super(_emailModel.getX(), _emailModel.getY(),
-                LanguageController.translate("EMAIL:"),
-                "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                _menuScreen.getGame().getLanguageController().translate("EMAIL:"),
+                "src/resources/fonts/chargen.ttf", FONT_SIZE, _menuScreen.getGame());
         this.menuScreen = _menuScreen;
         this.emailModel = _emailModel;
     }
@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.labels;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.objects.Player;
 import com.dsd.game.userinterface.Screen;
 import com.revivedstandards.controller.StandardFadeController;
@@ -49,7 +48,7 @@ public class HealthLabel extends StandardLabel {
 
     public HealthLabel(Game _game, Player _player) {
         super((int) (Screen.gameHalfWidth - Screen.gameHalfWidth),
-                (int) (Screen.gameHalfHeight + Screen.gameFourthHeight), LanguageController.translate("Health: "), "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                (int) (Screen.gameHalfHeight + Screen.gameFourthHeight), _game.getLanguageController().translate("Health: "), "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.healthBarColor = new StandardFadeController(this.darkGreen, this.lightGreen, this.FADE_INTERVAL);
         this.game = _game;
         this.player = _player;
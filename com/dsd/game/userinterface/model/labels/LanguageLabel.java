@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.labels;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.core.LanguageEnum;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.Screen;
 import java.awt.Color;
@@ -28,17 +27,17 @@ public class LanguageLabel extends StandardLabel {
 
     public LanguageLabel(Game _game, MenuScreen _menuScreen) {
         super(Screen.gameHalfWidth, Screen.gameHalfHeight,
-                "", new Font(Font.SANS_SERIF, Font.PLAIN, FONT_SIZE));
+                "", new Font(Font.SANS_SERIF, Font.PLAIN, FONT_SIZE), _game);
         this.game = _game;
         this.menuScreen = _menuScreen;
-        this.setText(LanguageEnum.getLanguage());
+        this.setText(this.game.getLanguageController().getLanguageName());
     }
 
     @Override
     public void tick() {
         this.setX(Screen.gameHalfWidth);
         this.setY(Screen.gameHalfHeight);
-        this.setText(LanguageEnum.getLanguage());
+        this.setText(this.game.getLanguageController().getLanguageName());
     }
 
     @Override
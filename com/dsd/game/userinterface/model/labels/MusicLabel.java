@@ -29,7 +29,8 @@ public class MusicLabel extends StandardLabel {
     private static final float FONT_SIZE = 32f;
 
     public MusicLabel(MusicVolumeControl _mvc, MenuScreen _menuScreen) {
-        super(_mvc.getLeftButtonX(), _mvc.getLeftButtonY(), "MUSIC VOLUME", "src/resources/fonts/chargen.ttf", FONT_SIZE);
+        super(_mvc.getLeftButtonX(), _mvc.getLeftButtonY(), "MUSIC VOLUME", "src/resources/fonts/chargen.ttf", FONT_SIZE,
+                _menuScreen.getGame());
         this.menuScreen = _menuScreen;
         this.musicVolumeControl = _mvc;
     }
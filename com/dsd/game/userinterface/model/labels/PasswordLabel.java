@@ -1,6 +1,5 @@
 package com.dsd.game.userinterface.model.labels;
 
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.MenuScreen;
 import com.dsd.game.userinterface.model.PasswordTextFieldModel;
 import java.awt.Color;
@@ -31,8 +30,8 @@ public class PasswordLabel extends StandardLabel {
 
     public PasswordLabel(PasswordTextFieldModel _passwordModel, MenuScreen _menuScreen) {
         super(_passwordModel.getX(), _passwordModel.getY(),
-                LanguageController.translate("PASSWORD:"),
-                "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                _menuScreen.getGame().getLanguageController().translate("PASSWORD:"),
+                "src/resources/fonts/chargen.ttf", FONT_SIZE, _menuScreen.getGame());
         this.menuScreen = _menuScreen;
         this.passwordModel = _passwordModel;
     }
@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.labels;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.Screen;
 import java.awt.Color;
 import java.awt.Graphics2D;
@@ -31,7 +30,7 @@ public class PauseLabel extends StandardLabel {
     public PauseLabel(Game _game) {
         super((int) Screen.gameHalfWidth,
                 (int) Screen.gameHalfHeight,
-                LanguageController.translate("PAUSED"), "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                _game.getLanguageController().translate("PAUSED"), "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
     }
 
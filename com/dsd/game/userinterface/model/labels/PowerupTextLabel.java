@@ -1,6 +1,5 @@
 package com.dsd.game.userinterface.model.labels;
 
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.core.Game;
 import com.dsd.game.userinterface.Screen;
 import java.awt.Color;
@@ -31,7 +30,7 @@ public class PowerupTextLabel extends StandardLabel {
     private int yOffset;
 
     public PowerupTextLabel(Game _game, String _powerupString) {
-        super(0, 0, "", "src/resources/fonts/chargen.ttf", FONT_SIZE);
+        super(0, 0, "", "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
         this.powerupString = _powerupString;
     }
@@ -44,7 +43,7 @@ public class PowerupTextLabel extends StandardLabel {
             //  If the language is English, we don't have to translate anything 
             //  and thus can print the powerup. Otherwise, we have to translate
             //  every string which causes lag. So, we don't do it for other languages.
-            this.setText(LanguageController.lang.equals("en-en") ? "YOU PICKED UP " + this.powerupString : "");
+            this.setText(this.game.getLanguageController().isEnglish() ? "YOU PICKED UP " + this.powerupString : "");
         }
     }
 
@@ -27,7 +27,7 @@ public class ResolutionLabel extends StandardLabel {
 
     public ResolutionLabel(Game _game, MenuScreen _menuScreen) {
         super(Screen.gameHalfWidth, Screen.gameHalfHeight,
-                "", "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                "", "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
         this.menuScreen = _menuScreen;
         this.setText(this.game.getGameWidth() + " x " + this.game.getGameHeight());
@@ -27,7 +27,8 @@ public class SFXLabel extends StandardLabel {
     private static final float FONT_SIZE = 32f;
 
     public SFXLabel(SoundEffectVolumeControl _svc, MenuScreen _menuScreen) {
-        super(_svc.getLeftButtonX(), _svc.getLeftButtonY(), "SOUND EFFECT VOLUME", "src/resources/fonts/chargen.ttf", FONT_SIZE);
+        super(_svc.getLeftButtonX(), _svc.getLeftButtonY(), "SOUND EFFECT VOLUME", "src/resources/fonts/chargen.ttf", FONT_SIZE,
+                _menuScreen.getGame());
         this.menuScreen = _menuScreen;
         this.sfxVolumeControl = _svc;
     }
@@ -1,6 +1,6 @@
 package com.dsd.game.userinterface.model.labels;
 
-import com.dsd.game.controller.LanguageController;
+import com.dsd.game.core.Game;
 import com.dsd.game.userinterface.MouseEventInterface;
 import com.dsd.game.userinterface.model.Interactor;
 import com.revivedstandards.util.StdOps;
@@ -26,24 +26,34 @@ public class StandardLabel extends Interactor implements MouseEventInterface {
     private final int shakeFactor = 1;
     private final int DEFAULT_FONT_SIZE = 16;
 
-    public StandardLabel(int _x, int _y, String _text, Font _fontPath) {
+    /**
+     * Labels only use their requested font when _game is displayed in
+     * English; the custom fonts have no glyphs for most other languages.
+     *
+     * @param _x
+     * @param _y
+     * @param _text
+     * @param _fontPath
+     * @param _game
+     */
+    public StandardLabel(int _x, int _y, String _text, Font _fontPath, Game _game) {
         super(_x, _y);
         this.originX = _x;
         this.originY = _y;
         this.text = _text;
-        if (LanguageController.lang.equals("en-en")) {
+        if (_game.getLanguageController().isEnglish()) {
             this.font = _fontPath;
         } else {
             this.font = new Font(Font.SANS_SERIF, Font.PLAIN, DEFAULT_FONT_SIZE);
         }
     }
 
-    public StandardLabel(int _x, int _y, String _text, String _fontPath, float _fontSize) {
+    public StandardLabel(int _x, int _y, String _text, String _fontPath, float _fontSize, Game _game) {
         super(_x, _y);
         this.originX = _x;
         this.originY = _y;
         this.text = _text;
-        if (LanguageController.lang.equals("en-en") || _text.equals("Lock Out Protocol")) {
+        if (_game.getLanguageController().isEnglish() || _text.equals("Lock Out Protocol")) {
             this.font = StdOps.initFont(_fontPath, _fontSize);
         } else {
             this.font = new Font(Font.SANS_SERIF, Font.PLAIN, DEFAULT_FONT_SIZE);
@@ -1,15 +1,13 @@
 package com.dsd.game.userinterface.model.labels;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
-import com.dsd.game.controller.TimerController;
+import com.dsd.game.core.TimerClock;
+import com.dsd.game.controller.TimerHandle;
 import com.dsd.game.userinterface.Screen;
 import com.dsd.game.userinterface.TimerInterface;
 import com.dsd.game.util.Utilities;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * This class will tell the user how long they've been playing, and what round
@@ -25,7 +23,7 @@ public class TimeLabel extends StandardLabel implements TimerInterface {
 
     //  Miscellaneous reference variables.
     private final Game game;
-    private Timer timer;
+    private TimerHandle timer;
 
     //  Time variables.
     private int seconds = 0;
@@ -44,9 +42,10 @@ public class TimeLabel extends StandardLabel implements TimerInterface {
 
     public TimeLabel(Game _game) {
         super(Screen.gameHalfWidth, TimeLabel.TIME_Y_OFFSET, "00:00:00",
-                "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
-        this.waveString = LanguageController.translate("Wave");
+        this.waveString = _game.getLanguageController().translate("Wave");
+        this.game.getTimerController().addTimer(this);
     }
 
     @Override
@@ -54,10 +53,13 @@ public class TimeLabel extends StandardLabel implements TimerInterface {
         if (!this.game.isInGameState()) {
             return;
         } else {
+            /**
+             * The LEVEL clock keeps running through the preamble, but stops
+             * while the game is paused or in the shop.
+             */
             if (this.timer == null) {
-                this.timer = new Timer(true);
-                this.timer.scheduleAtFixedRate(new TimerControl(this.game, this), 0, TIME_INTERVAL);
-                TimerController.addTimer(this);
+                this.timer = this.game.getTimerController().scheduleAtFixedRate(
+                        new TimerControl(this), TimerClock.LEVEL, 0, TIME_INTERVAL);
             }
             this.setText(String.format("%02d:%02d:%02d | %s %s", this.hours, this.minutes, this.seconds, this.waveString,
                     Utilities.toRoman(this.game.getWaveNumber())));
@@ -99,21 +101,16 @@ public class TimeLabel extends StandardLabel implements TimerInterface {
         }
     }
 
-    private class TimerControl extends TimerTask {
+    private class TimerControl implements Runnable {
 
-        private final Game game;
         private final TimeLabel timeLabel;
 
-        public TimerControl(Game _game, TimeLabel _timeLabel) {
-            this.game = _game;
+        public TimerControl(TimeLabel _timeLabel) {
             this.timeLabel = _timeLabel;
         }
 
         @Override
         public void run() {
-            if (this.game.isPaused() || this.game.isShop()) {
-                return;
-            }
             this.timeLabel.calculateTime();
         }
     }
@@ -36,7 +36,7 @@ public class TitleLabel extends StandardLabel {
     public TitleLabel(Game _game) {
         super(Screen.gameHalfWidth - TitleLabel.TITLE_X_OFFSET,
                 TitleLabel.TITLE_Y_OFFSET, _game.getWindow().getTitle(),
-                "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
         this.fadeController = new StandardFadeController(Color.white, Color.gray, this.TRANSITION_INTERVAL);
     }
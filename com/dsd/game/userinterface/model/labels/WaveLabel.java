@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.model.labels;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.util.Utilities;
 import com.revivedstandards.main.StandardCamera;
 import com.revivedstandards.util.StdOps;
@@ -19,7 +18,8 @@ import java.awt.Graphics2D;
  */
 public class WaveLabel extends StandardLabel {
 
-    //  Miscellaenous camera reference.
+    //  Miscellaenous game and camera references.
+    private final Game game;
     private final StandardCamera camera;
     
     //  Random variability factor for when the wave text shakes.
@@ -30,7 +30,8 @@ public class WaveLabel extends StandardLabel {
 
     public WaveLabel(Game _game, int _waveNumber) {
         super((int) _game.getCamera().getX(), (int) _game.getCamera().getY(),
-                LanguageController.translate("Wave ") + _waveNumber, "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                _game.getLanguageController().translate("Wave ") + _waveNumber, "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
+        this.game = _game;
         this.camera = _game.getCamera();
     }
 
@@ -52,6 +53,6 @@ public class WaveLabel extends StandardLabel {
 
 //================================ SETTERS ===================================//
     public void setWaveNumber(int _waveNumber) {
-        this.setText(LanguageController.translate("Wave ") + Utilities.toRoman(_waveNumber));
+        this.setText(this.game.getLanguageController().translate("Wave ") + Utilities.toRoman(_waveNumber));
     }
 }
@@ -1,7 +1,6 @@
 package com.dsd.game.userinterface.shop;
 
 import com.dsd.game.core.Game;
-import com.dsd.game.controller.LanguageController;
 import com.dsd.game.userinterface.Screen;
 import com.dsd.game.userinterface.ShopScreen;
 import com.dsd.game.userinterface.model.labels.*;
@@ -33,8 +32,8 @@ public class ShopTitleLabel extends StandardLabel {
 
     public ShopTitleLabel(Game _game, ShopScreen _shopScreen) {
         super(Screen.gameHalfWidth - ShopTitleLabel.TITLE_X_OFFSET,
-                ShopTitleLabel.TITLE_Y_OFFSET, LanguageController.translate("SHOP"),
-                "src/resources/fonts/chargen.ttf", FONT_SIZE);
+                ShopTitleLabel.TITLE_Y_OFFSET, _game.getLanguageController().translate("SHOP"),
+                "src/resources/fonts/chargen.ttf", FONT_SIZE, _game);
         this.game = _game;
         this.shopScreen = _shopScreen;
         this.setScaled(true);
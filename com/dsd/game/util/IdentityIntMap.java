@@ -0,0 +1,143 @@
+package com.dsd.game.util;
+
+import java.util.Arrays;
+
+/**
+ * Map from objects, compared by identity, to ints. Unlike an
+ * IdentityHashMap of Integers it never boxes a value, so once the table has
+ * grown to fit, putting, finding and removing keys allocates nothing.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ *
+ * @param <K> type of the keys.
+ */
+public class IdentityIntMap<K> {
+
+    //  Returned by get() and remove() for a key that isn't in the map.
+    public static final int NO_VALUE = -1;
+    //  Open addressing with linear probing; the table is kept at most half
+    //  full, and a removal shifts the rest of its run back rather than
+    //  leaving a tombstone.
+    private Object[] keys;
+    private int[] values;
+    private int mask;
+    private int size = 0;
+
+    public IdentityIntMap(int _capacity) {
+        int capacity = Integer.highestOneBit(Math.max(4, _capacity - 1)) << 1;
+        this.keys = new Object[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the value of _key, or NO_VALUE if it isn't in the map.
+     *
+     * @param _key
+     * @return
+     */
+    public int get(K _key) {
+        for (int i = this.hash(_key); this.keys[i] != null; i = (i + 1) & this.mask) {
+            if (this.keys[i] == _key) {
+                return this.values[i];
+            }
+        }
+        return IdentityIntMap.NO_VALUE;
+    }
+
+    /**
+     * Sets the value of _key to _value.
+     *
+     * @param _key must not be null.
+     * @param _value
+     */
+    public void put(K _key, int _value) {
+        if (_key == null) {
+            throw new IllegalArgumentException("Key cannot be null!");
+        }
+        int i = this.hash(_key);
+        while (this.keys[i] != null) {
+            if (this.keys[i] == _key) {
+                this.values[i] = _value;
+                return;
+            }
+            i = (i + 1) & this.mask;
+        }
+        this.keys[i] = _key;
+        this.values[i] = _value;
+        this.size++;
+        if (this.size * 2 > this.keys.length) {
+            this.grow();
+        }
+    }
+
+    /**
+     * Removes _key and returns its value, or NO_VALUE if it wasn't there.
+     *
+     * @param _key
+     * @return
+     */
+    public int remove(K _key) {
+        int i = this.hash(_key);
+        while (this.keys[i] != _key) {
+            if (this.keys[i] == null) {
+                return IdentityIntMap.NO_VALUE;
+            }
+            i = (i + 1) & this.mask;
+        }
+        int value = this.values[i];
+        //  Move each later key of the run into the hole if its home slot
+        //  isn't between the hole and where it is now.
+        int hole = i;
+        for (int j = (i + 1) & this.mask; this.keys[j] != null; j = (j + 1) & this.mask) {
+            int home = this.hash(this.keys[j]);
+            if (((j - home) & this.mask) >= ((j - hole) & this.mask)) {
+                this.keys[hole] = this.keys[j];
+                this.values[hole] = this.values[j];
+                hole = j;
+            }
+        }
+        this.keys[hole] = null;
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Removes every key.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, null);
+        this.size = 0;
+    }
+
+    private void grow() {
+        Object[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        this.keys = new Object[oldKeys.length * 2];
+        this.values = new int[oldKeys.length * 2];
+        this.mask = this.keys.length - 1;
+        this.size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                @SuppressWarnings("unchecked")
+                K key = (K) oldKeys[i];
+                this.put(key, oldValues[i]);
+            }
+        }
+    }
+
+    private int hash(Object _key) {
+        int h = System.identityHashCode(_key) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & this.mask;
+    }
+
+//============================== GETTERS =====================================
+    public int size() {
+        return this.size;
+    }
+
+}
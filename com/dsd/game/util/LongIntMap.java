@@ -0,0 +1,109 @@
+package com.dsd.game.util;
+
+import java.util.Arrays;
+
+/**
+ * Map from longs to ints that stores both as primitives, so looking a key up
+ * or putting one in never boxes it into a Long; once the table has grown to
+ * fit, it allocates nothing. Keys are never removed one at a time, only all
+ * at once by clear(), which keeps the probing simple.
+ *
+ * [Group Name: Data Structure Deadheads]
+ *
+ * @author Joshua, Ronald, Rinty
+ *
+ * @updated 12/10/19
+ */
+public class LongIntMap {
+
+    //  Returned by get() for a key that isn't in the map.
+    public static final int NO_VALUE = -1;
+    //  Open addressing with linear probing; the table is kept at most half full.
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int mask;
+    private int size = 0;
+
+    public LongIntMap(int _capacity) {
+        int capacity = Integer.highestOneBit(Math.max(4, _capacity - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the value of _key, or NO_VALUE if it isn't in the map.
+     *
+     * @param _key
+     * @return
+     */
+    public int get(long _key) {
+        for (int i = LongIntMap.hash(_key) & this.mask; this.used[i]; i = (i + 1) & this.mask) {
+            if (this.keys[i] == _key) {
+                return this.values[i];
+            }
+        }
+        return LongIntMap.NO_VALUE;
+    }
+
+    /**
+     * Sets the value of _key to _value.
+     *
+     * @param _key
+     * @param _value
+     */
+    public void put(long _key, int _value) {
+        int i = LongIntMap.hash(_key) & this.mask;
+        while (this.used[i]) {
+            if (this.keys[i] == _key) {
+                this.values[i] = _value;
+                return;
+            }
+            i = (i + 1) & this.mask;
+        }
+        this.used[i] = true;
+        this.keys[i] = _key;
+        this.values[i] = _value;
+        this.size++;
+        if (this.size * 2 > this.keys.length) {
+            this.grow();
+        }
+    }
+
+    /**
+     * Removes every key.
+     */
+    public void clear() {
+        Arrays.fill(this.used, false);
+        this.size = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        boolean[] oldUsed = this.used;
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new int[oldKeys.length * 2];
+        this.used = new boolean[oldKeys.length * 2];
+        this.mask = this.keys.length - 1;
+        this.size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                this.put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long _key) {
+        long h = _key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+//============================== GETTERS =====================================
+    public int size() {
+        return this.size;
+    }
+
+}